@@ -6,18 +6,16 @@
  */
 package org.hibernate.ogm.datastore.cassandra;
 
-import static com.datastax.driver.core.querybuilder.QueryBuilder.eq;
-
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -25,13 +23,28 @@
 import org.hibernate.mapping.Column;
 import org.hibernate.mapping.Table;
 import org.hibernate.ogm.datastore.cassandra.impl.CassandraDatastoreProvider;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraPreparedStatementCache;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraStatementPipeline;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraTokenRangePartition;
 import org.hibernate.ogm.datastore.cassandra.impl.CassandraTypeMapper;
+import org.hibernate.ogm.datastore.cassandra.impl.StatementShape;
 import org.hibernate.ogm.datastore.cassandra.logging.impl.Log;
 import org.hibernate.ogm.datastore.cassandra.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.cassandra.model.impl.ResultSetTupleIterator;
 import org.hibernate.ogm.datastore.cassandra.query.impl.CassandraParameterMetadataBuilder;
+import org.hibernate.ogm.datastore.cassandra.query.impl.PagingStateCache;
 import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
@@ -61,49 +74,58 @@
 
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ColumnDefinitions;
-import com.datastax.driver.core.PreparedStatement;
-import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.PagingState;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
-import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.TokenRange;
 import com.datastax.driver.core.exceptions.DriverException;
-import com.datastax.driver.core.querybuilder.Delete;
-import com.datastax.driver.core.querybuilder.Insert;
-import com.datastax.driver.core.querybuilder.QueryBuilder;
-import com.datastax.driver.core.querybuilder.Select;
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.datastax.driver.core.exceptions.PagingStateException;
 
 /**
  * Dialect implementation using CQL3 over Cassandra's native transport via java-driver.
+ * <p>
+ * The write statements of a flush are executed through a {@link CassandraStatementPipeline}: statements targeting the
+ * same partition are sent as {@code UNLOGGED} batches and all others asynchronously, with the number of pending
+ * requests being limited by {@link CassandraProperties#MAX_IN_FLIGHT_STATEMENTS}.
  *
  * @author Jonathan Halliday
  */
-public class CassandraDialect extends BaseGridDialect implements GridDialect, QueryableGridDialect<String> {
+public class CassandraDialect extends BaseGridDialect implements GridDialect, QueryableGridDialect<String>, BatchableGridDialect, MultigetGridDialect, PartitionableGridDialect {
 
 	private static final Log log = LoggerFactory.getLogger();
 
+	/**
+	 * The maximum number of keys searched with one {@code IN} query by {@link #getTuples(EntityKey[], TupleContext)}.
+	 */
+	private static final int MAX_KEYS_PER_IN_QUERY = 16;
+
+	private static final String[] NO_COLUMNS = new String[0];
+
+	/**
+	 * Sizes the pages of native query results without recording where they end.
+	 */
+	private static final ResultSetTupleIterator.PageListener NO_PAGE_LISTENER = new ResultSetTupleIterator.PageListener() {
+
+		@Override
+		public void pageEnd(int rowsRead, PagingState pagingState) {
+		}
+	};
+
 	private final CassandraDatastoreProvider provider;
 	private final Session session;
-	private final LoadingCache<String, PreparedStatement> preparedStatementCache;
+	private final CassandraPreparedStatementCache preparedStatementCache;
 
 	public CassandraDialect(CassandraDatastoreProvider provider) {
 		this.provider = provider;
 		session = provider.getSession();
-
-
-		preparedStatementCache = CacheBuilder.newBuilder()
-				.maximumSize( 100000 )
-				.build(
-						new CacheLoader<String, PreparedStatement>() {
-							@Override
-							public PreparedStatement load(String query) throws Exception {
-								return session.prepare( query );
-							}
-						}
-				);
+		preparedStatementCache = provider.getPreparedStatementCache();
 	}
 
 	@Override
@@ -113,48 +135,57 @@ public LockingStrategy getLockingStrategy(Lockable lockable, LockMode lockMode)
 		return null;
 	}
 
-	private ResultSet bindAndExecute(Object[] columnValues, RegularStatement statement) {
-
-		PreparedStatement preparedStatement;
+	private ResultSet execute(Statement statement, String cql) {
 		try {
-			preparedStatement = preparedStatementCache.get( statement.getQueryString() );
-			session.prepare( statement );
+			return session.execute( statement );
 		}
-		catch (ExecutionException e) {
-			throw log.failToPrepareCQL( statement.getQueryString(), e.getCause() );
+		catch (DriverException e) {
+			throw log.failToExecuteCQL( cql, e );
 		}
+	}
 
-		try {
-			BoundStatement boundStatement = new BoundStatement( preparedStatement );
-			boundStatement.bind( columnValues );
-			return session.execute( boundStatement );
-		}
-		catch (DriverException e) {
-			throw log.failToExecuteCQL( statement.getQueryString(), e );
+	private CassandraStatementPipeline createStatementPipeline() {
+		return provider.createStatementPipeline();
+	}
+
+	private ResultSet bindAndExecute(StatementShape shape, Object... values) {
+		BoundStatement boundStatement = preparedStatementCache.bind( shape, values );
+		return execute( boundStatement, boundStatement.preparedStatement().getQueryString() );
+	}
+
+	/**
+	 * Returns the name of the partition key column of the given table, i.e. the first column of its primary key.
+	 *
+	 * @return the partition key column or {@code null} if the table is unknown
+	 */
+	private String getPartitionKeyColumn(String table) {
+		Table tableMetadata = provider.getMetaDataCache().get( table );
+		if ( tableMetadata == null || !tableMetadata.hasPrimaryKey() ) {
+			return null;
 		}
+		return ( (Column) tableMetadata.getPrimaryKey().getColumns().get( 0 ) ).getName();
 	}
 
-	// temporary, as equivalent in java-driver's Querybuilder is broken.
-	// https://datastax-oss.atlassian.net/browse/JAVA-712
-	private static String quote(String columnName) {
-		StringBuilder sb = new StringBuilder();
-		sb.append( '"' );
-		sb.append( columnName );
-		sb.append( '"' );
-		return sb.toString();
+	private static Object getColumnValue(String[] columnNames, Object[] columnValues, String columnName) {
+		if ( columnName == null ) {
+			return null;
+		}
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( columnName.equals( columnNames[i] ) ) {
+				return columnValues[i];
+			}
+		}
+		return null;
 	}
 
 	@Override
 	public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
 
-		Select select = QueryBuilder.select().all().from( quote( key.getTable() ) );
-		Select.Where selectWhere = select.where( eq( quote( key.getColumnNames()[0] ), QueryBuilder.bindMarker() ) );
-		for ( int i = 1; i < key.getColumnNames().length; i++ ) {
-			selectWhere = selectWhere.and( eq( quote( key.getColumnNames()[i] ), QueryBuilder.bindMarker() ) );
-		}
-
-		Object[] columnValues = key.getColumnValues();
-		ResultSet resultSet = bindAndExecute( columnValues, select );
+		String[] columns = selectedColumns( key.getTable(), key.getColumnNames(), tupleContext );
+		ResultSet resultSet = bindAndExecute(
+				StatementShape.select( key.getTable(), columns, key.getColumnNames() ),
+				key.getColumnValues()
+		);
 
 		if ( resultSet.isExhausted() ) {
 			return null;
@@ -165,6 +196,112 @@ public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
 		return tuple;
 	}
 
+	/**
+	 * Small sets of single column keys are loaded with one {@code IN} query. Otherwise the keys are looked up with
+	 * one asynchronous query each, as a large {@code IN} query puts all the load on its coordinator and composite keys
+	 * can't be searched with an {@code IN} clause on the partition key.
+	 */
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		if ( keys.length <= MAX_KEYS_PER_IN_QUERY && keys[0].getColumnNames().length == 1 ) {
+			return getTuplesWithInQuery( keys, tupleContext );
+		}
+		else {
+			return getTuplesInParallel( keys, tupleContext );
+		}
+	}
+
+	private List<Tuple> getTuplesWithInQuery(EntityKey[] keys, TupleContext tupleContext) {
+		String keyColumn = keys[0].getColumnNames()[0];
+		List<Object> keyValues = new ArrayList<>( keys.length );
+		for ( EntityKey key : keys ) {
+			keyValues.add( key.getColumnValues()[0] );
+		}
+
+		String[] selectedColumns = selectedColumns( keys[0].getTable(), keys[0].getColumnNames(), tupleContext );
+		StatementShape select = StatementShape.selectIn( keys[0].getTable(), selectedColumns, keyColumn );
+		ResultSet resultSet = bindAndExecute( select, keyValues );
+
+		// The rows are returned in token order and missing keys have no row
+		Map<Object, Tuple> tuplesByKeyValue = new HashMap<>();
+		for ( Row row : resultSet ) {
+			Map<String, Object> columns = tupleFromRow( row );
+			tuplesByKeyValue.put( columns.get( keyColumn ), new Tuple( new MapTupleSnapshot( columns ) ) );
+		}
+
+		Tuple[] tuples = new Tuple[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			tuples[i] = tuplesByKeyValue.get( keyValues.get( i ) );
+		}
+		return Arrays.asList( tuples );
+	}
+
+	private List<Tuple> getTuplesInParallel(EntityKey[] keys, TupleContext tupleContext) {
+		String[] columns = selectedColumns( keys[0].getTable(), keys[0].getColumnNames(), tupleContext );
+		StatementShape select = StatementShape.select( keys[0].getTable(), columns, keys[0].getColumnNames() );
+		String cql = preparedStatementCache.get( select ).getQueryString();
+		int maxInFlightStatements = provider.getMaxInFlightStatements();
+
+		ResultSetFuture[] futures = new ResultSetFuture[keys.length];
+		Tuple[] tuples = new Tuple[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( i >= maxInFlightStatements ) {
+				tuples[i - maxInFlightStatements] = toTuple( await( futures[i - maxInFlightStatements], cql ) );
+			}
+			BoundStatement boundStatement = preparedStatementCache.bind( select, keys[i].getColumnValues() );
+			futures[i] = session.executeAsync( boundStatement );
+		}
+		for ( int i = Math.max( 0, keys.length - maxInFlightStatements ); i < keys.length; i++ ) {
+			tuples[i] = toTuple( await( futures[i], cql ) );
+		}
+		return Arrays.asList( tuples );
+	}
+
+	/**
+	 * Returns the columns to read from the given table for the given context: the key columns and those selectable
+	 * columns of the context which exist in the table. No column - meaning all columns - is returned if the context
+	 * doesn't restrict the selected columns or if the table is unknown to the driver.
+	 */
+	private String[] selectedColumns(String table, String[] keyColumnNames, TupleContext tupleContext) {
+		if ( tupleContext == null || tupleContext.getSelectableColumns().isEmpty() ) {
+			return NO_COLUMNS;
+		}
+
+		TableMetadata tableMetadata = getTableMetadata( session.getCluster().getMetadata(), table );
+		if ( tableMetadata == null ) {
+			return NO_COLUMNS;
+		}
+
+		Set<String> columns = new LinkedHashSet<>( Arrays.asList( keyColumnNames ) );
+		for ( String column : tupleContext.getSelectableColumns() ) {
+			if ( tableMetadata.getColumn( Metadata.quote( column ) ) != null ) {
+				columns.add( column );
+			}
+		}
+		return columns.toArray( new String[columns.size()] );
+	}
+
+	private static ResultSet await(ResultSetFuture future, String cql) {
+		try {
+			return future.getUninterruptibly();
+		}
+		catch (DriverException e) {
+			throw log.failToExecuteCQL( cql, e );
+		}
+	}
+
+	private static Tuple toTuple(ResultSet resultSet) {
+		Row row = resultSet.one();
+		if ( row == null ) {
+			return null;
+		}
+		return new Tuple( new MapTupleSnapshot( tupleFromRow( row ) ) );
+	}
+
 	@Override
 	public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 		Map<String, Object> toSave = new HashMap<String, Object>();
@@ -176,6 +313,15 @@ public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext)
 			throws TupleAlreadyExistsException {
 
+		CassandraStatementPipeline pipeline = createStatementPipeline();
+		insertOrUpdateTuple( key, tuple, pipeline );
+		pipeline.execute();
+	}
+
+	private void insertOrUpdateTuple(EntityKey key, Tuple tuple, CassandraStatementPipeline pipeline) {
+
+		List<BoundStatement> statements = new ArrayList<BoundStatement>( 2 );
+
 		List<TupleOperation> updateOps = new ArrayList<TupleOperation>( tuple.getOperations().size() );
 		List<TupleOperation> deleteOps = new ArrayList<TupleOperation>( tuple.getOperations().size() );
 
@@ -195,60 +341,69 @@ public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleCo
 
 		if ( deleteOps.size() > 0 ) {
 
-			Delete.Selection deleteSelection = QueryBuilder.delete();
-			for ( TupleOperation tupleOperation : deleteOps ) {
-				deleteSelection.column( quote( tupleOperation.getColumn() ) );
+			String[] deletedColumns = new String[deleteOps.size()];
+			for ( int i = 0; i < deleteOps.size(); i++ ) {
+				deletedColumns[i] = deleteOps.get( i ).getColumn();
 			}
-			Delete delete = deleteSelection.from( quote( key.getTable() ) );
-			Delete.Where deleteWhere = delete.where(
-					eq(
-							quote( key.getColumnNames()[0] ),
-							QueryBuilder.bindMarker()
+
+			statements.add(
+					preparedStatementCache.bind(
+							StatementShape.delete( key.getTable(), deletedColumns, key.getColumnNames() ),
+							key.getColumnValues()
 					)
 			);
-			for ( int i = 1; i < key.getColumnNames().length; i++ ) {
-				deleteWhere = deleteWhere.and( eq( quote( key.getColumnNames()[i] ), QueryBuilder.bindMarker() ) );
-			}
-
-			bindAndExecute( key.getColumnValues(), delete );
 		}
 
 		if ( updateOps.size() > 0 ) {
 
 			// insert and update are both 'upsert' in cassandra.
-			Insert insert = QueryBuilder.insertInto( quote( key.getTable() ) );
-			List<Object> columnValues = new LinkedList<>();
-			Set<String> seenColNames = new HashSet<>();
-			for ( int i = 0; i < updateOps.size(); i++ ) {
-				TupleOperation op = updateOps.get( i );
-				insert.value( quote( op.getColumn() ), QueryBuilder.bindMarker() );
+			List<String> columnNames = new ArrayList<>( updateOps.size() + key.getColumnNames().length );
+			List<Object> columnValues = new ArrayList<>( updateOps.size() + key.getColumnNames().length );
+			for ( TupleOperation op : updateOps ) {
+				columnNames.add( op.getColumn() );
 				columnValues.add( op.getValue() );
-				seenColNames.add( op.getColumn() );
 			}
 			for ( int j = 0; j < key.getColumnNames().length; j++ ) {
 				String keyCol = key.getColumnNames()[j];
-				if ( !seenColNames.contains( keyCol ) ) {
-					insert.value( quote( keyCol ), QueryBuilder.bindMarker() );
+				if ( !columnNames.contains( keyCol ) ) {
+					columnNames.add( keyCol );
 					columnValues.add( key.getColumnValues()[j] );
 				}
 			}
 
-			bindAndExecute( columnValues.toArray(), insert );
+			statements.add(
+					preparedStatementCache.bind(
+							StatementShape.insert( key.getTable(), columnNames.toArray( new String[columnNames.size()] ) ),
+							columnValues.toArray()
+					)
+			);
 		}
+
+		addEntityStatements( key, statements, pipeline );
+	}
+
+	private void addEntityStatements(EntityKey key, List<BoundStatement> statements, CassandraStatementPipeline pipeline) {
+		Object partitionKeyValue = getColumnValue(
+				key.getColumnNames(),
+				key.getColumnValues(),
+				getPartitionKeyColumn( key.getTable() )
+		);
+		pipeline.add( key.getTable(), partitionKeyValue, key.getColumnValues(), statements );
 	}
 
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
+		CassandraStatementPipeline pipeline = createStatementPipeline();
+		removeTuple( key, pipeline );
+		pipeline.execute();
+	}
 
-		Delete delete = QueryBuilder.delete().from( quote( key.getTable() ) );
-		Delete.Where deleteWhere = delete.where(
-				eq( quote( key.getColumnNames()[0] ), QueryBuilder.bindMarker() )
+	private void removeTuple(EntityKey key, CassandraStatementPipeline pipeline) {
+		BoundStatement delete = preparedStatementCache.bind(
+				StatementShape.delete( key.getTable(), key.getColumnNames() ),
+				key.getColumnValues()
 		);
-		for ( int i = 1; i < key.getColumnNames().length; i++ ) {
-			deleteWhere = deleteWhere.and( eq( quote( key.getColumnNames()[i] ), QueryBuilder.bindMarker() ) );
-		}
-
-		bindAndExecute( key.getColumnValues(), delete );
+		addEntityStatements( key, Collections.<BoundStatement>singletonList( delete ), pipeline );
 	}
 
 	@Override
@@ -257,12 +412,6 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		@SuppressWarnings("unchecked")
 		List<Column> tablePKCols = tableMetadata.getPrimaryKey().getColumns();
 
-		Select select = QueryBuilder.select().all().from( quote( key.getTable() ) );
-		Select.Where selectWhere = select.where( eq( quote( key.getColumnNames()[0] ), QueryBuilder.bindMarker() ) );
-		for ( int i = 1; i < key.getColumnNames().length; i++ ) {
-			selectWhere = selectWhere.and( eq( quote( key.getColumnNames()[i] ), QueryBuilder.bindMarker() ) );
-		}
-
 		boolean requiredFiltering = false;
 		for ( Column column : tablePKCols ) {
 			String name = column.getName();
@@ -279,12 +428,10 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 			}
 		}
 
-		if ( requiredFiltering ) {
-			select.allowFiltering();
-		}
-
-		Object[] columnValues = key.getColumnValues();
-		ResultSet resultSet = bindAndExecute( columnValues, select );
+		StatementShape select = requiredFiltering
+				? StatementShape.selectAllowFiltering( key.getTable(), key.getColumnNames() )
+				: StatementShape.select( key.getTable(), key.getColumnNames() );
+		ResultSet resultSet = bindAndExecute( select, key.getColumnValues() );
 
 		if ( resultSet.isExhausted() ) {
 			return null;
@@ -329,16 +476,25 @@ public void insertOrUpdateAssociation(
 			Association association,
 			AssociationContext associationContext) {
 
+		CassandraStatementPipeline pipeline = createStatementPipeline();
+		insertOrUpdateAssociation( key, association, pipeline );
+		pipeline.execute();
+	}
+
+	private void insertOrUpdateAssociation(AssociationKey key, Association association, CassandraStatementPipeline pipeline) {
+
 		if ( key.getMetadata().isInverse() ) {
 			return;
 		}
 
 		Table tableMetadata = provider.getMetaDataCache().get( key.getTable() );
-		Set<String> keyColumnNames = new HashSet<String>();
+		List<String> primaryKeyColumnNames = new ArrayList<String>();
 		for ( Object columnObject : tableMetadata.getPrimaryKey().getColumns() ) {
 			Column column = (Column) columnObject;
-			keyColumnNames.add( column.getName() );
+			primaryKeyColumnNames.add( column.getName() );
 		}
+		Set<String> keyColumnNames = new HashSet<String>( primaryKeyColumnNames );
+		String partitionKeyColumn = primaryKeyColumnNames.isEmpty() ? null : primaryKeyColumnNames.get( 0 );
 
 		List<AssociationOperation> updateOps = new ArrayList<AssociationOperation>(
 				association.getOperations()
@@ -366,40 +522,82 @@ public void insertOrUpdateAssociation(
 
 		for ( AssociationOperation op : updateOps ) {
 			Tuple value = op.getValue();
-			List<Object> columnValues = new ArrayList<>();
-			Insert insert = QueryBuilder.insertInto( quote( key.getTable() ) );
-			for ( String columnName : value.getColumnNames() ) {
-				insert.value( quote( columnName ), QueryBuilder.bindMarker( columnName ) );
-				columnValues.add( value.get( columnName ) );
+			String[] columnNames = value.getColumnNames().toArray( new String[value.getColumnNames().size()] );
+			Object[] columnValues = new Object[columnNames.length];
+			for ( int i = 0; i < columnNames.length; i++ ) {
+				columnValues[i] = value.get( columnNames[i] );
+			}
+
+			Object[] rowKeyValues = new Object[primaryKeyColumnNames.size()];
+			for ( int i = 0; i < rowKeyValues.length; i++ ) {
+				rowKeyValues[i] = value.get( primaryKeyColumnNames.get( i ) );
 			}
 
-			bindAndExecute( columnValues.toArray(), insert );
+			BoundStatement insert = preparedStatementCache.bind(
+					StatementShape.insert( key.getTable(), columnNames ),
+					columnValues
+			);
+			pipeline.add(
+					key.getTable(),
+					partitionKeyColumn == null ? null : value.get( partitionKeyColumn ),
+					rowKeyValues,
+					Collections.singletonList( insert )
+			);
 		}
 
 		for ( AssociationOperation op : deleteOps ) {
 
 			RowKey value = op.getKey();
-			Delete.Selection deleteSelection = QueryBuilder.delete();
-			for ( String columnName : op.getKey().getColumnNames() ) {
-				if ( !keyColumnNames.contains( columnName ) ) {
-					deleteSelection.column( quote( columnName ) );
-				}
-			}
-			Delete delete = deleteSelection.from( quote( key.getTable() ) );
-			List<Object> columnValues = new LinkedList<>();
-			for ( String columnName : value.getColumnNames() ) {
-				if ( keyColumnNames.contains( columnName ) ) {
-					delete.where( eq( quote( columnName ), QueryBuilder.bindMarker( columnName ) ) );
-					columnValues.add( value.getColumnValue( columnName ) );
-				}
+			BoundStatement delete = bindDelete( key.getTable(), value.getColumnNames(), value.getColumnValues(), keyColumnNames );
+
+			Object[] rowKeyValues = new Object[primaryKeyColumnNames.size()];
+			for ( int i = 0; i < rowKeyValues.length; i++ ) {
+				rowKeyValues[i] = getColumnValue( value.getColumnNames(), value.getColumnValues(), primaryKeyColumnNames.get( i ) );
 			}
 
-			bindAndExecute( columnValues.toArray(), delete );
+			pipeline.add(
+					key.getTable(),
+					partitionKeyColumn == null ? null : rowKeyValues[0],
+					rowKeyValues,
+					Collections.singletonList( delete )
+			);
 		}
 	}
 
+	/**
+	 * Binds a statement deleting the given columns which are not part of the primary key, or the whole row if all of
+	 * them are, restricted by the given columns which are part of the primary key.
+	 */
+	private BoundStatement bindDelete(String table, String[] columnNames, Object[] columnValues, Set<String> keyColumnNames) {
+		List<String> deletedColumns = new ArrayList<>( columnNames.length );
+		List<String> whereColumns = new ArrayList<>( columnNames.length );
+		List<Object> whereValues = new ArrayList<>( columnNames.length );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			if ( keyColumnNames.contains( columnNames[i] ) ) {
+				whereColumns.add( columnNames[i] );
+				whereValues.add( columnValues[i] );
+			}
+			else {
+				deletedColumns.add( columnNames[i] );
+			}
+		}
+
+		StatementShape delete = StatementShape.delete(
+				table,
+				deletedColumns.toArray( new String[deletedColumns.size()] ),
+				whereColumns.toArray( new String[whereColumns.size()] )
+		);
+		return preparedStatementCache.bind( delete, whereValues.toArray() );
+	}
+
 	@Override
 	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		CassandraStatementPipeline pipeline = createStatementPipeline();
+		removeAssociation( key, pipeline );
+		pipeline.execute();
+	}
+
+	private void removeAssociation(AssociationKey key, CassandraStatementPipeline pipeline) {
 		if ( key.getMetadata().isInverse() ) {
 			return;
 		}
@@ -411,22 +609,11 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 			keyColumnNames.add( column.getName() );
 		}
 
-		Delete.Selection deleteSelection = QueryBuilder.delete();
-		for ( String columnName : key.getColumnNames() ) {
-			if ( !keyColumnNames.contains( columnName ) ) {
-				deleteSelection.column( quote( columnName ) );
-			}
-		}
-
-		Delete delete = deleteSelection.from( quote( key.getTable() ) );
-		List<Object> columnValues = new LinkedList<>();
-
 		boolean hasWhereClause = false;
 		for ( String columnName : key.getColumnNames() ) {
 			if ( keyColumnNames.contains( columnName ) ) {
-				delete.where( eq( quote( columnName ), QueryBuilder.bindMarker( columnName ) ) );
-				columnValues.add( key.getColumnValue( columnName ) );
 				hasWhereClause = true;
+				break;
 			}
 		}
 
@@ -434,7 +621,51 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 			return;
 		}
 
-		bindAndExecute( columnValues.toArray(), delete );
+		// deletes all the rows of the association, so it must not be reordered with other writes to the table
+		pipeline.add(
+				key.getTable(),
+				getColumnValue( key.getColumnNames(), key.getColumnValues(), getPartitionKeyColumn( key.getTable() ) ),
+				null,
+				Collections.singletonList( bindDelete( key.getTable(), key.getColumnNames(), key.getColumnValues(), keyColumnNames ) )
+		);
+	}
+
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( queue.isClosed() ) {
+			return;
+		}
+
+		Operation operation = queue.poll();
+		if ( operation == null ) {
+			return;
+		}
+
+		CassandraStatementPipeline pipeline = createStatementPipeline();
+		while ( operation != null ) {
+			if ( operation instanceof InsertOrUpdateTupleOperation ) {
+				InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
+				insertOrUpdateTuple( update.getEntityKey(), update.getTuple(), pipeline );
+			}
+			else if ( operation instanceof RemoveTupleOperation ) {
+				RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+				removeTuple( remove.getEntityKey(), pipeline );
+			}
+			else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+				InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+				insertOrUpdateAssociation( update.getAssociationKey(), update.getAssociation(), pipeline );
+			}
+			else if ( operation instanceof RemoveAssociationOperation ) {
+				RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+				removeAssociation( remove.getAssociationKey(), pipeline );
+			}
+			else {
+				throw new UnsupportedOperationException( "Operation not supported on Cassandra: " + operation.getClass().getName() );
+			}
+			operation = queue.poll();
+		}
+
+		pipeline.execute();
 	}
 
 	@Override
@@ -444,22 +675,113 @@ public GridType overrideType(Type type) {
 
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
-		Select select = QueryBuilder.select().all().from( quote( entityKeyMetadata.getTable() ) );
+		String[] columns = selectedColumns( entityKeyMetadata.getTable(), entityKeyMetadata.getColumnNames(), tupleContext );
+		forEach( consumer, preparedStatementCache.bind( StatementShape.select( entityKeyMetadata.getTable(), columns, NO_COLUMNS ) ) );
+	}
 
-		ResultSet resultSet;
-		try {
-			resultSet = session.execute( select );
+	/**
+	 * Splits the table along the token ranges of the ring, as known by the driver. Ranges are split evenly if there are
+	 * fewer of them than requested partitions, and adjacent ranges are grouped otherwise, so that each partition is
+	 * read with a few token range queries.
+	 */
+	@Override
+	public List<TuplePartition> getTuplePartitions(TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, int partitions) {
+		Metadata metadata = session.getCluster().getMetadata();
+		Set<TokenRange> tokenRanges = metadata.getTokenRanges();
+		if ( tokenRanges.isEmpty() || getPartitionKey( metadata, entityKeyMetadata.getTable() ) == null ) {
+			return Collections.<TuplePartition>singletonList( CassandraTokenRangePartition.all() );
+		}
+
+		int splits = ( partitions + tokenRanges.size() - 1 ) / tokenRanges.size();
+		List<TokenRange> ranges = new ArrayList<>();
+		for ( TokenRange tokenRange : tokenRanges ) {
+			for ( TokenRange split : splits > 1 ? tokenRange.splitEvenly( splits ) : Collections.singletonList( tokenRange ) ) {
+				ranges.addAll( split.unwrap() );
+			}
 		}
-		catch (DriverException e) {
-			throw e;
+		Collections.sort( ranges );
+
+		int count = Math.min( partitions, ranges.size() );
+		List<TuplePartition> result = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			result.add( CassandraTokenRangePartition.of( ranges.subList( i * ranges.size() / count, ( i + 1 ) * ranges.size() / count ) ) );
+		}
+		return result;
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, TuplePartition partition) {
+		String table = entityKeyMetadata.getTable();
+		List<TokenRange> ranges = ( (CassandraTokenRangePartition) partition ).getRanges();
+		if ( ranges == null ) {
+			forEachTuple( consumer, tupleContext, entityKeyMetadata );
+			return;
 		}
-		Iterator<Row> iter = resultSet.iterator();
-		while ( iter.hasNext() ) {
-			Row row = iter.next();
-			consumer.consume( new Tuple( new MapTupleSnapshot( tupleFromRow( row ) ) ) );
+
+		String[] columns = selectedColumns( entityKeyMetadata.getTable(), entityKeyMetadata.getColumnNames(), tupleContext );
+		String[] partitionKey = getPartitionKey( session.getCluster().getMetadata(), table );
+		for ( TokenRange range : ranges ) {
+			BoundStatement select;
+			int comparison = range.getEnd().compareTo( range.getStart() );
+			if ( comparison == 0 ) {
+				// the range spans the whole ring
+				select = preparedStatementCache.bind( StatementShape.select( table, columns, NO_COLUMNS ) );
+			}
+			else if ( comparison < 0 ) {
+				// the range ends with the minimum token, i.e. at the end of the ring
+				select = preparedStatementCache.bind( StatementShape.selectFromToken( table, columns, partitionKey ) );
+				select.setToken( 0, range.getStart() );
+			}
+			else {
+				select = preparedStatementCache.bind( StatementShape.selectTokenRange( table, columns, partitionKey ) );
+				select.setToken( 0, range.getStart() );
+				select.setToken( 1, range.getEnd() );
+			}
+			forEach( consumer, select );
 		}
 	}
 
+	private void forEach(ModelConsumer consumer, BoundStatement select) {
+		int fetchSize = provider.getFetchSize();
+		select.setFetchSize( fetchSize );
+		ResultSet resultSet = execute( select, select.preparedStatement().getQueryString() );
+
+		ResultSetTupleIterator tuples = new ResultSetTupleIterator( resultSet, select, fetchSize, 0, Integer.MAX_VALUE, null );
+		while ( tuples.hasNext() ) {
+			consumer.consume( tuples.next() );
+		}
+	}
+
+	/**
+	 * Returns the names of the partition key columns of the given table.
+	 *
+	 * @return the names of the partition key columns or {@code null} if the table is unknown to the driver
+	 */
+	private String[] getPartitionKey(Metadata metadata, String table) {
+		TableMetadata tableMetadata = getTableMetadata( metadata, table );
+		if ( tableMetadata == null ) {
+			return null;
+		}
+
+		List<ColumnMetadata> partitionKey = tableMetadata.getPartitionKey();
+		String[] columns = new String[partitionKey.size()];
+		for ( int i = 0; i < columns.length; i++ ) {
+			columns[i] = partitionKey.get( i ).getName();
+		}
+		return columns;
+	}
+
+	/**
+	 * Returns the meta-data of the given table.
+	 *
+	 * @return the meta-data of the table or {@code null} if the table is unknown to the driver
+	 */
+	private TableMetadata getTableMetadata(Metadata metadata, String table) {
+		String keyspace = session.getLoggedKeyspace();
+		KeyspaceMetadata keyspaceMetadata = keyspace == null ? null : metadata.getKeyspace( keyspace );
+		return keyspaceMetadata == null ? null : keyspaceMetadata.getTable( Metadata.quote( table ) );
+	}
+
 	public static Map<String, Object> tupleFromRow(Row row) {
 		Map<String, Object> map = new HashMap<>();
 
@@ -499,10 +821,9 @@ public ClosableIterator<Tuple> executeBackendQuery(
 			i++;
 		}
 
-		ResultSet resultSet = bindAndExecute(
-				parameters,
-				new SimpleStatement( query.getQuery() )
-		);
+		String cql = query.getQuery();
+		BoundStatement boundStatement = new BoundStatement( preparedStatementCache.get( cql ) );
+		boundStatement.bind( parameters );
 
 		int first = 0;
 		if ( queryParameters.getRowSelection().getFirstRow() != null ) {
@@ -514,7 +835,73 @@ public ClosableIterator<Tuple> executeBackendQuery(
 			max = queryParameters.getRowSelection().getMaxRows();
 		}
 
-		return new ResultSetTupleIterator( resultSet, first, max );
+		int fetchSize = provider.getFetchSize();
+		if ( queryParameters.getRowSelection().getFetchSize() != null ) {
+			fetchSize = queryParameters.getRowSelection().getFetchSize();
+		}
+
+		if ( first == 0 && max == Integer.MAX_VALUE ) {
+			boundStatement.setFetchSize( fetchSize );
+			ResultSet resultSet = execute( boundStatement, cql );
+			return new ResultSetTupleIterator( resultSet, boundStatement, fetchSize, 0, max, null );
+		}
+
+		// resume from the page starting at the first requested row if a previous query stopped there
+		PagingStateCache pagingStateCache = provider.getPagingStateCache();
+		int offset = 0;
+		if ( first > 0 && pagingStateCache != null ) {
+			PagingState pagingState = pagingStateCache.get( cql, parameters, first );
+			if ( pagingState != null ) {
+				try {
+					boundStatement.setPagingState( pagingState );
+					offset = first;
+				}
+				catch (PagingStateException e) {
+					// not matching the statement, skip the rows instead
+				}
+			}
+		}
+
+		// make the pages end right before the first requested row and right after the last one
+		int skip = first - offset;
+		boundStatement.setFetchSize( Math.min( fetchSize, skip > 0 ? skip : max ) );
+		ResultSet resultSet = execute( boundStatement, cql );
+
+		ResultSetTupleIterator.PageListener pageListener = pagingStateCache == null
+				? NO_PAGE_LISTENER
+				: new PagingStateRecorder( pagingStateCache, cql, parameters, offset, table( resultSet ) );
+		return new ResultSetTupleIterator( resultSet, boundStatement, fetchSize, skip, max, pageListener );
+	}
+
+	private static String table(ResultSet resultSet) {
+		ColumnDefinitions columns = resultSet.getColumnDefinitions();
+		return columns.size() == 0 ? null : columns.getTable( 0 );
+	}
+
+	/**
+	 * Stores the paging states of the pages read from the results of a native query, so that subsequent executions
+	 * of the query asking for the rows following one of these pages don't need to read it again.
+	 */
+	private static class PagingStateRecorder implements ResultSetTupleIterator.PageListener {
+
+		private final PagingStateCache pagingStateCache;
+		private final String cql;
+		private final Object[] parameters;
+		private final int offset;
+		private final String table;
+
+		private PagingStateRecorder(PagingStateCache pagingStateCache, String cql, Object[] parameters, int offset, String table) {
+			this.pagingStateCache = pagingStateCache;
+			this.cql = cql;
+			this.parameters = parameters;
+			this.offset = offset;
+			this.table = table;
+		}
+
+		@Override
+		public void pageEnd(int rowsRead, PagingState pagingState) {
+			pagingStateCache.put( cql, parameters, offset + rowsRead, table, pagingState );
+		}
 	}
 
 	@Override
@@ -0,0 +1,48 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.ogm.cfg.OgmProperties;
+
+/**
+ * Properties for configuring the Cassandra datastore via {@code persistence.xml} or {@link StandardServiceRegistryBuilder}.
+ */
+public final class CassandraProperties implements OgmProperties {
+
+	/**
+	 * Configuration property for setting the maximum number of statements (or batches of statements) sent
+	 * asynchronously to Cassandra and still waiting for a response, either while flushing changes or while loading
+	 * several entities at once. Can be given as an int or the String representation of an int; must be greater than 0.
+	 * <p>
+	 * Defaults to 128.
+	 */
+	public static final String MAX_IN_FLIGHT_STATEMENTS = "hibernate.ogm.cassandra.max_in_flight_statements";
+
+	/**
+	 * Configuration property for setting the number of rows fetched per page when iterating over the results of a
+	 * native query or over all the entities of a table, e.g. during mass indexing. Can be given as an int or the String
+	 * representation of an int; must be greater than 0.
+	 * <p>
+	 * Defaults to 5000.
+	 */
+	public static final String FETCH_SIZE = "hibernate.ogm.cassandra.fetch_size";
+
+	/**
+	 * Configuration property for reusing the paging states reached by a native query with {@code setFirstResult()} and
+	 * {@code setMaxResults()} when the same query is executed again for the following rows, instead of reading and
+	 * discarding all the preceding rows. As the paging states point to a position in the table and not to a row
+	 * offset, the returned rows are shifted if other clients have inserted or removed rows since. Can be given as a
+	 * boolean or the String representation of a boolean.
+	 * <p>
+	 * Defaults to {@code false}.
+	 */
+	public static final String REUSE_PAGING_STATES = "hibernate.ogm.cassandra.reuse_paging_states";
+
+	private CassandraProperties() {
+	}
+}
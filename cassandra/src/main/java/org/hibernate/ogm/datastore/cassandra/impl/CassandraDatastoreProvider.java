@@ -19,6 +19,7 @@
 import org.hibernate.ogm.datastore.cassandra.impl.configuration.CassandraConfiguration;
 import org.hibernate.ogm.datastore.cassandra.logging.impl.Log;
 import org.hibernate.ogm.datastore.cassandra.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.cassandra.query.impl.PagingStateCache;
 import org.hibernate.ogm.datastore.spi.BaseDatastoreProvider;
 import org.hibernate.ogm.datastore.spi.SchemaDefiner;
 import org.hibernate.ogm.dialect.spi.GridDialect;
@@ -53,6 +54,8 @@ public class CassandraDatastoreProvider extends BaseDatastoreProvider
 	private Session session;
 	private QueryBuilder queryBuilder;
 	private CassandraSequenceHandler sequenceHandler;
+	private CassandraPreparedStatementCache preparedStatementCache;
+	private PagingStateCache pagingStateCache;
 
 	private final Map<String, Table> metaDataCache = new HashMap<String, Table>();
 	private final Map<String, Table> wrappedMetaDataCache = Collections.unmodifiableMap( metaDataCache );
@@ -81,10 +84,48 @@ public void configure(Map configurationValues) {
 		config = new CassandraConfiguration( propertyReader, optionsService.context().getGlobalOptions() );
 	}
 
+	/**
+	 * Creates a pipeline for executing the write statements of one flush asynchronously.
+	 *
+	 * @return a new {@link CassandraStatementPipeline}
+	 */
+	public CassandraStatementPipeline createStatementPipeline() {
+		return new CassandraStatementPipeline( session, config.getMaxInFlightStatements(), pagingStateCache );
+	}
+
+	/**
+	 * @return the maximum number of statements sent asynchronously which may await a response at the same time
+	 */
+	public int getMaxInFlightStatements() {
+		return config.getMaxInFlightStatements();
+	}
+
+	/**
+	 * @return the number of rows fetched per page when iterating over query results
+	 */
+	public int getFetchSize() {
+		return config.getFetchSize();
+	}
+
 	public Session getSession() {
 		return session;
 	}
 
+	/**
+	 * @return the cache of the prepared statements executed by the dialect and the sequence handler
+	 */
+	public CassandraPreparedStatementCache getPreparedStatementCache() {
+		return preparedStatementCache;
+	}
+
+	/**
+	 * @return the cache of the paging states pointing to the pages of native query results or {@code null} if they are
+	 * not to be reused
+	 */
+	public PagingStateCache getPagingStateCache() {
+		return pagingStateCache;
+	}
+
 	public QueryBuilder getQueryBuilder() {
 		return queryBuilder;
 	}
@@ -127,6 +168,10 @@ public void start() {
 
 				session.execute( "USE " + config.getDatabaseName() );
 
+				preparedStatementCache = new CassandraPreparedStatementCache( session );
+				if ( config.isReusePagingStates() ) {
+					pagingStateCache = new PagingStateCache();
+				}
 				sequenceHandler = new CassandraSequenceHandler(this);
 			}
 			catch (RuntimeException e) {
@@ -143,10 +188,16 @@ public void stop() {
 		cluster.close();
 		cluster = null;
 		sequenceHandler = null;
+		preparedStatementCache = null;
+		pagingStateCache = null;
 	}
 
 	public void removeKeyspace() {
 		session.execute( "DROP KEYSPACE " + config.getDatabaseName() );
+		preparedStatementCache.clear();
+		if ( pagingStateCache != null ) {
+			pagingStateCache.clear();
+		}
 	}
 
 	public void createSecondaryIndexIfNeeded(String entityName, String columnName) {
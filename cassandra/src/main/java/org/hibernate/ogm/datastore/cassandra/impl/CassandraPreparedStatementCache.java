@@ -0,0 +1,118 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.impl;
+
+import java.util.concurrent.ExecutionException;
+
+import org.hibernate.ogm.datastore.cassandra.logging.impl.Log;
+import org.hibernate.ogm.datastore.cassandra.logging.impl.LoggerFactory;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Prepares each CQL statement once per session and keeps the prepared statement for later executions.
+ * <p>
+ * Statements generated by the dialect are identified by their {@link StatementShape}, so the CQL string only gets
+ * built when the shape is first used. Native queries are identified by their CQL string.
+ * <p>
+ * The number of cache hits and misses is recorded; once all shapes used by an application have been seen, each
+ * statement execution should be a hit and no more statements should get prepared.
+ */
+public class CassandraPreparedStatementCache {
+
+	private static final Log log = LoggerFactory.getLogger();
+
+	private static final int MAX_SIZE = 100000;
+
+	private final LoadingCache<Object, PreparedStatement> cache;
+
+	public CassandraPreparedStatementCache(final Session session) {
+		this.cache = CacheBuilder.newBuilder()
+				.maximumSize( MAX_SIZE )
+				.recordStats()
+				.build(
+						new CacheLoader<Object, PreparedStatement>() {
+							@Override
+							public PreparedStatement load(Object key) throws Exception {
+								if ( key instanceof StatementShape ) {
+									return session.prepare( ( (StatementShape) key ).build() );
+								}
+								return session.prepare( (String) key );
+							}
+						}
+				);
+	}
+
+	/**
+	 * Returns the prepared statement of the given shape, preparing it if needed.
+	 *
+	 * @param shape the shape of the statement
+	 * @return the prepared statement
+	 */
+	public PreparedStatement get(StatementShape shape) {
+		return get( (Object) shape );
+	}
+
+	/**
+	 * Returns the prepared statement for the given CQL string, preparing it if needed.
+	 *
+	 * @param cql a CQL statement
+	 * @return the prepared statement
+	 */
+	public PreparedStatement get(String cql) {
+		return get( (Object) cql );
+	}
+
+	/**
+	 * Binds the given values to the prepared statement of the given shape.
+	 *
+	 * @param shape the shape of the statement
+	 * @param values the values to bind, in the order described by {@link StatementShape}
+	 * @return the bound statement
+	 */
+	public BoundStatement bind(StatementShape shape, Object... values) {
+		BoundStatement boundStatement = new BoundStatement( get( shape ) );
+		boundStatement.bind( values );
+		return boundStatement;
+	}
+
+	private PreparedStatement get(Object key) {
+		try {
+			return cache.get( key );
+		}
+		catch (ExecutionException | UncheckedExecutionException e) {
+			throw log.failToPrepareCQL( String.valueOf( key ), e.getCause() );
+		}
+	}
+
+	/**
+	 * @return the number of times a statement was found in the cache
+	 */
+	public long getHitCount() {
+		return cache.stats().hitCount();
+	}
+
+	/**
+	 * @return the number of times a statement had to be prepared
+	 */
+	public long getMissCount() {
+		return cache.stats().missCount();
+	}
+
+	/**
+	 * Discards all prepared statements, e.g. after tables have been dropped.
+	 */
+	public void clear() {
+		cache.invalidateAll();
+	}
+}
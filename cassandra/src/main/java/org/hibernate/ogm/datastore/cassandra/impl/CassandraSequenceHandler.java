@@ -10,21 +10,13 @@
 import java.util.List;
 
 import com.datastax.driver.core.BoundStatement;
-import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
-import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.exceptions.DriverException;
-import com.datastax.driver.core.querybuilder.Insert;
-import com.datastax.driver.core.querybuilder.QueryBuilder;
 
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.hibernate.ogm.model.key.spi.IdSourceKeyMetadata;
 
-import static com.datastax.driver.core.querybuilder.QueryBuilder.eq;
-import static com.datastax.driver.core.querybuilder.QueryBuilder.quote;
-import static com.datastax.driver.core.querybuilder.QueryBuilder.set;
-
 /**
  * Abstraction layer for adding id sequence numbers support to Cassandra,
  * which lacks native auto-increment columns or sequences.
@@ -54,12 +46,12 @@ public void createSequence(IdSourceKeyMetadata metadata, CassandraDatastoreProvi
 
 	private Long nextValueSelect(IdSourceKeyMetadata metadata, String sequenceName) {
 
-		Statement select = QueryBuilder.select().column( quote( metadata.getValueColumnName() )  )
-				.from( quote( metadata.getName() ) )
-				.where( eq( metadata.getKeyColumnName(), QueryBuilder.bindMarker() ) );
-
-		PreparedStatement preparedStatement = provider.getSession().prepare( select.toString() );
-		BoundStatement boundStatement = preparedStatement.bind( sequenceName );
+		StatementShape select = StatementShape.select(
+				metadata.getName(),
+				new String[] { metadata.getValueColumnName() },
+				new String[] { metadata.getKeyColumnName() }
+		);
+		BoundStatement boundStatement = provider.getPreparedStatementCache().bind( select, sequenceName );
 
 		ResultSet resultSet;
 		try {
@@ -79,15 +71,11 @@ private Long nextValueSelect(IdSourceKeyMetadata metadata, String sequenceName)
 
 	private Long nextValueInsert(IdSourceKeyMetadata metadata, String sequenceName, Long value) {
 
-		Insert insert = QueryBuilder.insertInto( quote( metadata.getName() ) )
-				.value( quote( metadata.getKeyColumnName() ), QueryBuilder.bindMarker( "sequence_name" ) )
-				.value( quote( metadata.getValueColumnName() ), QueryBuilder.bindMarker( "sequence_value" ) )
-				.ifNotExists();
-
-		PreparedStatement preparedStatement = provider.getSession().prepare( insert.toString() );
-		BoundStatement boundStatement = preparedStatement.bind();
-		boundStatement.setString( "sequence_name", sequenceName );
-		boundStatement.setLong( "sequence_value", value );
+		StatementShape insert = StatementShape.insertIfNotExists(
+				metadata.getName(),
+				new String[] { metadata.getKeyColumnName(), metadata.getValueColumnName() }
+		);
+		BoundStatement boundStatement = provider.getPreparedStatementCache().bind( insert, sequenceName, value );
 
 		try {
 			provider.getSession().execute( boundStatement );
@@ -101,16 +89,12 @@ private Long nextValueInsert(IdSourceKeyMetadata metadata, String sequenceName,
 
 	private boolean nextValueUpdate(IdSourceKeyMetadata metadata, String sequenceName, Long oldValue, Long newValue) {
 
-		Statement update = QueryBuilder.update( quote( metadata.getName() ) )
-				.with( set( quote( metadata.getValueColumnName() ), QueryBuilder.bindMarker( "sequence_value_new" ) ) )
-				.where( eq( quote( metadata.getKeyColumnName() ), QueryBuilder.bindMarker( "sequence_name" ) ) )
-				.onlyIf( eq( quote( metadata.getValueColumnName() ), QueryBuilder.bindMarker( "sequence_value_old" ) ) );
-
-		PreparedStatement preparedStatement = provider.getSession().prepare( update.toString() );
-		BoundStatement boundStatement = preparedStatement.bind();
-		boundStatement.setString( "sequence_name", sequenceName );
-		boundStatement.setLong( "sequence_value_new", newValue );
-		boundStatement.setLong( "sequence_value_old", oldValue );
+		StatementShape update = StatementShape.updateIfUnchanged(
+				metadata.getName(),
+				new String[] { metadata.getValueColumnName() },
+				new String[] { metadata.getKeyColumnName() }
+		);
+		BoundStatement boundStatement = provider.getPreparedStatementCache().bind( update, newValue, sequenceName, oldValue );
 
 		ResultSet resultSet;
 		try {
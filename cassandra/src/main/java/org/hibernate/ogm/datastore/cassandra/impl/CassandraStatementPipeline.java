@@ -0,0 +1,296 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.HibernateException;
+import org.hibernate.ogm.datastore.cassandra.logging.impl.Log;
+import org.hibernate.ogm.datastore.cassandra.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.cassandra.query.impl.PagingStateCache;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.DriverException;
+
+/**
+ * Executes the write statements of a flush asynchronously.
+ * <p>
+ * Statements are added in units; all the statements of one unit write to the same row and are always executed
+ * together. Units targeting the same partition of a table are grouped into {@code UNLOGGED} batches, which are
+ * applied by the coordinator in a single round trip. All other statements are sent with
+ * {@link Session#executeAsync(Statement)} while at most {@code maxInFlightStatements} of them are awaiting a response.
+ * <p>
+ * Statements of one batch share their write timestamp and independent statements may be applied in any order. So if a
+ * unit writes a row which has already been written since the last round of execution (or it affects a whole range of
+ * rows of a table already written), all pending statements are executed and awaited before the unit is queued.
+ * <p>
+ * Once the statements have been applied, the paging states of the native query results read from the tables written to
+ * are discarded, as they may now point to shifted rows.
+ * <p>
+ * Not thread-safe; an instance is meant to be used for a single flush.
+ */
+public class CassandraStatementPipeline {
+
+	private static final Log log = LoggerFactory.getLogger();
+
+	/**
+	 * The maximum number of statements sent within one batch. Larger batches put the coordinator under pressure and
+	 * trigger warnings on the server side.
+	 */
+	private static final int MAX_BATCH_SIZE = 64;
+
+	private final Session session;
+	private final int maxInFlightStatements;
+	private final PagingStateCache pagingStateCache;
+
+	private final Map<PartitionKey, List<List<BoundStatement>>> pendingByPartition = new LinkedHashMap<>();
+	private final List<List<BoundStatement>> pendingWithoutPartition = new ArrayList<>();
+	private final Set<RowKey> writtenRows = new HashSet<>();
+	private final Set<String> writtenTables = new HashSet<>();
+	private final Set<String> tablesWithRangeWrites = new HashSet<>();
+
+	private final Deque<InFlightStatement> inFlight = new ArrayDeque<>();
+	private HibernateException failure;
+
+	/**
+	 * @param session the session to execute the statements with
+	 * @param maxInFlightStatements the maximum number of statements awaiting a response at the same time
+	 * @param pagingStateCache the paging states to discard when a table is written to, may be {@code null}
+	 */
+	public CassandraStatementPipeline(Session session, int maxInFlightStatements, PagingStateCache pagingStateCache) {
+		this.session = session;
+		this.maxInFlightStatements = maxInFlightStatements;
+		this.pagingStateCache = pagingStateCache;
+	}
+
+	/**
+	 * Adds the statements writing to a single row.
+	 *
+	 * @param table the table written to
+	 * @param partitionKeyValue the value of the partition key of the row or {@code null} if it is not known, in which
+	 * case the statements are not grouped with others
+	 * @param rowKeyValues the values of all the primary key columns of the row or {@code null} if the statements
+	 * affect all the rows matching a partial key
+	 * @param statements the statements to execute
+	 */
+	public void add(String table, Object partitionKeyValue, Object[] rowKeyValues, List<BoundStatement> statements) {
+		if ( statements.isEmpty() ) {
+			return;
+		}
+
+		RowKey rowKey = rowKeyValues == null ? null : new RowKey( table, rowKeyValues );
+		if ( conflictsWithPendingStatements( table, rowKey ) ) {
+			execute();
+		}
+
+		writtenTables.add( table );
+		if ( rowKey == null ) {
+			tablesWithRangeWrites.add( table );
+		}
+		else {
+			writtenRows.add( rowKey );
+		}
+
+		if ( partitionKeyValue == null ) {
+			pendingWithoutPartition.add( statements );
+		}
+		else {
+			PartitionKey partitionKey = new PartitionKey( table, partitionKeyValue );
+			List<List<BoundStatement>> units = pendingByPartition.get( partitionKey );
+			if ( units == null ) {
+				units = new ArrayList<>();
+				pendingByPartition.put( partitionKey, units );
+			}
+			units.add( statements );
+		}
+	}
+
+	/**
+	 * Executes all pending statements and waits for their completion.
+	 *
+	 * @throws HibernateException if any of the statements failed; all the other statements have been executed
+	 */
+	public void execute() {
+		for ( List<List<BoundStatement>> units : pendingByPartition.values() ) {
+			submitPartition( units );
+		}
+		for ( List<BoundStatement> unit : pendingWithoutPartition ) {
+			submitStatements( unit );
+		}
+
+		while ( !inFlight.isEmpty() ) {
+			awaitOldest();
+		}
+
+		if ( pagingStateCache != null ) {
+			for ( String table : writtenTables ) {
+				pagingStateCache.invalidate( table );
+			}
+		}
+
+		pendingByPartition.clear();
+		pendingWithoutPartition.clear();
+		writtenRows.clear();
+		writtenTables.clear();
+		tablesWithRangeWrites.clear();
+
+		if ( failure != null ) {
+			HibernateException e = failure;
+			failure = null;
+			throw e;
+		}
+	}
+
+	private boolean conflictsWithPendingStatements(String table, RowKey rowKey) {
+		if ( rowKey == null ) {
+			return writtenTables.contains( table );
+		}
+		return tablesWithRangeWrites.contains( table ) || writtenRows.contains( rowKey );
+	}
+
+	private void submitPartition(List<List<BoundStatement>> units) {
+		List<BoundStatement> batch = new ArrayList<>();
+		for ( List<BoundStatement> unit : units ) {
+			if ( !batch.isEmpty() && batch.size() + unit.size() > MAX_BATCH_SIZE ) {
+				submitStatements( batch );
+				batch = new ArrayList<>();
+			}
+			batch.addAll( unit );
+		}
+		submitStatements( batch );
+	}
+
+	private void submitStatements(List<BoundStatement> statements) {
+		Statement statement;
+		String description;
+		if ( statements.size() == 1 ) {
+			statement = statements.get( 0 );
+			description = statements.get( 0 ).preparedStatement().getQueryString();
+		}
+		else {
+			BatchStatement batch = new BatchStatement( BatchStatement.Type.UNLOGGED );
+			batch.addAll( statements );
+			statement = batch;
+			description = describe( statements );
+		}
+
+		if ( inFlight.size() >= maxInFlightStatements ) {
+			awaitOldest();
+		}
+
+		try {
+			inFlight.add( new InFlightStatement( description, session.executeAsync( statement ) ) );
+		}
+		catch (DriverException e) {
+			recordFailure( description, e );
+		}
+	}
+
+	private void awaitOldest() {
+		InFlightStatement statement = inFlight.poll();
+		try {
+			statement.future.getUninterruptibly();
+		}
+		catch (DriverException e) {
+			recordFailure( statement.description, e );
+		}
+	}
+
+	private void recordFailure(String description, DriverException e) {
+		if ( failure == null ) {
+			failure = log.failToExecuteCQL( description, e );
+		}
+	}
+
+	private static String describe(List<BoundStatement> statements) {
+		StringBuilder sb = new StringBuilder( "BEGIN UNLOGGED BATCH " );
+		for ( BoundStatement statement : statements ) {
+			sb.append( statement.preparedStatement().getQueryString() ).append( "; " );
+		}
+		sb.append( "APPLY BATCH" );
+		return sb.toString();
+	}
+
+	private static class InFlightStatement {
+
+		private final String description;
+		private final ResultSetFuture future;
+
+		private InFlightStatement(String description, ResultSetFuture future) {
+			this.description = description;
+			this.future = future;
+		}
+	}
+
+	private static class PartitionKey {
+
+		private final String table;
+		private final Object value;
+
+		private PartitionKey(String table, Object value) {
+			this.table = table;
+			this.value = value;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * table.hashCode() + Arrays.deepHashCode( new Object[] { value } );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			PartitionKey other = (PartitionKey) obj;
+			return table.equals( other.table ) && Arrays.deepEquals( new Object[] { value }, new Object[] { other.value } );
+		}
+	}
+
+	private static class RowKey {
+
+		private final String table;
+		private final Object[] values;
+
+		private RowKey(String table, Object[] values) {
+			this.table = table;
+			this.values = values;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * table.hashCode() + Arrays.deepHashCode( values );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			RowKey other = (RowKey) obj;
+			return table.equals( other.table ) && Arrays.deepEquals( values, other.values );
+		}
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.impl;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
+
+import com.datastax.driver.core.TokenRange;
+
+/**
+ * The rows of a table whose partition key has a token within one of the given ranges; none of the ranges wraps
+ * around the end of the ring.
+ */
+public class CassandraTokenRangePartition implements TuplePartition {
+
+	private final List<TokenRange> ranges;
+
+	private CassandraTokenRangePartition(List<TokenRange> ranges) {
+		this.ranges = ranges;
+	}
+
+	/**
+	 * @param ranges the token ranges of the partition, none of them wrapping around the end of the ring
+	 * @return a partition of the given ranges
+	 */
+	public static CassandraTokenRangePartition of(List<TokenRange> ranges) {
+		return new CassandraTokenRangePartition( Collections.unmodifiableList( ranges ) );
+	}
+
+	/**
+	 * @return a partition containing all the rows of the table, used if the token ranges are unknown
+	 */
+	public static CassandraTokenRangePartition all() {
+		return new CassandraTokenRangePartition( null );
+	}
+
+	/**
+	 * @return the token ranges of this partition, {@code null} if the partition contains all the rows of the table
+	 */
+	public List<TokenRange> getRanges() {
+		return ranges;
+	}
+
+	@Override
+	public String toString() {
+		return "CassandraTokenRangePartition [ranges=" + ( ranges == null ? "all" : ranges ) + "]";
+	}
+}
@@ -0,0 +1,310 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.impl;
+
+import static com.datastax.driver.core.querybuilder.QueryBuilder.bindMarker;
+import static com.datastax.driver.core.querybuilder.QueryBuilder.eq;
+import static com.datastax.driver.core.querybuilder.QueryBuilder.gt;
+import static com.datastax.driver.core.querybuilder.QueryBuilder.in;
+import static com.datastax.driver.core.querybuilder.QueryBuilder.lte;
+import static com.datastax.driver.core.querybuilder.QueryBuilder.set;
+import static com.datastax.driver.core.querybuilder.QueryBuilder.token;
+
+import java.util.Arrays;
+
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.querybuilder.Delete;
+import com.datastax.driver.core.querybuilder.Insert;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+import com.datastax.driver.core.querybuilder.Update;
+
+/**
+ * Describes a CQL statement by the table it works on, the kind of operation and the columns involved. Statements of the
+ * same shape only differ in the values bound to them, so a shape is used as key for caching prepared statements.
+ * <p>
+ * All values are bound positionally: first the values for the columns of the shape, then the values for the key
+ * columns of the {@code WHERE} clause and, for {@link Operation#UPDATE_IF_UNCHANGED}, the expected old values of the
+ * columns.
+ */
+public final class StatementShape {
+
+	/**
+	 * The kind of CQL statement.
+	 */
+	public enum Operation {
+
+		/**
+		 * {@code SELECT} of the given columns (or all columns if none are given) by key.
+		 */
+		SELECT,
+
+		/**
+		 * {@code SELECT} of the given columns (or all columns if none are given) by key {@code ALLOW FILTERING}; used if
+		 * the key columns don't form a prefix of the primary key.
+		 */
+		SELECT_ALLOW_FILTERING,
+
+		/**
+		 * {@code SELECT} of the given columns (or all columns if none are given) by a single key column; a list of the
+		 * searched key values is bound to the {@code IN} clause.
+		 */
+		SELECT_IN,
+
+		/**
+		 * {@code SELECT} of the given columns (or all columns if none are given) whose partition key columns (the key
+		 * columns of the shape) have a token within a range; the exclusive start and the inclusive end of the range are
+		 * bound.
+		 */
+		SELECT_TOKEN_RANGE,
+
+		/**
+		 * {@code SELECT} of the given columns (or all columns if none are given) whose partition key columns (the key
+		 * columns of the shape) have a token greater than the bound one.
+		 */
+		SELECT_FROM_TOKEN,
+
+		/**
+		 * {@code INSERT} of the given columns, which is an upsert in Cassandra.
+		 */
+		INSERT,
+
+		/**
+		 * {@code INSERT} of the given columns {@code IF NOT EXISTS}.
+		 */
+		INSERT_IF_NOT_EXISTS,
+
+		/**
+		 * {@code UPDATE} of the given columns by key, conditional on the old values of these columns.
+		 */
+		UPDATE_IF_UNCHANGED,
+
+		/**
+		 * {@code DELETE} of the given columns (or the whole row if none are given) by key.
+		 */
+		DELETE
+	}
+
+	private static final String[] NO_COLUMNS = new String[0];
+
+	private final Operation operation;
+	private final String table;
+	private final String[] columns;
+	private final String[] keyColumns;
+	private final int hashCode;
+
+	private StatementShape(Operation operation, String table, String[] columns, String[] keyColumns) {
+		this.operation = operation;
+		this.table = table;
+		this.columns = columns;
+		this.keyColumns = keyColumns;
+		this.hashCode = calculateHashCode();
+	}
+
+	public static StatementShape select(String table, String[] keyColumns) {
+		return new StatementShape( Operation.SELECT, table, NO_COLUMNS, keyColumns );
+	}
+
+	public static StatementShape select(String table, String[] columns, String[] keyColumns) {
+		return new StatementShape( Operation.SELECT, table, columns, keyColumns );
+	}
+
+	public static StatementShape selectAllowFiltering(String table, String[] keyColumns) {
+		return new StatementShape( Operation.SELECT_ALLOW_FILTERING, table, NO_COLUMNS, keyColumns );
+	}
+
+	public static StatementShape selectIn(String table, String[] columns, String keyColumn) {
+		return new StatementShape( Operation.SELECT_IN, table, columns, new String[] { keyColumn } );
+	}
+
+	public static StatementShape selectTokenRange(String table, String[] columns, String[] partitionKeyColumns) {
+		return new StatementShape( Operation.SELECT_TOKEN_RANGE, table, columns, partitionKeyColumns );
+	}
+
+	public static StatementShape selectFromToken(String table, String[] columns, String[] partitionKeyColumns) {
+		return new StatementShape( Operation.SELECT_FROM_TOKEN, table, columns, partitionKeyColumns );
+	}
+
+	public static StatementShape insert(String table, String[] columns) {
+		return new StatementShape( Operation.INSERT, table, columns, NO_COLUMNS );
+	}
+
+	public static StatementShape insertIfNotExists(String table, String[] columns) {
+		return new StatementShape( Operation.INSERT_IF_NOT_EXISTS, table, columns, NO_COLUMNS );
+	}
+
+	public static StatementShape updateIfUnchanged(String table, String[] columns, String[] keyColumns) {
+		return new StatementShape( Operation.UPDATE_IF_UNCHANGED, table, columns, keyColumns );
+	}
+
+	public static StatementShape delete(String table, String[] keyColumns) {
+		return new StatementShape( Operation.DELETE, table, NO_COLUMNS, keyColumns );
+	}
+
+	public static StatementShape delete(String table, String[] columns, String[] keyColumns) {
+		return new StatementShape( Operation.DELETE, table, columns, keyColumns );
+	}
+
+	public Operation getOperation() {
+		return operation;
+	}
+
+	public String getTable() {
+		return table;
+	}
+
+	/**
+	 * Builds the CQL statement of this shape.
+	 *
+	 * @return the statement with a bind marker for each value
+	 */
+	public RegularStatement build() {
+		switch ( operation ) {
+			case SELECT:
+			case SELECT_ALLOW_FILTERING:
+			case SELECT_IN:
+			case SELECT_TOKEN_RANGE:
+			case SELECT_FROM_TOKEN:
+				return buildSelect();
+			case INSERT:
+			case INSERT_IF_NOT_EXISTS:
+				return buildInsert();
+			case UPDATE_IF_UNCHANGED:
+				return buildUpdate();
+			case DELETE:
+				return buildDelete();
+			default:
+				throw new IllegalStateException( "Unsupported operation: " + operation );
+		}
+	}
+
+	private RegularStatement buildSelect() {
+		Select select;
+		if ( columns.length == 0 ) {
+			select = QueryBuilder.select().all().from( quote( table ) );
+		}
+		else {
+			Select.Selection selection = QueryBuilder.select();
+			for ( String column : columns ) {
+				selection.column( quote( column ) );
+			}
+			select = selection.from( quote( table ) );
+		}
+
+		if ( operation == Operation.SELECT_IN ) {
+			select.where( in( quote( keyColumns[0] ), bindMarker() ) );
+		}
+		else if ( operation == Operation.SELECT_TOKEN_RANGE || operation == Operation.SELECT_FROM_TOKEN ) {
+			String[] quotedKeyColumns = new String[keyColumns.length];
+			for ( int i = 0; i < keyColumns.length; i++ ) {
+				quotedKeyColumns[i] = quote( keyColumns[i] );
+			}
+			String token = token( quotedKeyColumns );
+			select.where( gt( token, bindMarker() ) );
+			if ( operation == Operation.SELECT_TOKEN_RANGE ) {
+				select.where( lte( token, bindMarker() ) );
+			}
+		}
+		else {
+			for ( String keyColumn : keyColumns ) {
+				select.where( eq( quote( keyColumn ), bindMarker() ) );
+			}
+		}
+
+		if ( operation == Operation.SELECT_ALLOW_FILTERING ) {
+			select.allowFiltering();
+		}
+
+		return select;
+	}
+
+	private RegularStatement buildInsert() {
+		Insert insert = QueryBuilder.insertInto( quote( table ) );
+		for ( String column : columns ) {
+			insert.value( quote( column ), bindMarker() );
+		}
+
+		if ( operation == Operation.INSERT_IF_NOT_EXISTS ) {
+			insert.ifNotExists();
+		}
+
+		return insert;
+	}
+
+	private RegularStatement buildUpdate() {
+		Update update = QueryBuilder.update( quote( table ) );
+		for ( String column : columns ) {
+			update.with( set( quote( column ), bindMarker() ) );
+		}
+		for ( String keyColumn : keyColumns ) {
+			update.where( eq( quote( keyColumn ), bindMarker() ) );
+		}
+		for ( String column : columns ) {
+			update.onlyIf( eq( quote( column ), bindMarker() ) );
+		}
+
+		return update;
+	}
+
+	private RegularStatement buildDelete() {
+		Delete.Selection deleteSelection = QueryBuilder.delete();
+		for ( String column : columns ) {
+			deleteSelection.column( quote( column ) );
+		}
+
+		Delete delete = deleteSelection.from( quote( table ) );
+		for ( String keyColumn : keyColumns ) {
+			delete.where( eq( quote( keyColumn ), bindMarker() ) );
+		}
+
+		return delete;
+	}
+
+	// temporary, as equivalent in java-driver's Querybuilder is broken.
+	// https://datastax-oss.atlassian.net/browse/JAVA-712
+	public static String quote(String columnName) {
+		StringBuilder sb = new StringBuilder();
+		sb.append( '"' );
+		sb.append( columnName );
+		sb.append( '"' );
+		return sb.toString();
+	}
+
+	private int calculateHashCode() {
+		int result = operation.hashCode();
+		result = 31 * result + table.hashCode();
+		result = 31 * result + Arrays.hashCode( columns );
+		result = 31 * result + Arrays.hashCode( keyColumns );
+		return result;
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		StatementShape other = (StatementShape) obj;
+		return operation == other.operation
+				&& table.equals( other.table )
+				&& Arrays.equals( columns, other.columns )
+				&& Arrays.equals( keyColumns, other.keyColumns );
+	}
+
+	@Override
+	public String toString() {
+		return "StatementShape [operation=" + operation + ", table=" + table + ", columns=" + Arrays.toString( columns )
+				+ ", keyColumns=" + Arrays.toString( keyColumns ) + "]";
+	}
+}
@@ -6,9 +6,14 @@
  */
 package org.hibernate.ogm.datastore.cassandra.impl.configuration;
 
+import org.hibernate.HibernateException;
 import org.hibernate.ogm.cfg.spi.DocumentStoreConfiguration;
+import org.hibernate.ogm.datastore.cassandra.CassandraProperties;
+import org.hibernate.ogm.datastore.cassandra.logging.impl.Log;
+import org.hibernate.ogm.datastore.cassandra.logging.impl.LoggerFactory;
 import org.hibernate.ogm.options.spi.OptionsContext;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.ogm.util.configurationreader.spi.PropertyValidator;
 
 /**
  * Provides utility methods to access the Cassandra configuration values.
@@ -19,7 +24,90 @@ public class CassandraConfiguration extends DocumentStoreConfiguration {
 
 	private static final int DEFAULT_PORT = 9042;
 
+	private static final int DEFAULT_MAX_IN_FLIGHT_STATEMENTS = 128;
+
+	private static final int DEFAULT_FETCH_SIZE = 5000;
+
+	private static final Log log = LoggerFactory.getLogger();
+
+	/**
+	 * A {@link PropertyValidator} which asserts that the maximum number of in-flight statements is positive.
+	 */
+	private static final PropertyValidator<Integer> MAX_IN_FLIGHT_STATEMENTS_VALIDATOR = new PropertyValidator<Integer>() {
+
+		@Override
+		public void validate(Integer value) throws HibernateException {
+			if ( value == null ) {
+				return;
+			}
+			if ( value < 1 ) {
+				throw log.illegalMaxInFlightStatementsValue( value );
+			}
+		}
+	};
+
+	/**
+	 * A {@link PropertyValidator} which asserts that the fetch size is positive.
+	 */
+	private static final PropertyValidator<Integer> FETCH_SIZE_VALIDATOR = new PropertyValidator<Integer>() {
+
+		@Override
+		public void validate(Integer value) throws HibernateException {
+			if ( value == null ) {
+				return;
+			}
+			if ( value < 1 ) {
+				throw log.illegalFetchSizeValue( value );
+			}
+		}
+	};
+
+	private final int maxInFlightStatements;
+	private final int fetchSize;
+	private final boolean reusePagingStates;
+
 	public CassandraConfiguration(ConfigurationPropertyReader propertyReader, OptionsContext globalOptions) {
 		super( propertyReader, DEFAULT_PORT );
+
+		this.maxInFlightStatements = propertyReader.property( CassandraProperties.MAX_IN_FLIGHT_STATEMENTS, int.class )
+				.withValidator( MAX_IN_FLIGHT_STATEMENTS_VALIDATOR )
+				.withDefault( DEFAULT_MAX_IN_FLIGHT_STATEMENTS )
+				.getValue();
+
+		this.fetchSize = propertyReader.property( CassandraProperties.FETCH_SIZE, int.class )
+				.withValidator( FETCH_SIZE_VALIDATOR )
+				.withDefault( DEFAULT_FETCH_SIZE )
+				.getValue();
+
+		this.reusePagingStates = propertyReader.property( CassandraProperties.REUSE_PAGING_STATES, boolean.class )
+				.withDefault( false )
+				.getValue();
+	}
+
+	/**
+	 * @return the maximum number of statements sent asynchronously while flushing which may await a response
+	 *
+	 * @see CassandraProperties#MAX_IN_FLIGHT_STATEMENTS
+	 */
+	public int getMaxInFlightStatements() {
+		return maxInFlightStatements;
+	}
+
+	/**
+	 * @return the number of rows fetched per page when iterating over query results
+	 *
+	 * @see CassandraProperties#FETCH_SIZE
+	 */
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	/**
+	 * @return whether the paging states of native query results are reused by later executions of the same query
+	 *
+	 * @see CassandraProperties#REUSE_PAGING_STATES
+	 */
+	public boolean isReusePagingStates() {
+		return reusePagingStates;
 	}
 }
@@ -54,4 +54,10 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 	@LogMessage(level = Level.WARN)
 	@Message(id = 1609, value = "Cannot create multi-column secondary index for index/key named '%2$s' for table '%1$s'; Only considering first index column")
 	void multiColumnIndexNotSupported(String tableName, String name);
+
+	@Message(id = 1610, value = "Illegal value for the maximum number of in-flight statements: %1$d; the value must be greater than 0")
+	HibernateException illegalMaxInFlightStatementsValue(int value);
+
+	@Message(id = 1611, value = "Illegal value for the fetch size: %1$d; the value must be greater than 0")
+	HibernateException illegalFetchSizeValue(int value);
 }
@@ -6,7 +6,10 @@
  */
 package org.hibernate.ogm.datastore.cassandra.model.impl;
 
+import com.datastax.driver.core.PagingState;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
 
 import org.hibernate.ogm.datastore.cassandra.CassandraDialect;
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
@@ -15,26 +18,63 @@
 
 /**
  * Wraps Cassandra java-driver ResultSet.
+ * <p>
+ * The driver fetches the rows page by page while the result set is iterated, so only one page (or two, while the next
+ * one is prefetched) is held in memory at a time. If a {@link PageListener} is given, the size of each page is adjusted
+ * before it is fetched so that pages end right after the rows to be skipped and right after the last row to be
+ * returned; the listener is notified at each page end with the paging state allowing to resume from there.
  *
  * @author Jonathan Halliday
  */
 public class ResultSetTupleIterator implements ClosableIterator<Tuple> {
 
+	/**
+	 * Notified when all the rows of a page have been read and further pages are available.
+	 */
+	public interface PageListener {
+
+		/**
+		 * @param rowsRead the number of rows read from the result set so far, including skipped rows
+		 * @param pagingState the paging state pointing to the row following the last row read
+		 */
+		void pageEnd(int rowsRead, PagingState pagingState);
+	}
+
 	private final ResultSet resultSet;
+	private final Statement statement;
+	private final int fetchSize;
 	private final int max;
+	private final PageListener pageListener;
+	private int remainingToSkip;
+	private int rowsRead;
 	private int count;
 
 	public ResultSetTupleIterator(ResultSet resultSet, int first, int max) {
+		this( resultSet, null, 0, first, max, null );
+	}
+
+	/**
+	 * @param resultSet the result set to iterate over
+	 * @param statement the statement which has been executed; the size of the pages still to be fetched is set on it
+	 * @param fetchSize the maximum number of rows fetched per page
+	 * @param first the number of rows to skip
+	 * @param max the maximum number of rows to return
+	 * @param pageListener notified at each page end; if {@code null}, the next page is prefetched asynchronously while
+	 * the last rows of the current page are consumed
+	 */
+	public ResultSetTupleIterator(ResultSet resultSet, Statement statement, int fetchSize, int first, int max, PageListener pageListener) {
 		this.resultSet = resultSet;
+		this.statement = statement;
+		this.fetchSize = fetchSize;
 		this.max = max;
+		this.pageListener = pageListener;
+		this.remainingToSkip = first;
 		this.count = 0;
 
-		if ( first > 0 ) {
-			for ( int i = 0; i < first && hasNext(); i++ ) {
-				resultSet.one();
-			}
+		while ( remainingToSkip > 0 && !resultSet.isExhausted() ) {
+			remainingToSkip--;
+			nextRow();
 		}
-
 	}
 
 	@Override
@@ -49,11 +89,37 @@ public boolean hasNext() {
 	@Override
 	public Tuple next() {
 		count++;
-		return new Tuple( new MapTupleSnapshot( CassandraDialect.tupleFromRow( resultSet.one() ) ) );
+		return new Tuple( new MapTupleSnapshot( CassandraDialect.tupleFromRow( nextRow() ) ) );
 	}
 
 	@Override
 	public void remove() {
 		throw new UnsupportedOperationException();
 	}
+
+	private Row nextRow() {
+		Row row = resultSet.one();
+		rowsRead++;
+
+		if ( statement != null && !resultSet.isFullyFetched() ) {
+			int available = resultSet.getAvailableWithoutFetching();
+			if ( pageListener != null ) {
+				if ( available == 0 ) {
+					statement.setFetchSize( nextPageSize() );
+					pageListener.pageEnd( rowsRead, resultSet.getExecutionInfo().getPagingState() );
+				}
+			}
+			else if ( available <= fetchSize / 4 ) {
+				// does nothing if the next page is already being fetched
+				resultSet.fetchMoreResults();
+			}
+		}
+
+		return row;
+	}
+
+	private int nextPageSize() {
+		int remaining = remainingToSkip > 0 ? remainingToSkip : max - count;
+		return remaining > 0 ? Math.min( fetchSize, remaining ) : fetchSize;
+	}
 }
@@ -0,0 +1,128 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.query.impl;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import com.datastax.driver.core.PagingState;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Remembers where the pages of native query results end, so that a query asking for rows starting at such an offset
+ * can be resumed from the server-side {@link PagingState} instead of reading and discarding all the preceding rows.
+ * <p>
+ * A paging state points to a position in the partitions and clustering columns of the results, not to a row offset:
+ * once rows have been inserted or removed before this position, resuming from it returns shifted rows. The paging
+ * states of a table are discarded when Hibernate OGM writes to it, but the writes of other clients are not detected.
+ * Hence the cache is only used if enabled with
+ * {@link org.hibernate.ogm.datastore.cassandra.CassandraProperties#REUSE_PAGING_STATES}.
+ * <p>
+ * Paging states are kept per CQL query, bound parameter values and row offset; the least recently used ones are
+ * evicted. Thread-safe.
+ */
+public class PagingStateCache {
+
+	private static final int MAX_ENTRIES = 1000;
+
+	private final Cache<Key, TablePagingState> cache = CacheBuilder.newBuilder()
+			.maximumSize( MAX_ENTRIES )
+			.build();
+
+	/**
+	 * Returns the paging state pointing to the row at the given offset of the results of the given query.
+	 *
+	 * @param query the CQL query
+	 * @param parameters the values bound to the query
+	 * @param offset the offset of the first row to fetch
+	 * @return the paging state or {@code null} if it is not known
+	 */
+	public PagingState get(String query, Object[] parameters, int offset) {
+		TablePagingState pagingState = cache.getIfPresent( new Key( query, parameters, offset ) );
+		return pagingState == null ? null : pagingState.pagingState;
+	}
+
+	/**
+	 * Stores the paging state pointing to the row at the given offset of the results of the given query.
+	 *
+	 * @param query the CQL query
+	 * @param parameters the values bound to the query
+	 * @param offset the offset of the first row the paging state points to
+	 * @param table the table the query reads from or {@code null} if it is not known, in which case the paging state is
+	 * discarded on any write
+	 * @param pagingState the paging state
+	 */
+	public void put(String query, Object[] parameters, int offset, String table, PagingState pagingState) {
+		cache.put( new Key( query, parameters, offset ), new TablePagingState( table, pagingState ) );
+	}
+
+	/**
+	 * Discards the paging states of the results read from the given table, as the rows they point to may have been
+	 * shifted by a write.
+	 *
+	 * @param table the table written to
+	 */
+	public void invalidate(String table) {
+		Iterator<TablePagingState> pagingStates = cache.asMap().values().iterator();
+		while ( pagingStates.hasNext() ) {
+			String readTable = pagingStates.next().table;
+			if ( readTable == null || readTable.equals( table ) ) {
+				pagingStates.remove();
+			}
+		}
+	}
+
+	public void clear() {
+		cache.invalidateAll();
+	}
+
+	private static class TablePagingState {
+
+		private final String table;
+		private final PagingState pagingState;
+
+		private TablePagingState(String table, PagingState pagingState) {
+			this.table = table;
+			this.pagingState = pagingState;
+		}
+	}
+
+	private static class Key {
+
+		private final String query;
+		private final Object[] parameters;
+		private final int offset;
+		private final int hashCode;
+
+		private Key(String query, Object[] parameters, int offset) {
+			this.query = query;
+			this.parameters = parameters;
+			this.offset = offset;
+			this.hashCode = 31 * ( 31 * query.hashCode() + Arrays.deepHashCode( parameters ) ) + offset;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return offset == other.offset
+					&& query.equals( other.query )
+					&& Arrays.deepEquals( parameters, other.parameters );
+		}
+	}
+}
@@ -10,6 +10,7 @@
 import static org.junit.Assert.fail;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -190,6 +191,49 @@ public void testEntitiesInsertedInCurrentSessionAreFoundByNativeQuery() throws E
 		commit();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testPaginatedQuery() throws Exception {
+		OscarWildePoem[] poems = new OscarWildePoem[5];
+		begin();
+		for ( int i = 0; i < poems.length; i++ ) {
+			poems[i] = new OscarWildePoem( 10L + i, "Poem " + i, "Oscar Wilde" );
+			em.persist( poems[i] );
+		}
+		commit();
+		em.clear();
+
+		begin();
+		String nativeQuery = "SELECT * FROM \"WILDE_POEM\"";
+		List<OscarWildePoem> all = em.createNativeQuery( nativeQuery, OscarWildePoem.class ).getResultList();
+		assertThat( all ).hasSize( 7 );
+
+		// the paging states are not reused by default, each execution skips the preceding rows
+		for ( int pass = 0; pass < 2; pass++ ) {
+			List<Long> ids = new ArrayList<Long>();
+			for ( int first = 0; first < 8; first += 3 ) {
+				List<OscarWildePoem> page = em.createNativeQuery( nativeQuery, OscarWildePoem.class )
+						.setFirstResult( first )
+						.setMaxResults( 3 )
+						.getResultList();
+				assertThat( page ).hasSize( Math.min( 3, 7 - first ) );
+				ids.addAll( getIds( page ) );
+			}
+			assertThat( ids ).isEqualTo( getIds( all ) );
+		}
+
+		List<OscarWildePoem> page = em.createNativeQuery( nativeQuery, OscarWildePoem.class )
+				.setFirstResult( 5 )
+				.setMaxResults( 10 )
+				.getResultList();
+		assertThat( getIds( page ) ).isEqualTo( getIds( all ).subList( 5, 7 ) );
+
+		for ( OscarWildePoem poem : poems ) {
+			em.remove( em.find( OscarWildePoem.class, poem.getId() ) );
+		}
+		commit();
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "OGM-702")
 	public void testQueryWithCompositeId() throws Exception {
@@ -254,6 +298,14 @@ private EntityManager persist(Object... entities) {
 		return em;
 	}
 
+	private List<Long> getIds(List<OscarWildePoem> poems) {
+		List<Long> ids = new ArrayList<Long>();
+		for ( OscarWildePoem poem : poems ) {
+			ids.add( poem.getId() );
+		}
+		return ids;
+	}
+
 	private void assertAreEquals(OscarWildePoem expectedPoem, OscarWildePoem poem) {
 		assertThat( poem ).isNotNull();
 		assertThat( poem.getId() ).as( "Wrong Id" ).isEqualTo( expectedPoem.getId() );
@@ -0,0 +1,115 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.test.query.nativequery;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.ogm.backendtck.jpa.Poem;
+import org.hibernate.ogm.datastore.cassandra.CassandraProperties;
+import org.hibernate.ogm.utils.PackagingRule;
+import org.hibernate.ogm.utils.jpa.GetterPersistenceUnitInfo;
+import org.hibernate.ogm.utils.jpa.OgmJpaTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the reuse of the paging states of native query results across executions of the same query.
+ */
+public class CassandraPagingStateReuseTest extends OgmJpaTestCase {
+
+	private static final String QUERY = "SELECT * FROM \"WILDE_POEM\"";
+
+	@Rule
+	public PackagingRule packaging = new PackagingRule( "persistencexml/ogm.xml", Poem.class );
+
+	private EntityManager em;
+
+	@Before
+	public void init() throws Exception {
+		em = getFactory().createEntityManager();
+		em.getTransaction().begin();
+		for ( long id = 1; id <= 7; id++ ) {
+			em.persist( new OscarWildePoem( id, "Poem " + id, "Oscar Wilde" ) );
+		}
+		em.getTransaction().commit();
+		em.clear();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		em.getTransaction().begin();
+		for ( OscarWildePoem poem : getPage( 0, Integer.MAX_VALUE ) ) {
+			em.remove( poem );
+		}
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	@Test
+	public void testPaginatedQueryAfterLocalWrite() throws Exception {
+		em.getTransaction().begin();
+		List<Long> all = getIds( getPage( 0, Integer.MAX_VALUE ) );
+		assertThat( all ).hasSize( 7 );
+
+		// the second pass resumes from the paging states recorded by the first one
+		assertThat( getIdsPageByPage() ).isEqualTo( all );
+		assertThat( getIdsPageByPage() ).isEqualTo( all );
+
+		// when removing a row before the recorded positions
+		em.remove( em.find( OscarWildePoem.class, all.get( 1 ) ) );
+		em.getTransaction().commit();
+		em.clear();
+
+		// then the pages are not shifted
+		em.getTransaction().begin();
+		all = getIds( getPage( 0, Integer.MAX_VALUE ) );
+		assertThat( all ).hasSize( 6 );
+		assertThat( getIdsPageByPage() ).isEqualTo( all );
+		em.getTransaction().commit();
+	}
+
+	private List<Long> getIdsPageByPage() {
+		List<Long> ids = new ArrayList<Long>();
+		for ( int first = 0; first < 8; first += 3 ) {
+			ids.addAll( getIds( getPage( first, 3 ) ) );
+		}
+		return ids;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<OscarWildePoem> getPage(int first, int max) {
+		return em.createNativeQuery( QUERY, OscarWildePoem.class )
+				.setFirstResult( first )
+				.setMaxResults( max )
+				.getResultList();
+	}
+
+	private List<Long> getIds(List<OscarWildePoem> poems) {
+		List<Long> ids = new ArrayList<Long>();
+		for ( OscarWildePoem poem : poems ) {
+			ids.add( poem.getId() );
+		}
+		return ids;
+	}
+
+	@Override
+	protected void configure(GetterPersistenceUnitInfo info) {
+		info.getProperties().setProperty( CassandraProperties.REUSE_PAGING_STATES, "true" );
+	}
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { OscarWildePoem.class };
+	}
+}
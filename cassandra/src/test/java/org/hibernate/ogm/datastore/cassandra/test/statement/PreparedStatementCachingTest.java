@@ -0,0 +1,72 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.cassandra.test.statement;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.backendtck.id.GuitarPlayer;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraDatastoreProvider;
+import org.hibernate.ogm.datastore.cassandra.impl.CassandraPreparedStatementCache;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Tests that the statements used for reading and writing entities and for generating ids are prepared only once.
+ */
+public class PreparedStatementCachingTest extends OgmTestCase {
+
+	@Test
+	public void shouldPrepareEachStatementShapeOnlyOnce() {
+		CassandraPreparedStatementCache cache = getPreparedStatementCache();
+
+		persistAndUpdateAndRemovePlayer( "Buck Cherry" );
+		long missCount = cache.getMissCount();
+		long hitCount = cache.getHitCount();
+
+		persistAndUpdateAndRemovePlayer( "Slash" );
+		persistAndUpdateAndRemovePlayer( "Angus Young" );
+
+		assertThat( cache.getMissCount() ).isEqualTo( missCount );
+		assertThat( cache.getHitCount() ).isGreaterThan( hitCount );
+	}
+
+	private void persistAndUpdateAndRemovePlayer(String name) {
+		OgmSession session = openSession();
+		Transaction tx = session.beginTransaction();
+		GuitarPlayer player = new GuitarPlayer( name );
+		session.persist( player );
+		tx.commit();
+		session.clear();
+
+		tx = session.beginTransaction();
+		player = (GuitarPlayer) session.get( GuitarPlayer.class, player.getId() );
+		player.setName( name + " Jr." );
+		tx.commit();
+		session.clear();
+
+		tx = session.beginTransaction();
+		player = (GuitarPlayer) session.get( GuitarPlayer.class, player.getId() );
+		session.delete( player );
+		tx.commit();
+		session.close();
+	}
+
+	private CassandraPreparedStatementCache getPreparedStatementCache() {
+		DatastoreProvider provider = ( (SessionFactoryImplementor) sessionFactory ).getServiceRegistry()
+				.getService( DatastoreProvider.class );
+		return ( (CassandraDatastoreProvider) provider ).getPreparedStatementCache();
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[]{ GuitarPlayer.class };
+	}
+}
@@ -16,7 +16,9 @@
 import org.hibernate.ogm.dialect.eventstate.impl.EventContextManagerInitiator;
 import org.hibernate.ogm.dialect.impl.GridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.IdentityColumnAwareGridDialectInitiator;
+import org.hibernate.ogm.dialect.impl.MultigetAssociationGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.MultigetGridDialectInitiator;
+import org.hibernate.ogm.dialect.impl.NaturalIdAwareGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.OgmDialectFactoryInitiator;
 import org.hibernate.ogm.dialect.impl.OptimisticLockingAwareGridDialectInitiator;
 import org.hibernate.ogm.dialect.impl.QueryableGridDialectInitiator;
@@ -81,6 +83,8 @@ public void contribute(StandardServiceRegistryBuilder serviceRegistryBuilder) {
 		serviceRegistryBuilder.addInitiator( IdentityColumnAwareGridDialectInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( OptimisticLockingAwareGridDialectInitiator.INSTANCE );
 		serviceRegistryBuilder.addInitiator( MultigetGridDialectInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( MultigetAssociationGridDialectInitiator.INSTANCE );
+		serviceRegistryBuilder.addInitiator( NaturalIdAwareGridDialectInitiator.INSTANCE );
 	}
 
 	private boolean isOgmEnabled(Map<?, ?> settings) {
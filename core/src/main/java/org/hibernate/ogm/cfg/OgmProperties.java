@@ -106,4 +106,10 @@ public interface OgmProperties {
 	 * </ul>
 	 */
 	String ERROR_HANDLER = "hibernate.ogm.error_handler";
+
+	/**
+	 * Property for setting the maximum number of writes a stateless session collects before executing them at once, if
+	 * the dialect supports batching. Default to 50. Accepts a positive integer; a value of 1 disables batching.
+	 */
+	String STATELESS_SESSION_BATCH_SIZE = "hibernate.ogm.stateless_session.batch_size";
 }
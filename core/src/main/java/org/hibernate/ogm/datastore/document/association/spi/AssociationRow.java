@@ -106,4 +106,13 @@ public Set<String> getColumnNames() {
 	public RowKey getKey() {
 		return rowKey;
 	}
+
+	/**
+	 * Returns the store-specific representation of this association row.
+	 *
+	 * @return The store-specific representation of this association row
+	 */
+	public R getUnderlyingRow() {
+		return row;
+	}
 }
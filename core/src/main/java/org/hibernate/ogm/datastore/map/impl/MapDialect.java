@@ -16,6 +16,7 @@
 import org.hibernate.dialect.lock.OptimisticForceIncrementLockingStrategy;
 import org.hibernate.dialect.lock.OptimisticLockingStrategy;
 import org.hibernate.dialect.lock.PessimisticForceIncrementLockingStrategy;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
@@ -37,7 +38,7 @@
  *
  * @author Sanne Grinovero &lt;sanne@hibernate.org&gt; (C) 2011 Red Hat Inc.
  */
-public class MapDialect extends BaseGridDialect implements MultigetGridDialect {
+public class MapDialect extends BaseGridDialect implements MultigetGridDialect, MultigetAssociationGridDialect {
 
 	private final MapDatastoreProvider provider;
 
@@ -112,6 +113,15 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return associationMap == null ? null : new Association( new MapAssociationSnapshot( associationMap ) );
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		List<Association> results = new ArrayList<>( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			results.add( getAssociation( keys[i], associationContexts[i] ) );
+		}
+		return results;
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		Map<RowKey, Map<String, Object>> associationMap = new HashMap<RowKey, Map<String,Object>>();
@@ -59,6 +59,46 @@ public static boolean isEventContextRequired(ServiceRegistryImplementor serviceR
 	}
 
 	void onEventBegin(EventSource session) {
+		stateHolder.set( createStates( session ) );
+	}
+
+	/**
+	 * Begins an event cycle spanning several operations of the given session, such as the writes a stateless session
+	 * collects into one batch. The returned cycle is not attached to the current thread; it must be attached using
+	 * {@link #resumeEvent(Object)} while one of these operations runs and detached again using
+	 * {@link #suspendEvent()}, so it never leaks into the event cycles of other sessions used by the same thread.
+	 *
+	 * @param session the session the event cycle belongs to
+	 * @return the state of the new event cycle
+	 */
+	public Object beginSuspendedEvent(SessionImplementor session) {
+		return createStates( session );
+	}
+
+	/**
+	 * Attaches an event cycle begun with {@link #beginSuspendedEvent(SessionImplementor)} to the current thread.
+	 *
+	 * @param event the state of the event cycle, as returned by {@link #beginSuspendedEvent(SessionImplementor)} or
+	 * {@link #suspendEvent()}
+	 */
+	public void resumeEvent(Object event) {
+		@SuppressWarnings("unchecked")
+		Map<Class<?>, Object> states = (Map<Class<?>, Object>) event;
+		stateHolder.set( states );
+	}
+
+	/**
+	 * Detaches the current event cycle from the current thread without finishing it.
+	 *
+	 * @return the state of the event cycle, to be passed to {@link #resumeEvent(Object)}
+	 */
+	public Object suspendEvent() {
+		Map<Class<?>, Object> states = getStates();
+		stateHolder.remove();
+		return states;
+	}
+
+	private Map<Class<?>, Object> createStates(SessionImplementor session) {
 		Map<Class<?>, Object> stateMap = new HashMap<>();
 		stateMap.put( SessionImplementor.class, session );
 
@@ -67,10 +107,13 @@ void onEventBegin(EventSource session) {
 			stateMap.put( lifecycle.getKey(), value );
 		}
 
-		stateHolder.set( stateMap );
+		return stateMap;
 	}
 
-	void onEventFinished() {
+	/**
+	 * Finishes the event cycle attached to the current thread, e.g. executing the operations batched during the cycle.
+	 */
+	public void onEventFinished() {
 		Map<Class<?>, Object> states = stateHolder.get();
 		if ( states == null ) {
 			return;
@@ -78,13 +121,16 @@ void onEventFinished() {
 
 		SessionImplementor session = (SessionImplementor) states.get( SessionImplementor.class );
 
-		for ( Entry<Class<?>, Object> state : states.entrySet() ) {
-			if ( state.getValue() != session ) {
-				onFinish( state.getKey(), state.getValue(), session );
+		try {
+			for ( Entry<Class<?>, Object> state : states.entrySet() ) {
+				if ( state.getValue() != session ) {
+					onFinish( state.getKey(), state.getValue(), session );
+				}
 			}
 		}
-
-		stateHolder.remove();
+		finally {
+			stateHolder.remove();
+		}
 	}
 
 	private <T> void onFinish(Class<T> stateType, Object state, SessionImplementor session) {
@@ -19,7 +19,9 @@
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.impl.BatchOperationsDelegator;
 import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.persister.impl.PendingInsertsLookUp;
 import org.hibernate.ogm.util.impl.Immutable;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
@@ -40,6 +42,7 @@ private EventStateLifecycles() {
 
 		lifecycles.put( OperationCollector.class, OperationCollectorLifecycle.INSTANCE );
 		lifecycles.put( OperationsQueue.class, OperationsQueueLifecycle.INSTANCE );
+		lifecycles.put( PendingInsertsLookUp.class, PendingInsertsLookUpLifecycle.INSTANCE );
 
 		this.lifecycles = Collections.unmodifiableMap( lifecycles );
 	}
@@ -114,4 +117,28 @@ public void onFinish(OperationsQueue operationsQueue, SessionImplementor session
 			operationsQueue.close();
 		}
 	}
+
+	/**
+	 * Initializes the {@link PendingInsertsLookUp} used by the persisters to check the pending inserts for duplicates at
+	 * once, if the dialect can read several tuples at once.
+	 */
+	private static class PendingInsertsLookUpLifecycle implements EventStateLifecycle<PendingInsertsLookUp> {
+
+		private static EventStateLifecycle<?> INSTANCE = new PendingInsertsLookUpLifecycle();
+
+		@Override
+		public boolean mustBeEnabled(ServiceRegistryImplementor serviceRegistry) {
+			return GridDialects.hasFacet( serviceRegistry.getService( GridDialect.class ), MultigetGridDialect.class );
+		}
+
+		@Override
+		public PendingInsertsLookUp create(SessionImplementor session) {
+			return new PendingInsertsLookUp();
+		}
+
+		@Override
+		public void onFinish(PendingInsertsLookUp state, SessionImplementor session) {
+			// nothing to do
+		}
+	}
 }
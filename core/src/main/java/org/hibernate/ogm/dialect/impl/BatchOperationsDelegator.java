@@ -7,6 +7,7 @@
 package org.hibernate.ogm.dialect.impl;
 
 import java.io.Serializable;
+import java.util.List;
 
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
@@ -116,6 +117,15 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		return super.getAssociation( key, withQueue( associationContext ) );
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		AssociationContext[] contextsWithQueue = new AssociationContext[associationContexts.length];
+		for ( int i = 0; i < associationContexts.length; i++ ) {
+			contextsWithQueue[i] = withQueue( associationContexts[i] );
+		}
+		return super.getAssociations( keys, contextsWithQueue );
+	}
+
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		return super.createAssociation( key, withQueue( associationContext ) );
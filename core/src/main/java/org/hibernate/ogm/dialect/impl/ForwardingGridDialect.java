@@ -16,8 +16,12 @@
 import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.identity.spi.IdentityColumnAwareGridDialect;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.naturalid.spi.NaturalIdAwareGridDialect;
 import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
@@ -56,7 +60,7 @@
  *
  * @author Gunnar Morling
  */
-public class ForwardingGridDialect<T extends Serializable> implements GridDialect, BatchableGridDialect, SessionFactoryLifecycleAwareDialect, IdentityColumnAwareGridDialect, QueryableGridDialect<T>, OptimisticLockingAwareGridDialect, Configurable, ServiceRegistryAwareService, MultigetGridDialect {
+public class ForwardingGridDialect<T extends Serializable> implements GridDialect, BatchableGridDialect, SessionFactoryLifecycleAwareDialect, IdentityColumnAwareGridDialect, QueryableGridDialect<T>, OptimisticLockingAwareGridDialect, Configurable, ServiceRegistryAwareService, MultigetGridDialect, MultigetAssociationGridDialect, PartitionableGridDialect, NaturalIdAwareGridDialect {
 
 	private final GridDialect gridDialect;
 	private final BatchableGridDialect batchableGridDialect;
@@ -65,6 +69,9 @@
 	private final IdentityColumnAwareGridDialect identityColumnAwareGridDialect;
 	private final OptimisticLockingAwareGridDialect optimisticLockingAwareGridDialect;
 	private final MultigetGridDialect multigetGridDialect;
+	private final MultigetAssociationGridDialect multigetAssociationGridDialect;
+	private final PartitionableGridDialect partitionableGridDialect;
+	private final NaturalIdAwareGridDialect naturalIdAwareGridDialect;
 
 	@SuppressWarnings("unchecked")
 	public ForwardingGridDialect(GridDialect gridDialect) {
@@ -77,6 +84,9 @@ public ForwardingGridDialect(GridDialect gridDialect) {
 		this.identityColumnAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, IdentityColumnAwareGridDialect.class );
 		this.optimisticLockingAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, OptimisticLockingAwareGridDialect.class );
 		this.multigetGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, MultigetGridDialect.class );
+		this.multigetAssociationGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, MultigetAssociationGridDialect.class );
+		this.partitionableGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, PartitionableGridDialect.class );
+		this.naturalIdAwareGridDialect = GridDialects.getDialectFacetOrNull( gridDialect, NaturalIdAwareGridDialect.class );
 	}
 
 	/**
@@ -246,6 +256,38 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		return multigetGridDialect.getTuples( keys, tupleContext );
 	}
 
+	/*
+	 * @see org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect
+	 */
+
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		return multigetAssociationGridDialect.getAssociations( keys, associationContexts );
+	}
+
+	/*
+	 * @see org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect
+	 */
+
+	@Override
+	public List<TuplePartition> getTuplePartitions(TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, int partitions) {
+		return partitionableGridDialect.getTuplePartitions( tupleContext, entityKeyMetadata, partitions );
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, TuplePartition partition) {
+		partitionableGridDialect.forEachTuple( consumer, tupleContext, entityKeyMetadata, partition );
+	}
+
+	/*
+	 * @see org.hibernate.ogm.dialect.naturalid.spi.NaturalIdAwareGridDialect
+	 */
+
+	@Override
+	public Tuple getTupleByNaturalId(EntityKeyMetadata entityKeyMetadata, String[] naturalIdColumnNames, Object[] naturalIdColumnValues, TupleContext tupleContext) {
+		return naturalIdAwareGridDialect.getTupleByNaturalId( entityKeyMetadata, naturalIdColumnNames, naturalIdColumnValues, tupleContext );
+	}
+
 	/*
 	 * @see org.hibernate.service.spi.ServiceRegistryAwareService
 	 */
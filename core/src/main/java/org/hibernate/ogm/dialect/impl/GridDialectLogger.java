@@ -22,6 +22,7 @@
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.util.impl.CoreLogCategories;
@@ -68,6 +69,22 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		return super.getTuples( keys, tupleContext );
 	}
 
+	@Override
+	public Tuple getTupleByNaturalId(EntityKeyMetadata entityKeyMetadata, String[] naturalIdColumnNames, Object[] naturalIdColumnValues, TupleContext tupleContext) {
+		if ( log.isTraceEnabled() ) {
+			log.tracef( "Reading tuple of %1$s with natural id %2$s=%3$s", entityKeyMetadata, Arrays.toString( naturalIdColumnNames ), Arrays.toString( naturalIdColumnValues ) );
+		}
+		return super.getTupleByNaturalId( entityKeyMetadata, naturalIdColumnNames, naturalIdColumnValues, tupleContext );
+	}
+
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		if ( log.isTraceEnabled() ) {
+			log.tracef( "Reading associations with keys %1$s", Arrays.toString( keys ) );
+		}
+		return super.getAssociations( keys, associationContexts );
+	}
+
 	@Override
 	public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 		log.tracef( "Creating tuple with key %1$s", key );
@@ -26,6 +26,7 @@
 public class TupleContextImpl implements TupleContext {
 
 	private final List<String> selectableColumns;
+	private final List<String> naturalIdColumns;
 	private final OptionsContext optionsContext;
 	private final OperationsQueue operationsQueue;
 	private final TransactionContext transactionContext;
@@ -38,18 +39,27 @@ public class TupleContextImpl implements TupleContext {
 	private final Map<String, String> roles;
 
 	public TupleContextImpl(TupleContextImpl original, OperationsQueue operationsQueue) {
-		this( original.selectableColumns, original.associatedEntityMetadata, original.roles, original.optionsContext, operationsQueue, original.transactionContext );
+		this( original.selectableColumns, original.naturalIdColumns, original.associatedEntityMetadata, original.roles, original.optionsContext, operationsQueue, original.transactionContext );
 	}
 
 	public TupleContextImpl(TupleContextImpl original, TransactionContext transactionContext) {
-		this( original.selectableColumns, original.associatedEntityMetadata, original.roles, original.optionsContext, original.operationsQueue, transactionContext );
+		this( original.selectableColumns, original.naturalIdColumns, original.associatedEntityMetadata, original.roles, original.optionsContext, original.operationsQueue, transactionContext );
+	}
+
+	public TupleContextImpl(TupleContextImpl original, List<String> selectableColumns) {
+		this( Collections.unmodifiableList( selectableColumns ), original.naturalIdColumns, original.associatedEntityMetadata, original.roles, original.optionsContext, original.operationsQueue, original.transactionContext );
 	}
 
 	public TupleContextImpl(List<String> selectableColumns, Map<String, AssociatedEntityKeyMetadata> associatedEntityMetadata, Map<String, String> roles, OptionsContext optionsContext, TransactionContext transactionContext) {
-		this( selectableColumns, associatedEntityMetadata, roles, optionsContext, null, transactionContext );
+		this( selectableColumns, Collections.<String>emptyList(), associatedEntityMetadata, roles, optionsContext, null, transactionContext );
+	}
+
+	public TupleContextImpl(List<String> selectableColumns, List<String> naturalIdColumns, Map<String, AssociatedEntityKeyMetadata> associatedEntityMetadata, Map<String, String> roles, OptionsContext optionsContext, TransactionContext transactionContext) {
+		this( selectableColumns, Collections.unmodifiableList( naturalIdColumns ), associatedEntityMetadata, roles, optionsContext, null, transactionContext );
 	}
 
 	private TupleContextImpl(List<String> selectableColumns,
+			List<String> naturalIdColumns,
 			Map<String, AssociatedEntityKeyMetadata> associatedEntityMetadata,
 			Map<String, String> roles,
 			OptionsContext optionsContext,
@@ -57,6 +67,7 @@ private TupleContextImpl(List<String> selectableColumns,
 			TransactionContext transactionContext) {
 
 		this.selectableColumns = selectableColumns;
+		this.naturalIdColumns = naturalIdColumns;
 		this.associatedEntityMetadata = Collections.unmodifiableMap( associatedEntityMetadata );
 		this.roles = Collections.unmodifiableMap( roles );
 		this.optionsContext = optionsContext;
@@ -69,6 +80,11 @@ public List<String> getSelectableColumns() {
 		return selectableColumns;
 	}
 
+	@Override
+	public List<String> getNaturalIdColumns() {
+		return naturalIdColumns;
+	}
+
 	@Override
 	public OptionsContext getOptionsContext() {
 		return optionsContext;
@@ -0,0 +1,38 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.naturalid.spi;
+
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * A {@link GridDialect} facet to be implemented by those stores which can find a record by the values of its natural id
+ * columns without going through all the records of the entity type, e.g. by querying the unique index created for the
+ * natural id.
+ * <p>
+ * Natural id look-ups are resolved by iterating over all the tuples of the entity type if the dialect does not
+ * implement this facet.
+ */
+public interface NaturalIdAwareGridDialect extends GridDialect {
+
+	/**
+	 * Returns the tuple of the given entity type with the given natural id column values.
+	 * <p>
+	 * Only the identifier columns of the returned tuple are read, so implementations may restrict the fetched columns
+	 * to these. The natural id columns are those of basic or embedded properties, never those of associations.
+	 *
+	 * @param entityKeyMetadata The type of the entity to look up
+	 * @param naturalIdColumnNames The names of the natural id columns
+	 * @param naturalIdColumnValues The values of the natural id columns, in the same order as the names
+	 * @param tupleContext Provides additional meta-data useful for the look-up
+	 * @return the tuple with the given natural id, containing at least the identifier columns, or {@code null} if
+	 * there is no such tuple
+	 */
+	Tuple getTupleByNaturalId(EntityKeyMetadata entityKeyMetadata, String[] naturalIdColumnNames, Object[] naturalIdColumnValues, TupleContext tupleContext);
+}
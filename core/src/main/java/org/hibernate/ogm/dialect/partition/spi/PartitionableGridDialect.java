@@ -0,0 +1,48 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.partition.spi;
+
+import java.util.List;
+
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+
+/**
+ * A {@link GridDialect} facet representing dialects that can split the tuples of an entity type into partitions which
+ * can be iterated over independently, e.g. by several threads of the mass indexer.
+ * <p>
+ * The tuples passed to the consumer must not be bound to the thread iterating over the partition, as they may be
+ * processed by other threads.
+ */
+public interface PartitionableGridDialect extends GridDialect {
+
+	/**
+	 * Splits the tuples of the given entity type into partitions. Taken together, the partitions must contain every
+	 * tuple exactly once.
+	 *
+	 * @param tupleContext contains additional information that might be used to create the tuples
+	 * @param entityKeyMetadata the key metadata of the entity type to split
+	 * @param partitions the desired number of partitions; the dialect may return fewer or more partitions, e.g.
+	 * depending on the topology of the datastore or the amount of data
+	 * @return the partitions, at least one
+	 */
+	List<TuplePartition> getTuplePartitions(TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, int partitions);
+
+	/**
+	 * Invokes the given consumer for each tuple of the given partition. Several partitions of the same entity type may
+	 * be iterated over concurrently.
+	 *
+	 * @param consumer the consumer of the tuples
+	 * @param tupleContext contains additional information that might be used to create the tuples
+	 * @param entityKeyMetadata the key metadata of the entity type
+	 * @param partition a partition returned by {@link #getTuplePartitions(TupleContext, EntityKeyMetadata, int)} for
+	 * this entity type
+	 */
+	void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, TuplePartition partition);
+}
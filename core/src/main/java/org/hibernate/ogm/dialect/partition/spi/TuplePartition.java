@@ -0,0 +1,15 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.dialect.partition.spi;
+
+/**
+ * A disjoint subset of the tuples of an entity type, e.g. a token range in Cassandra or a range of identifiers in
+ * MongoDB. Created by {@link PartitionableGridDialect#getTuplePartitions}, which is the only party that needs to
+ * understand the contents of a partition.
+ */
+public interface TuplePartition {
+}
@@ -16,14 +16,20 @@ public class RowSelection {
 
 	private final Integer firstRow;
 	private final Integer maxRows;
+	private final Integer fetchSize;
 
 	public RowSelection(Integer firstRow, Integer maxRows) {
+		this( firstRow, maxRows, null );
+	}
+
+	public RowSelection(Integer firstRow, Integer maxRows, Integer fetchSize) {
 		this.firstRow = firstRow;
 		this.maxRows = maxRows;
+		this.fetchSize = fetchSize;
 	}
 
 	public static RowSelection fromOrmRowSelection(org.hibernate.engine.spi.RowSelection rowSelection) {
-		return new RowSelection( rowSelection.getFirstRow(), rowSelection.getMaxRows() );
+		return new RowSelection( rowSelection.getFirstRow(), rowSelection.getMaxRows(), rowSelection.getFetchSize() );
 	}
 
 	public Integer getFirstRow() {
@@ -33,4 +39,12 @@ public Integer getFirstRow() {
 	public Integer getMaxRows() {
 		return maxRows;
 	}
+
+	/**
+	 * The number of results to fetch from the datastore at once, as hinted by the user; {@code null} if not set, in
+	 * which case the datastore default should be applied.
+	 */
+	public Integer getFetchSize() {
+		return fetchSize;
+	}
 }
@@ -10,6 +10,7 @@
 import java.util.Map;
 
 import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.naturalid.spi.NaturalIdAwareGridDialect;
 import org.hibernate.ogm.model.key.spi.AssociatedEntityKeyMetadata;
 import org.hibernate.ogm.options.spi.OptionsContext;
 
@@ -44,6 +45,16 @@ public interface TupleContext {
 	 */
 	List<String> getSelectableColumns();
 
+	/**
+	 * Returns the columns of the natural id of the given entity if it is made of basic or embedded properties. May be
+	 * used by a dialect to maintain a structure referencing the entities by their natural id, see
+	 * {@link NaturalIdAwareGridDialect}.
+	 *
+	 * @return the natural id columns of the given entity, or an empty list if the entity has no natural id or if its
+	 * natural id contains associations
+	 */
+	List<String> getNaturalIdColumns();
+
 	/**
 	 * Whether the given column is part of a *-to-one association or not. If so, a dialect may choose to not persist the
 	 * column value in the corresponding tuple data structure itself but e.g. as a native relationship (in the case of
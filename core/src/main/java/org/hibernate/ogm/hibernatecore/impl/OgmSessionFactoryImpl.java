@@ -54,7 +54,6 @@
 import org.hibernate.ogm.OgmSession;
 import org.hibernate.ogm.engine.spi.OgmSessionBuilderImplementor;
 import org.hibernate.ogm.engine.spi.OgmSessionFactoryImplementor;
-import org.hibernate.ogm.exception.NotSupportedException;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.EntityNotFoundDelegate;
@@ -305,17 +304,17 @@ public OgmSession getCurrentSession() throws HibernateException {
 
 	@Override
 	public StatelessSessionBuilder withStatelessOptions() {
-		throw new NotSupportedException( "OGM-18", "Stateless session is not implemented in OGM" );
+		return new OgmStatelessSessionBuilderDelegator( delegate.withStatelessOptions(), this );
 	}
 
 	@Override
 	public StatelessSession openStatelessSession() {
-		throw new NotSupportedException( "OGM-18", "Stateless session is not implemented in OGM" );
+		return new OgmStatelessSessionImpl( this, delegate.openStatelessSession() );
 	}
 
 	@Override
 	public StatelessSession openStatelessSession(Connection connection) {
-		throw new NotSupportedException( "OGM-18", "Stateless session is not implemented in OGM" );
+		return new OgmStatelessSessionImpl( this, delegate.openStatelessSession( connection ) );
 	}
 
 	@Override
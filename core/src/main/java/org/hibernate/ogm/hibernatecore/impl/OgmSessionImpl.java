@@ -15,13 +15,11 @@
 import org.hibernate.Filter;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
-import org.hibernate.NaturalIdLoadAccess;
 import org.hibernate.Query;
 import org.hibernate.SQLQuery;
 import org.hibernate.ScrollableResults;
 import org.hibernate.SessionException;
 import org.hibernate.SharedSessionBuilder;
-import org.hibernate.SimpleNaturalIdLoadAccess;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
 import org.hibernate.engine.spi.ActionQueue;
@@ -396,24 +394,4 @@ public void removeOrphanBeforeUpdates(String entityName, Object child) {
 	public EventSource getDelegate() {
 		return delegate;
 	}
-
-	@Override
-	public NaturalIdLoadAccess byNaturalId(Class entityClass) {
-		throw new UnsupportedOperationException( "OGM-589 - Natural id look-ups are not yet supported" );
-	}
-
-	@Override
-	public NaturalIdLoadAccess byNaturalId(String entityName) {
-		throw new UnsupportedOperationException( "OGM-589 - Natural id look-ups are not yet supported" );
-	}
-
-	@Override
-	public SimpleNaturalIdLoadAccess bySimpleNaturalId(Class entityClass) {
-		throw new UnsupportedOperationException( "OGM-589 - Natural id look-ups are not yet supported" );
-	}
-
-	@Override
-	public SimpleNaturalIdLoadAccess bySimpleNaturalId(String entityName) {
-		throw new UnsupportedOperationException( "OGM-589 - Natural id look-ups are not yet supported" );
-	}
 }
@@ -0,0 +1,44 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.hibernatecore.impl;
+
+import java.sql.Connection;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.StatelessSessionBuilder;
+import org.hibernate.ogm.engine.spi.OgmSessionFactoryImplementor;
+
+/**
+ * Opens {@link OgmStatelessSessionImpl}s configured by the underlying Hibernate ORM {@code StatelessSessionBuilder}.
+ */
+public class OgmStatelessSessionBuilderDelegator implements StatelessSessionBuilder {
+
+	private final StatelessSessionBuilder builder;
+	private final OgmSessionFactoryImplementor factory;
+
+	public OgmStatelessSessionBuilderDelegator(StatelessSessionBuilder builder, OgmSessionFactoryImplementor factory) {
+		this.builder = builder;
+		this.factory = factory;
+	}
+
+	@Override
+	public StatelessSession openStatelessSession() {
+		return new OgmStatelessSessionImpl( factory, builder.openStatelessSession() );
+	}
+
+	@Override
+	public StatelessSessionBuilder connection(Connection connection) {
+		builder.connection( connection );
+		return this;
+	}
+
+	@Override
+	public StatelessSessionBuilder tenantIdentifier(String tenantIdentifier) {
+		builder.tenantIdentifier( tenantIdentifier );
+		return this;
+	}
+}
@@ -0,0 +1,358 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.hibernatecore.impl;
+
+import java.io.Serializable;
+import java.sql.Connection;
+
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+
+import org.hibernate.Criteria;
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.Query;
+import org.hibernate.SQLQuery;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
+import org.hibernate.ogm.dialect.impl.BatchOperationsDelegator;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.engine.spi.OgmSessionFactoryImplementor;
+import org.hibernate.ogm.exception.NotSupportedException;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.ogm.util.configurationreader.spi.PropertyValidator;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.procedure.ProcedureCall;
+
+/**
+ * An OGM specific stateless session which delegates the work to the underlying Hibernate ORM {@code StatelessSession}:
+ * entities are written to and read from the datastore right away, without any dirty checking and without being kept
+ * in a persistence context.
+ * <p>
+ * If the dialect supports batching, the writes are collected in the {@link org.hibernate.ogm.dialect.batch.spi.OperationsQueue}
+ * of an event cycle spanning several operations. The batch is executed once it contains as many operations as set by
+ * {@link OgmProperties#STATELESS_SESSION_BATCH_SIZE}, before any read, before the transaction commits and when the
+ * session is closed. The batch is discarded if the transaction rolls back.
+ */
+public class OgmStatelessSessionImpl implements StatelessSession {
+
+	private static final Log log = LoggerFactory.make();
+
+	private static final int DEFAULT_BATCH_SIZE = 50;
+
+	private static final PropertyValidator<Integer> BATCH_SIZE_VALIDATOR = new PropertyValidator<Integer>() {
+
+		@Override
+		public void validate(Integer value) throws HibernateException {
+			if ( value < 1 ) {
+				throw log.illegalStatelessSessionBatchSizeValue( value );
+			}
+		}
+	};
+
+	private final StatelessSession delegate;
+	private final SessionImplementor sessionImplementor;
+	private final EventContextManager eventContext;
+	private final int batchSize;
+
+	/**
+	 * The event cycle collecting the current batch, {@code null} if there is no pending operation
+	 */
+	private Object batch;
+	private int batchedOperations;
+	private boolean synchronizationRegistered;
+
+	public OgmStatelessSessionImpl(OgmSessionFactoryImplementor factory, StatelessSession delegate) {
+		this.delegate = delegate;
+		this.sessionImplementor = (SessionImplementor) delegate;
+
+		GridDialect gridDialect = factory.getServiceRegistry().getService( GridDialect.class );
+		this.batchSize = new ConfigurationPropertyReader( factory.getServiceRegistry().getService( ConfigurationService.class ).getSettings() )
+				.property( OgmProperties.STATELESS_SESSION_BATCH_SIZE, int.class )
+				.withDefault( DEFAULT_BATCH_SIZE )
+				.withValidator( BATCH_SIZE_VALIDATOR )
+				.getValue();
+		this.eventContext = GridDialects.getDelegateOrNull( gridDialect, BatchOperationsDelegator.class ) != null && batchSize > 1
+				? factory.getServiceRegistry().getService( EventContextManager.class )
+				: null;
+	}
+
+	@Override
+	public Serializable insert(Object entity) {
+		beginBatchedOperation();
+		try {
+			return delegate.insert( entity );
+		}
+		finally {
+			endBatchedOperation();
+		}
+	}
+
+	@Override
+	public Serializable insert(String entityName, Object entity) {
+		beginBatchedOperation();
+		try {
+			return delegate.insert( entityName, entity );
+		}
+		finally {
+			endBatchedOperation();
+		}
+	}
+
+	@Override
+	public void update(Object entity) {
+		beginBatchedOperation();
+		try {
+			delegate.update( entity );
+		}
+		finally {
+			endBatchedOperation();
+		}
+	}
+
+	@Override
+	public void update(String entityName, Object entity) {
+		beginBatchedOperation();
+		try {
+			delegate.update( entityName, entity );
+		}
+		finally {
+			endBatchedOperation();
+		}
+	}
+
+	@Override
+	public void delete(Object entity) {
+		beginBatchedOperation();
+		try {
+			delegate.delete( entity );
+		}
+		finally {
+			endBatchedOperation();
+		}
+	}
+
+	@Override
+	public void delete(String entityName, Object entity) {
+		beginBatchedOperation();
+		try {
+			delegate.delete( entityName, entity );
+		}
+		finally {
+			endBatchedOperation();
+		}
+	}
+
+	@Override
+	public Object get(String entityName, Serializable id) {
+		executeBatch();
+		return delegate.get( entityName, id );
+	}
+
+	@Override
+	public Object get(Class entityClass, Serializable id) {
+		executeBatch();
+		return delegate.get( entityClass, id );
+	}
+
+	@Override
+	public Object get(String entityName, Serializable id, LockMode lockMode) {
+		executeBatch();
+		return delegate.get( entityName, id, lockMode );
+	}
+
+	@Override
+	public Object get(Class entityClass, Serializable id, LockMode lockMode) {
+		executeBatch();
+		return delegate.get( entityClass, id, lockMode );
+	}
+
+	@Override
+	public void refresh(Object entity) {
+		executeBatch();
+		delegate.refresh( entity );
+	}
+
+	@Override
+	public void refresh(String entityName, Object entity) {
+		executeBatch();
+		delegate.refresh( entityName, entity );
+	}
+
+	@Override
+	public void refresh(Object entity, LockMode lockMode) {
+		executeBatch();
+		delegate.refresh( entity, lockMode );
+	}
+
+	@Override
+	public void refresh(String entityName, Object entity, LockMode lockMode) {
+		executeBatch();
+		delegate.refresh( entityName, entity, lockMode );
+	}
+
+	@Override
+	public Query createQuery(String queryString) {
+		executeBatch();
+		return delegate.createQuery( queryString );
+	}
+
+	@Override
+	public Query getNamedQuery(String queryName) {
+		executeBatch();
+		return delegate.getNamedQuery( queryName );
+	}
+
+	@Override
+	public SQLQuery createSQLQuery(String queryString) {
+		throw new NotSupportedException( "OGM-18", "Native queries are not supported by stateless sessions yet" );
+	}
+
+	@Override
+	public Criteria createCriteria(Class persistentClass) {
+		throw new NotSupportedException( "OGM-23", "Criteria queries are not supported yet" );
+	}
+
+	@Override
+	public Criteria createCriteria(Class persistentClass, String alias) {
+		throw new NotSupportedException( "OGM-23", "Criteria queries are not supported yet" );
+	}
+
+	@Override
+	public Criteria createCriteria(String entityName) {
+		throw new NotSupportedException( "OGM-23", "Criteria queries are not supported yet" );
+	}
+
+	@Override
+	public Criteria createCriteria(String entityName, String alias) {
+		throw new NotSupportedException( "OGM-23", "Criteria queries are not supported yet" );
+	}
+
+	@Override
+	public ProcedureCall getNamedProcedureCall(String name) {
+		throw new NotSupportedException( "OGM-359", "Stored procedures are not supported yet" );
+	}
+
+	@Override
+	public ProcedureCall createStoredProcedureCall(String procedureName) {
+		throw new NotSupportedException( "OGM-359", "Stored procedures are not supported yet" );
+	}
+
+	@Override
+	public ProcedureCall createStoredProcedureCall(String procedureName, Class... resultClasses) {
+		throw new NotSupportedException( "OGM-359", "Stored procedures are not supported yet" );
+	}
+
+	@Override
+	public ProcedureCall createStoredProcedureCall(String procedureName, String... resultSetMappings) {
+		throw new NotSupportedException( "OGM-359", "Stored procedures are not supported yet" );
+	}
+
+	@Override
+	public Connection connection() {
+		throw new IllegalStateException( "Hibernate OGM does not support SQL Connections" );
+	}
+
+	@Override
+	public String getTenantIdentifier() {
+		return delegate.getTenantIdentifier();
+	}
+
+	@Override
+	public Transaction beginTransaction() {
+		return delegate.beginTransaction();
+	}
+
+	@Override
+	public Transaction getTransaction() {
+		return delegate.getTransaction();
+	}
+
+	@Override
+	public void close() {
+		try {
+			executeBatch();
+		}
+		finally {
+			delegate.close();
+		}
+	}
+
+	private void beginBatchedOperation() {
+		if ( eventContext == null ) {
+			return;
+		}
+
+		if ( batch == null ) {
+			batch = eventContext.beginSuspendedEvent( sessionImplementor );
+			registerSynchronization();
+		}
+		eventContext.resumeEvent( batch );
+	}
+
+	private void endBatchedOperation() {
+		if ( eventContext == null ) {
+			return;
+		}
+
+		batch = eventContext.suspendEvent();
+		if ( ++batchedOperations >= batchSize ) {
+			executeBatch();
+		}
+	}
+
+	/**
+	 * Executes the pending operations, if any.
+	 */
+	private void executeBatch() {
+		if ( batch == null ) {
+			return;
+		}
+
+		eventContext.resumeEvent( batch );
+		batch = null;
+		batchedOperations = 0;
+		eventContext.onEventFinished();
+	}
+
+	private void discardBatch() {
+		batch = null;
+		batchedOperations = 0;
+	}
+
+	/**
+	 * Makes sure the pending operations are executed before the current transaction commits.
+	 */
+	private void registerSynchronization() {
+		if ( !synchronizationRegistered && sessionImplementor.isTransactionInProgress() ) {
+			delegate.getTransaction().registerSynchronization( new BatchSynchronization() );
+			synchronizationRegistered = true;
+		}
+	}
+
+	private class BatchSynchronization implements Synchronization {
+
+		@Override
+		public void beforeCompletion() {
+			executeBatch();
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			if ( status != Status.STATUS_COMMITTED ) {
+				discardBatch();
+			}
+			synchronizationRegistered = false;
+		}
+	}
+}
@@ -7,6 +7,8 @@
 package org.hibernate.ogm.loader.impl;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -15,16 +17,42 @@
 import org.hibernate.type.Type;
 
 /**
+ * Initializes a collection. If a batch size greater than one is given, the collections of the same role waiting for
+ * initialization in the batch fetch queue are initialized at once as well.
+ *
  * @author Emmanuel Bernard
  */
 public class OgmBasicCollectionLoader extends OgmLoader implements CollectionInitializer {
+
+	private final int batchSize;
+
 	public OgmBasicCollectionLoader(OgmCollectionPersister collectionPersister) {
+		this( collectionPersister, 1 );
+	}
+
+	public OgmBasicCollectionLoader(OgmCollectionPersister collectionPersister, int batchSize) {
 		super( new OgmCollectionPersister[] { collectionPersister } );
+		this.batchSize = batchSize;
 	}
 
 	@Override
 	public void initialize(Serializable id, SessionImplementor session)
 	throws HibernateException {
+		if ( batchSize > 1 ) {
+			Serializable[] batch = session.getPersistenceContext()
+					.getBatchFetchQueue()
+					.getCollectionBatch( getCollectionPersisters()[0], id, batchSize );
+			List<Serializable> ids = new ArrayList<Serializable>( batch.length );
+			for ( Serializable key : batch ) {
+				if ( key != null ) {
+					ids.add( key );
+				}
+			}
+			if ( ids.size() > 1 ) {
+				loadCollectionBatch( session, ids.toArray( new Serializable[ids.size()] ), getKeyType() );
+				return;
+			}
+		}
 		loadCollection( session, id, getKeyType() );
 	}
 
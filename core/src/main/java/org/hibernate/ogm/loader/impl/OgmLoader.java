@@ -32,12 +32,15 @@
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.CollectionAliases;
 import org.hibernate.loader.entity.UniqueEntityLoader;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.entityentry.impl.OgmEntityEntryState;
 import org.hibernate.ogm.jdbc.impl.TupleAsMapResultSet;
 import org.hibernate.ogm.loader.entity.impl.BatchableEntityLoader;
 import org.hibernate.ogm.model.impl.EntityKeyBuilder;
+import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
@@ -76,6 +79,7 @@ public class OgmLoader implements UniqueEntityLoader, BatchableEntityLoader, Tup
 	private final CollectionAliases[] collectionAliases;
 	private final GridDialect gridDialect;
 	private final MultigetGridDialect multigetGridDialect;
+	private final MultigetAssociationGridDialect multigetAssociationGridDialect;
 	private final int batchSize;
 
 	/**
@@ -93,6 +97,7 @@ public OgmLoader(OgmCollectionPersister[] collectionPersisters) {
 		ServiceRegistryImplementor serviceRegistry = this.factory.getServiceRegistry();
 		this.gridDialect = serviceRegistry.getService( GridDialect.class );
 		this.multigetGridDialect = serviceRegistry.getService( MultigetGridDialect.class );
+		this.multigetAssociationGridDialect = serviceRegistry.getService( MultigetAssociationGridDialect.class );
 
 		//NONE, because its the requested lock mode, not the actual!
 		final int fromSize = 1;
@@ -120,6 +125,7 @@ public OgmLoader(OgmEntityPersister[] entityPersisters, int batchSize) {
 		ServiceRegistryImplementor serviceRegistry = this.factory.getServiceRegistry();
 		this.gridDialect = serviceRegistry.getService( GridDialect.class );
 		this.multigetGridDialect = serviceRegistry.getService( MultigetGridDialect.class );
+		this.multigetAssociationGridDialect = serviceRegistry.getService( MultigetAssociationGridDialect.class );
 
 		// NONE, because its the requested lock mode, not the actual!
 		final int fromSize = 1;
@@ -253,6 +259,40 @@ public final void loadCollection(
 
 	}
 
+	/**
+	 * Called by subclasses that batch initialize collections
+	 *
+	 * @param session the session
+	 * @param ids the collection identifiers
+	 * @param type collection type
+	 * @throws HibernateException if an error occurs
+	 */
+	public final void loadCollectionBatch(
+		final SessionImplementor session,
+		final Serializable[] ids,
+		final Type type) throws HibernateException {
+
+		if ( log.isDebugEnabled() ) {
+			log.debug(
+					"batch loading collection: " +
+					MessageHelper.collectionInfoString( getCollectionPersisters()[0], ids, getFactory() )
+				);
+		}
+
+		Type[] idTypes = new Type[ids.length];
+		Arrays.fill( idTypes, type );
+		QueryParameters qp = new QueryParameters( idTypes, ids, ids );
+		doQueryAndInitializeNonLazyCollections(
+				session,
+				qp,
+				OgmLoadingContext.EMPTY_CONTEXT,
+				true
+			);
+
+		log.debug( "done batch load" );
+
+	}
+
 	OgmEntityPersister[] getEntityPersisters() {
 		return entityPersisters;
 	}
@@ -568,7 +608,7 @@ private TupleAsMapResultSet getResultSet(Serializable id, QueryParameters qp, Og
 					keys[index] = EntityKeyBuilder.fromPersister( persister, (Serializable) qp.getPositionalParameterValues()[index], session );
 				}
 				if ( multigetGridDialect != null ) {
-					for ( Tuple tuple : multigetGridDialect.getTuples( keys, persister.getTupleContext( session ) ) ) {
+					for ( Tuple tuple : multigetGridDialect.getTuples( keys, persister.getLoadingTupleContext( session ) ) ) {
 						if ( tuple != null ) {
 							resultset.addTuple( tuple );
 						}
@@ -576,7 +616,7 @@ private TupleAsMapResultSet getResultSet(Serializable id, QueryParameters qp, Og
 				}
 				else {
 					for ( EntityKey entityKey : keys ) {
-						Tuple entry = gridDialect.getTuple( entityKey, persister.getTupleContext( session ) );
+						Tuple entry = gridDialect.getTuple( entityKey, persister.getLoadingTupleContext( session ) );
 						if ( entry != null ) {
 							resultset.addTuple( entry );
 						}
@@ -585,7 +625,7 @@ private TupleAsMapResultSet getResultSet(Serializable id, QueryParameters qp, Og
 			}
 			else {
 				final EntityKey key = EntityKeyBuilder.fromPersister( persister, id, session );
-				Tuple entry = gridDialect.getTuple( key, persister.getTupleContext( session ) );
+				Tuple entry = gridDialect.getTuple( key, persister.getLoadingTupleContext( session ) );
 				if ( entry != null ) {
 					resultset.addTuple( entry );
 				}
@@ -597,9 +637,28 @@ private TupleAsMapResultSet getResultSet(Serializable id, QueryParameters qp, Og
 				throw new AssertionFailure( "Found an unexpected number of collection persisters: " + getCollectionPersisters().length );
 			}
 			final OgmCollectionPersister persister = (OgmCollectionPersister) getCollectionPersisters()[0];
-			Object owner = session.getPersistenceContext().getCollectionOwner( id, persister );
+			final Serializable[] collectionKeys = qp.getCollectionKeys();
+
+			AssociationPersister[] associationPersisters = new AssociationPersister[collectionKeys.length];
+			for ( int i = 0; i < collectionKeys.length; i++ ) {
+				associationPersisters[i] = getAssociationPersister( persister, collectionKeys[i], session );
+			}
+
+			for ( Association assoc : getAssociations( associationPersisters ) ) {
+				if ( assoc != null ) {
+					for ( RowKey rowKey : assoc.getKeys() ) {
+						resultset.addTuple( assoc.get( rowKey ) );
+					}
+				}
+			}
+		}
+		return resultset;
+	}
+
+	private AssociationPersister getAssociationPersister(OgmCollectionPersister persister, Serializable id, SessionImplementor session) {
+		Object owner = session.getPersistenceContext().getCollectionOwner( id, persister );
 
-			AssociationPersister associationPersister = new AssociationPersister(
+		return new AssociationPersister(
 					persister.getOwnerEntityPersister().getMappedClass()
 				)
 				.gridDialect( gridDialect )
@@ -608,15 +667,28 @@ private TupleAsMapResultSet getResultSet(Serializable id, QueryParameters qp, Og
 				.associationTypeContext( persister.getAssociationTypeContext() )
 				.hostingEntity( owner )
 				.session( session );
+	}
 
-			Association assoc = associationPersister.getAssociationOrNull();
-			if ( assoc != null ) {
-				for ( RowKey rowKey : assoc.getKeys() ) {
-					resultset.addTuple( assoc.get( rowKey ) );
-				}
+	/**
+	 * Reads the associations of the given persisters, with a single call to the dialect if several associations are
+	 * loaded and the dialect supports it.
+	 */
+	private List<Association> getAssociations(AssociationPersister[] associationPersisters) {
+		if ( associationPersisters.length == 1 || multigetAssociationGridDialect == null ) {
+			List<Association> associations = new ArrayList<Association>( associationPersisters.length );
+			for ( AssociationPersister associationPersister : associationPersisters ) {
+				associations.add( associationPersister.getAssociationOrNull() );
 			}
+			return associations;
 		}
-		return resultset;
+
+		AssociationKey[] keys = new AssociationKey[associationPersisters.length];
+		AssociationContext[] associationContexts = new AssociationContext[associationPersisters.length];
+		for ( int i = 0; i < associationPersisters.length; i++ ) {
+			keys[i] = associationPersisters[i].getAssociationKey();
+			associationContexts[i] = associationPersisters[i].getAssociationContext();
+		}
+		return multigetAssociationGridDialect.getAssociations( keys, associationContexts );
 	}
 
 	private Object getResultColumnOrRow(Object[] row) {
@@ -1133,9 +1205,9 @@ private void loadFromResultSet(
 				);
 		}
 
-		//FIXME figure out what that means and what value should be set
-		//boolean eagerPropertyFetch = isEagerPropertyFetchEnabled(i);
-		boolean eagerPropertyFetch = true;
+		// The columns of lazy properties are not selected when loading entities (see
+		// OgmEntityPersister#getLoadingTupleContext()), these properties are initialized when first accessed
+		boolean eagerPropertyFetch = false;
 
 		// add temp entry so that the next step is circular-reference
 		// safe - only needed because some types don't take proper
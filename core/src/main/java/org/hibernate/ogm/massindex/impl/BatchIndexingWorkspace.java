@@ -6,13 +6,22 @@
  */
 package org.hibernate.ogm.massindex.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.CacheMode;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.search.backend.spi.BatchBackend;
 import org.hibernate.search.batchindexing.MassIndexerProgressMonitor;
@@ -25,6 +34,11 @@
 /**
  * This runnable will prepare a pipeline for batch indexing
  * of entities, managing the lifecycle of several ThreadPools.
+ * <p>
+ * If the dialect is a {@link PartitionableGridDialect}, the tuples of the indexed type are split into partitions which
+ * are iterated over by several loader threads. These put the tuples into a bounded queue in batches, which are taken
+ * by the document builder threads, each batch being loaded and indexed with one session. Otherwise the tuples are
+ * indexed one by one by the thread iterating over them.
  *
  * @author Sanne Grinovero
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
@@ -52,10 +66,16 @@ public class BatchIndexingWorkspace implements Runnable {
 
 	private final String tenantId;
 
+	private final int threadsToLoadObjects;
+
+	private final int batchSizeToLoadObjects;
+
 	public BatchIndexingWorkspace(GridDialect gridDialect, SearchIntegrator search,
-			SessionFactoryImplementor sessionFactory, Class<?> entityType, CacheMode cacheMode, CountDownLatch endAllSignal,
-			MassIndexerProgressMonitor monitor, BatchBackend backend, String tenantId) {
+			SessionFactoryImplementor sessionFactory, Class<?> entityType, int threadsToLoadObjects, int batchSizeToLoadObjects,
+			CacheMode cacheMode, CountDownLatch endAllSignal, MassIndexerProgressMonitor monitor, BatchBackend backend, String tenantId) {
 		this.gridDialect = gridDialect;
+		this.threadsToLoadObjects = threadsToLoadObjects;
+		this.batchSizeToLoadObjects = batchSizeToLoadObjects;
 		this.indexedType = entityType;
 		this.tenantId = tenantId;
 		this.searchIntegrator = search.unwrap( ExtendedSearchIntegrator.class );
@@ -73,8 +93,20 @@ public void run() {
 			OgmEntityPersister persister = (OgmEntityPersister) sessionFactory.getEntityPersister( indexedType.getName() );
 			final EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( persister.getTableName(), persister.getRootTableIdentifierColumnNames() );
 
+			final TupleContext tupleContext = persister.getTupleContext( null );
+
 			final SessionAwareRunnable consumer = new TupleIndexer( indexedType, monitor, sessionFactory, searchIntegrator, cacheMode, batchBackend, errorHandler, tenantId );
-			gridDialect.forEachTuple( new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, consumer ), persister.getTupleContext( null ), keyMetadata );
+			final OptionallyWrapInJTATransaction indexer = new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, consumer );
+			if ( GridDialects.hasFacet( gridDialect, PartitionableGridDialect.class ) ) {
+				indexPartitions( (PartitionableGridDialect) gridDialect, indexer, tupleContext, keyMetadata, errorHandler );
+			}
+			else {
+				gridDialect.forEachTuple( indexer, tupleContext, keyMetadata );
+			}
+		}
+		catch ( InterruptedException e ) {
+			log.interruptedBatchIndexing();
+			Thread.currentThread().interrupt();
 		}
 		catch ( RuntimeException re ) {
 			// being this an async thread we want to make sure everything is somehow reported
@@ -84,4 +116,43 @@ public void run() {
 			endAllSignal.countDown();
 		}
 	}
+
+	private void indexPartitions(PartitionableGridDialect partitionableGridDialect, OptionallyWrapInJTATransaction indexer, TupleContext tupleContext,
+			EntityKeyMetadata keyMetadata, ErrorHandler errorHandler) throws InterruptedException {
+		List<TuplePartition> partitions = partitionableGridDialect.getTuplePartitions( tupleContext, keyMetadata, threadsToLoadObjects );
+		int loaderThreads = Math.max( 1, Math.min( threadsToLoadObjects, partitions.size() ) );
+
+		// each loader thread iterates over every n-th partition
+		List<List<TuplePartition>> partitionsPerLoader = new ArrayList<List<TuplePartition>>( loaderThreads );
+		for ( int i = 0; i < loaderThreads; i++ ) {
+			partitionsPerLoader.add( new ArrayList<TuplePartition>() );
+		}
+		for ( int i = 0; i < partitions.size(); i++ ) {
+			partitionsPerLoader.get( i % loaderThreads ).add( partitions.get( i ) );
+		}
+
+		// bounded, so that the loaders don't get too far ahead of the document builders
+		ProducerConsumerQueue<List<Tuple>> queue = new ProducerConsumerQueue<List<Tuple>>( 2 * threadsToLoadObjects, loaderThreads );
+
+		ThreadPoolExecutor documentBuilders = Executors.newFixedThreadPool( threadsToLoadObjects, indexedType.getSimpleName() + " - documentBuilder" );
+		ThreadPoolExecutor loaders = Executors.newFixedThreadPool( loaderThreads, indexedType.getSimpleName() + " - tupleLoader" );
+		try {
+			for ( int i = 0; i < threadsToLoadObjects; i++ ) {
+				documentBuilders.execute( new TupleBatchConsumer( queue, indexer ) );
+			}
+			for ( List<TuplePartition> loaderPartitions : partitionsPerLoader ) {
+				loaders.execute( new TuplePartitionProducer( partitionableGridDialect, loaderPartitions, tupleContext, keyMetadata, queue,
+						batchSizeToLoadObjects, errorHandler ) );
+			}
+			loaders.shutdown();
+			documentBuilders.shutdown();
+			loaders.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+			documentBuilders.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+		}
+		catch ( InterruptedException e ) {
+			loaders.shutdownNow();
+			documentBuilders.shutdownNow();
+			throw e;
+		}
+	}
 }
@@ -26,6 +26,10 @@
 
 /**
  * {@link MassIndexer} that can be register in Hibernate Search to index existing data stores.
+ * <p>
+ * The options {@link #threadsToLoadObjects(int)} and {@link #batchSizeToLoadObjects(int)} only apply to dialects
+ * implementing {@link org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect}, whose tuples are loaded and
+ * indexed by several threads; the tuples of other dialects are indexed one by one.
  *
  * @see org.hibernate.search.batchindexing.spi.MassIndexerFactory
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
@@ -45,6 +49,8 @@ public class OgmMassIndexer implements MassIndexerWithTenant {
 	private boolean purgeAllOnStart = true;
 	private String tenantId;
 	private int typesToIndexInParallel = 1;
+	private int threadsToLoadObjects = 6;
+	private int batchSizeToLoadObjects = 10;
 
 	private final Set<Class<?>> rootEntities;
 
@@ -62,7 +68,8 @@ private MassIndexerProgressMonitor createMonitor(ExtendedSearchIntegrator search
 
 	@Override
 	public MassIndexer threadsToLoadObjects(int numberOfThreads) {
-		log.unsupportedIndexerConfigurationOption( "threadsToLoadObjects" );
+		atLeastOneValidation( numberOfThreads );
+		this.threadsToLoadObjects = numberOfThreads;
 		return this;
 	}
 
@@ -74,7 +81,10 @@ public MassIndexerWithTenant tenantIdentifier(String tenantIdentifier) {
 
 	@Override
 	public MassIndexer batchSizeToLoadObjects(int batchSize) {
-		log.unsupportedIndexerConfigurationOption( "batchSizeToLoadObjects" );
+		if ( batchSize < 1 ) {
+			throw new IllegalArgumentException( "batchSize must be at least 1" );
+		}
+		this.batchSizeToLoadObjects = batchSize;
 		return this;
 	}
 
@@ -157,8 +167,8 @@ public void startAndWait() throws InterruptedException {
 	}
 
 	protected BatchCoordinator createCoordinator() {
-		return new BatchCoordinator( gridDialect, rootEntities, searchIntegrator, sessionFactory, typesToIndexInParallel, cacheMode, optimizeOnFinish,
-				purgeAllOnStart, optimizeAfterPurge, monitor, tenantId );
+		return new BatchCoordinator( gridDialect, rootEntities, searchIntegrator, sessionFactory, typesToIndexInParallel, threadsToLoadObjects,
+				batchSizeToLoadObjects, cacheMode, optimizeOnFinish, purgeAllOnStart, optimizeAfterPurge, monitor, tenantId );
 	}
 
 	private void atLeastOneValidation(int numberOfThreads) {
@@ -6,6 +6,9 @@
  */
 package org.hibernate.ogm.massindex.impl;
 
+import java.util.Collections;
+import java.util.List;
+
 import javax.transaction.Status;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
@@ -87,13 +90,22 @@ boolean wrapInTransaction() {
 
 	@Override
 	public void consume(Tuple tuple) {
+		consume( Collections.singletonList( tuple ) );
+	}
+
+	/**
+	 * Processes the given tuples with a single session.
+	 *
+	 * @param tuples the tuples to process
+	 */
+	public void consume(List<Tuple> tuples) {
 		try {
 			final boolean wrapInTransaction = wrapInTransaction();
 			if ( wrapInTransaction ) {
-				consumeInTransaction( tuple );
+				consumeInTransaction( tuples );
 			}
 			else {
-				delegate.run( null, tuple );
+				delegate.run( null, tuples );
 			}
 		}
 		catch ( Throwable e ) {
@@ -101,12 +113,12 @@ public void consume(Tuple tuple) {
 		}
 	}
 
-	private void consumeInTransaction(Tuple tuple) {
+	private void consumeInTransaction(List<Tuple> tuples) {
 		TransactionManager transactionManager = getTransactionManager();
 		try {
 			final Session session = factory.openSession();
 			transactionManager.begin();
-			delegate.run( session, tuple );
+			delegate.run( session, tuples );
 			transactionManager.commit();
 			session.close();
 		}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.massindex.impl;
 
+import java.util.List;
+
 import org.hibernate.Session;
 import org.hibernate.ogm.model.spi.Tuple;
 
@@ -14,6 +16,6 @@
  */
 public interface SessionAwareRunnable {
 
-	void run(Session upperSession, Tuple tuple);
+	void run(Session upperSession, List<Tuple> tuples);
 
 }
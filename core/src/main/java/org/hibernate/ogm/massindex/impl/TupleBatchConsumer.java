@@ -0,0 +1,42 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.massindex.impl;
+
+import java.util.List;
+
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * Component of batch-indexing pipeline, using chained producer-consumers.
+ * <p>
+ * This Runnable takes batches of tuples from the queue and passes them to the indexer until all the producers are
+ * done.
+ */
+public class TupleBatchConsumer implements Runnable {
+
+	private final ProducerConsumerQueue<List<Tuple>> source;
+	private final OptionallyWrapInJTATransaction indexer;
+
+	public TupleBatchConsumer(ProducerConsumerQueue<List<Tuple>> source, OptionallyWrapInJTATransaction indexer) {
+		this.source = source;
+		this.indexer = indexer;
+	}
+
+	@Override
+	public void run() {
+		try {
+			List<Tuple> batch = source.take();
+			while ( batch != null ) {
+				indexer.consume( batch );
+				batch = source.take();
+			}
+		}
+		catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -8,7 +8,6 @@
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -44,8 +43,9 @@
 /**
  * Component of batch-indexing pipeline, using chained producer-consumers.
  * <p>
- * This Runnable will consume {@link Tuple} objects taken one-by-one and it will create an {@link AddLuceneWork} for the
- * corresponding entity.
+ * This Runnable will consume batches of {@link Tuple} objects and it will create an {@link AddLuceneWork} for each
+ * corresponding entity. The entities of a batch are loaded with one session, which is cleared once their documents
+ * have been built.
  *
  * @author Sanne Grinovero
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
@@ -88,7 +88,6 @@ private void index(Session session, Object entity) {
 			session.buildLockRequest( LockOptions.NONE ).lock( entity );
 			index( entity, session, sessionInitializer, contextualBridge );
 			monitor.documentsBuilt( 1 );
-			session.clear();
 		}
 		catch ( InterruptedException e ) {
 			Thread.currentThread().interrupt();
@@ -180,11 +179,17 @@ private void close(Session upperSession, Session session) {
 	}
 
 	@Override
-	public void run(Session upperSession, Tuple tuple) {
+	public void run(Session upperSession, List<Tuple> tuples) {
 		Session session = openSession( upperSession );
 		try {
 			Transaction transaction = beginTransaction( session );
-			index( session, entity( session, tuple ) );
+			for ( Object entity : entities( session, tuples ) ) {
+				if ( entity != null ) {
+					index( session, entity );
+				}
+			}
+			// the entities of a batch are no longer needed once their documents have been built
+			session.clear();
 			transaction.commit();
 		}
 		catch ( Throwable e ) {
@@ -196,16 +201,14 @@ public void run(Session upperSession, Tuple tuple) {
 		}
 	}
 
-	private Object entity(Session session, Tuple tuple) {
+	private List<Object> entities(Session session, List<Tuple> tuples) {
 		SessionImplementor sessionImplementor = (SessionImplementor) session;
 		OgmEntityPersister persister = (OgmEntityPersister) sessionFactory.getEntityPersister( indexedType.getName() );
 
 		TupleBasedEntityLoader loader = (TupleBasedEntityLoader) persister.getAppropriateLoader( LockOptions.READ, sessionImplementor );
 
 		OgmLoadingContext ogmLoadingContext = new OgmLoadingContext();
-		ogmLoadingContext.setTuples( Collections.singletonList( tuple ) );
-		List<Object> entities = loader.loadEntitiesFromTuples( sessionImplementor, LockOptions.NONE, ogmLoadingContext );
-
-		return entities.get( 0 );
+		ogmLoadingContext.setTuples( tuples );
+		return loader.loadEntitiesFromTuples( sessionImplementor, LockOptions.NONE, ogmLoadingContext );
 	}
 }
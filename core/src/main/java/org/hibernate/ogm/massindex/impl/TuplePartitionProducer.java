@@ -0,0 +1,102 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.massindex.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.search.exception.ErrorHandler;
+import org.hibernate.search.util.logging.impl.Log;
+import org.hibernate.search.util.logging.impl.LoggerFactory;
+
+/**
+ * Component of batch-indexing pipeline, using chained producer-consumers.
+ * <p>
+ * This Runnable iterates over the tuples of the given partitions and puts them into the queue in batches of the
+ * configured size, blocking while the queue is full.
+ */
+public class TuplePartitionProducer implements Runnable {
+
+	private static final Log log = LoggerFactory.make();
+
+	private final PartitionableGridDialect gridDialect;
+	private final List<TuplePartition> partitions;
+	private final TupleContext tupleContext;
+	private final EntityKeyMetadata entityKeyMetadata;
+	private final ProducerConsumerQueue<List<Tuple>> destination;
+	private final int batchSize;
+	private final ErrorHandler errorHandler;
+
+	public TuplePartitionProducer(PartitionableGridDialect gridDialect, List<TuplePartition> partitions, TupleContext tupleContext,
+			EntityKeyMetadata entityKeyMetadata, ProducerConsumerQueue<List<Tuple>> destination, int batchSize, ErrorHandler errorHandler) {
+		this.gridDialect = gridDialect;
+		this.partitions = partitions;
+		this.tupleContext = tupleContext;
+		this.entityKeyMetadata = entityKeyMetadata;
+		this.destination = destination;
+		this.batchSize = batchSize;
+		this.errorHandler = errorHandler;
+	}
+
+	@Override
+	public void run() {
+		try {
+			BatchingConsumer consumer = new BatchingConsumer();
+			for ( TuplePartition partition : partitions ) {
+				gridDialect.forEachTuple( consumer, tupleContext, entityKeyMetadata, partition );
+			}
+			consumer.flush();
+		}
+		catch ( InterruptedWhileProducing e ) {
+			Thread.currentThread().interrupt();
+		}
+		catch ( RuntimeException re ) {
+			errorHandler.handleException( log.massIndexerUnexpectedErrorMessage(), re );
+		}
+		finally {
+			destination.producerStopping();
+		}
+	}
+
+	private class BatchingConsumer implements ModelConsumer {
+
+		private List<Tuple> batch = new ArrayList<Tuple>( batchSize );
+
+		@Override
+		public void consume(Tuple tuple) {
+			batch.add( tuple );
+			if ( batch.size() == batchSize ) {
+				flush();
+			}
+		}
+
+		void flush() {
+			if ( batch.isEmpty() ) {
+				return;
+			}
+			try {
+				destination.put( batch );
+			}
+			catch ( InterruptedException e ) {
+				throw new InterruptedWhileProducing();
+			}
+			batch = new ArrayList<Tuple>( batchSize );
+		}
+	}
+
+	/**
+	 * Aborts the iteration over the partition when the producer is interrupted.
+	 */
+	private static class InterruptedWhileProducing extends RuntimeException {
+	}
+}
@@ -29,6 +29,8 @@
 import org.hibernate.loader.collection.CollectionInitializer;
 import org.hibernate.mapping.Collection;
 import org.hibernate.ogm.dialect.impl.AssociationTypeContextImpl;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.GridDialect;
@@ -261,7 +263,10 @@ protected CollectionInitializer createSubselectInitializer(SubselectFetch subsel
 	@Override
 	protected CollectionInitializer createCollectionInitializer(LoadQueryInfluencers loadQueryInfluencers)
 			throws MappingException {
-		// TODO pass constructor
+		// batch initialization only pays off if the dialect can read several associations at once
+		if ( GridDialects.hasFacet( gridDialect, MultigetAssociationGridDialect.class ) ) {
+			return new OgmBasicCollectionLoader( this, getBatchSize() );
+		}
 		return new OgmBasicCollectionLoader( this );
 	}
 
@@ -10,6 +10,7 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,11 +30,13 @@
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.engine.OptimisticLockStyle;
+import org.hibernate.engine.internal.ForeignKeys;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
 import org.hibernate.internal.DynamicFilterAliasGenerator;
 import org.hibernate.internal.FilterAliasGenerator;
 import org.hibernate.loader.entity.UniqueEntityLoader;
@@ -41,20 +44,22 @@
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.Table;
 import org.hibernate.ogm.compensation.impl.InvocationCollectingGridDialect;
+import org.hibernate.ogm.dialect.eventstate.impl.EventContextManager;
 import org.hibernate.ogm.dialect.identity.spi.IdentityColumnAwareGridDialect;
 import org.hibernate.ogm.dialect.impl.AssociationTypeContextImpl;
 import org.hibernate.ogm.dialect.impl.ExceptionThrowingLockingStrategy;
 import org.hibernate.ogm.dialect.impl.GridDialects;
 import org.hibernate.ogm.dialect.impl.TupleContextImpl;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.naturalid.spi.NaturalIdAwareGridDialect;
 import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.DuplicateInsertPreventionStrategy;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.entityentry.impl.OgmEntityEntryState;
-import org.hibernate.ogm.exception.NotSupportedException;
 import org.hibernate.ogm.id.impl.OgmIdentityGenerator;
 import org.hibernate.ogm.loader.entity.impl.BatchingEntityLoaderBuilder;
 import org.hibernate.ogm.loader.entity.impl.OgmBatchableEntityLoaderBuilder;
@@ -139,6 +144,9 @@ public abstract class OgmEntityPersister extends AbstractEntityPersister impleme
 	private final IdentityColumnAwareGridDialect identityColumnAwareGridDialect;
 	private final OptimisticLockingAwareGridDialect optimisticLockingAwareGridDialect;
 	private final boolean canGridDialectDoMultiget;
+	private final MultigetGridDialect multigetGridDialect;
+	private final NaturalIdAwareGridDialect naturalIdAwareGridDialect;
+	private final EventContextManager eventContext;
 	private final OptionsService optionsService;
 
 	/**
@@ -186,12 +194,34 @@ public abstract class OgmEntityPersister extends AbstractEntityPersister impleme
 	 */
 	private final boolean usesNonAtomicOptimisticLocking;
 
+	/**
+	 * Whether natural id look-ups can be delegated to the dialect or not.
+	 * <p>
+	 * {@code false} if this entity has no natural id, if the current dialect cannot look up tuples by natural id or
+	 * if the natural id contains associations. In the latter cases, natural id look-ups go through all the tuples.
+	 *
+	 * @see NaturalIdAwareGridDialect
+	 */
+	private final boolean usesDialectNaturalIdLookUp;
+
 	/**
 	 * A context with additional meta-data to be passed to grid dialect operations relating to the entity type
 	 * represented by this persister.
 	 */
 	private TupleContextImpl tupleContext;
 
+	/**
+	 * The context passed to the grid dialect when loading entities of this type; unlike {@link #tupleContext}, it
+	 * doesn't select the columns of lazy properties.
+	 */
+	private TupleContextImpl loadingTupleContext;
+
+	/**
+	 * The context passed to the grid dialect when initializing the lazy properties of an entity; it only selects the
+	 * columns of these properties. {@code null} if this entity type has no lazy properties.
+	 */
+	private TupleContextImpl lazyPropertiesTupleContext;
+
 	OgmEntityPersister(
 			final PersistentClass persistentClass,
 			final EntityRegionAccessStrategy cacheAccessStrategy,
@@ -216,6 +246,9 @@ public abstract class OgmEntityPersister extends AbstractEntityPersister impleme
 				InvocationCollectingGridDialect.class
 		);
 		this.canGridDialectDoMultiget = GridDialects.hasFacet( gridDialect, MultigetGridDialect.class );
+		this.multigetGridDialect = serviceRegistry.getService( MultigetGridDialect.class );
+		this.naturalIdAwareGridDialect = serviceRegistry.getService( NaturalIdAwareGridDialect.class );
+		this.eventContext = serviceRegistry.getService( EventContextManager.class );
 
 		if ( factory.getIdentifierGenerator( getEntityName() ) instanceof OgmIdentityGenerator && identityColumnAwareGridDialect == null ) {
 			throw log.getIdentityGenerationStrategyNotSupportedException( getEntityName() );
@@ -325,6 +358,7 @@ public abstract class OgmEntityPersister extends AbstractEntityPersister impleme
 		propertyMightRequireInverseAssociationManagement = getPropertyMightRequireInverseAssociationManagement();
 		mightRequireInverseAssociationManagement = initMayManageInverseAssociations();
 		usesNonAtomicOptimisticLocking = initUsesNonAtomicOptimisticLocking();
+		usesDialectNaturalIdLookUp = initUsesDialectNaturalIdLookUp();
 
 		initLockers();
 	}
@@ -518,6 +552,25 @@ private boolean initUsesNonAtomicOptimisticLocking() {
 		return usesNonAtomicOptimisticLocking;
 	}
 
+	private boolean initUsesDialectNaturalIdLookUp() {
+		if ( !hasNaturalIdentifier() ) {
+			return false;
+		}
+
+		boolean usesDialectNaturalIdLookUp = naturalIdAwareGridDialect != null;
+		for ( int propertyIndex : getNaturalIdentifierProperties() ) {
+			if ( getPropertyTypes()[propertyIndex].isAssociationType() ) {
+				usesDialectNaturalIdLookUp = false;
+			}
+		}
+
+		if ( !usesDialectNaturalIdLookUp ) {
+			log.naturalIdLookUpRequiresFullScan( getEntityName() );
+		}
+
+		return usesDialectNaturalIdLookUp;
+	}
+
 	@Override
 	protected void createUniqueKeyLoaders() throws MappingException {
 		// Avoid the execution of super.createUniqueLoaders()
@@ -527,6 +580,51 @@ protected void createUniqueKeyLoaders() throws MappingException {
 	protected void doPostInstantiate() {
 		inverseOneToOneAssociationKeyMetadata = Collections.unmodifiableMap( initInverseOneToOneAssociationKeyMetadata() );
 		tupleContext = createTupleContext();
+
+		if ( hasLazyProperties() ) {
+			List<String> lazyPropertyColumnNames = lazyPropertyColumnNames();
+			List<String> loadedColumnNames = new ArrayList<String>( tupleContext.getSelectableColumns() );
+			loadedColumnNames.removeAll( lazyPropertyColumnNames );
+
+			loadingTupleContext = new TupleContextImpl( tupleContext, loadedColumnNames );
+			lazyPropertiesTupleContext = new TupleContextImpl( tupleContext, lazyPropertyColumnNames );
+		}
+		else {
+			loadingTupleContext = tupleContext;
+		}
+	}
+
+	private List<String> lazyPropertyColumnNames() {
+		List<String> columnNames = new ArrayList<String>();
+		boolean[] laziness = getPropertyLaziness();
+
+		for ( int propertyIndex = 0; propertyIndex < getPropertySpan(); propertyIndex++ ) {
+			if ( laziness[propertyIndex] ) {
+				Collections.addAll( columnNames, getPropertyColumnNames( propertyIndex ) );
+			}
+		}
+
+		return columnNames;
+	}
+
+	/**
+	 * Returns the columns of the natural id if it only contains basic or embedded properties, in the order in which they
+	 * are passed to {@link NaturalIdAwareGridDialect#getTupleByNaturalId}.
+	 */
+	private List<String> naturalIdColumnNames() {
+		if ( !hasNaturalIdentifier() ) {
+			return Collections.emptyList();
+		}
+
+		List<String> columnNames = new ArrayList<String>();
+		for ( int propertyIndex : getNaturalIdentifierProperties() ) {
+			if ( getPropertyTypes()[propertyIndex].isAssociationType() ) {
+				return Collections.emptyList();
+			}
+			Collections.addAll( columnNames, getPropertyColumnNames( propertyIndex ) );
+		}
+
+		return columnNames;
 	}
 
 	private TupleContextImpl createTupleContext() {
@@ -548,6 +646,7 @@ private TupleContextImpl createTupleContext() {
 
 		return new TupleContextImpl(
 				selectableColumnNames( discriminator ),
+				naturalIdColumnNames(),
 				associatedEntityKeyMetadata,
 				roles,
 				optionsService.context().getEntityOptions( getMappedClass() ),
@@ -606,6 +705,82 @@ private Tuple getResultsetById(Serializable id, SessionImplementor session) {
 		return resultset;
 	}
 
+	@Override
+	public Object[] getNaturalIdentifierSnapshot(Serializable id, SessionImplementor session) throws HibernateException {
+		if ( !hasNaturalIdentifier() ) {
+			throw new MappingException( "persistent class did not define a natural-id : " + MessageHelper.infoString( this ) );
+		}
+
+		if ( log.isTraceEnabled() ) {
+			log.trace( "Getting current natural-id snapshot state for: " + MessageHelper.infoString( this, id, getFactory() ) );
+		}
+
+		final Tuple resultset = getResultsetById( id, session );
+
+		if ( resultset == null || resultset.getSnapshot().isEmpty() ) {
+			return null;
+		}
+
+		final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+		Object[] snapshot = new Object[naturalIdPropertyIndexes.length];
+		for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+			int propertyIndex = naturalIdPropertyIndexes[i];
+			snapshot[i] = gridPropertyTypes[propertyIndex].hydrate( resultset, getPropertyAliases( "", propertyIndex ), session, null );
+			if ( getPropertyTypes()[propertyIndex].isEntityType() ) {
+				snapshot[i] = gridPropertyTypes[propertyIndex].resolve( snapshot[i], session, null );
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Resolves the id of the entity with the given natural id. Hibernate ORM only invokes this method if the natural id
+	 * cannot be resolved from the cross-reference cache of the session or from the second-level natural id cache.
+	 */
+	@Override
+	public Serializable loadEntityIdByNaturalId(Object[] naturalIdValues, LockOptions lockOptions, SessionImplementor session) {
+		if ( log.isTraceEnabled() ) {
+			log.tracef( "Resolving natural-id [%s] to id : %s ", Arrays.asList( naturalIdValues ), MessageHelper.infoString( this ) );
+		}
+
+		final Tuple resultset;
+		if ( usesDialectNaturalIdLookUp ) {
+			resultset = getTupleByNaturalId( naturalIdValues, session );
+		}
+		else {
+			NaturalIdMatcher matcher = new NaturalIdMatcher( naturalIdValues, session );
+			gridDialect.forEachTuple( matcher, getTupleContext( session ), entityKeyMetadata );
+			resultset = matcher.getMatch();
+		}
+
+		if ( resultset == null ) {
+			return null;
+		}
+		return (Serializable) getGridIdentifierType().nullSafeGet( resultset, getIdentifierColumnNames(), session, null );
+	}
+
+	/**
+	 * Looks up the tuple with the given natural id through the dialect, passing the column values written by the grid
+	 * types of the natural id properties.
+	 */
+	private Tuple getTupleByNaturalId(Object[] naturalIdValues, SessionImplementor session) {
+		final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+		Tuple naturalIdTuple = new Tuple();
+		for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+			int propertyIndex = naturalIdPropertyIndexes[i];
+			gridPropertyTypes[propertyIndex].nullSafeSet( naturalIdTuple, naturalIdValues[i], getPropertyColumnNames( propertyIndex ), session );
+		}
+
+		List<String> columnNames = tupleContext.getNaturalIdColumns();
+		String[] naturalIdColumnNames = columnNames.toArray( new String[columnNames.size()] );
+		Object[] naturalIdColumnValues = new Object[naturalIdColumnNames.length];
+		for ( int i = 0; i < naturalIdColumnNames.length; i++ ) {
+			naturalIdColumnValues[i] = naturalIdTuple.get( naturalIdColumnNames[i] );
+		}
+
+		return naturalIdAwareGridDialect.getTupleByNaturalId( entityKeyMetadata, naturalIdColumnNames, naturalIdColumnValues, getTupleContext( session ) );
+	}
+
 	@Override
 	public Object initializeLazyProperty(String fieldName, Object entity, SessionImplementor session)
 			throws HibernateException {
@@ -641,8 +816,7 @@ public Object initializeLazyProperty(String fieldName, Object entity, SessionImp
 
 	}
 
-	//FIXME cache should use Core Types or Grid Types?
-	//Make superclasses method protected??
+	// The cache entry has been disassembled with the ORM types, see TwoPhaseLoad
 	private Object initializeLazyPropertiesFromCache(
 			final String fieldName,
 			final Object entity,
@@ -650,16 +824,79 @@ private Object initializeLazyPropertiesFromCache(
 			final EntityEntry entry,
 			final CacheEntry cacheEntry
 	) {
-		throw new NotSupportedException( "OGM-9", "Lazy properties not supported in OGM" );
+		log.trace( "initializing lazy properties from second-level cache" );
+
+		Object result = null;
+		Serializable[] disassembledValues = cacheEntry.getDisassembledState();
+		final Object[] snapshot = entry.getLoadedState();
+		boolean[] laziness = getPropertyLaziness();
+		for ( int propertyIndex = 0; propertyIndex < getPropertySpan(); propertyIndex++ ) {
+			if ( laziness[propertyIndex] ) {
+				final Object propValue = getPropertyTypes()[propertyIndex].assemble( disassembledValues[propertyIndex], session, entity );
+				if ( initializeLazyProperty( fieldName, entity, snapshot, propertyIndex, propValue ) ) {
+					result = propValue;
+				}
+			}
+		}
+
+		log.trace( "done initializing lazy properties" );
+
+		return result;
 	}
 
+	/**
+	 * Reads the columns of all the lazy properties of the given entity, as the entity was loaded without them.
+	 */
 	private Object initializeLazyPropertiesFromDatastore(
 			final String fieldName,
 			final Object entity,
 			final SessionImplementor session,
 			final Serializable id,
 			final EntityEntry entry) {
-		throw new NotSupportedException( "OGM-9", "Lazy properties not supported in OGM" );
+
+		if ( !hasLazyProperties() ) {
+			throw new AssertionFailure( "no lazy properties" );
+		}
+
+		log.trace( "initializing lazy properties from datastore" );
+
+		final EntityKey key = EntityKeyBuilder.fromPersister( this, id, session );
+		final Tuple resultset = gridDialect.getTuple( key, withTransactionContext( lazyPropertiesTupleContext, session ) );
+
+		if ( resultset == null ) {
+			throw new HibernateException( "entity to initialize the lazy properties of does not exist: " + MessageHelper.infoString( this, id, getFactory() ) );
+		}
+
+		Object result = null;
+		final Object[] snapshot = entry.getLoadedState();
+		boolean[] laziness = getPropertyLaziness();
+		for ( int propertyIndex = 0; propertyIndex < getPropertySpan(); propertyIndex++ ) {
+			if ( laziness[propertyIndex] ) {
+				Object hydratedValue = gridPropertyTypes[propertyIndex].hydrate( resultset, getPropertyAliases( "", propertyIndex ), session, entity );
+				final Object propValue = gridPropertyTypes[propertyIndex].resolve( hydratedValue, session, entity );
+				if ( initializeLazyProperty( fieldName, entity, snapshot, propertyIndex, propValue ) ) {
+					result = propValue;
+				}
+			}
+		}
+
+		log.trace( "done initializing lazy properties" );
+
+		return result;
+	}
+
+	/**
+	 * Sets the value of the given lazy property on the entity and in its loaded state.
+	 *
+	 * @return {@code true} if the given property is the one whose access triggered the initialization
+	 */
+	private boolean initializeLazyProperty(String fieldName, Object entity, Object[] snapshot, int propertyIndex, Object propValue) {
+		setPropertyValue( entity, propertyIndex, propValue );
+		if ( snapshot != null ) {
+			// object have been loaded with setReadOnly(true); HHH-2236
+			snapshot[propertyIndex] = getPropertyTypes()[propertyIndex].deepCopy( propValue, getFactory() );
+		}
+		return fieldName.equals( getPropertyNames()[propertyIndex] );
 	}
 
 	/**
@@ -1138,7 +1375,8 @@ else if ( ! isModifiableEntity( entry ) ) {
 					resultset = gridDialect.getTuple( key, getTupleContext( session ) );
 				}
 				else {
-					OgmEntityEntryState extraState = entry.getExtraState( OgmEntityEntryState.class );
+					// a stateless session keeps no entry for the entity
+					OgmEntityEntryState extraState = entry != null ? entry.getExtraState( OgmEntityEntryState.class ) : null;
 					if ( extraState != null ) {
 						resultset = extraState.getTuple();
 					}
@@ -1346,7 +1584,7 @@ public Serializable insert(Object[] fields, Object object, SessionImplementor se
 			throw new HibernateException( "Dialect failed to generate id for entity type " + entityKeyMetadata );
 		}
 
-		OgmEntityEntryState.getStateFor( session, object ).setTuple( tuple );
+		setTuple( session, object, tuple );
 
 		return id;
 	}
@@ -1383,7 +1621,7 @@ public void insert(Serializable id, Object[] fields, Object object, SessionImple
 			Tuple resultset = null;
 
 			if ( duplicateInsertPreventionStrategy == DuplicateInsertPreventionStrategy.LOOK_UP ) {
-				resultset = gridDialect.getTuple( key, this.getTupleContext( session ) );
+				resultset = lookUpTuple( key, session );
 
 				if ( j == 0 && resultset != null ) {
 					if ( invocationCollectingGridDialect == null ) {
@@ -1418,10 +1656,79 @@ public void insert(Serializable id, Object[] fields, Object object, SessionImple
 
 			addToInverseAssociations( resultset, 0, id, session );
 
-			OgmEntityEntryState.getStateFor( session, object ).setTuple( resultset );
+			setTuple( session, object, resultset );
+		}
+	}
+
+	/**
+	 * Keeps the tuple written for the given entity, allowing to update the entity later on without reading it again. A
+	 * stateless session doesn't keep track of its entities, so there is nothing to keep the tuple with.
+	 */
+	private void setTuple(SessionImplementor session, Object object, Tuple tuple) {
+		if ( session.isEventSource() ) {
+			OgmEntityEntryState.getStateFor( session, object ).setTuple( tuple );
 		}
 	}
 
+	/**
+	 * Reads the tuple of an entity to be inserted. Within a flush, the tuples of all the entities of this type waiting
+	 * for their insertion are read at once if the dialect supports it.
+	 */
+	private Tuple lookUpTuple(EntityKey key, SessionImplementor session) {
+		if ( multigetGridDialect == null || !eventContext.isActive() ) {
+			return gridDialect.getTuple( key, getTupleContext( session ) );
+		}
+
+		PendingInsertsLookUp pendingInserts = eventContext.get( PendingInsertsLookUp.class );
+		if ( !pendingInserts.isLookedUp( entityKeyMetadata ) ) {
+			EntityKey[] keys = getPendingInsertKeys( key, session );
+			if ( keys.length > 1 ) {
+				pendingInserts.add( entityKeyMetadata, keys, multigetGridDialect.getTuples( keys, getTupleContext( session ) ) );
+			}
+			else {
+				// nothing to gain from a multi-get for a single insert
+				pendingInserts.add( entityKeyMetadata, new EntityKey[0], Collections.<Tuple>emptyList() );
+			}
+		}
+
+		if ( pendingInserts.contains( key ) ) {
+			return pendingInserts.getTuple( key );
+		}
+		else {
+			// e.g. an entity persisted by a cascade during the flush
+			return gridDialect.getTuple( key, getTupleContext( session ) );
+		}
+	}
+
+	/**
+	 * Returns the keys of the entities stored in the same table as this entity type which are managed by the session
+	 * but do not exist in the datastore yet, the given key being the first one.
+	 */
+	private EntityKey[] getPendingInsertKeys(EntityKey key, SessionImplementor session) {
+		List<EntityKey> keys = new ArrayList<EntityKey>();
+		keys.add( key );
+
+		for ( Map.Entry<Object, EntityEntry> entry : session.getPersistenceContext().reentrantSafeEntityEntries() ) {
+			EntityEntry entityEntry = entry.getValue();
+			if ( entityEntry.isExistsInDatabase() || entityEntry.getId() == null || !( entityEntry.getPersister() instanceof OgmEntityPersister ) ) {
+				continue;
+			}
+			if ( entityEntry.getStatus() != Status.MANAGED && entityEntry.getStatus() != Status.READ_ONLY ) {
+				continue;
+			}
+
+			OgmEntityPersister persister = (OgmEntityPersister) entityEntry.getPersister();
+			if ( entityKeyMetadata.equals( persister.getEntityKeyMetadata() ) ) {
+				EntityKey pendingKey = EntityKeyBuilder.fromPersister( persister, entityEntry.getId(), session );
+				if ( !pendingKey.equals( key ) ) {
+					keys.add( pendingKey );
+				}
+			}
+		}
+
+		return keys.toArray( new EntityKey[keys.size()] );
+	}
+
 	@Override
 	public String getDiscriminatorColumnName() {
 		return discriminator.getColumnName();
@@ -1754,6 +2061,22 @@ public Serializable[] getPropertySpaces() {
 	 * @return the tupleContext for the session
 	 */
 	public TupleContext getTupleContext( SessionImplementor session ) {
+		return withTransactionContext( tupleContext, session );
+	}
+
+	/**
+	 * Returns the {@link TupleContext} to be used when loading entities of this type. Unlike
+	 * {@link #getTupleContext(SessionImplementor)}, its selectable columns don't contain the columns of lazy properties;
+	 * these are read when one of the lazy properties is accessed.
+	 *
+	 * @param session the current session, if null the {@link TupleContext#getTransactionContext()} will be null.
+	 * @return the tupleContext for loading entities within the session
+	 */
+	public TupleContext getLoadingTupleContext(SessionImplementor session) {
+		return withTransactionContext( loadingTupleContext, session );
+	}
+
+	private static TupleContext withTransactionContext(TupleContextImpl tupleContext, SessionImplementor session) {
 		if ( session == null ) {
 			return tupleContext;
 		}
@@ -1847,4 +2170,60 @@ private void raiseStaleObjectStateException(Serializable id) {
 
 		throw new StaleObjectStateException( getEntityName(), id );
 	}
+
+	/**
+	 * Keeps the first tuple with the given natural id values.
+	 * <p>
+	 * The natural id properties of the tuples are read through their grid types, as the column values returned by a
+	 * dialect may have another type than the written ones, e.g. {@code Integer} instead of {@code Long}. Associations
+	 * are compared by the identifier of the associated entity.
+	 */
+	private class NaturalIdMatcher implements ModelConsumer {
+
+		private final Object[] naturalIdValues;
+		private final SessionImplementor session;
+		private Tuple match;
+
+		private NaturalIdMatcher(Object[] naturalIdValues, SessionImplementor session) {
+			this.naturalIdValues = naturalIdValues;
+			this.session = session;
+		}
+
+		@Override
+		public void consume(Tuple tuple) {
+			if ( match == null && matches( tuple ) ) {
+				match = tuple;
+			}
+		}
+
+		private boolean matches(Tuple tuple) {
+			final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+			for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+				int propertyIndex = naturalIdPropertyIndexes[i];
+				String[] aliases = getPropertyAliases( "", propertyIndex );
+				Type type = getPropertyTypes()[propertyIndex];
+				Object expected = naturalIdValues[i];
+				Object value;
+
+				if ( type.isEntityType() ) {
+					EntityType entityType = (EntityType) type;
+					value = gridPropertyTypes[propertyIndex].hydrate( tuple, aliases, session, null );
+					expected = ForeignKeys.getEntityIdentifierIfNotUnsaved( entityType.getAssociatedEntityName(), expected, session );
+					type = entityType.getIdentifierOrUniqueKeyType( getFactory() );
+				}
+				else {
+					value = gridPropertyTypes[propertyIndex].nullSafeGet( tuple, aliases, session, null );
+				}
+
+				if ( !type.isEqual( value, expected, getFactory() ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		public Tuple getMatch() {
+			return match;
+		}
+	}
 }
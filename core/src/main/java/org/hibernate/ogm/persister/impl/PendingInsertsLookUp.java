@@ -0,0 +1,68 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.persister.impl;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.spi.DuplicateInsertPreventionStrategy;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * Event cycle scoped state keeping the tuples read to detect duplicate inserts if
+ * {@link DuplicateInsertPreventionStrategy#LOOK_UP} is used with a {@link MultigetGridDialect}.
+ * <p>
+ * Upon the first insert of a given entity type within a flush, the keys of all the entities of that type waiting for
+ * their insertion are read at once; the following inserts of that type within the same flush are checked against the
+ * result of that read.
+ */
+public class PendingInsertsLookUp {
+
+	private final Set<EntityKeyMetadata> lookedUpTypes = new HashSet<>();
+	private final Map<EntityKey, Tuple> tuples = new HashMap<>();
+
+	/**
+	 * Whether the pending inserts of the given entity type have been looked up already.
+	 */
+	public boolean isLookedUp(EntityKeyMetadata entityKeyMetadata) {
+		return lookedUpTypes.contains( entityKeyMetadata );
+	}
+
+	/**
+	 * Registers the result of the look-up of the pending inserts of the given entity type.
+	 *
+	 * @param entityKeyMetadata the entity type
+	 * @param keys the keys of the pending inserts
+	 * @param existingTuples the tuples found for the keys, {@code null} for the keys without tuple
+	 */
+	public void add(EntityKeyMetadata entityKeyMetadata, EntityKey[] keys, List<Tuple> existingTuples) {
+		lookedUpTypes.add( entityKeyMetadata );
+		for ( int i = 0; i < keys.length; i++ ) {
+			tuples.put( keys[i], existingTuples.get( i ) );
+		}
+	}
+
+	/**
+	 * Whether the given key has been looked up.
+	 */
+	public boolean contains(EntityKey key) {
+		return tuples.containsKey( key );
+	}
+
+	/**
+	 * Returns the tuple found for the given key, {@code null} if the key has no tuple.
+	 */
+	public Tuple getTuple(EntityKey key) {
+		return tuples.get( key );
+	}
+}
@@ -8,31 +8,61 @@
 
 import java.io.Serializable;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.query.spi.NativeSQLQueryPlan;
 import org.hibernate.engine.query.spi.ParameterMetadata;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.loader.custom.CustomQuery;
 import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
 import org.hibernate.ogm.loader.nativeloader.impl.BackendCustomQuery;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
 
 /**
  * Interprets given native NoSQL queries.
+ * <p>
+ * The native queries are parsed by the grid dialect once per query string; the parsed representations are kept in a
+ * bounded cache, as the query plans cached by Hibernate ORM are keyed by the query string <em>and</em> the query
+ * returns and compete for the same slots as the JP-QL query plans.
  *
  * @author Gunnar Morling
  *
  */
 public class NativeNoSqlQueryInterpreter implements NativeQueryInterpreter {
 
+	/**
+	 * The default number of parsed native queries kept in the cache, the same as for the ORM query plan cache.
+	 */
+	public static final int DEFAULT_PARSED_QUERY_CACHE_MAX_SIZE = 2048;
+
+	private static final Log log = LoggerFactory.make();
+
 	private final QueryableGridDialect<?> gridDialect;
 	private final ParameterMetadataBuilder builder;
+	private final ConcurrentMap<String, Serializable> parsedQueries;
+
+	private final AtomicLong parseCount = new AtomicLong();
+	private final AtomicLong parseTime = new AtomicLong();
+	private final AtomicLong cacheHitCount = new AtomicLong();
 
 	public NativeNoSqlQueryInterpreter(QueryableGridDialect<?> gridDialect) {
+		this( gridDialect, DEFAULT_PARSED_QUERY_CACHE_MAX_SIZE );
+	}
+
+	public NativeNoSqlQueryInterpreter(QueryableGridDialect<?> gridDialect, int parsedQueryCacheMaxSize) {
 		this.gridDialect = gridDialect;
 		this.builder = gridDialect.getParameterMetadataBuilder();
+		this.parsedQueries = new BoundedConcurrentHashMap<String, Serializable>(
+				parsedQueryCacheMaxSize,
+				20,
+				BoundedConcurrentHashMap.Eviction.LIRS
+		);
 	}
 
 	@Override
@@ -47,7 +77,7 @@ public NativeSQLQueryPlan createQueryPlan(NativeSQLQuerySpecification specificat
 	}
 
 	private <T extends Serializable> CustomQuery getCustomQuery(QueryableGridDialect<T> gridDialect, NativeSQLQuerySpecification specification, SessionFactoryImplementor sessionFactory) {
-		T query = gridDialect.parseNativeQuery( specification.getQueryString() );
+		T query = parseNativeQuery( gridDialect, specification.getQueryString() );
 
 		@SuppressWarnings("unchecked")
 		Set<String> querySpaces = specification.getQuerySpaces();
@@ -60,4 +90,60 @@ private <T extends Serializable> CustomQuery getCustomQuery(QueryableGridDialect
 				sessionFactory
 		);
 	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends Serializable> T parseNativeQuery(QueryableGridDialect<T> gridDialect, String nativeQuery) {
+		T query = (T) parsedQueries.get( nativeQuery );
+
+		if ( query != null ) {
+			cacheHitCount.incrementAndGet();
+			return query;
+		}
+
+		long start = System.nanoTime();
+		query = gridDialect.parseNativeQuery( nativeQuery );
+		long time = System.nanoTime() - start;
+
+		parseCount.incrementAndGet();
+		parseTime.addAndGet( time );
+
+		if ( log.isTraceEnabled() ) {
+			log.tracef( "Parsed native query in %d ns: %s", time, nativeQuery );
+		}
+
+		T cached = (T) parsedQueries.putIfAbsent( nativeQuery, query );
+		return cached != null ? cached : query;
+	}
+
+	/**
+	 * @return the number of native queries parsed by the grid dialect
+	 */
+	public long getParseCount() {
+		return parseCount.get();
+	}
+
+	/**
+	 * @return the number of native queries taken from the cache instead of being parsed
+	 */
+	public long getCacheHitCount() {
+		return cacheHitCount.get();
+	}
+
+	/**
+	 * @return the time spent parsing native queries, in nanoseconds
+	 */
+	public long getParseTime() {
+		return parseTime.get();
+	}
+
+	/**
+	 * Returns an estimate of the parsing time saved by the cache, based on the average time needed to parse a native
+	 * query.
+	 *
+	 * @return the estimated parsing time saved, in nanoseconds
+	 */
+	public long getAvoidedParseTime() {
+		long count = parseCount.get();
+		return count == 0 ? 0 : parseTime.get() / count * cacheHitCount.get();
+	}
 }
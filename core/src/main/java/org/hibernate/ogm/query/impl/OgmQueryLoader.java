@@ -10,14 +10,18 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
+import org.hibernate.ScrollableResults;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.hql.internal.ast.QueryTranslatorImpl;
 import org.hibernate.hql.internal.ast.tree.SelectClause;
 import org.hibernate.loader.hql.QueryLoader;
@@ -43,6 +47,12 @@
  */
 public class OgmQueryLoader extends QueryLoader {
 
+	/**
+	 * The number of tuples read from the datastore before loading the corresponding entities, unless a fetch size is
+	 * given for the query.
+	 */
+	private static final int DEFAULT_FETCH_SIZE = 100;
+
 	private final OgmQueryLoaderContext<?> loaderContext;
 	private final boolean hasScalars;
 	private final List<String> scalarColumns;
@@ -69,59 +79,47 @@ private static <T extends Serializable> OgmQueryLoaderContext<T> getLoaderContex
 	protected List<?> list(SessionImplementor session, org.hibernate.engine.spi.QueryParameters queryParameters, Set<Serializable> querySpaces, Type[] resultTypes)
 			throws HibernateException {
 
-		ClosableIterator<Tuple> tuples = loaderContext.executeQuery( session, QueryParameters.fromOrmQueryParameters( queryParameters, typeTranslator, session.getFactory() ) );
+		ResultRows rows = executeQuery( session, queryParameters );
 		try {
-			if ( hasScalars ) {
-				return listOfArrays( session, tuples );
-			}
-			else {
-				return listOfEntities( session, resultTypes, tuples );
+			List<Object> results = new ArrayList<Object>();
+			while ( rows.hasNext() ) {
+				Object[] row = rows.next();
+				results.add( row.length == 1 ? row[0] : row );
 			}
+			return results;
 		}
 		finally {
-			tuples.close();
+			rows.close();
 		}
 	}
 
-	// At the moment we only support the case where one entity type is returned
-	private List<Object> listOfEntities(SessionImplementor session, Type[] resultTypes, ClosableIterator<Tuple> tuples) {
-		Class<?> returnedClass = resultTypes[0].getReturnedClass();
-		TupleBasedEntityLoader loader = getLoader( session, returnedClass );
-		OgmLoadingContext ogmLoadingContext = new OgmLoadingContext();
-		ogmLoadingContext.setTuples( getTuplesAsList( tuples ) );
-		return loader.loadEntitiesFromTuples( session, LockOptions.NONE, ogmLoadingContext );
+	@Override
+	public ScrollableResults scroll(org.hibernate.engine.spi.QueryParameters queryParameters, SessionImplementor session) throws HibernateException {
+		return new OgmScrollableResults( executeQuery( session, queryParameters ), queryReturnTypes );
 	}
 
-	private List<Tuple> getTuplesAsList(ClosableIterator<Tuple> tuples) {
-		List<Tuple> tuplesAsList = new ArrayList<>();
-		while ( tuples.hasNext() ) {
-			tuplesAsList.add( tuples.next() );
-		}
-		return tuplesAsList;
+	@Override
+	public Iterator<?> iterate(org.hibernate.engine.spi.QueryParameters queryParameters, EventSource session) throws HibernateException {
+		return new OgmQueryResultsIterator( executeQuery( session, queryParameters ) );
 	}
 
-	private List<Object> listOfArrays(SessionImplementor session, Iterator<Tuple> tuples) {
-		List<Object> results = new ArrayList<Object>();
-		while ( tuples.hasNext() ) {
-			Tuple tuple = tuples.next();
-			Object[] entry = new Object[queryReturnTypes.length];
-
-			int i = 0;
-			for ( Type type : queryReturnTypes ) {
-				GridType gridType = typeTranslator.getType( type );
-				entry[i] = gridType.nullSafeGet( tuple, scalarColumns.get( i ), session, null );
-				i++;
-			}
+	private ResultRows executeQuery(SessionImplementor session, org.hibernate.engine.spi.QueryParameters queryParameters) {
+		ClosableIterator<Tuple> tuples = loaderContext.executeQuery( session, QueryParameters.fromOrmQueryParameters( queryParameters, typeTranslator, session.getFactory() ) );
+		Integer fetchSize = queryParameters.getRowSelection() != null ? queryParameters.getRowSelection().getFetchSize() : null;
+		return new ResultRows( session, tuples, fetchSize != null && fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE );
+	}
 
-			if ( entry.length == 1 ) {
-				results.add( entry[0] );
-			}
-			else {
-				results.add( entry );
-			}
+	private Object[] toRow(SessionImplementor session, Tuple tuple) {
+		Object[] row = new Object[queryReturnTypes.length];
+
+		int i = 0;
+		for ( Type type : queryReturnTypes ) {
+			GridType gridType = typeTranslator.getType( type );
+			row[i] = gridType.nullSafeGet( tuple, scalarColumns.get( i ), session, null );
+			i++;
 		}
 
-		return results;
+		return row;
 	}
 
 	private TupleBasedEntityLoader getLoader(SessionImplementor session, Class<?> entityClass) {
@@ -130,6 +128,79 @@ private TupleBasedEntityLoader getLoader(SessionImplementor session, Class<?> en
 		return loader;
 	}
 
+	/**
+	 * The rows of a query result, read from the datastore in chunks of the fetch size. When selecting entities, the
+	 * entities of a chunk are loaded at once, so the tuples of at most one chunk are kept in memory.
+	 */
+	private class ResultRows implements ClosableIterator<Object[]> {
+
+		private final SessionImplementor session;
+		private final ClosableIterator<Tuple> tuples;
+		private final int fetchSize;
+		private Iterator<Object[]> chunk = Collections.<Object[]>emptyList().iterator();
+
+		public ResultRows(SessionImplementor session, ClosableIterator<Tuple> tuples, int fetchSize) {
+			this.session = session;
+			this.tuples = tuples;
+			this.fetchSize = fetchSize;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if ( !chunk.hasNext() ) {
+				chunk = nextChunk();
+			}
+			return chunk.hasNext();
+		}
+
+		@Override
+		public Object[] next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			return chunk.next();
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException( "Not supported" );
+		}
+
+		@Override
+		public void close() {
+			tuples.close();
+		}
+
+		private Iterator<Object[]> nextChunk() {
+			List<Tuple> chunkTuples = new ArrayList<>( fetchSize );
+			while ( chunkTuples.size() < fetchSize && tuples.hasNext() ) {
+				chunkTuples.add( tuples.next() );
+			}
+
+			List<Object[]> rows = new ArrayList<>( chunkTuples.size() );
+			if ( chunkTuples.isEmpty() ) {
+				return rows.iterator();
+			}
+
+			if ( hasScalars ) {
+				for ( Tuple tuple : chunkTuples ) {
+					rows.add( toRow( session, tuple ) );
+				}
+			}
+			else {
+				// At the moment we only support the case where one entity type is returned
+				TupleBasedEntityLoader loader = getLoader( session, queryReturnTypes[0].getReturnedClass() );
+				OgmLoadingContext ogmLoadingContext = new OgmLoadingContext();
+				ogmLoadingContext.setTuples( chunkTuples );
+				for ( Object entity : loader.loadEntitiesFromTuples( session, LockOptions.NONE, ogmLoadingContext ) ) {
+					rows.add( new Object[] { entity } );
+				}
+			}
+
+			return rows.iterator();
+		}
+	}
+
 	/**
 	 * Extracted as separate class for the sole purpose of capturing the type parameter {@code T} without exposing it to
 	 * the callers which don't actually need it.
@@ -0,0 +1,64 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.util.NoSuchElementException;
+
+import org.hibernate.engine.HibernateIterator;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+
+/**
+ * Iterator over the results of a query, as returned by {@link OgmQueryLoader}. The rows are read from the datastore
+ * while iterating; the underlying query results are closed once all rows have been read or when
+ * {@link org.hibernate.Hibernate#close(java.util.Iterator)} is invoked.
+ * <p>
+ * As with Hibernate ORM, a row made of a single element is returned as that element, otherwise as an array.
+ */
+public class OgmQueryResultsIterator implements HibernateIterator {
+
+	private final ClosableIterator<Object[]> rows;
+	private boolean closed;
+
+	public OgmQueryResultsIterator(ClosableIterator<Object[]> rows) {
+		this.rows = rows;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( closed ) {
+			return false;
+		}
+		if ( !rows.hasNext() ) {
+			close();
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public Object next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+
+		Object[] row = rows.next();
+		return row.length == 1 ? row[0] : row;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException( "Not supported" );
+	}
+
+	@Override
+	public void close() {
+		if ( !closed ) {
+			closed = true;
+			rows.close();
+		}
+	}
+}
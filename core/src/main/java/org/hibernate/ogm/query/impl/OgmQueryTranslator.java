@@ -68,8 +68,8 @@ public class OgmQueryTranslator extends LegacyParserBridgeQueryTranslator {
 	private final QueryParserService queryParser;
 
 	/**
-	 * The query loader in case the dialect supports parameterized queries; We can re-execute it then with different
-	 * parameter values.
+	 * The query loader in case the dialect supports parameterized queries and the query could be parameterized; We can
+	 * re-execute it then with different parameter values.
 	 */
 	private OgmQueryLoader loader;
 
@@ -85,9 +85,8 @@ public class OgmQueryTranslator extends LegacyParserBridgeQueryTranslator {
 	private EntityMetadataInformation singleEntityMetadataInformation;
 
 	/**
-	 * Not all stores support parameterized queries. As a temporary measure, we therefore cache created queries per set
-	 * of parameter values. At one point, this should be replaced by caching the AST after validation but before the
-	 * actual Lucene query is created.
+	 * Not all stores support parameterized queries, and some queries cannot be parameterized. As a fallback, we
+	 * therefore cache created queries per set of parameter values.
 	 */
 	private final ConcurrentMap<CacheKey, QueryParsingResult> queryCache;
 
@@ -134,6 +133,11 @@ private <T> OgmQueryLoader getLoader(QueryParameters queryParameters) {
 				? getQuery( queryParameters )
 				: queryParser.parseQuery( sessionFactory, query );
 
+		// the query cannot be parameterized, it will be parsed for each set of parameter values
+		if ( queryParsingResult == null ) {
+			return null;
+		}
+
 		BackendQuery<T> query = new BackendQuery<T>( (T) queryParsingResult.getQueryObject(), singleEntityMetadataInformation );
 
 		return new OgmQueryLoader( delegate, sessionFactory, selectClause, query, queryParsingResult.getColumnNames() );
@@ -196,12 +200,14 @@ private Map<String, Object> getNamedParameterValuesConvertedByGridType(QueryPara
 
 	@Override
 	public Iterator<?> iterate(QueryParameters queryParameters, EventSource session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( queryParameters );
+		return loaderToUse.iterate( queryParameters, session );
 	}
 
 	@Override
 	public ScrollableResults scroll(QueryParameters queryParameters, SessionImplementor session) throws HibernateException {
-		throw new UnsupportedOperationException( "Not yet implemented" );
+		OgmQueryLoader loaderToUse = loader != null ? loader : getLoader( queryParameters );
+		return loaderToUse.scroll( queryParameters, session );
 	}
 
 	@Override
@@ -0,0 +1,251 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.util.impl.Log;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.type.Type;
+
+/**
+ * {@link ScrollableResults} over the rows of a query, as returned by {@link OgmQueryLoader}.
+ * <p>
+ * The rows are read from the datastore while scrolling, so only forward scrolling is supported.
+ *
+ * @see OgmQueryLoader#scroll(org.hibernate.engine.spi.QueryParameters, org.hibernate.engine.spi.SessionImplementor)
+ */
+public class OgmScrollableResults implements ScrollableResults {
+
+	private static final Log log = LoggerFactory.make();
+
+	private final ClosableIterator<Object[]> rows;
+	private final Type[] types;
+
+	private Object[] currentRow;
+	private int rowNumber = -1;
+	private boolean closed;
+
+	public OgmScrollableResults(ClosableIterator<Object[]> rows, Type[] types) {
+		this.rows = rows;
+		this.types = types;
+	}
+
+	@Override
+	public boolean next() {
+		if ( !closed && rows.hasNext() ) {
+			currentRow = rows.next();
+			rowNumber++;
+			return true;
+		}
+
+		currentRow = null;
+		close();
+		return false;
+	}
+
+	@Override
+	public boolean scroll(int positions) {
+		if ( positions < 0 ) {
+			throw log.scrollingBackwardNotSupported( "scroll(" + positions + ")" );
+		}
+
+		boolean hasRow = currentRow != null;
+		for ( int i = 0; i < positions; i++ ) {
+			hasRow = next();
+			if ( !hasRow ) {
+				break;
+			}
+		}
+		return hasRow;
+	}
+
+	@Override
+	public boolean first() {
+		if ( rowNumber <= 0 ) {
+			return rowNumber == 0 || next();
+		}
+		throw log.scrollingBackwardNotSupported( "first()" );
+	}
+
+	@Override
+	public boolean previous() {
+		throw log.scrollingBackwardNotSupported( "previous()" );
+	}
+
+	@Override
+	public boolean last() {
+		throw log.scrollingBackwardNotSupported( "last()" );
+	}
+
+	@Override
+	public void beforeFirst() {
+		if ( rowNumber >= 0 ) {
+			throw log.scrollingBackwardNotSupported( "beforeFirst()" );
+		}
+	}
+
+	@Override
+	public void afterLast() {
+		while ( next() ) {
+			// skip the remaining rows
+		}
+	}
+
+	@Override
+	public boolean isFirst() {
+		return currentRow != null && rowNumber == 0;
+	}
+
+	@Override
+	public boolean isLast() {
+		return currentRow != null && !rows.hasNext();
+	}
+
+	@Override
+	public int getRowNumber() {
+		return currentRow != null ? rowNumber : -1;
+	}
+
+	@Override
+	public boolean setRowNumber(int rowNumber) {
+		if ( rowNumber < 0 ) {
+			throw log.scrollingBackwardNotSupported( "setRowNumber(" + rowNumber + ")" );
+		}
+		return scroll( rowNumber - this.rowNumber );
+	}
+
+	@Override
+	public void close() {
+		if ( !closed ) {
+			closed = true;
+			rows.close();
+		}
+	}
+
+	@Override
+	public Object[] get() {
+		if ( currentRow == null ) {
+			throw log.notPositionedOnARow();
+		}
+		return currentRow;
+	}
+
+	@Override
+	public Object get(int col) {
+		return get()[col];
+	}
+
+	@Override
+	public Type getType(int i) {
+		return types[i];
+	}
+
+	@Override
+	public Integer getInteger(int col) {
+		return (Integer) get( col );
+	}
+
+	@Override
+	public Long getLong(int col) {
+		return (Long) get( col );
+	}
+
+	@Override
+	public Float getFloat(int col) {
+		return (Float) get( col );
+	}
+
+	@Override
+	public Boolean getBoolean(int col) {
+		return (Boolean) get( col );
+	}
+
+	@Override
+	public Double getDouble(int col) {
+		return (Double) get( col );
+	}
+
+	@Override
+	public Short getShort(int col) {
+		return (Short) get( col );
+	}
+
+	@Override
+	public Byte getByte(int col) {
+		return (Byte) get( col );
+	}
+
+	@Override
+	public Character getCharacter(int col) {
+		return (Character) get( col );
+	}
+
+	@Override
+	public byte[] getBinary(int col) {
+		return (byte[]) get( col );
+	}
+
+	@Override
+	public String getText(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public Blob getBlob(int col) {
+		return (Blob) get( col );
+	}
+
+	@Override
+	public Clob getClob(int col) {
+		return (Clob) get( col );
+	}
+
+	@Override
+	public String getString(int col) {
+		return (String) get( col );
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int col) {
+		return (BigDecimal) get( col );
+	}
+
+	@Override
+	public BigInteger getBigInteger(int col) {
+		return (BigInteger) get( col );
+	}
+
+	@Override
+	public Date getDate(int col) {
+		return (Date) get( col );
+	}
+
+	@Override
+	public Locale getLocale(int col) {
+		return (Locale) get( col );
+	}
+
+	@Override
+	public Calendar getCalendar(int col) {
+		return (Calendar) get( col );
+	}
+
+	@Override
+	public TimeZone getTimeZone(int col) {
+		return (TimeZone) get( col );
+	}
+}
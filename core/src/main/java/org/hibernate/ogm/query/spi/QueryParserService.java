@@ -51,7 +51,8 @@ public interface QueryParserService extends Service {
 	 *
 	 * @param sessionFactory the session factory
 	 * @param queryString the query to parse
-	 * @return the parsed query
+	 * @return the parsed query or {@code null} if this specific query cannot be parameterized, in which case it is
+	 * parsed using {@link #parseQuery(SessionFactoryImplementor, String, Map)} for each set of parameter values
 	 */
 	QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString);
 }
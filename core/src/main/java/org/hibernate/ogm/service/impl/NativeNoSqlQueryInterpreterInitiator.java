@@ -6,17 +6,24 @@
  */
 package org.hibernate.ogm.service.impl;
 
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
 import org.hibernate.ogm.query.impl.NativeNoSqlQueryInterpreter;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 
 /**
  * Contributes the {@link NativeNoSqlQueryInterpreter}. No service implementation will be registered in case the current
  * grid dialect does not support the execution of native queries.
+ * <p>
+ * The number of parsed native queries kept by the interpreter is controlled by
+ * {@link AvailableSettings#QUERY_PLAN_CACHE_MAX_SIZE}, as for the query plans of Hibernate ORM.
  *
  * @author Gunnar Morling
  */
@@ -41,7 +48,16 @@ private NativeQueryInterpreter getParameterMetadataRecognizer(ServiceRegistryImp
 		QueryableGridDialect<?> queryableGridDialect = registry.getService( QueryableGridDialect.class );
 
 		if ( queryableGridDialect != null ) {
-			return new NativeNoSqlQueryInterpreter( queryableGridDialect );
+			ConfigurationPropertyReader propertyReader = new ConfigurationPropertyReader(
+					registry.getService( ConfigurationService.class ).getSettings(),
+					registry.getService( ClassLoaderService.class )
+			);
+
+			int parsedQueryCacheMaxSize = propertyReader.property( AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, int.class )
+					.withDefault( NativeNoSqlQueryInterpreter.DEFAULT_PARSED_QUERY_CACHE_MAX_SIZE )
+					.getValue();
+
+			return new NativeNoSqlQueryInterpreter( queryableGridDialect, parsedQueryCacheMaxSize );
 		}
 		else {
 			return null;
@@ -295,4 +295,18 @@ public interface Log extends BasicLogger {
 
 	@Message(id = 87, value = "The tuple context is not available, probably because we are dealing with more than a single entity type")
 	HibernateException tupleContextNotAvailable();
+
+	@Message(id = 88, value = "Query results can only be scrolled forward; '%1$s' is not supported")
+	HibernateException scrollingBackwardNotSupported(String operation);
+
+	@Message(id = 89, value = "The query results are not positioned on a row")
+	HibernateException notPositionedOnARow();
+
+	@Message(id = 90, value = "The batch size of stateless sessions must be a positive integer. Found '%1$s'.")
+	HibernateException illegalStatelessSessionBatchSizeValue(int value);
+
+	@LogMessage(level = INFO)
+	@Message(id = 91, value = "Entity type %s has a natural id which the current grid dialect cannot look up directly. "
+			+ "Natural id look-ups will go through all the entities of this type.")
+	void naturalIdLookUpRequiresFullScan(String entityName);
 }
@@ -75,6 +75,11 @@ public List<String> getSelectableColumns() {
 			throw LOG.tupleContextNotAvailable();
 		}
 
+		@Override
+		public List<String> getNaturalIdColumns() {
+			throw LOG.tupleContextNotAvailable();
+		}
+
 		@Override
 		public String getRole(String column) {
 			throw LOG.tupleContextNotAvailable();
@@ -19,6 +19,7 @@
 import org.hibernate.Session;
 import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.utils.InvokedOperationsLoggingDialect;
@@ -33,7 +34,7 @@
 public class BatchFetchingTest extends OgmTestCase {
 	@Override
 	protected Class<?>[] getAnnotatedClasses() {
-		return new Class<?>[] { Tower.class, Floor.class, CondominiumBuilding.class, Condominium.class };
+		return new Class<?>[] { Tower.class, Floor.class, CondominiumBuilding.class, Condominium.class, Castle.class };
 	}
 
 	@Test
@@ -163,6 +164,43 @@ public void testMultigetIsAppliedWithoutExplicitBatchSizeGiven() throws Exceptio
 		session.close();
 	}
 
+	@Test
+	public void testLoadCollectionsOfSeveralOwnersByBatch() throws Exception {
+		Session session = openSession();
+		session.beginTransaction();
+		session.persist( new Castle( "castle-1", "Chambord", "hall", "kitchen" ) );
+		session.persist( new Castle( "castle-2", "Chenonceau", "dungeon" ) );
+		session.persist( new Castle( "castle-3", "Amboise", "chapel", "library", "armory" ) );
+		session.getTransaction().commit();
+		session.clear();
+
+		session.beginTransaction();
+		Castle castle1 = session.get( Castle.class, "castle-1" );
+		Castle castle2 = session.get( Castle.class, "castle-2" );
+		Castle castle3 = session.get( Castle.class, "castle-3" );
+
+		getOperationsLogger().reset();
+		assertThat( castle1.getRooms() ).containsOnly( "hall", "kitchen" );
+
+		// if the dialect reads several associations at once, the rooms of all the castles are loaded together
+		if ( isMultigetAssociationDialect() ) {
+			assertThat( getOperations() ).containsExactly( "getAssociations" );
+			assertTrue( Hibernate.isInitialized( castle2.getRooms() ) );
+			assertTrue( Hibernate.isInitialized( castle3.getRooms() ) );
+		}
+		else {
+			assertThat( getOperations() ).containsExactly( "getAssociation" );
+		}
+		assertThat( castle2.getRooms() ).containsOnly( "dungeon" );
+		assertThat( castle3.getRooms() ).containsOnly( "chapel", "library", "armory" );
+
+		session.delete( castle1 );
+		session.delete( castle2 );
+		session.delete( castle3 );
+		session.getTransaction().commit();
+		session.close();
+	}
+
 	private void cleanTower(Session session, Tower tower) {
 		session.beginTransaction();
 		session.delete( session.get( Tower.class, tower.getId() ) );
@@ -221,6 +259,11 @@ private boolean isMultigetDialect() {
 		return GridDialects.hasFacet( gridDialect, MultigetGridDialect.class );
 	}
 
+	private boolean isMultigetAssociationDialect() {
+		GridDialect gridDialect = getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+		return GridDialects.hasFacet( gridDialect, MultigetAssociationGridDialect.class );
+	}
+
 	@Override
 	protected void configure(Map<String, Object> cfg) {
 		cfg.put( OgmProperties.GRID_DIALECT, InvokedOperationsLoggingDialect.class );
@@ -0,0 +1,64 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.batchfetching;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OrderColumn;
+
+import org.hibernate.annotations.BatchSize;
+
+@Entity
+public class Castle {
+
+	private String id;
+	private String name;
+	private List<String> rooms = new ArrayList<>();
+
+	Castle() {
+	}
+
+	public Castle(String id, String name, String... rooms) {
+		this.id = id;
+		this.name = name;
+		for ( String room : rooms ) {
+			this.rooms.add( room );
+		}
+	}
+
+	@Id
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	@ElementCollection
+	@OrderColumn(name = "roomNo")
+	@BatchSize(size = 10)
+	public List<String> getRooms() {
+		return rooms;
+	}
+
+	public void setRooms(List<String> rooms) {
+		this.rooms = rooms;
+	}
+}
@@ -223,6 +223,12 @@ public void onRollbackPresentsAppliedUpdateOperations() throws Exception {
 		}
 		else {
 			GridDialectOperation appliedOperation = appliedOperations.next();
+			if ( currentDialectHasFacet( BatchableGridDialect.class ) ) {
+				assertThat( appliedOperation ).isInstanceOf( ExecuteBatch.class );
+				Iterator<GridDialectOperation> batchedOperations = appliedOperation.as( ExecuteBatch.class ).getOperations().iterator();
+				appliedOperation = batchedOperations.next();
+				assertThat( batchedOperations.hasNext() ).isFalse();
+			}
 			assertThat( appliedOperation ).isInstanceOf( InsertOrUpdateTuple.class );
 			InsertOrUpdateTuple insertOrUpdate = appliedOperation.as( InsertOrUpdateTuple.class );
 			assertThat( insertOrUpdate.getEntityKey().getTable() ).isEqualTo( "Shipment" );
@@ -333,8 +339,8 @@ public void onFailedOperationPresentsFailedAndAppliedOperationsAndException() {
 		FailedGridDialectOperationContext invocation = onFailedOperationInvocations.next();
 		assertThat( onFailedOperationInvocations.hasNext() ).isFalse();
 
-		// then expect the failed op
-		if ( currentDialectHasFacet( BatchableGridDialect.class ) ) {
+		// then expect the failed op; with LOOK_UP, the duplicated id is detected before the insert is added to the batch
+		if ( currentDialectHasFacet( BatchableGridDialect.class ) && !currentDialectUsesLookupDuplicatePreventionStrategy() ) {
 			assertThat( invocation.getFailedOperation() ).isInstanceOf( ExecuteBatch.class );
 		}
 		else {
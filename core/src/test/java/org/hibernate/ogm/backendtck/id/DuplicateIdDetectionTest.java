@@ -81,6 +81,50 @@ public void cannotInsertSameEntityTwice() throws Exception {
 		em.getTransaction().commit();
 	}
 
+	@Test
+	public void cannotInsertSameEntityTwiceAmongSeveralInserts() throws Exception {
+		em.getTransaction().begin();
+
+		// given
+		MakeupArtist wibke = new MakeupArtist( "wibke", "halloween" );
+		em.persist( wibke );
+
+		em.getTransaction().commit();
+		em.clear();
+
+		em.getTransaction().begin();
+
+		// when
+		em.persist( new MakeupArtist( "anna", "natural" ) );
+		em.persist( new MakeupArtist( "wibke", "glamorous" ) );
+		em.persist( new MakeupArtist( "lena", "gothic" ) );
+
+		try {
+			em.getTransaction().commit();
+			fail( "Expected exception wasn't raised" );
+		}
+		catch ( Exception e ) {
+			// then
+			assertThat( e.getCause().getMessage() ).matches( ".*OGM000067.*" );
+		}
+
+		em.clear();
+
+		em.getTransaction().begin();
+		MakeupArtist loadedMakeupArtist = em.find( MakeupArtist.class, "wibke" );
+		assertThat( loadedMakeupArtist.getFavoriteStyle() ).describedAs( "Second insert should not be applied" )
+				.isEqualTo( "halloween" );
+
+		// depending on the datastore, the other entities may have been inserted before the duplicate was detected
+		for ( String name : new String[] { "wibke", "anna", "lena" } ) {
+			MakeupArtist makeupArtist = em.find( MakeupArtist.class, name );
+			if ( makeupArtist != null ) {
+				em.remove( makeupArtist );
+			}
+		}
+		em.getTransaction().commit();
+	}
+
 	@Test
 	public void cannotInsertSameEntityUsingCompositeKeyTwice() throws Exception {
 		em.getTransaction().begin();
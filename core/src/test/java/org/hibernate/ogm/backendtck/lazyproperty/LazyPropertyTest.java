@@ -0,0 +1,100 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.lazyproperty;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the loading of entities with lazy properties, which are only read once accessed.
+ */
+public class LazyPropertyTest extends OgmTestCase {
+
+	@Before
+	public void insertEntities() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Manuscript( "manuscript-1", "Ulysses", "Stately, plump Buck Mulligan came from the stairhead" ) );
+		transaction.commit();
+		session.close();
+	}
+
+	@After
+	public void deleteEntities() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.delete( session.get( Manuscript.class, "manuscript-1" ) );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testLazyPropertyIsInitializedWhenAccessed() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		Manuscript manuscript = session.get( Manuscript.class, "manuscript-1" );
+		assertThat( manuscript.getTitle() ).isEqualTo( "Ulysses" );
+		assertThat( Hibernate.isPropertyInitialized( manuscript, "title" ) ).isTrue();
+		assertThat( Hibernate.isPropertyInitialized( manuscript, "text" ) ).isFalse();
+
+		assertThat( manuscript.getText() ).isEqualTo( "Stately, plump Buck Mulligan came from the stairhead" );
+		assertThat( Hibernate.isPropertyInitialized( manuscript, "text" ) ).isTrue();
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testUpdateKeepsUninitializedLazyProperty() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Manuscript manuscript = session.get( Manuscript.class, "manuscript-1" );
+		manuscript.setTitle( "Ulysses, first edition" );
+		transaction.commit();
+		session.close();
+
+		session = openSession();
+		transaction = session.beginTransaction();
+		manuscript = session.get( Manuscript.class, "manuscript-1" );
+		assertThat( manuscript.getTitle() ).isEqualTo( "Ulysses, first edition" );
+		assertThat( manuscript.getText() ).isEqualTo( "Stately, plump Buck Mulligan came from the stairhead" );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testUpdateLazyProperty() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Manuscript manuscript = session.get( Manuscript.class, "manuscript-1" );
+		manuscript.setText( "Introibo ad altare Dei" );
+		transaction.commit();
+		session.close();
+
+		session = openSession();
+		transaction = session.beginTransaction();
+		manuscript = session.get( Manuscript.class, "manuscript-1" );
+		assertThat( Hibernate.isPropertyInitialized( manuscript, "text" ) ).isFalse();
+		assertThat( manuscript.getText() ).isEqualTo( "Introibo ad altare Dei" );
+		assertThat( manuscript.getTitle() ).isEqualTo( "Ulysses" );
+		transaction.commit();
+		session.close();
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Manuscript.class };
+	}
+}
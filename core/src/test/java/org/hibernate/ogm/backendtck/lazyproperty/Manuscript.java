@@ -0,0 +1,90 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.lazyproperty;
+
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.Transient;
+
+import org.hibernate.bytecode.internal.javassist.FieldHandled;
+import org.hibernate.bytecode.internal.javassist.FieldHandler;
+
+/**
+ * An entity with a lazy property. It implements the contract of classes instrumented with Javassist by hand, so it
+ * can be used without running the bytecode instrumentation as part of the build.
+ */
+@Entity
+public class Manuscript implements FieldHandled {
+
+	@Id
+	private String id;
+
+	private String title;
+
+	@Basic(fetch = FetchType.LAZY)
+	private String text;
+
+	@Transient
+	private FieldHandler fieldHandler;
+
+	Manuscript() {
+	}
+
+	public Manuscript(String id, String title, String text) {
+		this.id = id;
+		this.title = title;
+		this.text = text;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		if ( fieldHandler != null ) {
+			title = (String) fieldHandler.readObject( this, "title", title );
+		}
+		return title;
+	}
+
+	public void setTitle(String title) {
+		if ( fieldHandler != null ) {
+			this.title = (String) fieldHandler.writeObject( this, "title", this.title, title );
+		}
+		else {
+			this.title = title;
+		}
+	}
+
+	public String getText() {
+		if ( fieldHandler != null ) {
+			text = (String) fieldHandler.readObject( this, "text", text );
+		}
+		return text;
+	}
+
+	public void setText(String text) {
+		if ( fieldHandler != null ) {
+			this.text = (String) fieldHandler.writeObject( this, "text", this.text, text );
+		}
+		else {
+			this.text = text;
+		}
+	}
+
+	@Override
+	public void setFieldHandler(FieldHandler handler) {
+		this.fieldHandler = handler;
+	}
+
+	@Override
+	public FieldHandler getFieldHandler() {
+		return fieldHandler;
+	}
+}
@@ -10,6 +10,8 @@
 import static org.hibernate.ogm.utils.GridDialectType.MONGODB;
 import static org.hibernate.ogm.utils.GridDialectType.NEO4J_EMBEDDED;
 import static org.hibernate.ogm.utils.GridDialectType.NEO4J_REMOTE;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -64,6 +66,46 @@ public void testSimpleEntityMassIndexing() throws Exception {
 		}
 	}
 
+	@Test
+	@SkipByGridDialect(value = { NEO4J_EMBEDDED, NEO4J_REMOTE }, comment = "Neo4j is not compatible with HSEARCH 5")
+	public void testMassIndexingWithSeveralThreadsAndBatches() throws Exception {
+		List<String> ids = new ArrayList<String>();
+		{
+			Session session = openSession();
+			Transaction transaction = session.beginTransaction();
+			for ( int i = 0; i < 50; i++ ) {
+				Insurance insurance = new Insurance();
+				insurance.setName( "Policy " + i );
+				session.persist( insurance );
+				ids.add( insurance.getId() );
+			}
+			transaction.commit();
+			session.clear();
+			session.close();
+		}
+		{
+			purgeAll( Insurance.class );
+			FullTextSession session = Search.getFullTextSession( openSession() );
+			session.createIndexer( Insurance.class ).threadsToLoadObjects( 4 ).batchSizeToLoadObjects( 7 ).purgeAllOnStart( true ).startAndWait();
+			session.close();
+		}
+		{
+			FullTextSession session = Search.getFullTextSession( openSession() );
+			QueryBuilder queryBuilder = session.getSearchFactory().buildQueryBuilder().forEntity( Insurance.class ).get();
+			Query luceneQuery = queryBuilder.keyword().onField( "name" ).matching( "policy" ).createQuery();
+			Transaction transaction = session.beginTransaction();
+			@SuppressWarnings("unchecked")
+			List<Insurance> list = session.createFullTextQuery( luceneQuery ).list();
+			assertThat( list ).hasSize( 50 );
+			for ( String id : ids ) {
+				session.delete( session.load( Insurance.class, id ) );
+			}
+			transaction.commit();
+			session.clear();
+			session.close();
+		}
+	}
+
 	@Test
 	@SkipByGridDialect(value = { MONGODB, NEO4J_EMBEDDED, NEO4J_REMOTE }, comment = "Uses embedded key which is currently not supported by the db query parsers")
 	public void testEntityWithCompositeIdMassIndexing() throws Exception {
@@ -0,0 +1,49 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.naturalid;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.NaturalId;
+
+@Entity
+public class Account {
+
+	@Id
+	private String id;
+
+	@NaturalId(mutable = true)
+	private long number;
+
+	private String holder;
+
+	Account() {
+	}
+
+	public Account(String id, long number, String holder) {
+		this.id = id;
+		this.number = number;
+		this.holder = holder;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public long getNumber() {
+		return number;
+	}
+
+	public void setNumber(long number) {
+		this.number = number;
+	}
+
+	public String getHolder() {
+		return holder;
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.naturalid;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.stat.Statistics;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the look-up of entities by natural id.
+ */
+public class NaturalIdTest extends OgmTestCase {
+
+	private Statistics statistics;
+
+	@Before
+	public void insertEntities() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Subscriber( "subscriber-1", "alice@example.com", "Alice" ) );
+		session.persist( new Subscriber( "subscriber-2", "bob@example.com", "Bob" ) );
+		session.persist( new Track( "track-1", "Kind of Blue", 1, "So What" ) );
+		session.persist( new Track( "track-2", "Kind of Blue", 2, "Freddie Freeloader" ) );
+		session.persist( new Track( "track-3", "Blue Train", 1, "Blue Train" ) );
+		session.persist( new Account( "account-1", 1001L, "Alice" ) );
+		session.persist( new Account( "account-2", 1002L, "Bob" ) );
+		transaction.commit();
+		session.close();
+
+		statistics = sessionFactory.getStatistics();
+		statistics.setStatisticsEnabled( true );
+		statistics.clear();
+	}
+
+	@After
+	public void deleteEntities() {
+		statistics.setStatisticsEnabled( false );
+
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		for ( String id : new String[] { "subscriber-1", "subscriber-2" } ) {
+			session.delete( session.load( Subscriber.class, id ) );
+		}
+		for ( String id : new String[] { "track-1", "track-2", "track-3" } ) {
+			session.delete( session.load( Track.class, id ) );
+		}
+		for ( String id : new String[] { "account-1", "account-2" } ) {
+			session.delete( session.load( Account.class, id ) );
+		}
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testLoadBySimpleNaturalId() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		Subscriber bob = session.bySimpleNaturalId( Subscriber.class ).load( "bob@example.com" );
+		assertThat( bob.getId() ).isEqualTo( "subscriber-2" );
+		assertThat( bob.getName() ).isEqualTo( "Bob" );
+		assertThat( statistics.getNaturalIdQueryExecutionCount() ).isEqualTo( 1 );
+
+		// The natural id is now resolved from the session
+		assertThat( session.bySimpleNaturalId( Subscriber.class ).load( "bob@example.com" ) ).isSameAs( bob );
+		assertThat( statistics.getNaturalIdQueryExecutionCount() ).isEqualTo( 1 );
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testLoadByNaturalId() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		Track track = session.byNaturalId( Track.class )
+				.using( "album", "Kind of Blue" )
+				.using( "number", 2 )
+				.load();
+		assertThat( track.getId() ).isEqualTo( "track-2" );
+		assertThat( track.getTitle() ).isEqualTo( "Freddie Freeloader" );
+
+		track = session.byNaturalId( Track.class )
+				.using( "album", "Blue Train" )
+				.using( "number", 1 )
+				.load();
+		assertThat( track.getId() ).isEqualTo( "track-3" );
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testLoadByLongNaturalId() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		Account account = session.bySimpleNaturalId( Account.class ).load( 1002L );
+		assertThat( account.getId() ).isEqualTo( "account-2" );
+		assertThat( account.getHolder() ).isEqualTo( "Bob" );
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testLoadByUpdatedNaturalId() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Account account = session.get( Account.class, "account-1" );
+		account.setNumber( 1003L );
+		transaction.commit();
+		session.close();
+
+		session = openSession();
+		transaction = session.beginTransaction();
+
+		assertThat( session.bySimpleNaturalId( Account.class ).load( 1003L ).getId() ).isEqualTo( "account-1" );
+		assertThat( session.bySimpleNaturalId( Account.class ).load( 1001L ) ).isNull();
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testLoadByUnknownNaturalId() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		assertThat( session.bySimpleNaturalId( Subscriber.class ).load( "carol@example.com" ) ).isNull();
+		assertThat( session.byNaturalId( Track.class ).using( "album", "Blue Train" ).using( "number", 2 ).load() ).isNull();
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void testLoadNaturalIdOfEntityPersistedInSession() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		Subscriber carol = new Subscriber( "subscriber-3", "carol@example.com", "Carol" );
+		session.persist( carol );
+
+		// Resolved from the session, without looking up the datastore
+		assertThat( session.bySimpleNaturalId( Subscriber.class ).load( "carol@example.com" ) ).isSameAs( carol );
+		assertThat( statistics.getNaturalIdQueryExecutionCount() ).isEqualTo( 0 );
+
+		session.delete( carol );
+		transaction.commit();
+		session.close();
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Subscriber.class, Track.class, Account.class };
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.naturalid;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.NaturalId;
+
+@Entity
+public class Track {
+
+	@Id
+	private String id;
+
+	@NaturalId
+	private String album;
+
+	@NaturalId
+	private Integer number;
+
+	private String title;
+
+	Track() {
+	}
+
+	public Track(String id, String album, Integer number, String title) {
+		this.id = id;
+		this.album = album;
+		this.number = number;
+		this.title = title;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getAlbum() {
+		return album;
+	}
+
+	public Integer getNumber() {
+		return number;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+}
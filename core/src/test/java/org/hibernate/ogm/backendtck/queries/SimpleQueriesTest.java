@@ -17,12 +17,15 @@
 import java.util.Calendar;
 import java.util.Date;
 import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.TimeZone;
 
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.Query;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
@@ -712,6 +715,48 @@ public static void insertTestEntities() throws Exception {
 		session.close();
 	}
 
+	@Test
+	public void testScrollQuery() throws Exception {
+		ScrollableResults results = session.createQuery( "from Hypothesis h" )
+				.setFetchSize( 3 )
+				.scroll( ScrollMode.FORWARD_ONLY );
+
+		List<String> ids = new ArrayList<String>();
+		while ( results.next() ) {
+			ids.add( ( (Hypothesis) results.get()[0] ).getId() );
+			if ( ids.size() % 3 == 0 ) {
+				session.clear();
+			}
+		}
+		results.close();
+
+		assertThat( ids ).containsOnly( "13", "14", "15", "16", "17", "18", "19", "20" );
+	}
+
+	@Test
+	public void testScrollProjectionQuery() throws Exception {
+		ScrollableResults results = session.createQuery( "select h.id, h.description from Hypothesis h where h.id = 16" )
+				.scroll( ScrollMode.FORWARD_ONLY );
+
+		assertThat( results.next() ).isTrue();
+		assertThat( results.get() ).containsOnly( "16", "stuff works" );
+		assertThat( results.next() ).isFalse();
+		results.close();
+	}
+
+	@Test
+	public void testIterateQuery() throws Exception {
+		Iterator<?> results = session.createQuery( "from Helicopter" ).iterate();
+
+		int count = 0;
+		while ( results.hasNext() ) {
+			assertThat( results.next() ).isInstanceOf( Helicopter.class );
+			count++;
+		}
+
+		assertThat( count ).isEqualTo( 5 );
+	}
+
 	private void assertQuery(final Session session, final int expectedSize, final Query testedQuery) {
 		List<?> list = testedQuery.list();
 		assertThat( list ).as( "Query failed" ).hasSize( expectedSize );
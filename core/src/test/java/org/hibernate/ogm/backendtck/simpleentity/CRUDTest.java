@@ -67,6 +67,34 @@ public void testSimpleCRUD() throws Exception {
 		session.close();
 	}
 
+	@Test
+	public void testUpdateAfterInsertWithinSameTransaction() throws Exception {
+		final Session session = openSession();
+
+		Transaction transaction = session.beginTransaction();
+		Hypothesis hyp = new Hypothesis();
+		hyp.setId( "1234567891" );
+		hyp.setDescription( "NP != P" );
+		session.persist( hyp );
+		session.flush();
+
+		hyp.setDescription( "P != NP" );
+		session.flush();
+
+		hyp.setDescription( "P = NP" );
+		transaction.commit();
+
+		session.clear();
+
+		transaction = session.beginTransaction();
+		Hypothesis loadedHyp = (Hypothesis) session.get( Hypothesis.class, hyp.getId() );
+		assertEquals( "Update after insert fails", hyp.getDescription(), loadedHyp.getDescription() );
+		session.delete( loadedHyp );
+		transaction.commit();
+
+		session.close();
+	}
+
 	private void performanceLoop() throws Exception {
 		long start = 0;
 		for ( int i = 0; i < Integer.MAX_VALUE; i++ ) {
@@ -0,0 +1,141 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.backendtck.simpleentity;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.utils.TestHelper.getNumberOfEntities;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.hibernatecore.impl.OgmStatelessSessionImpl;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.Test;
+
+/**
+ * Tests the basic operations of a {@link StatelessSession}.
+ */
+public class StatelessSessionTest extends OgmTestCase {
+
+	private static final int BATCH_SIZE = 10;
+
+	@Test
+	public void testInsertGetUpdateAndDelete() throws Exception {
+		StatelessSession session = sessionFactory.openStatelessSession();
+		try {
+			assertThat( session ).isInstanceOf( OgmStatelessSessionImpl.class );
+
+			Transaction transaction = session.beginTransaction();
+			Hypothesis hypothesis = new Hypothesis( "hyp-1" );
+			hypothesis.setDescription( "P != NP" );
+			hypothesis.setPosition( 1 );
+			assertThat( session.insert( hypothesis ) ).isEqualTo( "hyp-1" );
+			transaction.commit();
+
+			transaction = session.beginTransaction();
+			Hypothesis loaded = (Hypothesis) session.get( Hypothesis.class, "hyp-1" );
+			assertThat( loaded.getDescription() ).isEqualTo( "P != NP" );
+			assertThat( loaded.getPosition() ).isEqualTo( 1 );
+
+			// No first-level cache: each get returns a new instance
+			assertThat( session.get( Hypothesis.class, "hyp-1" ) ).isNotSameAs( loaded );
+
+			// No dirty checking: changes are only written on update
+			loaded.setDescription( "P = NP" );
+			transaction.commit();
+
+			transaction = session.beginTransaction();
+			assertThat( ( (Hypothesis) session.get( Hypothesis.class, "hyp-1" ) ).getDescription() ).isEqualTo( "P != NP" );
+			session.update( loaded );
+			transaction.commit();
+
+			transaction = session.beginTransaction();
+			assertThat( ( (Hypothesis) session.get( Hypothesis.class, "hyp-1" ) ).getDescription() ).isEqualTo( "P = NP" );
+			session.delete( loaded );
+			transaction.commit();
+
+			transaction = session.beginTransaction();
+			assertThat( session.get( Hypothesis.class, "hyp-1" ) ).isNull();
+			transaction.commit();
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@Test
+	public void testInsertWithGeneratedId() throws Exception {
+		StatelessSession session = sessionFactory.openStatelessSession();
+		try {
+			Transaction transaction = session.beginTransaction();
+			Helicopter helicopter = new Helicopter();
+			helicopter.setName( "Eurocopter" );
+			Serializable id = session.insert( helicopter );
+			transaction.commit();
+
+			assertThat( id ).isNotNull();
+			assertThat( (Object) helicopter.getUUID() ).isEqualTo( id );
+
+			transaction = session.beginTransaction();
+			Helicopter loaded = (Helicopter) session.get( Helicopter.class, id );
+			assertThat( loaded.getName() ).isEqualTo( "Eurocopter" );
+			session.delete( loaded );
+			transaction.commit();
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@Test
+	public void testInsertSeveralBatches() throws Exception {
+		int count = 2 * BATCH_SIZE + 5;
+
+		StatelessSession session = sessionFactory.withStatelessOptions().openStatelessSession();
+		try {
+			Transaction transaction = session.beginTransaction();
+			for ( int i = 0; i < count; i++ ) {
+				Hypothesis hypothesis = new Hypothesis( "hyp-" + i );
+				hypothesis.setPosition( i );
+				session.insert( hypothesis );
+			}
+
+			// Pending writes are executed before reading
+			assertThat( ( (Hypothesis) session.get( Hypothesis.class, "hyp-" + ( count - 1 ) ) ).getPosition() ).isEqualTo( count - 1 );
+			transaction.commit();
+
+			assertThat( getNumberOfEntities( sessionFactory ) ).isEqualTo( count );
+
+			transaction = session.beginTransaction();
+			for ( int i = 0; i < count; i++ ) {
+				session.delete( new Hypothesis( "hyp-" + i ) );
+			}
+			transaction.commit();
+		}
+		finally {
+			session.close();
+		}
+
+		assertThat( getNumberOfEntities( sessionFactory ) ).isEqualTo( 0 );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		cfg.put( OgmProperties.STATELESS_SESSION_BATCH_SIZE, BATCH_SIZE );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {
+				Hypothesis.class,
+				Helicopter.class
+		};
+	}
+}
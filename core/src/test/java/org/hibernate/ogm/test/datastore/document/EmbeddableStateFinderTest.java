@@ -8,6 +8,7 @@
 package org.hibernate.ogm.test.datastore.document;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -66,6 +67,11 @@ public List<String> getSelectableColumns() {
 				return results;
 			}
 
+			@Override
+			public List<String> getNaturalIdColumns() {
+				return Collections.emptyList();
+			}
+
 			@Override
 			public boolean isPartOfAssociation(String column) {
 				return false;
@@ -159,6 +159,49 @@ public void insertSearchUpdateDelete() throws Exception {
 		);
 	}
 
+	@Test
+	public void insertSeveralEntitiesLooksThemUpAtOnce() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		// insert
+		for ( int i = 1; i <= 3; i++ ) {
+			StockItem item = new StockItem();
+			item.setId( "item-" + i );
+			item.setItemName( "Iron " + i );
+			item.setCount( 10 );
+			session.persist( item );
+		}
+
+		transaction.commit();
+		session.clear();
+		transaction = session.beginTransaction();
+
+		// delete
+		for ( int i = 1; i <= 3; i++ ) {
+			session.delete( session.load( StockItem.class, "item-" + i ) );
+		}
+
+		transaction.commit();
+		session.close();
+
+		assertThat( getOperations() ).containsExactly(
+				"getTuples",
+				"createTuple",
+				"insertOrUpdateTuple",
+				"createTuple",
+				"insertOrUpdateTuple",
+				"createTuple",
+				"insertOrUpdateTuple",
+				"getTuple",
+				"getTuple",
+				"getTuple",
+				"removeTuple",
+				"removeTuple",
+				"removeTuple"
+		);
+	}
+
 	@Override
 	protected Class<?>[] getAnnotatedClasses() {
 		return new Class<?>[] { StockItem.class };
@@ -6,7 +6,10 @@
  */
 package org.hibernate.ogm.datastore.ehcache;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import net.sf.ehcache.Element;
@@ -16,6 +19,7 @@
 import org.hibernate.dialect.lock.OptimisticForceIncrementLockingStrategy;
 import org.hibernate.dialect.lock.OptimisticLockingStrategy;
 import org.hibernate.dialect.lock.PessimisticForceIncrementLockingStrategy;
+import org.hibernate.ogm.datastore.ehcache.dialect.impl.PendingCacheWrites;
 import org.hibernate.ogm.datastore.ehcache.dialect.impl.SerializableMapAssociationSnapshot;
 import org.hibernate.ogm.datastore.ehcache.impl.Cache;
 import org.hibernate.ogm.datastore.ehcache.impl.EhcacheDatastoreProvider;
@@ -25,6 +29,14 @@
 import org.hibernate.ogm.datastore.ehcache.persistencestrategy.impl.LocalCacheManager.KeyProcessor;
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
@@ -52,7 +64,7 @@
  * @param <AK> the association cache key type
  * @param <ISK> the identity source cache key type
  */
-public class EhcacheDialect<EK, AK, ISK> extends BaseGridDialect {
+public class EhcacheDialect<EK, AK, ISK> extends BaseGridDialect implements BatchableGridDialect, MultigetGridDialect {
 
 	EhcacheDatastoreProvider datastoreProvider;
 
@@ -85,6 +97,7 @@ else if ( lockMode == LockMode.OPTIMISTIC_FORCE_INCREMENT ) {
 
 	@Override
 	public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
+		executePendingOperations( key, tupleContext );
 		final Cache<EK> entityCache = getCacheManager().getEntityCache( key.getMetadata() );
 		final Element element = entityCache.get( getKeyProvider().getEntityCacheKey( key ) );
 		if ( element != null ) {
@@ -95,6 +108,27 @@ public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
 		}
 	}
 
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		for ( EntityKey key : keys ) {
+			executePendingOperations( key, tupleContext );
+		}
+
+		final Cache<EK> entityCache = getCacheManager().getEntityCache( keys[0].getMetadata() );
+		List<EK> cacheKeys = new ArrayList<EK>( keys.length );
+		for ( EntityKey key : keys ) {
+			cacheKeys.add( getKeyProvider().getEntityCacheKey( key ) );
+		}
+
+		Map<Object, Element> elements = entityCache.getAll( cacheKeys );
+		List<Tuple> tuples = new ArrayList<Tuple>( keys.length );
+		for ( EK cacheKey : cacheKeys ) {
+			Element element = elements.get( cacheKey );
+			tuples.add( element != null ? createTuple( element ) : null );
+		}
+		return tuples;
+	}
+
 	@SuppressWarnings("unchecked")
 	private Tuple createTuple(final Element element) {
 		return new Tuple( new MapTupleSnapshot( (Map<String, Object>) element.getObjectValue() ) );
@@ -107,20 +141,24 @@ public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
-		Cache<EK> entityCache = getCacheManager().getEntityCache( key.getMetadata() );
+		PendingCacheWrites<EK> writes = new PendingCacheWrites<EK>( getCacheManager().getEntityCache( key.getMetadata() ) );
+		insertOrUpdateTuple( key, tuple, writes );
+		writes.apply();
+	}
 
+	private void insertOrUpdateTuple(EntityKey key, Tuple tuple, PendingCacheWrites<EK> writes) {
+		EK cacheKey = getKeyProvider().getEntityCacheKey( key );
 		Map<String, Object> entityRecord = ( (MapTupleSnapshot) tuple.getSnapshot() ).getMap();
 
 		if ( entityRecord.isEmpty() ) {
 			MapHelpers.applyTupleOpsOnMap( tuple, entityRecord );
-			Element previous = entityCache.putIfAbsent( new Element( getKeyProvider().getEntityCacheKey( key ), entityRecord ) );
-			if ( previous != null ) {
+			if ( !writes.putIfAbsent( cacheKey, new Element( cacheKey, entityRecord ) ) ) {
 				throw new TupleAlreadyExistsException( key.getMetadata(), tuple );
 			}
 		}
 		else {
 			MapHelpers.applyTupleOpsOnMap( tuple, entityRecord );
-			entityCache.put( new Element( getKeyProvider().getEntityCacheKey( key ), entityRecord ) );
+			writes.put( cacheKey, new Element( cacheKey, entityRecord ) );
 		}
 	}
 
@@ -131,6 +169,7 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 
 	@Override
 	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
+		executePendingOperations( associationContext );
 		final Cache<AK> associationCache = getCacheManager().getAssociationCache( key.getMetadata() );
 		final Element element = associationCache.get( getKeyProvider().getAssociationCacheKey( key ) );
 
@@ -146,6 +185,7 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 
 	@Override
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
+		executePendingOperations( associationContext );
 		final Cache<AK> associationCache = getCacheManager().getAssociationCache( key.getMetadata() );
 		Map<SerializableRowKey, Map<String, Object>> association = new HashMap<SerializableRowKey, Map<String, Object>>();
 		associationCache.put( new Element( getKeyProvider().getAssociationCacheKey( key ), association ) );
@@ -154,6 +194,12 @@ public Association createAssociation(AssociationKey key, AssociationContext asso
 
 	@Override
 	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		PendingCacheWrites<AK> writes = new PendingCacheWrites<AK>( getCacheManager().getAssociationCache( key.getMetadata() ) );
+		insertOrUpdateAssociation( key, association, writes );
+		writes.apply();
+	}
+
+	private void insertOrUpdateAssociation(AssociationKey key, Association association, PendingCacheWrites<AK> writes) {
 		Map<SerializableRowKey, Map<String, Object>> associationRows = ( (SerializableMapAssociationSnapshot) association.getSnapshot() ).getUnderlyingMap();
 
 		for ( AssociationOperation action : association.getOperations() ) {
@@ -170,8 +216,8 @@ public void insertOrUpdateAssociation(AssociationKey key, Association associatio
 			}
 		}
 
-		final Cache<AK> associationCache = getCacheManager().getAssociationCache( key.getMetadata() );
-		associationCache.put( new Element( getKeyProvider().getAssociationCacheKey( key ), associationRows ) );
+		AK cacheKey = getKeyProvider().getAssociationCacheKey( key );
+		writes.put( cacheKey, new Element( cacheKey, associationRows ) );
 	}
 
 	@Override
@@ -179,6 +225,81 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 		getCacheManager().getAssociationCache( key.getMetadata() ).remove( getKeyProvider().getAssociationCacheKey( key ) );
 	}
 
+	/**
+	 * Applies the writes of a flush with one {@code putAll()} and one {@code removeAll()} invocation per cache.
+	 */
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( queue.isClosed() ) {
+			return;
+		}
+
+		Map<Cache<EK>, PendingCacheWrites<EK>> entityWrites = new LinkedHashMap<Cache<EK>, PendingCacheWrites<EK>>();
+		Map<Cache<AK>, PendingCacheWrites<AK>> associationWrites = new LinkedHashMap<Cache<AK>, PendingCacheWrites<AK>>();
+
+		Operation operation = queue.poll();
+		while ( operation != null ) {
+			if ( operation instanceof InsertOrUpdateTupleOperation ) {
+				InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
+				Cache<EK> cache = getCacheManager().getEntityCache( update.getEntityKey().getMetadata() );
+				insertOrUpdateTuple( update.getEntityKey(), update.getTuple(), getWrites( entityWrites, cache ) );
+			}
+			else if ( operation instanceof RemoveTupleOperation ) {
+				RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+				Cache<EK> cache = getCacheManager().getEntityCache( remove.getEntityKey().getMetadata() );
+				getWrites( entityWrites, cache ).remove( getKeyProvider().getEntityCacheKey( remove.getEntityKey() ) );
+			}
+			else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+				InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+				Cache<AK> cache = getCacheManager().getAssociationCache( update.getAssociationKey().getMetadata() );
+				insertOrUpdateAssociation( update.getAssociationKey(), update.getAssociation(), getWrites( associationWrites, cache ) );
+			}
+			else if ( operation instanceof RemoveAssociationOperation ) {
+				RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+				Cache<AK> cache = getCacheManager().getAssociationCache( remove.getAssociationKey().getMetadata() );
+				getWrites( associationWrites, cache ).remove( getKeyProvider().getAssociationCacheKey( remove.getAssociationKey() ) );
+			}
+			else {
+				throw new UnsupportedOperationException( "Operation not supported on Ehcache: " + operation.getClass().getName() );
+			}
+			operation = queue.poll();
+		}
+
+		for ( PendingCacheWrites<EK> writes : entityWrites.values() ) {
+			writes.apply();
+		}
+		for ( PendingCacheWrites<AK> writes : associationWrites.values() ) {
+			writes.apply();
+		}
+	}
+
+	private static <K> PendingCacheWrites<K> getWrites(Map<Cache<K>, PendingCacheWrites<K>> writesByCache, Cache<K> cache) {
+		PendingCacheWrites<K> writes = writesByCache.get( cache );
+		if ( writes == null ) {
+			writes = new PendingCacheWrites<K>( cache );
+			writesByCache.put( cache, writes );
+		}
+		return writes;
+	}
+
+	/**
+	 * Executes the operations queued so far if one of them writes the given entity.
+	 */
+	private void executePendingOperations(EntityKey key, TupleContext tupleContext) {
+		if ( tupleContext != null && tupleContext.getOperationsQueue() != null && tupleContext.getOperationsQueue().contains( key ) ) {
+			executeBatch( tupleContext.getOperationsQueue() );
+		}
+	}
+
+	/**
+	 * Executes the operations queued so far, so that the associations read afterwards reflect them.
+	 */
+	private void executePendingOperations(AssociationContext associationContext) {
+		if ( associationContext != null && associationContext.getOperationsQueue() != null && associationContext.getOperationsQueue().size() > 0 ) {
+			executeBatch( associationContext.getOperationsQueue() );
+		}
+	}
+
 	@Override
 	public Number nextValue(NextValueRequest request) {
 		final Cache<ISK> cache = getCacheManager().getIdSourceCache( request.getKey().getMetadata() );
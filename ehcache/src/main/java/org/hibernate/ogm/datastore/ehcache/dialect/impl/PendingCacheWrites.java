@@ -0,0 +1,76 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.ehcache.dialect.impl;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import net.sf.ehcache.Element;
+
+import org.hibernate.ogm.datastore.ehcache.impl.Cache;
+
+/**
+ * Collects the writes to one cache, so that they can be applied with one {@code putAll()} and one {@code removeAll()}
+ * invocation. Only the last write of a given key is applied.
+ * <p>
+ * Inserts are applied right away using {@code putIfAbsent()} unless the key has been written before, so that a
+ * duplicate insert is detected atomically.
+ *
+ * @param <K> the cache key type
+ */
+public class PendingCacheWrites<K> {
+
+	private final Cache<K> cache;
+	private final Map<K, Element> puts = new LinkedHashMap<K, Element>();
+	private final Set<K> removals = new HashSet<K>();
+
+	public PendingCacheWrites(Cache<K> cache) {
+		this.cache = cache;
+	}
+
+	public void put(K key, Element element) {
+		removals.remove( key );
+		puts.put( key, element );
+	}
+
+	/**
+	 * Inserts the given element.
+	 *
+	 * @return {@code false} if an element with the given key exists already, {@code true} otherwise
+	 */
+	public boolean putIfAbsent(K key, Element element) {
+		if ( puts.containsKey( key ) ) {
+			return false;
+		}
+		else if ( removals.remove( key ) ) {
+			puts.put( key, element );
+			return true;
+		}
+		else {
+			return cache.putIfAbsent( element ) == null;
+		}
+	}
+
+	public void remove(K key) {
+		puts.remove( key );
+		removals.add( key );
+	}
+
+	/**
+	 * Applies the collected writes to the cache.
+	 */
+	public void apply() {
+		if ( !puts.isEmpty() ) {
+			cache.putAll( puts.values() );
+		}
+		if ( !removals.isEmpty() ) {
+			cache.removeAll( removals );
+		}
+	}
+}
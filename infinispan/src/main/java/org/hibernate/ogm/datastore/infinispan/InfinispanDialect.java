@@ -6,29 +6,58 @@
  */
 package org.hibernate.ogm.datastore.infinispan;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.hibernate.LockMode;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.dialect.lock.OptimisticForceIncrementLockingStrategy;
 import org.hibernate.dialect.lock.OptimisticLockingStrategy;
 import org.hibernate.dialect.lock.PessimisticForceIncrementLockingStrategy;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.ColumnDictionary;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.CompactTuple;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.CompactTupleSnapshot;
 import org.hibernate.ogm.datastore.infinispan.dialect.impl.InfinispanPessimisticWriteLockingStrategy;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.InfinispanTuplePartition;
 import org.hibernate.ogm.datastore.infinispan.dialect.impl.InfinispanTupleSnapshot;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.PendingTupleWrites;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.options.TupleStorageType;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.KeyProvider;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager.Bucket;
 import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
+import org.hibernate.ogm.dialect.spi.DuplicateInsertPreventionStrategy;
 import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
@@ -40,25 +69,36 @@
 import org.hibernate.persister.entity.Lockable;
 import org.infinispan.AdvancedCache;
 import org.infinispan.Cache;
+import org.infinispan.CacheStream;
 import org.infinispan.atomic.AtomicMapLookup;
 import org.infinispan.atomic.FineGrainedAtomicMap;
 import org.infinispan.context.Flag;
-import org.infinispan.distexec.mapreduce.MapReduceTask;
-import org.infinispan.distexec.mapreduce.Reducer;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.filter.KeyFilter;
 
 /**
  * EK is the entity cache key type
  * AK is the association cache key type
  * ISK is the identity source cache key type
+ * <p>
+ * Entity tuples are stored as fine-grained atomic maps or, with {@link TupleStorageType#COMPACT}, as
+ * {@link CompactTuple}s. Associations are always stored as fine-grained atomic maps.
  *
  * @author Emmanuel Bernard
  */
-public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect {
+public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect implements BatchableGridDialect, MultigetGridDialect, PartitionableGridDialect {
 
 	private final InfinispanDatastoreProvider provider;
+	private final boolean compactTuples;
+
+	/**
+	 * The dictionaries of the {@link CompactTuple}s written by this dialect, extended as new columns get written
+	 */
+	private final ConcurrentMap<EntityKeyMetadata, ColumnDictionary> columnDictionaries = new ConcurrentHashMap<EntityKeyMetadata, ColumnDictionary>();
 
 	public InfinispanDialect(InfinispanDatastoreProvider provider) {
 		this.provider = provider;
+		this.compactTuples = provider.getTupleStorage() == TupleStorageType.COMPACT;
 	}
 
 	/**
@@ -95,7 +135,12 @@ else if ( lockMode == LockMode.OPTIMISTIC_FORCE_INCREMENT ) {
 
 	@Override
 	public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
+		executePendingOperations( key, tupleContext );
 		EK cacheKey = getKeyProvider().getEntityCacheKey( key );
+		if ( compactTuples ) {
+			CompactTuple value = (CompactTuple) getEntityCache( key.getMetadata() ).get( cacheKey );
+			return value == null ? null : new Tuple( new CompactTupleSnapshot( value ) );
+		}
 		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
 		return getTupleFromCacheKey( cacheKey, cache );
 	}
@@ -114,20 +159,138 @@ private Tuple getTupleFromCacheKey(EK cacheKey, Cache<EK, Map<String,Object>> ca
 		}
 	}
 
+	/**
+	 * Reads the entries with one {@link AdvancedCache#getAll(Set)} invocation, which, for a distributed cache, sends
+	 * one request to each owner of the keys. The tuples are read-only copies of the entries, the atomic maps are looked
+	 * up only when the tuples are written.
+	 */
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		for ( EntityKey key : keys ) {
+			executePendingOperations( key, tupleContext );
+		}
+
+		Cache<EK, Object> cache = getEntityCache( keys[0].getMetadata() );
+		List<EK> cacheKeys = new ArrayList<EK>( keys.length );
+		for ( EntityKey key : keys ) {
+			cacheKeys.add( getKeyProvider().getEntityCacheKey( key ) );
+		}
+
+		Map<EK, Object> entries = cache.getAdvancedCache().getAll( new HashSet<EK>( cacheKeys ) );
+		List<Tuple> tuples = new ArrayList<Tuple>( keys.length );
+		for ( EK cacheKey : cacheKeys ) {
+			Object entry = entries.get( cacheKey );
+			tuples.add( entry == null ? null : toReadOnlyTuple( entry ) );
+		}
+		return tuples;
+	}
+
+	/**
+	 * Returns a tuple for the given entry of an entity cache; atomic maps are copied, {@link CompactTuple}s are
+	 * immutable.
+	 */
+	@SuppressWarnings("unchecked")
+	private Tuple toReadOnlyTuple(Object entry) {
+		if ( entry instanceof CompactTuple ) {
+			return new Tuple( new CompactTupleSnapshot( (CompactTuple) entry ) );
+		}
+		return new Tuple( new InfinispanTupleSnapshot( Collections.unmodifiableMap( new HashMap<String, Object>( (Map<String, Object>) entry ) ) ) );
+	}
+
+	/**
+	 * The atomic map of the new tuple is only looked up when the tuple is written, so that the look-ups of the inserts
+	 * of a flush can be done at once, see {@link #executeBatch(OperationsQueue)}.
+	 */
 	@Override
 	public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 		//TODO we don't verify that it does not yet exist assuming that this has been done before by the calling code
 		//should we improve?
-		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
-		EK cacheKey = getKeyProvider().getEntityCacheKey( key );
-		FineGrainedAtomicMap<String,Object> atomicMap =  AtomicMapLookup.getFineGrainedAtomicMap( cache, cacheKey, true );
-		return new Tuple( new InfinispanTupleSnapshot( atomicMap ) );
+		if ( compactTuples ) {
+			return new Tuple( new CompactTupleSnapshot( null ) );
+		}
+		return new Tuple( new InfinispanTupleSnapshot( new HashMap<String, Object>() ) );
 	}
 
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
-		Map<String,Object> atomicMap = ( (InfinispanTupleSnapshot) tuple.getSnapshot() ).getAtomicMap();
-		MapHelpers.applyTupleOpsOnMap( tuple, atomicMap );
+		if ( tuple.getSnapshot() instanceof CompactTupleSnapshot ) {
+			PendingTupleWrites<EK> writes = new PendingTupleWrites<EK>( getEntityCache( key.getMetadata() ) );
+			insertOrUpdateTuple( key, tuple, writes );
+			writes.apply();
+		}
+		else {
+			Map<String, Object> atomicMap = getAtomicMapForWrite( key, tuple );
+			MapHelpers.applyTupleOpsOnMap( tuple, atomicMap );
+		}
+	}
+
+	/**
+	 * Writes a tuple stored as {@link CompactTuple}: the new value replaces the previous one as a whole.
+	 *
+	 * @throws TupleAlreadyExistsException if the tuple is new and an entry with the given key exists already
+	 */
+	private void insertOrUpdateTuple(EntityKey key, Tuple tuple, PendingTupleWrites<EK> writes) {
+		CompactTupleSnapshot snapshot = (CompactTupleSnapshot) tuple.getSnapshot();
+		EK cacheKey = getKeyProvider().getEntityCacheKey( key );
+
+		Map<String, Object> columns = snapshot.isEmpty() ? new HashMap<String, Object>() : snapshot.getCompactTuple().toMap();
+		MapHelpers.applyTupleOpsOnMap( tuple, columns );
+		CompactTuple value = CompactTuple.fromMap( getColumnDictionary( key.getMetadata(), columns.keySet() ), columns );
+
+		if ( snapshot.isEmpty() ) {
+			if ( !writes.putIfAbsent( cacheKey, value ) ) {
+				throw new TupleAlreadyExistsException( key.getMetadata(), tuple );
+			}
+		}
+		else {
+			writes.put( cacheKey, value );
+		}
+
+		// the tuple may be written again, e.g. when updating an entity inserted within the same session
+		snapshot.setCompactTuple( value );
+	}
+
+	/**
+	 * Returns the dictionary to be used for writing the given columns of the given entity type.
+	 */
+	private ColumnDictionary getColumnDictionary(EntityKeyMetadata entityKeyMetadata, Set<String> columns) {
+		ColumnDictionary dictionary = columnDictionaries.get( entityKeyMetadata );
+		if ( dictionary == null ) {
+			dictionary = ColumnDictionary.forColumnNames( columns.toArray( new String[columns.size()] ) );
+			ColumnDictionary previous = columnDictionaries.putIfAbsent( entityKeyMetadata, dictionary );
+			if ( previous == null ) {
+				return dictionary;
+			}
+			dictionary = previous;
+		}
+
+		while ( !dictionary.containsAll( columns ) ) {
+			ColumnDictionary extended = dictionary.extendedBy( columns );
+			if ( columnDictionaries.replace( entityKeyMetadata, dictionary, extended ) ) {
+				return extended;
+			}
+			dictionary = columnDictionaries.get( entityKeyMetadata );
+		}
+		return dictionary;
+	}
+
+	/**
+	 * Returns the atomic map of the given tuple or, if the tuple is new or a copy, looks it up and attaches it to the
+	 * tuple.
+	 */
+	private Map<String, Object> getAtomicMapForWrite(EntityKey key, Tuple tuple) {
+		InfinispanTupleSnapshot snapshot = (InfinispanTupleSnapshot) tuple.getSnapshot();
+		if ( snapshot.getAtomicMap() instanceof FineGrainedAtomicMap ) {
+			return snapshot.getAtomicMap();
+		}
+
+		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( key.getMetadata() );
+		EK cacheKey = getKeyProvider().getEntityCacheKey( key );
+
+		// the tuple may be written again, e.g. when updating an entity inserted within the same session
+		FineGrainedAtomicMap<String, Object> atomicMap = AtomicMapLookup.getFineGrainedAtomicMap( cache, cacheKey, true );
+		snapshot.setAtomicMap( atomicMap );
+		return atomicMap;
 	}
 
 	@Override
@@ -139,6 +302,7 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 
 	@Override
 	public Association getAssociation(AssociationKey key, AssociationContext associationContext) {
+		executePendingOperations( associationContext );
 		Cache<AK, Map<RowKey, Map<String, Object>>> cache = getCacheManager().getAssociationCache(
 				key.getMetadata()
 		);
@@ -151,6 +315,7 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 	public Association createAssociation(AssociationKey key, AssociationContext associationContext) {
 		//TODO we don't verify that it does not yet exist assuming that this ahs been done before by the calling code
 		//should we improve?
+		executePendingOperations( associationContext );
 		Cache<AK, Map<RowKey, Map<String, Object>>> cache = getCacheManager().getAssociationCache(
 				key.getMetadata()
 		);
@@ -173,6 +338,166 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 		AtomicMapLookup.removeAtomicMap( cache, cacheKey );
 	}
 
+	/**
+	 * Applies the operations of a flush. The entries of the inserted tuples and of the tuples not read through their
+	 * atomic map are read with one {@link AdvancedCache#getAll(Set)} invocation per cache beforehand, so that the
+	 * duplicate checks and the look-ups of the single atomic maps find them in the context of the transaction. The
+	 * modifications themselves are sent to the owners of the entries when the transaction is committed.
+	 */
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( queue.isClosed() ) {
+			return;
+		}
+		if ( compactTuples ) {
+			executeCompactTuplesBatch( queue );
+			return;
+		}
+
+		List<Operation> operations = new ArrayList<Operation>( queue.size() );
+		Map<Cache<EK, Map<String, Object>>, Set<EK>> keysToLookUp = new HashMap<Cache<EK, Map<String, Object>>, Set<EK>>();
+		Operation operation = queue.poll();
+		while ( operation != null ) {
+			if ( operation instanceof InsertOrUpdateTupleOperation ) {
+				InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
+				if ( !( ( (InfinispanTupleSnapshot) update.getTuple().getSnapshot() ).getAtomicMap() instanceof FineGrainedAtomicMap ) ) {
+					Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( update.getEntityKey().getMetadata() );
+					Set<EK> cacheKeys = keysToLookUp.get( cache );
+					if ( cacheKeys == null ) {
+						cacheKeys = new HashSet<EK>();
+						keysToLookUp.put( cache, cacheKeys );
+					}
+					cacheKeys.add( getKeyProvider().getEntityCacheKey( update.getEntityKey() ) );
+				}
+			}
+			operations.add( operation );
+			operation = queue.poll();
+		}
+
+		for ( Entry<Cache<EK, Map<String, Object>>, Set<EK>> entry : keysToLookUp.entrySet() ) {
+			entry.getKey().getAdvancedCache().getAll( entry.getValue() );
+		}
+
+		for ( Operation queuedOperation : operations ) {
+			if ( queuedOperation instanceof InsertOrUpdateTupleOperation ) {
+				InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) queuedOperation;
+				insertOrUpdateTuple( update.getEntityKey(), update.getTuple(), update.getTupleContext() );
+			}
+			else if ( queuedOperation instanceof RemoveTupleOperation ) {
+				RemoveTupleOperation remove = (RemoveTupleOperation) queuedOperation;
+				removeTuple( remove.getEntityKey(), remove.getTupleContext() );
+			}
+			else if ( queuedOperation instanceof InsertOrUpdateAssociationOperation ) {
+				InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) queuedOperation;
+				insertOrUpdateAssociation( update.getAssociationKey(), update.getAssociation(), update.getContext() );
+			}
+			else if ( queuedOperation instanceof RemoveAssociationOperation ) {
+				RemoveAssociationOperation remove = (RemoveAssociationOperation) queuedOperation;
+				removeAssociation( remove.getAssociationKey(), remove.getContext() );
+			}
+			else {
+				throw new UnsupportedOperationException( "Operation not supported on Infinispan: " + queuedOperation.getClass().getName() );
+			}
+		}
+	}
+
+	/**
+	 * Applies the operations of a flush writing {@link CompactTuple}s. The entries of the inserted tuples are read with
+	 * one {@link AdvancedCache#getAll(Set)} invocation per cache beforehand, so that the duplicate checks find them in
+	 * the context of the transaction. The tuple writes are collected and applied with one {@code putAll()} invocation
+	 * per cache at the end of the batch.
+	 */
+	private void executeCompactTuplesBatch(OperationsQueue queue) {
+		List<Operation> operations = new ArrayList<Operation>( queue.size() );
+		Map<Cache<EK, Object>, Set<EK>> keysToLookUp = new HashMap<Cache<EK, Object>, Set<EK>>();
+		Operation operation = queue.poll();
+		while ( operation != null ) {
+			if ( operation instanceof InsertOrUpdateTupleOperation ) {
+				InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
+				if ( update.getTuple().getSnapshot().isEmpty() ) {
+					Cache<EK, Object> cache = getEntityCache( update.getEntityKey().getMetadata() );
+					Set<EK> cacheKeys = keysToLookUp.get( cache );
+					if ( cacheKeys == null ) {
+						cacheKeys = new HashSet<EK>();
+						keysToLookUp.put( cache, cacheKeys );
+					}
+					cacheKeys.add( getKeyProvider().getEntityCacheKey( update.getEntityKey() ) );
+				}
+			}
+			operations.add( operation );
+			operation = queue.poll();
+		}
+
+		for ( Entry<Cache<EK, Object>, Set<EK>> entry : keysToLookUp.entrySet() ) {
+			entry.getKey().getAdvancedCache().getAll( entry.getValue() );
+		}
+
+		Map<Cache<EK, Object>, PendingTupleWrites<EK>> tupleWrites = new LinkedHashMap<Cache<EK, Object>, PendingTupleWrites<EK>>();
+		for ( Operation queuedOperation : operations ) {
+			if ( queuedOperation instanceof InsertOrUpdateTupleOperation ) {
+				InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) queuedOperation;
+				insertOrUpdateTuple( update.getEntityKey(), update.getTuple(), getTupleWrites( tupleWrites, update.getEntityKey() ) );
+			}
+			else if ( queuedOperation instanceof RemoveTupleOperation ) {
+				RemoveTupleOperation remove = (RemoveTupleOperation) queuedOperation;
+				getTupleWrites( tupleWrites, remove.getEntityKey() ).remove( getKeyProvider().getEntityCacheKey( remove.getEntityKey() ) );
+			}
+			else if ( queuedOperation instanceof InsertOrUpdateAssociationOperation ) {
+				InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) queuedOperation;
+				insertOrUpdateAssociation( update.getAssociationKey(), update.getAssociation(), update.getContext() );
+			}
+			else if ( queuedOperation instanceof RemoveAssociationOperation ) {
+				RemoveAssociationOperation remove = (RemoveAssociationOperation) queuedOperation;
+				removeAssociation( remove.getAssociationKey(), remove.getContext() );
+			}
+			else {
+				throw new UnsupportedOperationException( "Operation not supported on Infinispan: " + queuedOperation.getClass().getName() );
+			}
+		}
+
+		for ( PendingTupleWrites<EK> writes : tupleWrites.values() ) {
+			writes.apply();
+		}
+	}
+
+	private PendingTupleWrites<EK> getTupleWrites(Map<Cache<EK, Object>, PendingTupleWrites<EK>> tupleWrites, EntityKey key) {
+		Cache<EK, Object> cache = getEntityCache( key.getMetadata() );
+		PendingTupleWrites<EK> writes = tupleWrites.get( cache );
+		if ( writes == null ) {
+			writes = new PendingTupleWrites<EK>( cache );
+			tupleWrites.put( cache, writes );
+		}
+		return writes;
+	}
+
+	/**
+	 * Executes the operations queued so far if one of them writes the given entity.
+	 */
+	private void executePendingOperations(EntityKey key, TupleContext tupleContext) {
+		if ( tupleContext != null && tupleContext.getOperationsQueue() != null && tupleContext.getOperationsQueue().contains( key ) ) {
+			executeBatch( tupleContext.getOperationsQueue() );
+		}
+	}
+
+	/**
+	 * Executes the operations queued so far, so that the associations read afterwards reflect them.
+	 */
+	private void executePendingOperations(AssociationContext associationContext) {
+		if ( associationContext != null && associationContext.getOperationsQueue() != null && associationContext.getOperationsQueue().size() > 0 ) {
+			executeBatch( associationContext.getOperationsQueue() );
+		}
+	}
+
+	/**
+	 * Inserts of {@link CompactTuple}s use {@code putIfAbsent()} and detect duplicates atomically. The atomic maps are
+	 * created by {@link AtomicMapLookup}, which does not tell whether the entry existed already, so the duplicates of
+	 * tuples stored in atomic maps are looked up beforehand.
+	 */
+	@Override
+	public DuplicateInsertPreventionStrategy getDuplicateInsertPreventionStrategy(EntityKeyMetadata entityKeyMetadata) {
+		return compactTuples ? DuplicateInsertPreventionStrategy.NATIVE : DuplicateInsertPreventionStrategy.LOOK_UP;
+	}
+
 	@Override
 	public boolean isStoredInEntityStructure(AssociationKeyMetadata associationKeyMetadata, AssociationTypeContext associationTypeContext) {
 		return false;
@@ -208,23 +533,77 @@ public Number nextValue(NextValueRequest request) {
 		return value;
 	}
 
+	/**
+	 * Streams the entries of the entity caches, so that only one batch of entries at a time is transferred from the
+	 * nodes of a clustered cache. The tuples are read-only copies of the entries.
+	 */
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
 		Set<Bucket<EK>> buckets = getCacheManager().getWorkBucketsFor(
 				entityKeyMetadata
 		);
 		for ( Bucket<EK> bucket : buckets ) {
-			Map<EK, Map<String, Object>> queryResult = retrieveKeys( bucket.getCache(), bucket.getEntityKeyMetadata() );
-			for ( Entry<EK, Map<String, Object>> entry : queryResult.entrySet() ) {
-				consumer.consume( getTupleFromCacheKey( entry.getKey(), bucket.getCache() ) );
+			forEachTuple( consumer, bucket.getCache(), getKeyProvider().getEntityKeyFilter( bucket.getEntityKeyMetadata() ), null );
+		}
+	}
+
+	/**
+	 * Splits a distributed cache by its segments and any other cache by the hash of the keys.
+	 */
+	@Override
+	public List<TuplePartition> getTuplePartitions(TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, int partitions) {
+		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( entityKeyMetadata );
+		DistributionManager distributionManager = cache.getAdvancedCache().getDistributionManager();
+		List<TuplePartition> result = new ArrayList<TuplePartition>( partitions );
+
+		if ( distributionManager != null ) {
+			int segments = distributionManager.getReadConsistentHash().getNumSegments();
+			int count = Math.min( partitions, segments );
+
+			// consecutive segments are usually owned by different nodes
+			List<Set<Integer>> segmentsOfPartitions = new ArrayList<Set<Integer>>( count );
+			for ( int i = 0; i < count; i++ ) {
+				segmentsOfPartitions.add( new HashSet<Integer>() );
+			}
+			for ( int segment = 0; segment < segments; segment++ ) {
+				segmentsOfPartitions.get( segment % count ).add( segment );
+			}
+			for ( Set<Integer> segmentsOfPartition : segmentsOfPartitions ) {
+				result.add( InfinispanTuplePartition.forSegments( segmentsOfPartition ) );
 			}
 		}
+		else {
+			for ( int slot = 0; slot < partitions; slot++ ) {
+				result.add( InfinispanTuplePartition.forKeyHashSlot( slot, partitions ) );
+			}
+		}
+
+		return result;
 	}
 
-	private Map<EK, Map<String, Object>> retrieveKeys(Cache<EK, Map<String, Object>> cache, EntityKeyMetadata... entityKeyMetadatas) {
-		MapReduceTask<EK, Map<String, Object>, EK, Map<String, Object>> queryTask = new MapReduceTask<EK, Map<String, Object>, EK, Map<String, Object>>( cache );
-		queryTask.mappedWith( getKeyProvider().getMapper( entityKeyMetadatas ) ).reducedWith( new TupleReducer<EK>() );
-		return queryTask.execute();
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, TuplePartition partition) {
+		Cache<EK, Object> cache = getEntityCache( entityKeyMetadata );
+		forEachTuple( consumer, cache, getKeyProvider().getEntityKeyFilter( entityKeyMetadata ), (InfinispanTuplePartition) partition );
+	}
+
+	@SuppressWarnings("unchecked")
+	private void forEachTuple(ModelConsumer consumer, Cache<EK, ?> cache, KeyFilter<EK> keyFilter, InfinispanTuplePartition partition) {
+		CacheStream<Entry<EK, Object>> entries = ( (Cache<EK, Object>) cache ).entrySet().stream();
+		if ( partition != null && partition.getSegments() != null ) {
+			entries = entries.filterKeySegments( partition.getSegments() );
+		}
+
+		Stream<Entry<EK, Object>> tupleEntries = entries.filter( new TupleEntryFilter<EK>( keyFilter, partition ) );
+		try {
+			Iterator<Entry<EK, Object>> iterator = tupleEntries.iterator();
+			while ( iterator.hasNext() ) {
+				consumer.consume( toReadOnlyTuple( iterator.next().getValue() ) );
+			}
+		}
+		finally {
+			tupleEntries.close();
+		}
 	}
 
 	@SuppressWarnings("unchecked")
@@ -232,17 +611,36 @@ private LocalCacheManager<EK, AK, ISK> getCacheManager() {
 		return (LocalCacheManager<EK, AK, ISK>) provider.getCacheManager();
 	}
 
+	/**
+	 * Returns the given entity cache with the value type of the entries stored with either tuple storage.
+	 */
+	@SuppressWarnings("unchecked")
+	private Cache<EK, Object> getEntityCache(EntityKeyMetadata entityKeyMetadata) {
+		return (Cache<EK, Object>) (Cache<EK, ?>) getCacheManager().getEntityCache( entityKeyMetadata );
+	}
+
 	@SuppressWarnings("unchecked")
 	private KeyProvider<EK, AK, ISK> getKeyProvider() {
 		return (KeyProvider<EK, AK, ISK>) provider.getKeyProvider();
 	}
 
-	static class TupleReducer<EK> implements Reducer<EK, Map<String, Object>> {
+	/**
+	 * Selects the entries of the entity types accepted by the given key filter, restricted to a partition of a local
+	 * cache if given. Sent to the nodes of a clustered cache.
+	 */
+	static class TupleEntryFilter<EK> implements Predicate<Entry<EK, Object>>, Serializable {
 
-		@Override
-		public Map<String, Object> reduce(EK reducedKey, Iterator<Map<String, Object>> iter) {
-			return iter.next();
+		private final KeyFilter<EK> keyFilter;
+		private final InfinispanTuplePartition partition;
+
+		TupleEntryFilter(KeyFilter<EK> keyFilter, InfinispanTuplePartition partition) {
+			this.keyFilter = keyFilter;
+			this.partition = partition;
 		}
 
+		@Override
+		public boolean test(Entry<EK, Object> entry) {
+			return keyFilter.accept( entry.getKey() ) && ( partition == null || partition.containsKeyHash( entry.getKey() ) );
+		}
 	}
 }
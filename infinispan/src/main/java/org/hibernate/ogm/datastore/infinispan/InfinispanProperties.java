@@ -30,6 +30,15 @@ public final class InfinispanProperties implements KeyValueStoreProperties {
 	 */
 	public static final String CACHE_MANAGER_JNDI_NAME = "hibernate.ogm.infinispan.cachemanager_jndi_name";
 
+	/**
+	 * The configuration property for setting the storage of the entity tuples. Supported values are the
+	 * {@link org.hibernate.ogm.datastore.infinispan.options.TupleStorageType} enum or the String representations of
+	 * its constants. Defaults to {@link org.hibernate.ogm.datastore.infinispan.options.TupleStorageType#ATOMIC_MAP}.
+	 * <p>
+	 * The storage must be the same for all the nodes and applications sharing the entity caches.
+	 */
+	public static final String TUPLE_STORAGE = "hibernate.ogm.infinispan.tuple_storage";
+
 	private InfinispanProperties() {
 	}
 }
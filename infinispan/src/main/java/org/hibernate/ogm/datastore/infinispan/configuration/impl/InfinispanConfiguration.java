@@ -11,6 +11,7 @@
 
 import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.options.TupleStorageType;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
@@ -28,6 +29,7 @@ public class InfinispanConfiguration {
 
 	private URL configUrl;
 	private String jndi;
+	private TupleStorageType tupleStorage;
 
 	/**
 	 * The location of the configuration file.
@@ -49,6 +51,16 @@ public String getJndiName() {
 		return jndi;
 	}
 
+	/**
+	 * Get the storage of the entity tuples.
+	 *
+	 * @see InfinispanProperties#TUPLE_STORAGE
+	 * @return the storage of the entity tuples
+	 */
+	public TupleStorageType getTupleStorage() {
+		return tupleStorage;
+	}
+
 	/**
 	 * Initialize the internal values form the given {@link Map}.
 	 *
@@ -67,6 +79,11 @@ public void initConfiguration(Map<?, ?> configurationMap) {
 				.property( InfinispanProperties.CACHE_MANAGER_JNDI_NAME, String.class )
 				.getValue();
 
+		this.tupleStorage = propertyReader
+				.property( InfinispanProperties.TUPLE_STORAGE, TupleStorageType.class )
+				.withDefault( TupleStorageType.ATOMIC_MAP )
+				.getValue();
+
 		log.tracef( "Initializing Infinispan from configuration file at %1$s", configUrl );
 	}
 }
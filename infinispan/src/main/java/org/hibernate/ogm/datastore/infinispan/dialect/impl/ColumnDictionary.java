@@ -0,0 +1,110 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.dialect.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The column names of {@link CompactTuple}s, giving the position of each column within the values of a tuple.
+ * <p>
+ * Dictionaries are immutable and shared: there is one instance for a given list of column names, so that the tuples of
+ * an entity type, including the ones read from other nodes, reference the same instance.
+ */
+public final class ColumnDictionary {
+
+	private static final ConcurrentMap<List<String>, ColumnDictionary> DICTIONARIES = new ConcurrentHashMap<List<String>, ColumnDictionary>();
+
+	private final String[] columnNames;
+	private final Map<String, Integer> positions;
+
+	private ColumnDictionary(String[] columnNames) {
+		this.columnNames = columnNames;
+
+		Map<String, Integer> positions = new HashMap<String, Integer>( columnNames.length );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			positions.put( columnNames[i], i );
+		}
+		this.positions = Collections.unmodifiableMap( positions );
+	}
+
+	/**
+	 * Returns the dictionary of the given column names.
+	 *
+	 * @param columnNames the column names, in the order of their positions; must not be modified afterwards
+	 * @return the shared dictionary of the given column names
+	 */
+	public static ColumnDictionary forColumnNames(String... columnNames) {
+		List<String> key = Arrays.asList( columnNames );
+		ColumnDictionary dictionary = DICTIONARIES.get( key );
+		if ( dictionary == null ) {
+			dictionary = new ColumnDictionary( columnNames );
+			ColumnDictionary previous = DICTIONARIES.putIfAbsent( key, dictionary );
+			if ( previous != null ) {
+				dictionary = previous;
+			}
+		}
+		return dictionary;
+	}
+
+	/**
+	 * Returns a dictionary with the columns of this dictionary, at the same positions, followed by the given columns not
+	 * contained in this dictionary.
+	 *
+	 * @param columns the columns to add
+	 * @return this dictionary if it contains all the given columns, an extended dictionary otherwise
+	 */
+	public ColumnDictionary extendedBy(Collection<String> columns) {
+		List<String> extendedColumnNames = new ArrayList<String>( Arrays.asList( columnNames ) );
+		for ( String column : columns ) {
+			if ( !positions.containsKey( column ) ) {
+				extendedColumnNames.add( column );
+			}
+		}
+
+		if ( extendedColumnNames.size() == columnNames.length ) {
+			return this;
+		}
+		return forColumnNames( extendedColumnNames.toArray( new String[extendedColumnNames.size()] ) );
+	}
+
+	public boolean containsAll(Collection<String> columns) {
+		return positions.keySet().containsAll( columns );
+	}
+
+	/**
+	 * @param column the column name
+	 * @return the position of the given column, {@code -1} if this dictionary doesn't contain it
+	 */
+	public int getPosition(String column) {
+		Integer position = positions.get( column );
+		return position != null ? position : -1;
+	}
+
+	public int size() {
+		return columnNames.length;
+	}
+
+	/**
+	 * @return the column names, in the order of their positions; not to be modified
+	 */
+	public String[] getColumnNames() {
+		return columnNames;
+	}
+
+	@Override
+	public String toString() {
+		return "ColumnDictionary" + Arrays.toString( columnNames );
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.dialect.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The immutable value of an entity stored with {@link org.hibernate.ogm.datastore.infinispan.options.TupleStorageType#COMPACT}:
+ * the column values in a positional array and the {@link ColumnDictionary} giving the columns of the positions. The
+ * value of a column not set is {@code null}.
+ */
+public final class CompactTuple {
+
+	private final ColumnDictionary dictionary;
+	private final Object[] values;
+
+	/**
+	 * @param dictionary the columns of the values
+	 * @param values the values; must not be modified afterwards
+	 */
+	public CompactTuple(ColumnDictionary dictionary, Object[] values) {
+		this.dictionary = dictionary;
+		this.values = values;
+	}
+
+	/**
+	 * Creates a tuple with the given column values.
+	 *
+	 * @param dictionary a dictionary containing all the given columns
+	 * @param columns the column values
+	 * @return the tuple
+	 */
+	public static CompactTuple fromMap(ColumnDictionary dictionary, Map<String, Object> columns) {
+		Object[] values = new Object[dictionary.size()];
+		for ( Map.Entry<String, Object> column : columns.entrySet() ) {
+			values[dictionary.getPosition( column.getKey() )] = column.getValue();
+		}
+		return new CompactTuple( dictionary, values );
+	}
+
+	public Object get(String column) {
+		int position = dictionary.getPosition( column );
+		return position != -1 ? values[position] : null;
+	}
+
+	/**
+	 * @return the names of the columns set
+	 */
+	public Set<String> getColumnNames() {
+		String[] columnNames = dictionary.getColumnNames();
+		Set<String> set = new HashSet<String>( columnNames.length );
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] != null ) {
+				set.add( columnNames[i] );
+			}
+		}
+		return set;
+	}
+
+	/**
+	 * @return the columns set and their values
+	 */
+	public Map<String, Object> toMap() {
+		String[] columnNames = dictionary.getColumnNames();
+		Map<String, Object> map = new HashMap<String, Object>( columnNames.length );
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] != null ) {
+				map.put( columnNames[i], values[i] );
+			}
+		}
+		return map;
+	}
+
+	public ColumnDictionary getDictionary() {
+		return dictionary;
+	}
+
+	/**
+	 * @return the values, in the order of the columns of the dictionary; not to be modified
+	 */
+	public Object[] getValues() {
+		return values;
+	}
+
+	@Override
+	public String toString() {
+		return "CompactTuple [columns=" + Arrays.toString( dictionary.getColumnNames() ) + ", values=" + Arrays.toString( values ) + "]";
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.dialect.impl;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.hibernate.ogm.model.spi.TupleSnapshot;
+
+/**
+ * A tuple snapshot based on a {@link CompactTuple}. The snapshot of a new tuple has no value until the tuple is
+ * written; once written, the snapshot is based on the value written.
+ */
+public final class CompactTupleSnapshot implements TupleSnapshot {
+
+	private CompactTuple compactTuple;
+
+	/**
+	 * @param compactTuple the stored value, {@code null} for a new tuple
+	 */
+	public CompactTupleSnapshot(CompactTuple compactTuple) {
+		this.compactTuple = compactTuple;
+	}
+
+	@Override
+	public Object get(String column) {
+		return compactTuple != null ? compactTuple.get( column ) : null;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return compactTuple == null;
+	}
+
+	@Override
+	public Set<String> getColumnNames() {
+		return compactTuple != null ? compactTuple.getColumnNames() : Collections.<String>emptySet();
+	}
+
+	public CompactTuple getCompactTuple() {
+		return compactTuple;
+	}
+
+	public void setCompactTuple(CompactTuple compactTuple) {
+		this.compactTuple = compactTuple;
+	}
+}
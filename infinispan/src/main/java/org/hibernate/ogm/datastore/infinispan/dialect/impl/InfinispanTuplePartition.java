@@ -0,0 +1,69 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.dialect.impl;
+
+import java.io.Serializable;
+import java.util.Set;
+
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
+
+/**
+ * The entries of an entity cache within a subset of its segments or, for a local cache which has no segments, the
+ * entries whose key hash falls into a given slot.
+ * <p>
+ * The key hash is only used for local caches, as the hash of a key may differ between the nodes of a cluster.
+ */
+public class InfinispanTuplePartition implements TuplePartition, Serializable {
+
+	private final Set<Integer> segments;
+	private final int slot;
+	private final int slots;
+
+	private InfinispanTuplePartition(Set<Integer> segments, int slot, int slots) {
+		this.segments = segments;
+		this.slot = slot;
+		this.slots = slots;
+	}
+
+	/**
+	 * @param segments the segments of a clustered cache
+	 * @return the partition made of the given segments
+	 */
+	public static InfinispanTuplePartition forSegments(Set<Integer> segments) {
+		return new InfinispanTuplePartition( segments, 0, 1 );
+	}
+
+	/**
+	 * @param slot the slot of the partition, from 0 to {@code slots - 1}
+	 * @param slots the number of partitions of the local cache
+	 * @return the partition made of the keys whose hash falls into the given slot
+	 */
+	public static InfinispanTuplePartition forKeyHashSlot(int slot, int slots) {
+		return new InfinispanTuplePartition( null, slot, slots );
+	}
+
+	/**
+	 * @return the segments of this partition, {@code null} for a partition of a local cache
+	 */
+	public Set<Integer> getSegments() {
+		return segments;
+	}
+
+	/**
+	 * Whether the given key falls into this partition, only meaningful for partitions of a local cache.
+	 */
+	public boolean containsKeyHash(Object key) {
+		return slots == 1 || ( key.hashCode() & Integer.MAX_VALUE ) % slots == slot;
+	}
+
+	@Override
+	public String toString() {
+		return segments != null
+				? "InfinispanTuplePartition [segments=" + segments + "]"
+				: "InfinispanTuplePartition [slot=" + slot + ", slots=" + slots + "]";
+	}
+}
@@ -6,18 +6,23 @@
  */
 package org.hibernate.ogm.datastore.infinispan.dialect.impl;
 
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.ogm.model.spi.TupleSnapshot;
 import org.infinispan.atomic.FineGrainedAtomicMap;
 
 /**
+ * A tuple snapshot based on a {@link FineGrainedAtomicMap} or, for the tuples read in bulk, on a read-only copy of the
+ * cache entry. New tuples are based on a plain map until they are written; once written, a tuple is based on the
+ * atomic map it has been written to.
+ *
  * @author Emmanuel Bernard &lt;emmanuel@hibernate.org&gt;
  */
 public final class InfinispanTupleSnapshot implements TupleSnapshot {
-	private final FineGrainedAtomicMap<String, Object> atomicMap;
+	private Map<String, Object> atomicMap;
 
-	public InfinispanTupleSnapshot(FineGrainedAtomicMap<String,Object> atomicMap) {
+	public InfinispanTupleSnapshot(Map<String,Object> atomicMap) {
 		this.atomicMap = atomicMap;
 	}
 	@Override
@@ -35,7 +40,11 @@ public Set<String> getColumnNames() {
 		return atomicMap.keySet();
 	}
 
-	public FineGrainedAtomicMap<String, Object> getAtomicMap() {
+	public Map<String, Object> getAtomicMap() {
 		return atomicMap;
 	}
+
+	public void setAtomicMap(FineGrainedAtomicMap<String, Object> atomicMap) {
+		this.atomicMap = atomicMap;
+	}
 }
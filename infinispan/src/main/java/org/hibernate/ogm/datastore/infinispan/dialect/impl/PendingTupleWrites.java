@@ -0,0 +1,77 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.dialect.impl;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.Cache;
+import org.infinispan.context.Flag;
+
+/**
+ * Collects the writes of {@link CompactTuple}s to one entity cache, so that they can be applied with one
+ * {@code putAll()} invocation. Only the last write of a given key is applied.
+ * <p>
+ * Inserts are applied right away using {@code putIfAbsent()} unless the key has been written before, so that a
+ * duplicate insert is detected atomically.
+ *
+ * @param <K> the cache key type
+ */
+public class PendingTupleWrites<K> {
+
+	private final Cache<K, Object> cache;
+	private final Map<K, CompactTuple> puts = new LinkedHashMap<K, CompactTuple>();
+	private final Set<K> removals = new HashSet<K>();
+
+	public PendingTupleWrites(Cache<K, Object> cache) {
+		this.cache = cache;
+	}
+
+	public void put(K key, CompactTuple value) {
+		removals.remove( key );
+		puts.put( key, value );
+	}
+
+	/**
+	 * Inserts the given value.
+	 *
+	 * @return {@code false} if a value with the given key exists already, {@code true} otherwise
+	 */
+	public boolean putIfAbsent(K key, CompactTuple value) {
+		if ( puts.containsKey( key ) ) {
+			return false;
+		}
+		else if ( removals.remove( key ) ) {
+			puts.put( key, value );
+			return true;
+		}
+		else {
+			return cache.putIfAbsent( key, value ) == null;
+		}
+	}
+
+	public void remove(K key) {
+		puts.remove( key );
+		removals.add( key );
+	}
+
+	/**
+	 * Applies the collected writes to the cache.
+	 */
+	public void apply() {
+		AdvancedCache<K, Object> writeCache = cache.getAdvancedCache().withFlags( Flag.IGNORE_RETURN_VALUES );
+		if ( !puts.isEmpty() ) {
+			writeCache.putAll( puts );
+		}
+		for ( K key : removals ) {
+			writeCache.remove( key );
+		}
+	}
+}
@@ -15,6 +15,7 @@
 import org.hibernate.ogm.datastore.infinispan.configuration.impl.InfinispanConfiguration;
 import org.hibernate.ogm.datastore.infinispan.logging.impl.Log;
 import org.hibernate.ogm.datastore.infinispan.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.infinispan.options.TupleStorageType;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.KeyProvider;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.PersistenceStrategy;
@@ -108,6 +109,10 @@ public void initializePersistenceStrategy(CacheMappingType cacheMappingType, Set
 		return persistenceStrategy.getKeyProvider();
 	}
 
+	public TupleStorageType getTupleStorage() {
+		return config.getTupleStorage();
+	}
+
 	@Override
 	public void stop() {
 		if ( persistenceStrategy != null ) {
@@ -0,0 +1,25 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.options;
+
+/**
+ * Strategies for storing the tuples of entities in Infinispan.
+ */
+public enum TupleStorageType {
+
+	/**
+	 * Stores each tuple as a fine-grained atomic map with one entry per column; concurrent transactions may update
+	 * different columns of the same tuple
+	 */
+	ATOMIC_MAP,
+
+	/**
+	 * Stores each tuple as one immutable value made of a column dictionary shared by the tuples of an entity type and
+	 * the column values in a positional array; updates replace the whole value
+	 */
+	COMPACT
+}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Collections;
+import java.util.Set;
+
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.ColumnDictionary;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.CompactTuple;
+import org.hibernate.ogm.datastore.infinispan.impl.InfinispanDatastoreProvider;
+import org.infinispan.commons.marshall.AdvancedExternalizer;
+
+/**
+ * An externalizer for serializing and de-serializing {@link CompactTuple} instances.
+ * <p>
+ * The column names are written as the array instance shared by the tuples of a dictionary, so the marshaller writes
+ * them only once per stream, e.g. once per chunk of a state transfer. Upon reading, the tuples are attached to the
+ * shared dictionary of their columns.
+ * <p>
+ * This externalizer is automatically registered with the cache manager when starting the
+ * {@link InfinispanDatastoreProvider}, so it's not required to configure the externalizer in the Infinispan
+ * configuration file.
+ */
+// As an implementation of AdvancedExternalizer this is never serialized according to the Externalizer docs
+@SuppressWarnings("serial")
+public class CompactTupleExternalizer implements AdvancedExternalizer<CompactTuple> {
+
+	public static final CompactTupleExternalizer INSTANCE = new CompactTupleExternalizer();
+
+	/**
+	 * Format version of the value type; allows to apply version dependent deserialization logic in the future if
+	 * required; to be incremented when adding new fields to the serialized structure
+	 */
+	private static final int VERSION = 1;
+
+	private static final Set<Class<? extends CompactTuple>> TYPE_CLASSES = Collections.<Class<? extends CompactTuple>>singleton( CompactTuple.class );
+
+	private CompactTupleExternalizer() {
+	}
+
+	@Override
+	public void writeObject(ObjectOutput output, CompactTuple tuple) throws IOException {
+		output.writeInt( VERSION );
+		output.writeObject( tuple.getDictionary().getColumnNames() );
+		output.writeObject( tuple.getValues() );
+	}
+
+	@Override
+	public CompactTuple readObject(ObjectInput input) throws IOException, ClassNotFoundException {
+		VersionChecker.readAndCheckVersion( input, VERSION, CompactTuple.class );
+
+		String[] columnNames = (String[]) input.readObject();
+		Object[] values = (Object[]) input.readObject();
+
+		return new CompactTuple( ColumnDictionary.forColumnNames( columnNames ), values );
+	}
+
+	@Override
+	public Set<Class<? extends CompactTuple>> getTypeClasses() {
+		return TYPE_CLASSES;
+	}
+
+	@Override
+	public Integer getId() {
+		return ExternalizerIds.COMPACT_TUPLE;
+	}
+}
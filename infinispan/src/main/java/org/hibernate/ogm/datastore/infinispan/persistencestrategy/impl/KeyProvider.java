@@ -7,7 +7,6 @@
 
 package org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl;
 
-import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.ogm.model.key.spi.AssociationKey;
@@ -15,7 +14,7 @@
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.infinispan.commons.marshall.AdvancedExternalizer;
-import org.infinispan.distexec.mapreduce.Mapper;
+import org.infinispan.filter.KeyFilter;
 
 /**
  * Converts the OGM-internal keys into the cache keys.
@@ -35,7 +34,11 @@
 
 	ISK getIdSourceCacheKey(IdSourceKey key);
 
-	Mapper<EK, Map<String, Object>, EK, Map<String, Object>> getMapper(EntityKeyMetadata... entityKeyMetadatas);
+	/**
+	 * Returns a filter accepting the entity cache keys of the given entity types. The filter must be serializable, as
+	 * it is sent to the nodes of a clustered cache.
+	 */
+	KeyFilter<EK> getEntityKeyFilter(EntityKeyMetadata... entityKeyMetadatas);
 
 	Set<AdvancedExternalizer<?>> getExternalizers();
 }
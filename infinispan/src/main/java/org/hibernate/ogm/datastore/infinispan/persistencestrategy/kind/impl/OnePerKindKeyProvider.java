@@ -7,11 +7,12 @@
 
 package org.hibernate.ogm.datastore.infinispan.persistencestrategy.kind.impl;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.CompactTupleExternalizer;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.RowKeyExternalizer;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.KeyProvider;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.kind.externalizer.impl.AssociationKeyExternalizer;
@@ -23,8 +24,7 @@
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.infinispan.commons.marshall.AdvancedExternalizer;
-import org.infinispan.distexec.mapreduce.Collector;
-import org.infinispan.distexec.mapreduce.Mapper;
+import org.infinispan.filter.KeyFilter;
 
 /**
  * Key provider which stores all keys as is in ISPN.
@@ -49,8 +49,8 @@ public IdSourceKey getIdSourceCacheKey(IdSourceKey key) {
 	}
 
 	@Override
-	public TupleMapper getMapper(EntityKeyMetadata... entityKeyMetadatas) {
-		return new TupleMapper( entityKeyMetadatas );
+	public KeyFilter<EntityKey> getEntityKeyFilter(EntityKeyMetadata... entityKeyMetadatas) {
+		return new EntityKeyFilter( entityKeyMetadatas );
 	}
 
 	@Override
@@ -62,25 +62,34 @@ public Set<AdvancedExternalizer<?>> getExternalizers() {
 		externalizers.add( RowKeyExternalizer.INSTANCE );
 		externalizers.add( EntityKeyMetadataExternalizer.INSTANCE );
 		externalizers.add( IdSourceKeyExternalizer.INSTANCE );
+		externalizers.add( CompactTupleExternalizer.INSTANCE );
 
 		return Collections.unmodifiableSet( externalizers );
 	}
 
-	private static class TupleMapper implements Mapper<EntityKey, Map<String, Object>, EntityKey, Map<String, Object>> {
+	/**
+	 * Accepts the keys of the given tables; the tables are kept by name, so that the filter can be sent to the nodes of
+	 * a clustered cache.
+	 */
+	private static class EntityKeyFilter implements KeyFilter<EntityKey>, Serializable {
 
-		private final EntityKeyMetadata[] entityKeyMetadatas;
+		private final String[] tables;
 
-		public TupleMapper(EntityKeyMetadata... entityKeyMetadatas) {
-			this.entityKeyMetadatas = entityKeyMetadatas;
+		public EntityKeyFilter(EntityKeyMetadata... entityKeyMetadatas) {
+			this.tables = new String[entityKeyMetadatas.length];
+			for ( int i = 0; i < entityKeyMetadatas.length; i++ ) {
+				tables[i] = entityKeyMetadatas[i].getTable();
+			}
 		}
 
 		@Override
-		public void map(EntityKey key, Map<String, Object> value, Collector<EntityKey, Map<String, Object>> collector) {
-			for ( EntityKeyMetadata entityKeyMetadata : entityKeyMetadatas ) {
-				if ( key.getTable().equals( entityKeyMetadata.getTable() ) ) {
-					collector.emit( key, value );
+		public boolean accept(EntityKey key) {
+			for ( String table : tables ) {
+				if ( key.getTable().equals( table ) ) {
+					return true;
 				}
 			}
+			return false;
 		}
 	}
 }
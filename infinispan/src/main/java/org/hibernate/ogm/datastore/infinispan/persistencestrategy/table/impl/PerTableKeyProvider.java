@@ -7,11 +7,12 @@
 
 package org.hibernate.ogm.datastore.infinispan.persistencestrategy.table.impl;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.CompactTupleExternalizer;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.common.externalizer.impl.RowKeyExternalizer;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.KeyProvider;
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.table.externalizer.impl.PersistentAssociationKey;
@@ -25,8 +26,7 @@
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.infinispan.commons.marshall.AdvancedExternalizer;
-import org.infinispan.distexec.mapreduce.Collector;
-import org.infinispan.distexec.mapreduce.Mapper;
+import org.infinispan.filter.KeyFilter;
 
 /**
  * Provides the persistent keys for the "per-table" strategy. These keys don't contain the table name.
@@ -52,8 +52,8 @@ public PersistentIdSourceKey getIdSourceCacheKey(IdSourceKey key) {
 	}
 
 	@Override
-	public TupleMapper getMapper(EntityKeyMetadata... entityKeyMetadatas) {
-		return TupleMapper.INSTANCE;
+	public KeyFilter<PersistentEntityKey> getEntityKeyFilter(EntityKeyMetadata... entityKeyMetadatas) {
+		return EntityKeyFilter.INSTANCE;
 	}
 
 	@Override
@@ -64,17 +64,25 @@ public Set<AdvancedExternalizer<?>> getExternalizers() {
 		externalizers.add( PersistentAssociationKeyExternalizer.INSTANCE );
 		externalizers.add( RowKeyExternalizer.INSTANCE );
 		externalizers.add( PersistentIdSourceKeyExternalizer.INSTANCE );
+		externalizers.add( CompactTupleExternalizer.INSTANCE );
 
 		return Collections.unmodifiableSet( externalizers );
 	}
 
-	private static class TupleMapper implements Mapper<PersistentEntityKey, Map<String, Object>, PersistentEntityKey, Map<String, Object>> {
+	/**
+	 * The entity cache of a table only contains the keys of that table.
+	 */
+	private static class EntityKeyFilter implements KeyFilter<PersistentEntityKey>, Serializable {
 
-		private static final TupleMapper INSTANCE = new TupleMapper();
+		private static final EntityKeyFilter INSTANCE = new EntityKeyFilter();
 
 		@Override
-		public void map(PersistentEntityKey key, Map<String, Object> value, Collector<PersistentEntityKey, Map<String, Object>> collector) {
-			collector.emit( key, value );
+		public boolean accept(PersistentEntityKey key) {
+			return true;
+		}
+
+		private Object readResolve() {
+			return INSTANCE;
 		}
 	}
 }
@@ -11,8 +11,10 @@
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.boot.registry.classloading.internal.ClassLoaderServiceImpl;
@@ -24,6 +26,7 @@
 import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanDatastoreProvider;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
 import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.id.spi.PersistentNoSqlIdentifierGenerator;
@@ -151,7 +154,7 @@ public void shouldApplyForEachTupleInClusteredMode() throws Exception {
 		// given
 		String[] columnNames = { "foo", "bar", "baz" };
 		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( "Foobar", columnNames );
-		Object[] values = { 123, "Hello", 456L };
+		Object[] values = { 124, "Hello", 456L };
 
 		EntityKey key = new EntityKey( keyMetadata, values );
 
@@ -166,6 +169,55 @@ public void shouldApplyForEachTupleInClusteredMode() throws Exception {
 		assertThat( consumer.consumedTuple.get( "foo" ) ).isEqualTo( "bar" );
 	}
 
+	@Test
+	public void shouldApplyForEachTupleOfEachPartitionInClusteredMode() throws Exception {
+		// given
+		String[] columnNames = { "foo", "bar", "baz" };
+		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( "Foobar", columnNames );
+		List<EntityKey> keys = new ArrayList<EntityKey>();
+		List<String> expectedNames = new ArrayList<String>();
+
+		for ( int i = 0; i < 20; i++ ) {
+			EntityKey key = new EntityKey( keyMetadata, new Object[] { i, "Partitioned", 789L } );
+			Tuple tuple = dialect1.createTuple( key, emptyTupleContext() );
+			tuple.put( "name", "partitioned-" + i );
+			dialect1.insertOrUpdateTuple( key, tuple, emptyTupleContext() );
+			keys.add( key );
+			expectedNames.add( "partitioned-" + i );
+		}
+
+		try {
+			// when
+			List<TuplePartition> partitions = dialect2.getTuplePartitions( emptyTupleContext(), keyMetadata, 4 );
+			NameCollector consumer = new NameCollector();
+			for ( TuplePartition partition : partitions ) {
+				dialect2.forEachTuple( consumer, emptyTupleContext(), keyMetadata, partition );
+			}
+
+			// then
+			assertThat( partitions ).hasSize( 4 );
+			assertThat( consumer.names ).containsOnly( expectedNames.toArray() );
+			assertThat( consumer.names ).hasSize( expectedNames.size() );
+		}
+		finally {
+			for ( EntityKey key : keys ) {
+				dialect1.removeTuple( key, emptyTupleContext() );
+			}
+		}
+	}
+
+	private static final class NameCollector implements ModelConsumer {
+
+		private final List<String> names = new ArrayList<String>();
+
+		@Override
+		public void consume(Tuple tuple) {
+			if ( tuple.get( "name" ) != null ) {
+				names.add( (String) tuple.get( "name" ) );
+			}
+		}
+	}
+
 	private final class MyConsumer implements ModelConsumer {
 
 		private Tuple consumedTuple;
@@ -0,0 +1,54 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.test.tuplestorage;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Entity
+public class Bird {
+
+	@Id
+	private String id;
+
+	private String name;
+
+	private Integer wingspan;
+
+	Bird() {
+	}
+
+	public Bird(String id, String name, Integer wingspan) {
+		this.id = id;
+		this.name = name;
+		this.wingspan = wingspan;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public Integer getWingspan() {
+		return wingspan;
+	}
+
+	public void setWingspan(Integer wingspan) {
+		this.wingspan = wingspan;
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispan.test.tuplestorage;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.fest.assertions.MapAssert.entry;
+import static org.junit.Assert.fail;
+
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.CompactTuple;
+import org.hibernate.ogm.datastore.infinispan.impl.InfinispanDatastoreProvider;
+import org.hibernate.ogm.datastore.infinispan.options.TupleStorageType;
+import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.KeyProvider;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.exception.EntityAlreadyExistsException;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.infinispan.Cache;
+import org.infinispan.commons.marshall.StreamingMarshaller;
+import org.junit.Test;
+
+/**
+ * Test for the {@link TupleStorageType#COMPACT} storage of entity tuples.
+ */
+public class CompactTupleStorageTest extends OgmTestCase {
+
+	private static final EntityKeyMetadata BIRD_KEY_METADATA = new DefaultEntityKeyMetadata( "Bird", new String[] { "id" } );
+
+	@Test
+	public void shouldStoreEntityAsCompactTuple() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Bird( "bird-1", "Albatross", 340 ) );
+		session.persist( new Bird( "bird-2", "Kiwi", null ) );
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+		CompactTuple albatross = (CompactTuple) getEntityCacheValue( "bird-1" );
+		CompactTuple kiwi = (CompactTuple) getEntityCacheValue( "bird-2" );
+		assertThat( albatross.toMap() ).includes( entry( "name", "Albatross" ), entry( "wingspan", 340 ) );
+		assertThat( kiwi.toMap() ).includes( entry( "name", "Kiwi" ) );
+		assertThat( kiwi.toMap().containsKey( "wingspan" ) ).isFalse();
+		assertThat( albatross.getDictionary() ).isSameAs( kiwi.getDictionary() );
+
+		Bird loadedKiwi = (Bird) session.get( Bird.class, "bird-2" );
+		assertThat( loadedKiwi.getName() ).isEqualTo( "Kiwi" );
+		assertThat( loadedKiwi.getWingspan() ).isNull();
+
+		session.delete( session.get( Bird.class, "bird-1" ) );
+		session.delete( loadedKiwi );
+		transaction.commit();
+
+		assertThat( getEntityCacheValue( "bird-1" ) ).isNull();
+		assertThat( getEntityCacheValue( "bird-2" ) ).isNull();
+		session.close();
+	}
+
+	@Test
+	public void shouldUpdateEntityInsertedWithinSameSession() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		Bird bird = new Bird( "bird-3", "Puffin", 60 );
+		session.persist( bird );
+		session.flush();
+		bird.setWingspan( null );
+		session.flush();
+		bird.setName( "Atlantic puffin" );
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+		Bird loadedBird = (Bird) session.get( Bird.class, "bird-3" );
+		assertThat( loadedBird.getName() ).isEqualTo( "Atlantic puffin" );
+		assertThat( loadedBird.getWingspan() ).isNull();
+		session.delete( loadedBird );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void shouldDetectDuplicateInsert() {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Bird( "bird-4", "Heron", 180 ) );
+		transaction.commit();
+		session.close();
+
+		session = openSession();
+		transaction = session.beginTransaction();
+		try {
+			session.persist( new Bird( "bird-4", "Egret", 150 ) );
+			transaction.commit();
+			fail( "Expected exception wasn't raised" );
+		}
+		catch (EntityAlreadyExistsException e) {
+			// expected
+		}
+		finally {
+			session.close();
+		}
+
+		session = openSession();
+		transaction = session.beginTransaction();
+		Bird loadedBird = (Bird) session.get( Bird.class, "bird-4" );
+		assertThat( loadedBird.getName() ).isEqualTo( "Heron" );
+		session.delete( loadedBird );
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void shouldMarshallCompactTuple() throws Exception {
+		Session session = openSession();
+		Transaction transaction = session.beginTransaction();
+		session.persist( new Bird( "bird-5", "Swift", 45 ) );
+		transaction.commit();
+
+		CompactTuple value = (CompactTuple) getEntityCacheValue( "bird-5" );
+		StreamingMarshaller marshaller = getEntityCache().getAdvancedCache().getComponentRegistry().getCacheMarshaller();
+		CompactTuple unmarshalled = (CompactTuple) marshaller.objectFromByteBuffer( marshaller.objectToByteBuffer( value ) );
+		assertThat( unmarshalled.toMap() ).isEqualTo( value.toMap() );
+		assertThat( unmarshalled.getDictionary() ).isSameAs( value.getDictionary() );
+
+		transaction = session.beginTransaction();
+		session.delete( session.get( Bird.class, "bird-5" ) );
+		transaction.commit();
+		session.close();
+	}
+
+	private Object getEntityCacheValue(String id) {
+		@SuppressWarnings("unchecked")
+		KeyProvider<Object, ?, ?> keyProvider = (KeyProvider<Object, ?, ?>) getProvider().getKeyProvider();
+		return getEntityCache().get( keyProvider.getEntityCacheKey( new EntityKey( BIRD_KEY_METADATA, new Object[] { id } ) ) );
+	}
+
+	@SuppressWarnings("unchecked")
+	private Cache<Object, Object> getEntityCache() {
+		return (Cache<Object, Object>) (Cache<?, ?>) getProvider().getCacheManager().getEntityCache( BIRD_KEY_METADATA );
+	}
+
+	private InfinispanDatastoreProvider getProvider() {
+		return (InfinispanDatastoreProvider) getSessionFactory()
+				.getServiceRegistry()
+				.getService( DatastoreProvider.class );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		cfg.put( InfinispanProperties.TUPLE_STORAGE, TupleStorageType.COMPACT );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Bird.class };
+	}
+}
@@ -17,6 +17,7 @@
 import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
 import org.hibernate.ogm.datastore.infinispan.Infinispan;
 import org.hibernate.ogm.datastore.infinispan.InfinispanDialect;
+import org.hibernate.ogm.datastore.infinispan.dialect.impl.CompactTuple;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanDatastoreProvider;
 import org.hibernate.ogm.datastore.spi.DatastoreConfiguration;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
@@ -81,7 +82,13 @@ public long getNumberOfAssociations(SessionFactory sessionFactory) {
 	@Override
 	public Map<String, Object> extractEntityTuple(Session session, EntityKey key) {
 		InfinispanDatastoreProvider provider = getProvider( session.getSessionFactory() );
-		return getEntityCache( session.getSessionFactory(), key.getMetadata() ).get( provider.getKeyProvider().getEntityCacheKey( key ) );
+		Object value = ( (Cache<?, ?>) getEntityCache( session.getSessionFactory(), key.getMetadata() ) ).get( provider.getKeyProvider().getEntityCacheKey( key ) );
+		if ( value instanceof CompactTuple ) {
+			return ( (CompactTuple) value ).toMap();
+		}
+		@SuppressWarnings("unchecked")
+		Map<String, Object> tuple = (Map<String, Object>) value;
+		return tuple;
 	}
 
 	private static Cache<?, Map<String, Object>> getEntityCache(SessionFactory sessionFactory, EntityKeyMetadata entityKeyMetadata) {
@@ -18,6 +18,7 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -29,6 +30,7 @@
 import org.hibernate.HibernateException;
 import org.hibernate.annotations.common.AssertionFailure;
 import org.hibernate.ogm.datastore.document.association.impl.DocumentHelpers;
+import org.hibernate.ogm.datastore.document.association.spi.AssociationRow;
 import org.hibernate.ogm.datastore.document.cfg.DocumentStoreProperties;
 import org.hibernate.ogm.datastore.document.impl.DotPatternMapHelpers;
 import org.hibernate.ogm.datastore.document.impl.EmbeddableStateFinder;
@@ -39,6 +41,7 @@
 import org.hibernate.ogm.datastore.mongodb.configuration.impl.MongoDBConfiguration;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.AssociationStorageStrategy;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBAssociationSnapshot;
+import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBIdRangePartition;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBTupleSnapshot;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBTupleSnapshot.SnapshotType;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoHelpers;
@@ -50,6 +53,7 @@
 import org.hibernate.ogm.datastore.mongodb.options.impl.ReadPreferenceOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.WriteConcernOption;
 import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryDescriptor;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.nativequery.impl.MongoDBQueryDescriptorBuilder;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.nativequery.impl.NativeQueryParser;
 import org.hibernate.ogm.datastore.mongodb.type.impl.ObjectIdGridType;
@@ -63,8 +67,12 @@
 import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.identity.spi.IdentityColumnAwareGridDialect;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.naturalid.spi.NaturalIdAwareGridDialect;
 import org.hibernate.ogm.dialect.optimisticlock.spi.OptimisticLockingAwareGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.NoOpParameterMetadataBuilder;
@@ -88,6 +96,8 @@
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Association;
+import org.hibernate.ogm.model.spi.AssociationOperation;
+import org.hibernate.ogm.model.spi.AssociationSnapshot;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.TupleOperation;
 import org.hibernate.ogm.type.impl.ByteStringType;
@@ -104,6 +114,9 @@
 
 import com.mongodb.AggregationOutput;
 import com.mongodb.BasicDBObject;
+import com.mongodb.BulkUpdateRequestBuilder;
+import com.mongodb.BulkWriteError;
+import com.mongodb.BulkWriteException;
 import com.mongodb.BulkWriteOperation;
 import com.mongodb.BulkWriteResult;
 import com.mongodb.DB;
@@ -131,17 +144,16 @@
  * Collection of embeddable are stored within the owning entity document under the
  * unqualified collection role
  *
- * In MongoDB is possible to batch operations but only for the creation of new documents
- * and only if they don't have invalid characters in the field name.
- * If these conditions are not met, the MongoDB mechanism for batch operations
- * is not going to be used.
+ * When operations are batched, the inserts, updates and deletes of a flush are sent as one bulk write operation
+ * per collection. Bulk writes are ordered unless {@link MongoDBProperties#ORDERED_BULK_WRITES} is set to
+ * {@code false}.
  *
  * @author Guillaume Scheibel &lt;guillaume.scheibel@gmail.com&gt;
  * @author Alan Fitton &lt;alan at eth0.org.uk&gt;
  * @author Emmanuel Bernard &lt;emmanuel@hibernate.org&gt;
  * @author Thorsten Möller &lt;thorsten.moeller@sbi.ch&gt;
  */
-public class MongoDBDialect extends BaseGridDialect implements QueryableGridDialect<MongoDBQueryDescriptor>, BatchableGridDialect, IdentityColumnAwareGridDialect, MultigetGridDialect, OptimisticLockingAwareGridDialect {
+public class MongoDBDialect extends BaseGridDialect implements QueryableGridDialect<MongoDBQueryDescriptor>, BatchableGridDialect, IdentityColumnAwareGridDialect, MultigetGridDialect, MultigetAssociationGridDialect, OptimisticLockingAwareGridDialect, PartitionableGridDialect, NaturalIdAwareGridDialect {
 
 	public static final String ID_FIELDNAME = "_id";
 	public static final String PROPERTY_SEPARATOR = ".";
@@ -160,6 +172,16 @@ public class MongoDBDialect extends BaseGridDialect implements QueryableGridDial
 	 */
 	private static final Pattern PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE = Pattern.compile( ".*[. ]\\$?_id_? .*" );
 
+	/**
+	 * The error code returned by MongoDB for unique index violations.
+	 */
+	private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
+	/**
+	 * The number of ids fetched per round trip while computing the bounds of the partitions of a collection.
+	 */
+	private static final int ID_SCAN_BATCH_SIZE = 10000;
+
 	private final MongoDBDatastoreProvider provider;
 	private final DB currentDB;
 
@@ -215,6 +237,23 @@ private static List<Tuple> tuplesResult(EntityKey[] keys, Object[] searchObjects
 		return Arrays.asList( tuples );
 	}
 
+	/**
+	 * Queries the unique index created for the natural id, only fetching the {@code _id} field.
+	 */
+	@Override
+	public Tuple getTupleByNaturalId(EntityKeyMetadata entityKeyMetadata, String[] naturalIdColumnNames, Object[] naturalIdColumnValues, TupleContext tupleContext) {
+		ReadPreference readPreference = getReadPreference( tupleContext );
+
+		DBObject query = new BasicDBObject( naturalIdColumnNames.length );
+		for ( int i = 0; i < naturalIdColumnNames.length; i++ ) {
+			query.put( naturalIdColumnNames[i], naturalIdColumnValues[i] );
+		}
+		DBObject projection = new BasicDBObject( ID_FIELDNAME, 1 );
+
+		DBObject found = getCollection( entityKeyMetadata ).findOne( query, projection, readPreference );
+		return found != null ? new Tuple( new MongoDBTupleSnapshot( found, entityKeyMetadata, UPDATE ) ) : null;
+	}
+
 	private static Tuple createTuple(EntityKey key, TupleContext tupleContext, DBObject found) {
 		if ( found != null ) {
 			return new Tuple( new MongoDBTupleSnapshot( found, key.getMetadata(), UPDATE ) );
@@ -583,6 +622,103 @@ public Association getAssociation(AssociationKey key, AssociationContext associa
 		}
 	}
 
+	/**
+	 * Reads the association documents, or the entity documents embedding the associations, of all the given keys with
+	 * a single query. The associations embedded in entities whose documents are given by the context are not read
+	 * again.
+	 */
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( keys[0], associationContexts[0] );
+		DBObject[] documents = new DBObject[keys.length];
+		boolean[] queued = new boolean[keys.length];
+
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( isEmbeddedAssociation( keys[i] ) && isInTheQueue( keys[i].getEntityKey(), associationContexts[i] ) ) {
+				// The association is embedded and the owner of the association is in the insertion queue
+				documents[i] = prepareIdObject( keys[i].getEntityKey() );
+				queued[i] = true;
+			}
+		}
+
+		// We need to execute the previous operations first or it won't be able to find the keys that should have
+		// been created
+		executeBatch( associationContexts[0].getOperationsQueue() );
+
+		List<Integer> toRead = new ArrayList<>( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( queued[i] ) {
+				continue;
+			}
+			if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY && associationContexts[i].getEntityTuple() != null ) {
+				documents[i] = ( (MongoDBTupleSnapshot) associationContexts[i].getEntityTuple().getSnapshot() ).getDbObject();
+			}
+			else {
+				toRead.add( i );
+			}
+		}
+
+		if ( !toRead.isEmpty() ) {
+			Object[] ids = new Object[toRead.size()];
+			for ( int i = 0; i < ids.length; i++ ) {
+				AssociationKey key = keys[toRead.get( i )];
+				ids[i] = storageStrategy == AssociationStorageStrategy.IN_ENTITY
+						? prepareIdObjectValue( key.getEntityKey().getColumnNames(), key.getEntityKey().getColumnValues() )
+						: associationKeyToObject( key, storageStrategy ).get( ID_FIELDNAME );
+			}
+
+			DBCollection collection = storageStrategy == AssociationStorageStrategy.IN_ENTITY
+					? getCollection( keys[0].getEntityKey() )
+					: getAssociationCollection( keys[0], storageStrategy );
+			DBObject projection = getProjection( keys[0], storageStrategy == AssociationStorageStrategy.IN_ENTITY );
+			DBObject[] found = findDocuments( collection, ids, projection, getReadPreference( associationContexts[0] ) );
+			for ( int i = 0; i < found.length; i++ ) {
+				documents[toRead.get( i )] = found[i];
+			}
+		}
+
+		List<Association> associations = new ArrayList<>( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			DBObject document = documents[i];
+			if ( document == null
+					|| ( !queued[i] && storageStrategy == AssociationStorageStrategy.IN_ENTITY && !hasField( document, keys[i].getMetadata().getCollectionRole() ) ) ) {
+				associations.add( null );
+			}
+			else {
+				associations.add( new Association( new MongoDBAssociationSnapshot( document, keys[i], storageStrategy ) ) );
+			}
+		}
+		return associations;
+	}
+
+	/*
+	 * Returns the documents with the given ids in the order of the ids, null being set for the ids without matching
+	 * document.
+	 */
+	private static DBObject[] findDocuments(DBCollection collection, Object[] ids, DBObject projection, ReadPreference readPreference) {
+		DBObject[] documents = new DBObject[ids.length];
+		DBObject query = new BasicDBObject( ID_FIELDNAME, new BasicDBObject( "$in", ids ) );
+		DBCursor cursor = collection.find( query, projection ).setReadPreference( readPreference );
+		try {
+			for ( DBObject document : cursor ) {
+				for ( int i = 0; i < ids.length; i++ ) {
+					if ( documents[i] == null && document.get( ID_FIELDNAME ).equals( ids[i] ) ) {
+						documents[i] = document;
+						break;
+					}
+				}
+			}
+		}
+		finally {
+			cursor.close();
+		}
+		return documents;
+	}
+
 	private static boolean isEmbeddedAssociation(AssociationKey key) {
 		return AssociationKind.EMBEDDED_COLLECTION == key.getMetadata().getAssociationKind();
 	}
@@ -678,34 +814,131 @@ private static Object getAssociationRow(Tuple row, AssociationKey associationKey
 
 	@Override
 	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
-		DBCollection collection;
-		DBObject query;
-		MongoDBAssociationSnapshot assocSnapshot = (MongoDBAssociationSnapshot) association.getSnapshot();
-		String associationField;
-
 		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( key, associationContext );
 		WriteConcern writeConcern = getWriteConcern( associationContext );
 
+		DBCollection collection = getAssociationUpdateCollection( key, storageStrategy );
+		DBObject query = getAssociationUpdateQuery( key, association, storageStrategy );
+
+		for ( DBObject update : getAssociationUpdates( key, association, associationContext, storageStrategy ) ) {
+			collection.update( query, update, true, false, writeConcern );
+		}
+	}
+
+	private DBCollection getAssociationUpdateCollection(AssociationKey key, AssociationStorageStrategy storageStrategy) {
+		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
+			return getCollection( key.getEntityKey() );
+		}
+		else {
+			return getAssociationCollection( key, storageStrategy );
+		}
+	}
+
+	private static DBObject getAssociationUpdateQuery(AssociationKey key, Association association, AssociationStorageStrategy storageStrategy) {
+		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
+			return prepareIdObject( key.getEntityKey() );
+		}
+		else {
+			return ( (MongoDBAssociationSnapshot) association.getSnapshot() ).getQueryObject();
+		}
+	}
+
+	/**
+	 * Returns the updates storing the changes of the given association. In case the association is stored within the
+	 * entity, the document of the entity tuple is updated as well.
+	 * <p>
+	 * If the association is stored as a list of rows, the added rows are sent with {@code $push} and the removed rows
+	 * with {@code $pullAll}, so that large associations don't need to be sent as a whole. Otherwise, e.g. for a cleared
+	 * association, a map-typed association or when rows have been changed in place (as happens when re-ordering an
+	 * indexed list), all the rows are written with {@code $set}.
+	 */
+	private static List<DBObject> getAssociationUpdates(AssociationKey key, Association association, AssociationContext associationContext, AssociationStorageStrategy storageStrategy) {
+		String associationField = storageStrategy == AssociationStorageStrategy.IN_ENTITY
+				? key.getMetadata().getCollectionRole()
+				: ROWS_FIELDNAME;
+
+		boolean storedAsList = key.getMetadata().getAssociationType() != AssociationType.ONE_TO_ONE
+				&& !DotPatternMapHelpers.organizeAssociationMapByRowKey( association, key, associationContext );
+		List<DBObject> deltaUpdates = storedAsList ? getAssociationDeltaUpdates( key, association, associationField ) : null;
+
+		if ( deltaUpdates != null && storageStrategy != AssociationStorageStrategy.IN_ENTITY ) {
+			return deltaUpdates;
+		}
+
 		Object rows = getAssociationRows( association, key, associationContext );
 		Object toStore = key.getMetadata().getAssociationType() == AssociationType.ONE_TO_ONE ? ( (List<?>) rows ).get( 0 ) : rows;
 
 		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
-			collection = this.getCollection( key.getEntityKey() );
-			query = prepareIdObject( key.getEntityKey() );
-			associationField = key.getMetadata().getCollectionRole();
-
 			//TODO would that fail if getCollectionRole has dots?
 			( (MongoDBTupleSnapshot) associationContext.getEntityTuple().getSnapshot() ).getDbObject().put( key.getMetadata().getCollectionRole(), toStore );
 		}
-		else {
-			collection = getAssociationCollection( key, storageStrategy );
-			query = assocSnapshot.getQueryObject();
-			associationField = ROWS_FIELDNAME;
+
+		if ( deltaUpdates != null ) {
+			return deltaUpdates;
+		}
+
+		return Collections.<DBObject>singletonList( new BasicDBObject( "$set", new BasicDBObject( associationField, toStore ) ) );
+	}
+
+	/**
+	 * Returns the {@code $push} and {@code $pullAll} updates applying the operations of the given association to the
+	 * list of rows stored in the datastore or {@code null} if the operations cannot be expressed that way.
+	 * <p>
+	 * A removed row is given as stored in the datastore, as {@code $pullAll} only removes exact matches. Both updates
+	 * are commutative, as the row keys of an association are unique; they can thus be sent as part of an unordered bulk
+	 * write.
+	 */
+	private static List<DBObject> getAssociationDeltaUpdates(AssociationKey key, Association association, String associationField) {
+		AssociationSnapshot snapshot = association.getSnapshot();
+
+		// the rows need to be stored as list already
+		if ( !( snapshot instanceof MongoDBAssociationSnapshot ) || snapshot.size() == 0 ) {
+			return null;
+		}
+
+		List<Object> addedRows = new ArrayList<>();
+		List<Object> removedRows = new ArrayList<>();
+
+		for ( AssociationOperation operation : association.getOperations() ) {
+			switch ( operation.getType() ) {
+				case CLEAR:
+					return null;
+				case PUT:
+					// a changed row, the position of the rows isn't preserved by $pullAll and $push
+					if ( snapshot.containsKey( operation.getKey() ) ) {
+						return null;
+					}
+					addedRows.add( getAssociationRow( operation.getValue(), key ) );
+					break;
+				case REMOVE:
+					if ( snapshot.containsKey( operation.getKey() ) ) {
+						removedRows.add( getStoredAssociationRow( snapshot.get( operation.getKey() ), key ) );
+					}
+					break;
+			}
+		}
+
+		if ( addedRows.isEmpty() && removedRows.isEmpty() ) {
+			return null;
 		}
 
-		DBObject update = new BasicDBObject( "$set", new BasicDBObject( associationField, toStore ) );
+		List<DBObject> updates = new ArrayList<>( 2 );
+		if ( !removedRows.isEmpty() ) {
+			updates.add( new BasicDBObject( "$pullAll", new BasicDBObject( associationField, removedRows ) ) );
+		}
+		if ( !addedRows.isEmpty() ) {
+			updates.add( new BasicDBObject( "$push", new BasicDBObject( associationField, new BasicDBObject( "$each", addedRows ) ) ) );
+		}
+		return updates;
+	}
 
-		collection.update( query, update, true, false, writeConcern );
+	/**
+	 * Returns the given row of an association snapshot as stored in the datastore. A single value is stored as is,
+	 * several values are stored as a document whose field order is kept as read.
+	 */
+	private static Object getStoredAssociationRow(Tuple row, AssociationKey key) {
+		Object storedRow = getAssociationRow( row, key );
+		return storedRow instanceof DBObject ? ( (AssociationRow<?>) row.getSnapshot() ).getUnderlyingRow() : storedRow;
 	}
 
 	@Override
@@ -805,9 +1038,63 @@ public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, Enti
 		}
 	}
 
+	/**
+	 * Splits the collection into ranges of ids holding about the same number of documents. The bounds of the ranges are
+	 * determined by skipping through the {@code _id} index.
+	 */
+	@Override
+	public List<TuplePartition> getTuplePartitions(TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, int partitions) {
+		DBCollection collection = provider.getDatabase().getCollection( entityKeyMetadata.getTable() );
+		List<Object> bounds = new ArrayList<>();
+
+		long count = partitions > 1 ? collection.count() : 0;
+		if ( count > partitions ) {
+			// read the ids in order in a single pass over the _id index, keeping every n-th one as a bound
+			long partitionSize = ( count + partitions - 1 ) / partitions;
+			DBObject byId = new BasicDBObject( ID_FIELDNAME, 1 );
+			DBCursor cursor = collection.find( new BasicDBObject(), byId ).sort( byId ).hint( byId ).batchSize( ID_SCAN_BATCH_SIZE );
+			try {
+				long position = 0;
+				while ( bounds.size() < partitions - 1 && cursor.hasNext() ) {
+					Object id = cursor.next().get( ID_FIELDNAME );
+					if ( position > 0 && position % partitionSize == 0 ) {
+						bounds.add( id );
+					}
+					position++;
+				}
+			}
+			finally {
+				cursor.close();
+			}
+		}
+
+		List<TuplePartition> result = new ArrayList<>( bounds.size() + 1 );
+		Object lowerBound = null;
+		for ( Object bound : bounds ) {
+			result.add( new MongoDBIdRangePartition( lowerBound, bound ) );
+			lowerBound = bound;
+		}
+		result.add( new MongoDBIdRangePartition( lowerBound, null ) );
+		return result;
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, TuplePartition partition) {
+		DBCollection collection = provider.getDatabase().getCollection( entityKeyMetadata.getTable() );
+		DBCursor cursor = ( (MongoDBIdRangePartition) partition ).find( collection );
+		try {
+			for ( DBObject dbObject : cursor ) {
+				consumer.consume( new Tuple( new MongoDBTupleSnapshot( dbObject, entityKeyMetadata, UPDATE ) ) );
+			}
+		}
+		finally {
+			cursor.close();
+		}
+	}
+
 	@Override
 	public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<MongoDBQueryDescriptor> backendQuery, QueryParameters queryParameters, TupleContext tupleContext) {
-		MongoDBQueryDescriptor queryDescriptor = backendQuery.getQuery();
+		MongoDBQueryDescriptor queryDescriptor = bindParameters( backendQuery.getQuery(), queryParameters );
 
 		EntityKeyMetadata entityKeyMetadata =
 				backendQuery.getSingleEntityMetadataInformationOrNull() == null ? null :
@@ -919,6 +1206,31 @@ private static ClosableIterator<Tuple> doAggregate(MongoDBQueryDescriptor query,
 		return new MongoDBAggregationOutput( output, entityKeyMetadata );
 	}
 
+	/**
+	 * Applies the given parameter values to the placeholders of a query parsed from JP-QL without parameter values.
+	 */
+	private static MongoDBQueryDescriptor bindParameters(MongoDBQueryDescriptor queryDescriptor, QueryParameters queryParameters) {
+		if ( queryParameters.getNamedParameters().isEmpty() ) {
+			return queryDescriptor;
+		}
+
+		DBObject criteria = MongoDBQueryParameter.bind( queryDescriptor.getCriteria(), queryParameters.getNamedParameters() );
+		if ( criteria == queryDescriptor.getCriteria() ) {
+			return queryDescriptor;
+		}
+
+		return new MongoDBQueryDescriptor(
+				queryDescriptor.getCollectionName(),
+				queryDescriptor.getOperation(),
+				criteria,
+				queryDescriptor.getProjection(),
+				queryDescriptor.getOrderBy(),
+				queryDescriptor.getOptions(),
+				queryDescriptor.getUpdateOrInsert(),
+				queryDescriptor.getUnwinds()
+		);
+	}
+
 	private static DBObject stage(String key, Object value) {
 		DBObject stage = new BasicDBObject();
 		stage.put( key, value );
@@ -941,6 +1253,10 @@ private static ClosableIterator<Tuple> doFind(MongoDBQueryDescriptor query, Quer
 			cursor.limit( queryParameters.getRowSelection().getMaxRows() );
 		}
 
+		if ( queryParameters.getRowSelection().getFetchSize() != null ) {
+			cursor.batchSize( queryParameters.getRowSelection().getFetchSize() );
+		}
+
 		return new MongoDBResultsCursor( cursor, entityKeyMetadata );
 	}
 
@@ -1153,14 +1469,14 @@ private static AssociationStorageStrategy getAssociationStorageStrategy(Associat
 	public void executeBatch(OperationsQueue queue) {
 		if ( !queue.isClosed() ) {
 			Operation operation = queue.poll();
-			Map<DBCollection, BatchInsertionTask> inserts = new HashMap<DBCollection, BatchInsertionTask>();
+			Map<DBCollection, BulkWriteTask> bulkWrites = new LinkedHashMap<DBCollection, BulkWriteTask>();
 
 			List<MongoDBTupleSnapshot> insertSnapshots = new ArrayList<MongoDBTupleSnapshot>();
 
 			while ( operation != null ) {
 				if ( operation instanceof InsertOrUpdateTupleOperation ) {
 					InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
-					executeBatchUpdate( inserts, update );
+					executeBatchUpdate( bulkWrites, update );
 					MongoDBTupleSnapshot snapshot = (MongoDBTupleSnapshot) update.getTuple().getSnapshot();
 					if ( snapshot.getSnapshotType() == INSERT ) {
 						insertSnapshots.add( snapshot );
@@ -1168,22 +1484,22 @@ public void executeBatch(OperationsQueue queue) {
 				}
 				else if ( operation instanceof RemoveTupleOperation ) {
 					RemoveTupleOperation tupleOp = (RemoveTupleOperation) operation;
-					executeBatchRemove( inserts, tupleOp );
+					executeBatchRemove( bulkWrites, tupleOp );
 				}
 				else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
 					InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
-					executeBatchUpdateAssociation( inserts, update );
+					executeBatchUpdateAssociation( bulkWrites, update );
 				}
 				else if ( operation instanceof RemoveAssociationOperation ) {
 					RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
-					removeAssociation( remove.getAssociationKey(), remove.getContext() );
+					executeBatchRemoveAssociation( bulkWrites, remove );
 				}
 				else {
 					throw new UnsupportedOperationException( "Operation not supported on MongoDB: " + operation.getClass().getName() );
 				}
 				operation = queue.poll();
 			}
-			flushInserts( inserts );
+			flushBulkWrites( bulkWrites );
 
 			for ( MongoDBTupleSnapshot insertSnapshot : insertSnapshots ) {
 				insertSnapshot.setSnapshotType( UPDATE );
@@ -1192,55 +1508,99 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 		}
 	}
 
-	private void executeBatchRemove(Map<DBCollection, BatchInsertionTask> inserts, RemoveTupleOperation tupleOperation) {
+	private void executeBatchRemove(Map<DBCollection, BulkWriteTask> bulkWrites, RemoveTupleOperation tupleOperation) {
 		EntityKey entityKey = tupleOperation.getEntityKey();
 		DBCollection collection = getCollection( entityKey );
-		BatchInsertionTask batchedInserts = inserts.get( collection );
+		WriteConcern writeConcern = getWriteConcern( tupleOperation.getTupleContext() );
+		BulkWriteTask bulkWrite = getOrCreateBulkWriteTask( bulkWrites, collection );
 
-		if ( batchedInserts != null && batchedInserts.containsKey( entityKey ) ) {
-			batchedInserts.remove( entityKey );
-		}
-		else {
-			removeTuple( entityKey, tupleOperation.getTupleContext() );
+		// no need to send anything for an entity which has been inserted within the same batch
+		if ( !bulkWrite.removeInsert( entityKey ) ) {
+			bulkWrite.remove( entityKey, prepareIdObject( entityKey ), writeConcern );
 		}
 	}
 
-	private void executeBatchUpdate(Map<DBCollection, BatchInsertionTask> inserts, InsertOrUpdateTupleOperation tupleOperation) {
+	private void executeBatchUpdate(Map<DBCollection, BulkWriteTask> bulkWrites, InsertOrUpdateTupleOperation tupleOperation) {
 		EntityKey entityKey = tupleOperation.getEntityKey();
 		Tuple tuple = tupleOperation.getTuple();
 		MongoDBTupleSnapshot snapshot = (MongoDBTupleSnapshot) tupleOperation.getTuple().getSnapshot();
 		WriteConcern writeConcern = getWriteConcern( tupleOperation.getTupleContext() );
 
 		if ( INSERT == snapshot.getSnapshotType() ) {
-			prepareForInsert( inserts, snapshot, entityKey, tuple, writeConcern );
+			prepareForInsert( bulkWrites, snapshot, entityKey, tuple, writeConcern );
 		}
 		else {
 			// Object already exists in the db or has invalid fields:
-			insertOrUpdateTuple( entityKey, tuple, tupleOperation.getTupleContext() );
+			BasicDBObject idObject = prepareIdObject( entityKey );
+			DBObject updater = objectForUpdate( tuple, idObject, tupleOperation.getTupleContext() );
+
+			DBCollection collection = getCollection( entityKey );
+			getOrCreateBulkWriteTask( bulkWrites, collection )
+					.update( entityKey, tuple, idObject, updater, writeConcern );
 		}
 	}
 
-	private void executeBatchUpdateAssociation(Map<DBCollection, BatchInsertionTask> inserts, InsertOrUpdateAssociationOperation updateOp) {
+	private void executeBatchUpdateAssociation(Map<DBCollection, BulkWriteTask> bulkWrites, InsertOrUpdateAssociationOperation updateOp) {
 		AssociationKey associationKey = updateOp.getAssociationKey();
+		AssociationContext associationContext = updateOp.getContext();
+		WriteConcern writeConcern = getWriteConcern( associationContext );
+
 		if ( isEmbeddedAssociation( associationKey ) ) {
 			DBCollection collection = getCollection( associationKey.getEntityKey() );
-			BatchInsertionTask batchInserts = inserts.get( collection );
-			if ( batchInserts != null && batchInserts.containsKey( associationKey.getEntityKey() ) ) {
+			BulkWriteTask bulkWrite = bulkWrites.get( collection );
+			if ( bulkWrite != null && bulkWrite.containsInsert( associationKey.getEntityKey() ) ) {
 				// The owner of the association is in the insertion queue,
 				// we are going to update it with the collection of elements
-				WriteConcern writeConcern = getWriteConcern( updateOp.getContext() );
-				BatchInsertionTask insertTask = getOrCreateBatchInsertionTask( inserts, associationKey.getEntityKey().getMetadata(), collection, writeConcern );
-				DBObject documentForInsertion = insertTask.get( associationKey.getEntityKey() );
-				Object embeddedElements = getAssociationRows( updateOp.getAssociation(), updateOp.getAssociationKey(), updateOp.getContext() );
+				DBObject documentForInsertion = bulkWrite.getInsert( associationKey.getEntityKey() );
+				Object embeddedElements = getAssociationRows( updateOp.getAssociation(), associationKey, associationContext );
 				String collectionRole = associationKey.getMetadata().getCollectionRole();
 				MongoHelpers.setValue( documentForInsertion, collectionRole, embeddedElements );
+				return;
 			}
-			else {
-				insertOrUpdateAssociation( updateOp.getAssociationKey(), updateOp.getAssociation(), updateOp.getContext() );
+		}
+
+		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( associationKey, associationContext );
+		DBCollection collection = getAssociationUpdateCollection( associationKey, storageStrategy );
+		DBObject query = getAssociationUpdateQuery( associationKey, updateOp.getAssociation(), storageStrategy );
+		BulkWriteTask bulkWrite = getOrCreateBulkWriteTask( bulkWrites, collection );
+
+		for ( DBObject update : getAssociationUpdates( associationKey, updateOp.getAssociation(), associationContext, storageStrategy ) ) {
+			bulkWrite.update( null, null, query, update, writeConcern );
+		}
+	}
+
+	private void executeBatchRemoveAssociation(Map<DBCollection, BulkWriteTask> bulkWrites, RemoveAssociationOperation removeOp) {
+		AssociationKey associationKey = removeOp.getAssociationKey();
+		AssociationContext associationContext = removeOp.getContext();
+		AssociationStorageStrategy storageStrategy = getAssociationStorageStrategy( associationKey, associationContext );
+		WriteConcern writeConcern = getWriteConcern( associationContext );
+
+		if ( storageStrategy == AssociationStorageStrategy.IN_ENTITY ) {
+			EntityKey entityKey = associationKey.getEntityKey();
+			String collectionRole = associationKey.getMetadata().getCollectionRole();
+			DBCollection collection = getCollection( entityKey );
+			BulkWriteTask bulkWrite = getOrCreateBulkWriteTask( bulkWrites, collection );
+
+			if ( bulkWrite.containsInsert( entityKey ) ) {
+				// The owner is going to be inserted by this batch, it's enough to drop the field from the document
+				MongoHelpers.resetValue( bulkWrite.getInsert( entityKey ), collectionRole );
+			}
+			else if ( !bulkWrite.containsRemove( entityKey ) ) {
+				// Same as removeAssociation(), except that the update is sent with the rest of the batch
+				DBObject dbObject = getEmbeddingEntity( associationKey, associationContext );
+				if ( dbObject != null ) {
+					dbObject.removeField( collectionRole );
+					BasicDBObject updater = new BasicDBObject();
+					addSubQuery( "$unset", updater, collectionRole, Integer.valueOf( 1 ) );
+					bulkWrite.update( null, null, prepareIdObject( entityKey ), updater, writeConcern );
+				}
 			}
 		}
 		else {
-			insertOrUpdateAssociation( updateOp.getAssociationKey(), updateOp.getAssociation(), updateOp.getContext() );
+			DBCollection collection = getAssociationCollection( associationKey, storageStrategy );
+			DBObject query = associationKeyToObject( associationKey, storageStrategy );
+
+			getOrCreateBulkWriteTask( bulkWrites, collection ).remove( null, query, writeConcern );
 		}
 	}
 
@@ -1249,53 +1609,91 @@ public ParameterMetadataBuilder getParameterMetadataBuilder() {
 		return NoOpParameterMetadataBuilder.INSTANCE;
 	}
 
-	private void prepareForInsert(Map<DBCollection, BatchInsertionTask> inserts, MongoDBTupleSnapshot snapshot, EntityKey entityKey, Tuple tuple, WriteConcern writeConcern) {
+	private void prepareForInsert(Map<DBCollection, BulkWriteTask> bulkWrites, MongoDBTupleSnapshot snapshot, EntityKey entityKey, Tuple tuple, WriteConcern writeConcern) {
 		DBCollection collection = getCollection( entityKey );
-		BatchInsertionTask batchInsertion = getOrCreateBatchInsertionTask( inserts, entityKey.getMetadata(), collection, writeConcern );
-		DBObject document = getCurrentDocument( snapshot, batchInsertion, entityKey );
+		BulkWriteTask bulkWrite = getOrCreateBulkWriteTask( bulkWrites, collection );
+		DBObject document = getCurrentDocument( snapshot, bulkWrite, entityKey );
 		DBObject newDocument = objectForInsert( tuple, document );
-		inserts.get( collection ).put( entityKey, newDocument );
+		bulkWrite.insert( entityKey, tuple, newDocument, writeConcern );
 	}
 
-	private static DBObject getCurrentDocument(MongoDBTupleSnapshot snapshot, BatchInsertionTask batchInsert, EntityKey entityKey) {
-		DBObject fromBatchInsertion = batchInsert.get( entityKey );
+	private static DBObject getCurrentDocument(MongoDBTupleSnapshot snapshot, BulkWriteTask bulkWrite, EntityKey entityKey) {
+		DBObject fromBatchInsertion = bulkWrite.getInsert( entityKey );
 		return fromBatchInsertion != null ? fromBatchInsertion : snapshot.getDbObject();
 	}
 
-	private static BatchInsertionTask getOrCreateBatchInsertionTask(Map<DBCollection, BatchInsertionTask> inserts, EntityKeyMetadata entityKeyMetadata, DBCollection collection, WriteConcern writeConcern) {
-		BatchInsertionTask insertsForCollection = inserts.get( collection );
+	private BulkWriteTask getOrCreateBulkWriteTask(Map<DBCollection, BulkWriteTask> bulkWrites, DBCollection collection) {
+		BulkWriteTask bulkWriteForCollection = bulkWrites.get( collection );
 
-		if ( insertsForCollection == null ) {
-			insertsForCollection = new BatchInsertionTask( entityKeyMetadata, writeConcern );
-			inserts.put( collection, insertsForCollection );
+		if ( bulkWriteForCollection == null ) {
+			bulkWriteForCollection = new BulkWriteTask( provider.isOrderedBulkWrites() );
+			bulkWrites.put( collection, bulkWriteForCollection );
 		}
 
-		return insertsForCollection;
+		return bulkWriteForCollection;
 	}
 
-	private static void flushInserts(Map<DBCollection, BatchInsertionTask> inserts) {
-		for ( Map.Entry<DBCollection, BatchInsertionTask> entry : inserts.entrySet() ) {
+	/**
+	 * Sends the collected write requests, one bulk write operation per collection and run of consecutive requests
+	 * with the same write concern.
+	 */
+	private static void flushBulkWrites(Map<DBCollection, BulkWriteTask> bulkWrites) {
+		for ( Map.Entry<DBCollection, BulkWriteTask> entry : bulkWrites.entrySet() ) {
 			DBCollection collection = entry.getKey();
-			if ( entry.getValue().isEmpty() ) {
-				// has been emptied due to subsequent removals before flushes
-				continue;
+			BulkWriteTask bulkWrite = entry.getValue();
+
+			// empty if all the requests have been dropped due to subsequent removals
+			for ( List<BulkWriteRequest> requests : bulkWrite.getRequestsPerWriteConcern() ) {
+				executeBulkWrite( collection, bulkWrite, requests );
 			}
+		}
+		bulkWrites.clear();
+	}
 
-			try {
-				collection.insert( entry.getValue().getAll(), entry.getValue().getWriteConcern() );
+	private static void executeBulkWrite(DBCollection collection, BulkWriteTask bulkWrite, List<BulkWriteRequest> requests) {
+		BulkWriteOperation operation = bulkWrite.isOrdered() ? collection.initializeOrderedBulkOperation() : collection.initializeUnorderedBulkOperation();
+		for ( BulkWriteRequest request : requests ) {
+			request.addTo( operation );
+		}
+
+		WriteConcern writeConcern = requests.get( 0 ).getWriteConcern();
+		try {
+			BulkWriteResult result = operation.execute( writeConcern != null ? writeConcern : collection.getWriteConcern() );
+			if ( result.isAcknowledged() && result.getRemovedCount() > 0 ) {
+				log.removedDocuments( result.getRemovedCount(), collection.getName() );
 			}
-			catch ( DuplicateKeyException dke ) {
-				// This exception is used by MongoDB for all the unique indexes violation, not only the primary key
+		}
+		catch ( BulkWriteException bwe ) {
+			throw convertBulkWriteException( requests, bwe );
+		}
+		catch ( DuplicateKeyException dke ) {
+			// Raised instead of a BulkWriteException by some implementations (e.g. Fongo)
+			// This exception is used by MongoDB for all the unique indexes violation, not only the primary key
+			// so we determine if it concerns the primary key by matching on the message
+			if ( bulkWrite.getEntityKeyMetadata() != null && PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE.matcher( dke.getMessage() ).matches() ) {
+				throw new TupleAlreadyExistsException( bulkWrite.getEntityKeyMetadata(), null, dke );
+			}
+			else {
+				throw log.constraintViolationOnFlush( dke.getMessage(), dke );
+			}
+		}
+	}
+
+	private static RuntimeException convertBulkWriteException(List<BulkWriteRequest> requests, BulkWriteException bwe) {
+		for ( BulkWriteError error : bwe.getWriteErrors() ) {
+			if ( error.getCode() == DUPLICATE_KEY_ERROR_CODE ) {
+				// This error is used by MongoDB for all the unique indexes violation, not only the primary key
 				// so we determine if it concerns the primary key by matching on the message
-				if ( PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE.matcher( dke.getMessage() ).matches() ) {
-					throw new TupleAlreadyExistsException( entry.getValue().getEntityKeyMetadata(), null, dke );
+				BulkWriteRequest request = requests.get( error.getIndex() );
+				if ( request.getEntityKey() != null && PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE.matcher( error.getMessage() ).matches() ) {
+					return new TupleAlreadyExistsException( request.getEntityKey().getMetadata(), request.getTuple(), bwe );
 				}
 				else {
-					throw log.constraintViolationOnFlush( dke.getMessage(), dke );
+					return log.constraintViolationOnFlush( error.getMessage(), bwe );
 				}
 			}
 		}
-		inserts.clear();
+		return bwe;
 	}
 
 	private static WriteConcern getWriteConcern(TupleContext tupleContext) {
@@ -1421,48 +1819,213 @@ public void close() {
 		}
 	}
 
-	private static class BatchInsertionTask {
+	/**
+	 * The write requests collected for one collection during a batch. The requests keep the order of the operations
+	 * they originate from, along with their write concern. Documents to be inserted can still be amended or dropped
+	 * until the task is flushed.
+	 */
+	private static class BulkWriteTask {
 
-		private final EntityKeyMetadata entityKeyMetadata;
-		private final Map<EntityKey, DBObject> inserts;
-		private final WriteConcern writeConcern;
+		private final boolean ordered;
+		private final List<BulkWriteRequest> requests;
+		private final Map<EntityKey, BulkWriteRequest> inserts;
+		private final Set<EntityKey> removes;
+		private EntityKeyMetadata entityKeyMetadata;
 
-		public BatchInsertionTask(EntityKeyMetadata entityKeyMetadata, WriteConcern writeConcern) {
-			this.entityKeyMetadata = entityKeyMetadata;
-			this.inserts = new HashMap<EntityKey, DBObject>();
-			this.writeConcern = writeConcern;
+		public BulkWriteTask(boolean ordered) {
+			this.ordered = ordered;
+			this.requests = new ArrayList<BulkWriteRequest>();
+			this.inserts = new HashMap<EntityKey, BulkWriteRequest>();
+			this.removes = new HashSet<EntityKey>();
 		}
 
+		/**
+		 * @return the metadata of the entities written by this task, {@code null} if it only writes associations
+		 */
 		public EntityKeyMetadata getEntityKeyMetadata() {
 			return entityKeyMetadata;
 		}
 
-		public List<DBObject> getAll() {
-			return new ArrayList<DBObject>( inserts.values() );
+		public boolean isOrdered() {
+			return ordered;
 		}
 
-		public DBObject get(EntityKey entityKey) {
-			return inserts.get( entityKey );
-
+		public DBObject getInsert(EntityKey entityKey) {
+			BulkWriteRequest insert = inserts.get( entityKey );
+			return insert != null ? insert.getDocument() : null;
 		}
-		public boolean containsKey(EntityKey entityKey) {
+
+		public boolean containsInsert(EntityKey entityKey) {
 			return inserts.containsKey( entityKey );
 		}
 
-		public DBObject remove(EntityKey entityKey) {
-			return inserts.remove( entityKey );
+		public boolean containsRemove(EntityKey entityKey) {
+			return removes.contains( entityKey );
+		}
+
+		public void insert(EntityKey entityKey, Tuple tuple, DBObject document, WriteConcern writeConcern) {
+			BulkWriteRequest insert = inserts.get( entityKey );
+			if ( insert == null ) {
+				insert = BulkWriteRequest.insert( entityKey, tuple, document, writeConcern );
+				inserts.put( entityKey, insert );
+				add( insert );
+			}
+			else {
+				insert.setDocument( document );
+			}
+		}
+
+		/**
+		 * Drops the pending insertion of the given entity, if any.
+		 *
+		 * @return {@code true} if an insertion has been dropped, {@code false} otherwise
+		 */
+		public boolean removeInsert(EntityKey entityKey) {
+			BulkWriteRequest insert = inserts.remove( entityKey );
+			if ( insert != null ) {
+				insert.discard();
+				return true;
+			}
+			return false;
+		}
+
+		public void update(EntityKey entityKey, Tuple tuple, DBObject query, DBObject update, WriteConcern writeConcern) {
+			add( BulkWriteRequest.update( entityKey, tuple, query, update, writeConcern ) );
+		}
+
+		public void remove(EntityKey entityKey, DBObject query, WriteConcern writeConcern) {
+			if ( entityKey != null ) {
+				removes.add( entityKey );
+			}
+			add( BulkWriteRequest.remove( entityKey, query, writeConcern ) );
+		}
+
+		private void add(BulkWriteRequest request) {
+			if ( entityKeyMetadata == null && request.getEntityKey() != null ) {
+				entityKeyMetadata = request.getEntityKey().getMetadata();
+			}
+			requests.add( request );
+		}
+
+		/**
+		 * @return the requests to send, in the order they have been added, split into runs of consecutive requests with
+		 * the same write concern
+		 */
+		public List<List<BulkWriteRequest>> getRequestsPerWriteConcern() {
+			List<List<BulkWriteRequest>> toSend = new ArrayList<List<BulkWriteRequest>>();
+			List<BulkWriteRequest> run = null;
+			for ( BulkWriteRequest request : requests ) {
+				if ( request.isDiscarded() ) {
+					continue;
+				}
+				if ( run == null || !sameWriteConcern( run.get( 0 ), request ) ) {
+					run = new ArrayList<BulkWriteRequest>();
+					toSend.add( run );
+				}
+				run.add( request );
+			}
+			return toSend;
+		}
+
+		private static boolean sameWriteConcern(BulkWriteRequest request, BulkWriteRequest other) {
+			return request.getWriteConcern() == null ? other.getWriteConcern() == null : request.getWriteConcern().equals( other.getWriteConcern() );
+		}
+	}
+
+	/**
+	 * A single insert, upsert or delete request of a {@link BulkWriteTask}.
+	 */
+	private static class BulkWriteRequest {
+
+		private enum Type {
+			INSERT, UPDATE, REMOVE
+		}
+
+		private final Type type;
+		private final EntityKey entityKey;
+		private final Tuple tuple;
+		private final DBObject query;
+		private final WriteConcern writeConcern;
+		private DBObject document;
+		private boolean discarded;
+
+		private BulkWriteRequest(Type type, EntityKey entityKey, Tuple tuple, DBObject query, DBObject document, WriteConcern writeConcern) {
+			this.type = type;
+			this.entityKey = entityKey;
+			this.tuple = tuple;
+			this.query = query;
+			this.document = document;
+			this.writeConcern = writeConcern;
+		}
+
+		static BulkWriteRequest insert(EntityKey entityKey, Tuple tuple, DBObject document, WriteConcern writeConcern) {
+			return new BulkWriteRequest( Type.INSERT, entityKey, tuple, null, document, writeConcern );
+		}
+
+		static BulkWriteRequest update(EntityKey entityKey, Tuple tuple, DBObject query, DBObject update, WriteConcern writeConcern) {
+			return new BulkWriteRequest( Type.UPDATE, entityKey, tuple, query, update, writeConcern );
+		}
+
+		static BulkWriteRequest remove(EntityKey entityKey, DBObject query, WriteConcern writeConcern) {
+			return new BulkWriteRequest( Type.REMOVE, entityKey, null, query, null, writeConcern );
 		}
 
-		public void put(EntityKey entityKey, DBObject object) {
-			inserts.put( entityKey, object );
+		public EntityKey getEntityKey() {
+			return entityKey;
 		}
 
+		/**
+		 * @return the write concern of the operation this request originates from, {@code null} for the default one of
+		 * the collection
+		 */
 		public WriteConcern getWriteConcern() {
 			return writeConcern;
 		}
 
-		public boolean isEmpty() {
-			return inserts.isEmpty();
+		public Tuple getTuple() {
+			return tuple;
+		}
+
+		public DBObject getDocument() {
+			return document;
+		}
+
+		public void setDocument(DBObject document) {
+			this.document = document;
+		}
+
+		public boolean isDiscarded() {
+			return discarded;
+		}
+
+		public void discard() {
+			this.discarded = true;
+		}
+
+		public void addTo(BulkWriteOperation operation) {
+			switch ( type ) {
+				case INSERT:
+					operation.insert( document );
+					break;
+				case UPDATE:
+					BulkUpdateRequestBuilder upsert = operation.find( query ).upsert();
+					if ( isUpdateWithOperators( document ) ) {
+						upsert.updateOne( document );
+					}
+					else {
+						// same as an update without operators using DBCollection#update()
+						upsert.replaceOne( document );
+					}
+					break;
+				case REMOVE:
+					operation.find( query ).remove();
+					break;
+			}
+		}
+
+		private static boolean isUpdateWithOperators(DBObject update) {
+			Iterator<String> keys = update.keySet().iterator();
+			return keys.hasNext() && keys.next().startsWith( "$" );
 		}
 	}
 }
@@ -73,6 +73,16 @@ public final class MongoDBProperties implements DocumentStoreProperties {
 	 */
 	public static final String AUTHENTICATION_MECHANISM = "hibernate.ogm.mongodb.authentication_mechanism";
 
+	/**
+	 * Configuration property for specifying whether the bulk write operations used to flush a batch of changes are
+	 * ordered. With unordered bulk writes the server may apply the writes in any order and continues with the
+	 * remaining writes after an error, so they should only be used if a flush never writes the same document twice.
+	 * Can be given as a boolean or the String representation of a boolean.
+	 * <p>
+	 * Defaults to {@code true}.
+	 */
+	public static final String ORDERED_BULK_WRITES = "hibernate.ogm.mongodb.ordered_bulk_writes";
+
 	/**
 	 * Property prefix for MongoDB driver settings which needs to be passed on to the driver. Refer to
 	 * the options of {@link com.mongodb.MongoClientOptions.Builder} for a list of available properties.
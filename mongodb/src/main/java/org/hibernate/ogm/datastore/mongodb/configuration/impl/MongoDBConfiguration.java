@@ -46,6 +46,7 @@ public class MongoDBConfiguration extends DocumentStoreConfiguration {
 	private final WriteConcern writeConcern;
 	private final ReadPreference readPreference;
 	private final AuthenticationMechanismType authenticationMechanism;
+	private final boolean orderedBulkWrites;
 	private final ConfigurationPropertyReader propertyReader;
 
 	/**
@@ -61,6 +62,9 @@ public MongoDBConfiguration(ConfigurationPropertyReader propertyReader, OptionsC
 		this.authenticationMechanism = propertyReader.property( MongoDBProperties.AUTHENTICATION_MECHANISM, AuthenticationMechanismType.class )
 				.withDefault( AuthenticationMechanismType.BEST )
 				.getValue();
+		this.orderedBulkWrites = propertyReader.property( MongoDBProperties.ORDERED_BULK_WRITES, boolean.class )
+				.withDefault( true )
+				.getValue();
 		this.writeConcern = globalOptions.getUnique( WriteConcernOption.class );
 		this.readPreference = globalOptions.getUnique( ReadPreferenceOption.class );
 	}
@@ -129,6 +133,13 @@ private Map<String, Method> createSettingsMap() {
 		return settingsMap;
 	}
 
+	/**
+	 * @return whether the bulk write operations used for flushing a batch are ordered or not
+	 */
+	public boolean isOrderedBulkWrites() {
+		return orderedBulkWrites;
+	}
+
 	public List<MongoCredential> buildCredentials() {
 		if ( getUsername() != null ) {
 			return Collections.singletonList(
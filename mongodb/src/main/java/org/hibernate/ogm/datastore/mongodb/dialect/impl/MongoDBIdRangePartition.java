@@ -0,0 +1,62 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.dialect.impl;
+
+import org.hibernate.ogm.datastore.mongodb.MongoDBDialect;
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
+
+/**
+ * The documents of a collection whose {@code _id} lies within a given range.
+ * <p>
+ * The range is applied as bounds of the scan of the {@code _id} index ({@code $min} and {@code $max}) rather than as a
+ * range query: a range query only matches values of the BSON type of its bounds, whereas the index orders the ids of
+ * all types, so that the partitions of a collection cover all its documents whatever the types of their ids.
+ */
+public class MongoDBIdRangePartition implements TuplePartition {
+
+	private static final DBObject ID_INDEX = new BasicDBObject( MongoDBDialect.ID_FIELDNAME, 1 );
+
+	private final Object lowerBound;
+	private final Object upperBound;
+
+	/**
+	 * @param lowerBound the lowest id of the range, inclusive; {@code null} if the range has no lower bound
+	 * @param upperBound the highest id of the range, exclusive; {@code null} if the range has no upper bound
+	 */
+	public MongoDBIdRangePartition(Object lowerBound, Object upperBound) {
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+	}
+
+	/**
+	 * @param collection the collection to read
+	 * @return a cursor over the documents of this partition
+	 */
+	public DBCursor find(DBCollection collection) {
+		DBCursor cursor = collection.find();
+		if ( lowerBound != null || upperBound != null ) {
+			cursor.hint( ID_INDEX );
+		}
+		if ( lowerBound != null ) {
+			cursor.min( new BasicDBObject( MongoDBDialect.ID_FIELDNAME, lowerBound ) );
+		}
+		if ( upperBound != null ) {
+			cursor.max( new BasicDBObject( MongoDBDialect.ID_FIELDNAME, upperBound ) );
+		}
+		return cursor;
+	}
+
+	@Override
+	public String toString() {
+		return "MongoDBIdRangePartition [lowerBound=" + lowerBound + ", upperBound=" + upperBound + "]";
+	}
+}
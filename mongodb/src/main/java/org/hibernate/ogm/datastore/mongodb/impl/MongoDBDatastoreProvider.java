@@ -148,6 +148,10 @@ public DB getDatabase() {
 		return mongoDb;
 	}
 
+	public boolean isOrderedBulkWrites() {
+		return config == null || config.isOrderedBulkWrites();
+	}
+
 	private DB extractDatabase(MongoClient mongo, MongoDBConfiguration config) {
 		try {
 			String databaseName = config.getDatabaseName();
@@ -131,4 +131,8 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 	@Message(id = 1236, value = "The options for index %2$s of collection %1$s are not a valid JSON object.")
 	HibernateException invalidOptionsFormatForIndex(String collection, String indexName, @Cause Exception e);
 
+	@LogMessage(level = TRACE)
+	@Message(id = 1237, value = "Removed [%d] documents from collection %s")
+	void removedDocuments(int nAffected, String collection);
+
 }
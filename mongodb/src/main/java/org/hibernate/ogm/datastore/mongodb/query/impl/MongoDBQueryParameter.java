@@ -0,0 +1,96 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.query.impl;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
+
+import com.mongodb.BasicDBList;
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+
+/**
+ * Placeholder for a named parameter within the criteria of a {@link MongoDBQueryDescriptor}, allowing to parse a JP-QL
+ * query once and to execute it with different parameter values.
+ * <p>
+ * Represented as <code>{ "$parameter" : name }</code>, so queries containing placeholders can be serialized and
+ * logged like any other query.
+ */
+public class MongoDBQueryParameter extends BasicDBObject {
+
+	private static final String PARAMETER_KEY = "$parameter";
+
+	public MongoDBQueryParameter(String name) {
+		super( PARAMETER_KEY, name );
+	}
+
+	public String getName() {
+		return (String) get( PARAMETER_KEY );
+	}
+
+	/**
+	 * Replaces the parameter placeholders contained in the given query object with the given parameter values.
+	 *
+	 * @param query the query object, may be {@code null}
+	 * @param parameters the parameter values, already converted into the datastore representation
+	 * @return a copy of the given query object with the parameter values applied or the given query object itself if
+	 * it doesn't contain any placeholders
+	 */
+	public static DBObject bind(DBObject query, Map<String, TypedGridValue> parameters) {
+		return (DBObject) bindValue( query, parameters );
+	}
+
+	private static Object bindValue(Object value, Map<String, TypedGridValue> parameters) {
+		if ( value instanceof MongoDBQueryParameter ) {
+			TypedGridValue parameter = parameters.get( ( (MongoDBQueryParameter) value ).getName() );
+			return parameter != null ? parameter.getValue() : null;
+		}
+		else if ( value instanceof BasicDBList ) {
+			return bindList( (BasicDBList) value, parameters );
+		}
+		else if ( value instanceof DBObject ) {
+			return bindObject( (DBObject) value, parameters );
+		}
+		else if ( value instanceof List ) {
+			return bindList( (List<?>) value, parameters );
+		}
+		return value;
+	}
+
+	private static Object bindObject(DBObject object, Map<String, TypedGridValue> parameters) {
+		BasicDBObject bound = null;
+		for ( String key : object.keySet() ) {
+			Object value = object.get( key );
+			Object boundValue = bindValue( value, parameters );
+			if ( boundValue != value && bound == null ) {
+				bound = new BasicDBObject( object.toMap() );
+			}
+			if ( bound != null ) {
+				bound.put( key, boundValue );
+			}
+		}
+		return bound != null ? bound : object;
+	}
+
+	private static Object bindList(List<?> list, Map<String, TypedGridValue> parameters) {
+		BasicDBList bound = null;
+		for ( int i = 0; i < list.size(); i++ ) {
+			Object value = list.get( i );
+			Object boundValue = bindValue( value, parameters );
+			if ( boundValue != value && bound == null ) {
+				bound = new BasicDBList();
+				bound.addAll( list );
+			}
+			if ( bound != null ) {
+				bound.set( i, boundValue );
+			}
+		}
+		return bound != null ? bound : list;
+	}
+}
@@ -14,6 +14,8 @@
 import org.hibernate.hql.ast.spi.EntityNamesResolver;
 import org.hibernate.ogm.datastore.mongodb.logging.impl.Log;
 import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBQueryRendererDelegate.ParameterPlaceholderNotSupportedException;
 import org.hibernate.ogm.query.spi.BaseQueryParserService;
 import org.hibernate.ogm.query.spi.QueryParserService;
 import org.hibernate.ogm.query.spi.QueryParsingResult;
@@ -23,6 +25,9 @@
 
 /**
  * A {@link QueryParserService} implementation which creates MongoDB queries in form of {@link DBObject}s.
+ * <p>
+ * Queries are parsed once, with placeholders for their parameters; only queries using parameters in a way which
+ * cannot be represented by placeholders are parsed again for each set of parameter values.
  *
  * @author Gunnar Morling
  */
@@ -43,15 +48,32 @@ public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, S
 		return result;
 	}
 
+	/**
+	 * Parses the given query, representing its parameters by {@link MongoDBQueryParameter} placeholders which are
+	 * replaced with the actual values when the query is executed.
+	 *
+	 * @return the parsed query or {@code null} if the query uses a parameter in a way that requires its value to be
+	 * known while parsing (e.g. as the pattern of a {@code LIKE} predicate); such queries must be parsed with the
+	 * parameter values
+	 */
 	@Override
 	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString) {
-		throw new UnsupportedOperationException( "MongoDB does not support parameterized queries. Parameter values " +
-				"must be passed to the query parser." );
+		QueryParser queryParser = new QueryParser();
+		MongoDBProcessingChain processingChain = createProcessingChain( sessionFactory, MongoDBQueryRendererDelegate.PARAMETER_PLACEHOLDERS );
+
+		try {
+			MongoDBQueryParsingResult result = queryParser.parseQuery( queryString, processingChain );
+			log.createdQuery( queryString, result );
+			return result;
+		}
+		catch (ParameterPlaceholderNotSupportedException e) {
+			return null;
+		}
 	}
 
 	@Override
 	public boolean supportsParameters() {
-		return false;
+		return true;
 	}
 
 	private MongoDBProcessingChain createProcessingChain(SessionFactoryImplementor sessionFactory, Map<String, Object> namedParameters) {
@@ -12,6 +12,7 @@
 import org.hibernate.hql.ast.spi.EntityNamesResolver;
 import org.hibernate.hql.ast.spi.PropertyHelper;
 import org.hibernate.ogm.datastore.mongodb.MongoDBDialect;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.ogm.query.parsing.impl.ParserPropertyHelper;
 import org.hibernate.ogm.util.impl.StringHelper;
@@ -28,6 +29,15 @@ public MongoDBPropertyHelper(SessionFactoryImplementor sessionFactory, EntityNam
 		super( sessionFactory, entityNames );
 	}
 
+	@Override
+	public Object convertToBackendType(String entityType, List<String> propertyPath, Object value) {
+		// parameter values are converted when the query is executed
+		if ( value instanceof MongoDBQueryParameter ) {
+			return value;
+		}
+		return super.convertToBackendType( entityType, propertyPath, value );
+	}
+
 	public String getColumnName(Class<?> entityType, List<String> propertyName) {
 		return getColumnName( (OgmEntityPersister) getSessionFactory().getEntityPersister( entityType.getName() ), propertyName );
 	}
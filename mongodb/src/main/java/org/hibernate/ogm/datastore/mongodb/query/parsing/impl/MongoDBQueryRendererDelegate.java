@@ -6,15 +6,19 @@
  */
 package org.hibernate.ogm.datastore.mongodb.query.parsing.impl;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.hql.ast.origin.hql.resolve.path.PropertyPath;
 import org.hibernate.hql.ast.spi.EntityNamesResolver;
 import org.hibernate.hql.ast.spi.SingleEntityQueryBuilder;
 import org.hibernate.hql.ast.spi.SingleEntityQueryRendererDelegate;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.ogm.util.impl.StringHelper;
 
@@ -28,8 +32,26 @@
  */
 public class MongoDBQueryRendererDelegate extends SingleEntityQueryRendererDelegate<DBObject, MongoDBQueryParsingResult> {
 
+	/**
+	 * Named parameters to be passed for parsing a query without parameter values; each parameter is represented by a
+	 * {@link MongoDBQueryParameter} placeholder in the resulting query.
+	 */
+	public static final Map<String, Object> PARAMETER_PLACEHOLDERS = new AbstractMap<String, Object>() {
+
+		@Override
+		public Object get(Object name) {
+			return new MongoDBQueryParameter( (String) name );
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return Collections.emptySet();
+		}
+	};
+
 	private final SessionFactoryImplementor sessionFactory;
 	private final MongoDBPropertyHelper propertyHelper;
+	private final boolean parameterPlaceholders;
 	private DBObject orderBy;
 	/*
 	 * The fields for which needs to be aggregated using $unwind when running the query
@@ -45,6 +67,7 @@ public MongoDBQueryRendererDelegate(SessionFactoryImplementor sessionFactory, En
 
 		this.sessionFactory = sessionFactory;
 		this.propertyHelper = propertyHelper;
+		this.parameterPlaceholders = namedParameters == PARAMETER_PLACEHOLDERS;
 	}
 
 	@Override
@@ -61,6 +84,15 @@ public MongoDBQueryParsingResult getResult() {
 		);
 	}
 
+	@Override
+	public void predicateLike(String patternValue, Character escapeCharacter) {
+		// the pattern is turned into a regular expression while parsing, so its value must be known
+		if ( parameterPlaceholders && patternValue.startsWith( ":" ) ) {
+			throw new ParameterPlaceholderNotSupportedException();
+		}
+		super.predicateLike( patternValue, escapeCharacter );
+	}
+
 	@Override
 	public void setPropertyPath(PropertyPath propertyPath) {
 		if ( status == Status.DEFINING_SELECT ) {
@@ -125,4 +157,10 @@ protected void addSortField(PropertyPath propertyPath, String collateName, boole
 		// order they're inserted here, which is the order within the original statement
 		orderBy.put( columnName, isAscending ? 1 : -1 );
 	}
+
+	/**
+	 * Raised if a parameter is used in a way which requires its value to be known while parsing the query.
+	 */
+	static class ParameterPlaceholderNotSupportedException extends RuntimeException {
+	}
 }
@@ -0,0 +1,47 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.associations.delta;
+
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.document.cfg.DocumentStoreProperties;
+import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
+import org.hibernate.ogm.datastore.mongodb.MongoDBProperties;
+import org.hibernate.ogm.datastore.mongodb.options.AssociationDocumentStorageType;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+
+/**
+ * Test that only the added and removed rows of an association stored in a dedicated association document are sent to
+ * the datastore.
+ */
+public class AssociationDeltaUpdateAssociationDocumentTest extends AssociationDeltaUpdateInEntityTest {
+
+	@Override
+	protected DBCollection getAssociationCollection() {
+		return super.getAssociationCollection().getDB().getCollection( "associations_joinProducedSnowflakes" );
+	}
+
+	@Override
+	protected DBObject getAssociationQuery() {
+		// the only association document of the collection
+		return new BasicDBObject();
+	}
+
+	@Override
+	protected String getRowsField() {
+		return "rows";
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( DocumentStoreProperties.ASSOCIATIONS_STORE, AssociationStorageType.ASSOCIATION_DOCUMENT );
+		settings.put( MongoDBProperties.ASSOCIATION_DOCUMENT_STORAGE, AssociationDocumentStorageType.COLLECTION_PER_ASSOCIATION );
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.associations.delta;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Transaction;
+import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.backendtck.associations.collection.unidirectional.Cloud;
+import org.hibernate.ogm.backendtck.associations.collection.unidirectional.SnowFlake;
+import org.hibernate.ogm.datastore.document.cfg.DocumentStoreProperties;
+import org.hibernate.ogm.datastore.document.options.AssociationStorageType;
+import org.hibernate.ogm.datastore.mongodb.impl.MongoDBDatastoreProvider;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+
+/**
+ * Test that only the added and removed rows of an association stored in the entity document are sent to the
+ * datastore. The rows written by another party in between aren't overwritten.
+ */
+public class AssociationDeltaUpdateInEntityTest extends OgmTestCase {
+
+	private Cloud cloud;
+	private SnowFlake sf1;
+	private SnowFlake sf2;
+	private SnowFlake sf3;
+
+	@Before
+	public void createCloud() {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		sf1 = newSnowFlake( "Snowflake 1" );
+		sf2 = newSnowFlake( "Snowflake 2" );
+		sf3 = newSnowFlake( "Snowflake 3" );
+		session.persist( sf1 );
+		session.persist( sf2 );
+		session.persist( sf3 );
+
+		cloud = new Cloud();
+		cloud.setType( "cumulus" );
+		cloud.getProducedSnowFlakes().add( sf1 );
+		cloud.getProducedSnowFlakes().add( sf2 );
+		session.persist( cloud );
+
+		transaction.commit();
+		session.close();
+	}
+
+	@After
+	public void deleteCloud() {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		session.delete( session.get( Cloud.class, cloud.getId() ) );
+		session.delete( session.get( SnowFlake.class, sf1.getId() ) );
+		session.delete( session.get( SnowFlake.class, sf2.getId() ) );
+		session.delete( session.get( SnowFlake.class, sf3.getId() ) );
+
+		transaction.commit();
+		session.close();
+	}
+
+	@Test
+	public void shouldOnlySendChangedRows() throws Exception {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		Cloud loadedCloud = (Cloud) session.get( Cloud.class, cloud.getId() );
+		assertThat( loadedCloud.getProducedSnowFlakes() ).hasSize( 2 );
+
+		// a row written by someone else in the meantime
+		pushRow( "concurrent-snowflake" );
+
+		loadedCloud.getProducedSnowFlakes().remove( session.get( SnowFlake.class, sf1.getId() ) );
+		loadedCloud.getProducedSnowFlakes().add( session.get( SnowFlake.class, sf3.getId() ) );
+
+		transaction.commit();
+		session.close();
+
+		assertThat( getRows() ).containsOnly( sf2.getId(), "concurrent-snowflake", sf3.getId() );
+
+		pullRow( "concurrent-snowflake" );
+	}
+
+	@Test
+	public void shouldLoadAssociationAfterChangedRowsHaveBeenSent() throws Exception {
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		Cloud loadedCloud = (Cloud) session.get( Cloud.class, cloud.getId() );
+		loadedCloud.getProducedSnowFlakes().remove( session.get( SnowFlake.class, sf1.getId() ) );
+		loadedCloud.getProducedSnowFlakes().add( session.get( SnowFlake.class, sf3.getId() ) );
+
+		transaction.commit();
+		session.clear();
+
+		transaction = session.beginTransaction();
+
+		loadedCloud = (Cloud) session.get( Cloud.class, cloud.getId() );
+		assertThat( loadedCloud.getProducedSnowFlakes() ).onProperty( "description" ).containsOnly( "Snowflake 2", "Snowflake 3" );
+
+		transaction.commit();
+		session.close();
+	}
+
+	protected DBCollection getAssociationCollection() {
+		return getProvider().getDatabase().getCollection( "Cloud" );
+	}
+
+	protected DBObject getAssociationQuery() {
+		return new BasicDBObject( "_id", cloud.getId() );
+	}
+
+	protected String getRowsField() {
+		return "producedSnowFlakes";
+	}
+
+	private List<?> getRows() {
+		DBObject document = getAssociationCollection().findOne( getAssociationQuery() );
+		return (List<?>) document.get( getRowsField() );
+	}
+
+	private void pushRow(String row) {
+		getAssociationCollection().update( getAssociationQuery(), new BasicDBObject( "$push", new BasicDBObject( getRowsField(), row ) ) );
+	}
+
+	private void pullRow(String row) {
+		getAssociationCollection().update( getAssociationQuery(), new BasicDBObject( "$pull", new BasicDBObject( getRowsField(), row ) ) );
+	}
+
+	private MongoDBDatastoreProvider getProvider() {
+		return (MongoDBDatastoreProvider) getSessionFactory().getServiceRegistry().getService( DatastoreProvider.class );
+	}
+
+	private static SnowFlake newSnowFlake(String description) {
+		SnowFlake snowFlake = new SnowFlake();
+		snowFlake.setDescription( description );
+		return snowFlake;
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( DocumentStoreProperties.ASSOCIATIONS_STORE, AssociationStorageType.IN_ENTITY );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Cloud.class, SnowFlake.class };
+	}
+}
@@ -8,14 +8,13 @@
 
 import static org.hibernate.ogm.datastore.mongodb.utils.MockMongoClientBuilder.mockClient;
 import static org.mockito.Matchers.any;
-import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.lang.annotation.ElementType;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import org.hibernate.Session;
@@ -69,7 +68,8 @@ public void shouldApplyConfiguredWriteConcernForInsertOfTuple() {
 		session.close();
 
 		// then expect one (batched) insert with the configured write concern
-		verify( mockClient.getCollection( "GolfPlayer" ) ).insert( any( List.class ), eq( WriteConcern.MAJORITY ) );
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ) ).insert( any( DBObject.class ) );
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ) ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	@Test
@@ -91,7 +91,7 @@ public void shouldApplyConfiguredWriteConcernForUpdateOfTuple() {
 		session.close();
 
 		// then expect one (batched) insert with the configured write concern
-		verify( mockClient.getCollection( "GolfPlayer" ) ).update( any( DBObject.class ), any( DBObject.class ), anyBoolean(), anyBoolean(), eq( WriteConcern.MAJORITY ) );
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ) ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	@Test
@@ -114,7 +114,7 @@ public void shouldApplyConfiguredWriteConcernForRemoveTuple() {
 		session.close();
 
 		// then expect a call to remove with the configured write concern
-		verify( mockClient.getCollection( "GolfPlayer" ) ).remove( any( DBObject.class ), eq( WriteConcern.MAJORITY ) );
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ) ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	@Test
@@ -138,7 +138,8 @@ public void shouldApplyConfiguredWriteConcernForCreationOfEmbeddedAssociation()
 		session.close();
 
 		// then expect one update using the configured write concern for adding the row
-		verify( mockClient.getCollection( "GolfPlayer" ), times( 1 ) ).update( any( DBObject.class ), any( DBObject.class ), anyBoolean(), anyBoolean(), eq( WriteConcern.MAJORITY ) );
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ) ).execute( eq( WriteConcern.MAJORITY ) );
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ), times( 1 ) ).find( any( DBObject.class ) );
 	}
 
 	@Test
@@ -158,7 +159,7 @@ public void shouldApplyConfiguredWriteConcernForCreationOfAssociationStoredAsDoc
 		session.close();
 
 		// then expect association operations using the configured write concern
-		verify( mockClient.getCollection( "Associations" ) ).update( any( DBObject.class ), any( DBObject.class ), anyBoolean(), anyBoolean(), eq( WriteConcern.MAJORITY ) );
+		verify( mockClient.getBulkWriteOperation( "Associations" ), atLeastOnce() ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	@SuppressWarnings("unchecked")
@@ -190,8 +191,45 @@ public void shouldApplyWriteConcernConfiguredOnPropertyLevelForCreationOfAssocia
 		session.close();
 
 		// then expect tuple and association operations using the configured write concerns
-		verify( mockClient.getCollection( "GolfPlayer" ) ).insert( any( List.class ), eq( WriteConcern.REPLICA_ACKNOWLEDGED ) );
-		verify( mockClient.getCollection( "Associations" ) ).update( any( DBObject.class ), any( DBObject.class ), anyBoolean(), anyBoolean(), eq( WriteConcern.ACKNOWLEDGED ) );
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ) ).execute( eq( WriteConcern.REPLICA_ACKNOWLEDGED ) );
+		verify( mockClient.getBulkWriteOperation( "Associations" ) ).execute( eq( WriteConcern.ACKNOWLEDGED ) );
+	}
+
+	@Test
+	public void shouldApplyEachConfiguredWriteConcernForUpdatesOfTheSameCollection() {
+		// given a persisted player with one associated golf course
+		BasicDBObject player = getPlayer();
+		player.put( "playedCourses", getPlayedCoursesAssociationEmbedded() );
+
+		MockMongoClient mockClient = mockClient()
+				.insert( "GolfPlayer", player )
+				.insert( "GolfCourse", getGolfCourse() )
+				.build();
+
+		Map<String, Object> settings = new HashMap<>();
+		settings.put( OgmProperties.DATASTORE_PROVIDER, new MongoDBDatastoreProvider( mockClient.getClient() ) );
+
+		TestHelper.configureOptionsFor( settings, MongoDB.class )
+			.entity( GolfPlayer.class )
+				.writeConcern( WriteConcernType.REPLICA_ACKNOWLEDGED )
+				.property( "playedCourses", ElementType.FIELD )
+					.writeConcern( WriteConcernType.ACKNOWLEDGED );
+
+		sessions = TestHelper.getDefaultTestSessionFactory( settings, getAnnotatedClasses() );
+
+		Session session = sessions.openSession();
+		Transaction transaction = session.beginTransaction();
+
+		// when updating the player and its embedded association
+		GolfPlayer ben = new GolfPlayer( 1L, "Ben", 0.2, new GolfCourse( 1L, "Bepple Peach" ), new GolfCourse( 2L, "Ant Sandrews" ) );
+		session.merge( ben );
+
+		transaction.commit();
+		session.close();
+
+		// then expect the player document to be updated with both write concerns
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ) ).execute( eq( WriteConcern.REPLICA_ACKNOWLEDGED ) );
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ), atLeastOnce() ).execute( eq( WriteConcern.ACKNOWLEDGED ) );
 	}
 
 	@Test
@@ -218,7 +256,8 @@ public void shouldApplyConfiguredWriteConcernForUpdateOfEmbeddedAssociation() {
 		session.close();
 
 		// then expect updates to the player document using the configured write concern
-		verify( mockClient.getCollection( "GolfPlayer" ), times( 2 ) ).update( any( DBObject.class ), any( DBObject.class ), anyBoolean(), anyBoolean(), eq( WriteConcern.MAJORITY ) );
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ), atLeastOnce() ).execute( eq( WriteConcern.MAJORITY ) );
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ), times( 2 ) ).find( any( DBObject.class ) );
 	}
 
 	@Test
@@ -243,7 +282,7 @@ public void shouldApplyConfiguredWriteConcernForUpdateOfAssociationStoredAsDocum
 		session.close();
 
 		// then expect one update to the association collection
-		verify( mockClient.getCollection( "Associations" ), times( 1 ) ).update( any( DBObject.class ), any( DBObject.class ), anyBoolean(), anyBoolean(), eq( WriteConcern.MAJORITY ) );
+		verify( mockClient.getBulkWriteOperation( "Associations" ), atLeastOnce() ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	@Test
@@ -270,7 +309,7 @@ public void shouldApplyConfiguredWriteConcernForRemovalOfEmbeddedAssociation() {
 		session.close();
 
 		// then expect one call to update using the configured write concern
-		verify( mockClient.getCollection( "GolfPlayer" ) ).update( any( DBObject.class ), any( DBObject.class ), anyBoolean(), anyBoolean(), eq( WriteConcern.MAJORITY ) );
+		verify( mockClient.getBulkWriteOperation( "GolfPlayer" ) ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	@Test
@@ -295,7 +334,7 @@ public void shouldApplyConfiguredWriteConcernForRemovalOfAssociationStoredAsDocu
 		session.close();
 
 		// then expect one call to remove with the configured write concern
-		verify( mockClient.getCollection( "Associations" ) ).remove( any( DBObject.class ), eq( WriteConcern.MAJORITY ) );
+		verify( mockClient.getBulkWriteOperation( "Associations" ) ).execute( eq( WriteConcern.MAJORITY ) );
 	}
 
 	private Class<?>[] getAnnotatedClasses() {
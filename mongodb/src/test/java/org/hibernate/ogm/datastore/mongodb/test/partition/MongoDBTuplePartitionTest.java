@@ -0,0 +1,115 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.partition;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.ogm.datastore.impl.DatastoreProviderType;
+import org.hibernate.ogm.datastore.mongodb.MongoDBDialect;
+import org.hibernate.ogm.datastore.mongodb.impl.MongoDBDatastoreProvider;
+import org.hibernate.ogm.datastore.mongodb.test.loading.Module;
+import org.hibernate.ogm.datastore.mongodb.test.loading.Project;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.utils.GridDialectOperationContexts;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.hibernate.ogm.utils.SkipByDatastoreProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
+
+/**
+ * Tests the splitting of a collection into ranges of ids.
+ */
+public class MongoDBTuplePartitionTest extends OgmTestCase {
+
+	private static final String COLLECTION_NAME = "Partitioned";
+
+	private static final EntityKeyMetadata ENTITY_KEY_METADATA = new DefaultEntityKeyMetadata( COLLECTION_NAME, new String[] { MongoDBDialect.ID_FIELDNAME } );
+
+	private DBCollection collection;
+
+	@Before
+	public void insertDocuments() {
+		MongoDBDatastoreProvider provider = (MongoDBDatastoreProvider) getSessionFactory().getServiceRegistry().getService( DatastoreProvider.class );
+		collection = provider.getDatabase().getCollection( COLLECTION_NAME );
+
+		// ids of different BSON types, which are not matched by the same range queries
+		for ( int i = 0; i < 10; i++ ) {
+			collection.insert( new BasicDBObject( MongoDBDialect.ID_FIELDNAME, i ) );
+			collection.insert( new BasicDBObject( MongoDBDialect.ID_FIELDNAME, "id-" + i ) );
+		}
+	}
+
+	@After
+	public void dropCollection() {
+		collection.drop();
+	}
+
+	@Test
+	public void testPartitionBounds() {
+		List<TuplePartition> partitions = getDialect().getTuplePartitions( GridDialectOperationContexts.emptyTupleContext(), ENTITY_KEY_METADATA, 3 );
+
+		// every 7th id of the _id index, numbers being ordered before strings
+		assertThat( partitions ).hasSize( 3 );
+		assertThat( partitions.get( 0 ).toString() ).isEqualTo( "MongoDBIdRangePartition [lowerBound=null, upperBound=7]" );
+		assertThat( partitions.get( 1 ).toString() ).isEqualTo( "MongoDBIdRangePartition [lowerBound=7, upperBound=id-4]" );
+		assertThat( partitions.get( 2 ).toString() ).isEqualTo( "MongoDBIdRangePartition [lowerBound=id-4, upperBound=null]" );
+	}
+
+	@Test
+	@SkipByDatastoreProvider(value = DatastoreProviderType.FONGO, comment = "Fongo ignores the $min and $max cursor modifiers")
+	public void testPartitionsContainEveryDocumentOnce() {
+		PartitionableGridDialect dialect = getDialect();
+		TupleContext tupleContext = GridDialectOperationContexts.emptyTupleContext();
+
+		List<TuplePartition> partitions = dialect.getTuplePartitions( tupleContext, ENTITY_KEY_METADATA, 3 );
+		assertThat( partitions ).hasSize( 3 );
+
+		final List<Object> ids = new ArrayList<>();
+		for ( TuplePartition partition : partitions ) {
+			final List<Object> partitionIds = new ArrayList<>();
+			dialect.forEachTuple( new ModelConsumer() {
+
+				@Override
+				public void consume(Tuple tuple) {
+					partitionIds.add( tuple.get( MongoDBDialect.ID_FIELDNAME ) );
+				}
+			}, tupleContext, ENTITY_KEY_METADATA, partition );
+
+			assertThat( partitionIds ).hasSize( partitions.indexOf( partition ) < 2 ? 7 : 6 );
+			ids.addAll( partitionIds );
+		}
+
+		assertThat( ids ).hasSize( 20 );
+		for ( int i = 0; i < 10; i++ ) {
+			assertThat( ids ).contains( i, "id-" + i );
+		}
+	}
+
+	private PartitionableGridDialect getDialect() {
+		return (PartitionableGridDialect) getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Project.class, Module.class };
+	}
+}
@@ -14,7 +14,9 @@
 import org.hibernate.Query;
 import org.hibernate.Session;
 import org.hibernate.Transaction;
+import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.ogm.OgmSession;
+import org.hibernate.ogm.query.impl.NativeNoSqlQueryInterpreter;
 import org.hibernate.ogm.utils.OgmTestCase;
 import org.hibernate.ogm.utils.TestForIssue;
 import org.junit.After;
@@ -97,6 +99,32 @@ public void testFindOneWithPair() throws Exception {
 		session.close();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testNativeQueryIsParsedOnce() throws Exception {
+		NativeNoSqlQueryInterpreter interpreter = (NativeNoSqlQueryInterpreter) getSessionFactory().getServiceRegistry()
+				.getService( NativeQueryInterpreter.class );
+		long parseCount = interpreter.getParseCount();
+		long cacheHitCount = interpreter.getCacheHitCount();
+
+		OgmSession session = openSession();
+		Transaction transaction = session.beginTransaction();
+
+		String nativeQuery = "db." + OscarWildePoem.TABLE_NAME + ".find({ 'name' : 'Athanasia' })";
+		List<OscarWildePoem> result = session.createNativeQuery( nativeQuery ).addEntity( OscarWildePoem.class ).list();
+		assertThat( result ).onProperty( "id" ).containsOnly( athanasia.getId() );
+
+		// Different query returns, so not the same query plan
+		result = session.createNativeQuery( nativeQuery ).addEntity( "poem", OscarWildePoem.class ).list();
+		assertThat( result ).onProperty( "id" ).containsOnly( athanasia.getId() );
+
+		transaction.commit();
+		session.close();
+
+		assertThat( interpreter.getParseCount() ).isEqualTo( parseCount + 1 );
+		assertThat( interpreter.getCacheHitCount() ).isEqualTo( cacheHitCount + 1 );
+	}
+
 	@Test
 	public void testFindAndModify() throws Exception {
 		OgmSession session = openSession();
@@ -13,14 +13,20 @@
 
 import org.hibernate.hql.QueryParser;
 import org.hibernate.hql.ast.spi.EntityNamesResolver;
+import org.hibernate.ogm.datastore.mongodb.query.impl.MongoDBQueryParameter;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBProcessingChain;
 import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBQueryParsingResult;
+import org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBQueryRendererDelegate;
 import org.hibernate.ogm.datastore.mongodb.test.query.parsing.model.IndexedEntity;
 import org.hibernate.ogm.datastore.mongodb.utils.MapBasedEntityNamesResolver;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
+import org.hibernate.ogm.query.spi.QueryParserService;
 import org.hibernate.ogm.utils.OgmTestCase;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.mongodb.DBObject;
+
 /**
  * Integration test for {@link org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBQueryResolverDelegate} and
  * {@link org.hibernate.ogm.datastore.mongodb.query.parsing.impl.MongoDBQueryRendererDelegate}.
@@ -221,6 +227,47 @@ public void shouldCreateIsNotNullQuery() {
 				"}" );
 	}
 
+	@Test
+	public void shouldCreateQueryWithParameterPlaceholders() {
+		assertMongoDbQuery(
+				"select e from IndexedEntity e where e.title = :title and e.position > :position",
+				MongoDBQueryRendererDelegate.PARAMETER_PLACEHOLDERS,
+				"{ \"$and\" : [ " +
+					"{ \"title\" : { \"$parameter\" : \"title\"}} , " +
+					"{ \"position\" : { \"$gt\" : { \"$parameter\" : \"position\"}}}" +
+				"]}" );
+	}
+
+	@Test
+	public void shouldBindParameterValuesToPlaceholders() {
+		MongoDBQueryParsingResult parsingResult = parseQuery(
+				"select e from IndexedEntity e where e.title = :title and e.position in (:first, :second)",
+				MongoDBQueryRendererDelegate.PARAMETER_PLACEHOLDERS
+		);
+
+		Map<String, TypedGridValue> parameterValues = new HashMap<String, TypedGridValue>();
+		parameterValues.put( "title", new TypedGridValue( null, "same" ) );
+		parameterValues.put( "first", new TypedGridValue( null, 1 ) );
+		parameterValues.put( "second", new TypedGridValue( null, 2 ) );
+
+		DBObject bound = MongoDBQueryParameter.bind( parsingResult.getQuery(), parameterValues );
+
+		assertThat( bound.toString() ).isEqualTo(
+				"{ \"$and\" : [ " +
+					"{ \"title\" : \"same\"} , " +
+					"{ \"position\" : { \"$in\" : [ 1 , 2]}}" +
+				"]}" );
+		assertThat( parsingResult.getQuery().toString() ).contains( "$parameter" );
+	}
+
+	@Test
+	public void shouldNotParameterizeLikeQueryWithPatternParameter() {
+		QueryParserService queryParserService = getSessionFactory().getServiceRegistry().getService( QueryParserService.class );
+
+		assertThat( queryParserService.parseQuery( getSessionFactory(), "select e from IndexedEntity e where e.title like :pattern" ) ).isNull();
+		assertThat( queryParserService.parseQuery( getSessionFactory(), "select e from IndexedEntity e where e.title = :title" ) ).isNotNull();
+	}
+
 	private void assertMongoDbQuery(String queryString, String expectedMongoDbQuery) {
 		assertMongoDbQuery( queryString, null, expectedMongoDbQuery );
 	}
@@ -16,6 +16,10 @@
 import java.util.Map;
 import java.util.Map.Entry;
 
+import com.mongodb.BulkUpdateRequestBuilder;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.BulkWriteRequestBuilder;
+import com.mongodb.BulkWriteResult;
 import com.mongodb.DB;
 import com.mongodb.DBCollection;
 import com.mongodb.DBObject;
@@ -55,7 +59,7 @@ public static class MockMongoClientBuilderContext {
 		 * more general mechanism if required.
 		 */
 		public MockMongoClientBuilderContext insert(String collectionName, DBObject object) {
-			DBCollection collection = mock( DBCollection.class );
+			DBCollection collection = mockCollection();
 			collections.put( collectionName, collection );
 
 			when( collection.findOne( any( DBObject.class ), any( DBObject.class ), any( ReadPreference.class ) ) ).thenReturn( object );
@@ -72,7 +76,7 @@ public MockMongoClientBuilderContext insert(String collectionName, DBObject obje
 		public MockMongoClient build() {
 			DB database = mock( DB.class );
 
-			DBCollection defaultCollection = mock( DBCollection.class );
+			DBCollection defaultCollection = mockCollection();
 			when( database.getCollection( anyString() ) ).thenReturn( defaultCollection );
 
 			for ( Entry<String, DBCollection> collection : collections.entrySet() ) {
@@ -85,6 +89,23 @@ public MockMongoClient build() {
 
 			return new MockMongoClient( collections, defaultCollection, mongoClient );
 		}
+
+		private static DBCollection mockCollection() {
+			DBCollection collection = mock( DBCollection.class );
+
+			BulkWriteOperation bulkWriteOperation = mock( BulkWriteOperation.class );
+			BulkWriteRequestBuilder requestBuilder = mock( BulkWriteRequestBuilder.class );
+			BulkUpdateRequestBuilder updateRequestBuilder = mock( BulkUpdateRequestBuilder.class );
+			BulkWriteResult bulkWriteResult = mock( BulkWriteResult.class );
+
+			when( collection.initializeOrderedBulkOperation() ).thenReturn( bulkWriteOperation );
+			when( collection.initializeUnorderedBulkOperation() ).thenReturn( bulkWriteOperation );
+			when( bulkWriteOperation.find( any( DBObject.class ) ) ).thenReturn( requestBuilder );
+			when( requestBuilder.upsert() ).thenReturn( updateRequestBuilder );
+			when( bulkWriteOperation.execute( any( WriteConcern.class ) ) ).thenReturn( bulkWriteResult );
+
+			return collection;
+		}
 	}
 
 	/**
@@ -119,5 +140,13 @@ public DBCollection getCollection(String collectionName) {
 			DBCollection collection = collections.get( collectionName );
 			return collection != null ? collection : defaultCollection;
 		}
+
+		/**
+		 * Returns the bulk write operation used for the collection with a given name. This is a Mockito mock object, so
+		 * verifications can be performed on it.
+		 */
+		public BulkWriteOperation getBulkWriteOperation(String collectionName) {
+			return getCollection( collectionName ).initializeOrderedBulkOperation();
+		}
 	}
 }
@@ -159,6 +159,23 @@ public Tuple getTuple(EntityKey key, TupleContext context) {
 		);
 	}
 
+	@Override
+	public Tuple getTupleByNaturalId(EntityKeyMetadata entityKeyMetadata, String[] naturalIdColumnNames, Object[] naturalIdColumnValues, TupleContext tupleContext) {
+		Node entityNode = entityQueries.get( entityKeyMetadata ).findEntityByNaturalId( dataBase, naturalIdColumnNames, naturalIdColumnValues );
+		if ( entityNode == null ) {
+			return null;
+		}
+
+		return new Tuple(
+				EmbeddedNeo4jTupleSnapshot.fromNode(
+						entityNode,
+						tupleContext.getAllAssociatedEntityKeyMetadata(),
+						tupleContext.getAllRoles(),
+						entityKeyMetadata
+				)
+		);
+	}
+
 	@Override
 	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		if ( keys.length == 0 ) {
@@ -54,6 +54,37 @@ public final class Neo4jProperties implements OgmProperties {
 	 */
 	public static final String ESTABLISH_CONNECTION_TIMEOUT = "hibernate.ogm.neo4j.client.establish_connection_timeout";
 
+	/**
+	 * The maximum number of statements sent with one request to the transactional endpoint of a remote Neo4j server
+	 * when flushing changes.
+	 * <p>
+	 * Default is 1000.
+	 */
+	public static final String MAX_STATEMENTS_PER_REQUEST = "hibernate.ogm.neo4j.client.max_statements_per_request";
+
+	/**
+	 * The protocol used to connect to a remote Neo4j server. Supported values are the
+	 * {@link org.hibernate.ogm.datastore.neo4j.options.RemoteNeo4jProtocol} enum or the String representations of its
+	 * constants. Defaults to {@link org.hibernate.ogm.datastore.neo4j.options.RemoteNeo4jProtocol#HTTP}.
+	 * <p>
+	 * The default port depends on the protocol: 7474 for HTTP and 7687 for Bolt.
+	 */
+	public static final String PROTOCOL = "hibernate.ogm.neo4j.client.protocol";
+
+	/**
+	 * The maximum number of connections (HTTP) or sessions (Bolt) kept open with a remote Neo4j server.
+	 * <p>
+	 * Default is 10.
+	 */
+	public static final String CONNECTION_POOL_SIZE = "hibernate.ogm.neo4j.client.connection_pool_size";
+
+	/**
+	 * Whether the Bolt connections to a remote Neo4j server are encrypted with TLS; ignored with the HTTP protocol.
+	 * <p>
+	 * Default is false.
+	 */
+	public static final String ENCRYPTED = "hibernate.ogm.neo4j.client.encrypted";
+
 	private Neo4jProperties() {
 	}
 }
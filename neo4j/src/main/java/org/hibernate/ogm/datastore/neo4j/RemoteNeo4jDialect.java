@@ -6,11 +6,13 @@
  */
 package org.hibernate.ogm.datastore.neo4j;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,8 +30,10 @@
 import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.RemoteNeo4jAssociationSnapshot;
 import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.RemoteNeo4jEntityQueries;
 import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.RemoteNeo4jMapsTupleIterator;
+import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.RemoteNeo4jNewTupleSnapshot;
 import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.RemoteNeo4jNodesTupleIterator;
 import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.RemoteNeo4jSequenceGenerator;
+import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.RemoteNeo4jStatementsBatch;
 import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.RemoteNeo4jTupleAssociationSnapshot;
 import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.RemoteNeo4jTupleSnapshot;
 import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.RemoteNeo4jTypeConverter;
@@ -44,6 +48,14 @@
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.StatementsResponse;
 import org.hibernate.ogm.datastore.neo4j.remote.util.impl.RemoteNeo4jHelper;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
@@ -62,6 +74,7 @@
 import org.hibernate.ogm.model.spi.Association;
 import org.hibernate.ogm.model.spi.AssociationOperation;
 import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
 import org.hibernate.ogm.model.spi.TupleOperation;
 import org.hibernate.ogm.persister.impl.OgmCollectionPersister;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
@@ -77,10 +90,13 @@
  * {@link AssociationKeyMetadata#getCollectionRole()}.
  * <p>
  * If the value of a property is set to null the property will be removed (Neo4j does not allow to store null values).
+ * <p>
+ * The statements of a flush are collected and sent to the server with as few requests as possible, each request
+ * containing at most {@link Neo4jProperties#MAX_STATEMENTS_PER_REQUEST} statements.
  *
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
  */
-public class RemoteNeo4jDialect extends BaseNeo4jDialect {
+public class RemoteNeo4jDialect extends BaseNeo4jDialect implements BatchableGridDialect, MultigetAssociationGridDialect {
 
 	private static final Log log = LoggerFactory.getLogger();
 
@@ -88,6 +104,8 @@ public class RemoteNeo4jDialect extends BaseNeo4jDialect {
 
 	private final RemoteNeo4jSequenceGenerator sequenceGenerator;
 
+	private final int maxStatementsPerRequest;
+
 	private Map<EntityKeyMetadata, RemoteNeo4jEntityQueries> entityQueries;
 
 	private Map<AssociationKeyMetadata, RemoteNeo4jAssociationQueries> associationQueries;
@@ -96,6 +114,7 @@ public RemoteNeo4jDialect(RemoteNeo4jDatastoreProvider provider) {
 		super( RemoteNeo4jTypeConverter.INSTANCE );
 		this.dataBase = provider.getDatabase();
 		this.sequenceGenerator = provider.getSequenceGenerator();
+		this.maxStatementsPerRequest = provider.getMaxStatementsPerRequest();
 	}
 
 	@Override
@@ -147,6 +166,7 @@ private Map<AssociationKeyMetadata, RemoteNeo4jAssociationQueries> initializeAss
 
 	@Override
 	public Tuple getTuple(EntityKey key, TupleContext context) {
+		executePendingOperations( key, context.getOperationsQueue() );
 		RemoteNeo4jEntityQueries queries = entityQueries.get( key.getMetadata() );
 		Long txId = transactionId( context.getTransactionContext() );
 		NodeWithEmbeddedNodes node = queries.findEntity( dataBase, txId, key.getColumnValues() );
@@ -167,12 +187,38 @@ public Tuple getTuple(EntityKey key, TupleContext context) {
 				);
 	}
 
+	@Override
+	public Tuple getTupleByNaturalId(EntityKeyMetadata entityKeyMetadata, String[] naturalIdColumnNames, Object[] naturalIdColumnValues, TupleContext tupleContext) {
+		RemoteNeo4jEntityQueries queries = entityQueries.get( entityKeyMetadata );
+		Long txId = transactionId( tupleContext.getTransactionContext() );
+		NodeWithEmbeddedNodes node = queries.findEntityByNaturalId( dataBase, txId, naturalIdColumnNames, naturalIdColumnValues );
+		if ( node == null ) {
+			return null;
+		}
+
+		return new Tuple(
+				new RemoteNeo4jTupleSnapshot(
+						dataBase,
+						txId,
+						queries,
+						node,
+						tupleContext.getAllAssociatedEntityKeyMetadata(),
+						tupleContext.getAllRoles(),
+						entityKeyMetadata
+						)
+				);
+	}
+
 	@Override
 	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		if ( keys.length == 0 ) {
 			return Collections.emptyList();
 		}
 
+		for ( EntityKey key : keys ) {
+			executePendingOperations( key, tupleContext.getOperationsQueue() );
+		}
+
 		Long txId = transactionId( tupleContext.getTransactionContext() );
 		// We only supports one metadata for now
 		EntityKeyMetadata metadata = keys[0].getMetadata();
@@ -217,24 +263,47 @@ private List<Tuple> tuplesResult(EntityKey[] keys, TupleContext tupleContext, Cl
 		return Arrays.asList( tuples );
 	}
 
+	@Override
+	public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
+		return new Tuple( new RemoteNeo4jNewTupleSnapshot() );
+	}
+
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
+		RemoteNeo4jStatementsBatch batch = new RemoteNeo4jStatementsBatch( transactionId( tupleContext.getTransactionContext() ) );
+		insertOrUpdateTuple( key, tuple, tupleContext, batch );
+		execute( batch );
+	}
+
+	private void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext, RemoteNeo4jStatementsBatch batch) {
 		// insert
 		final Map<String, EntityKey> toOneAssociations = new HashMap<>();
 		Statements statements = new Statements();
 		Map<String, Object> properties = new HashMap<>();
-		applyTupleOperations( key, tuple, properties, toOneAssociations, statements, tuple.getOperations(), tupleContext, tupleContext.getTransactionContext() );
-		if ( tuple.getSnapshot() instanceof EmptyTupleSnapshot ) {
+		applyTupleOperations( key, tuple, properties, toOneAssociations, statements, tuple.getOperations(), tupleContext );
+		if ( isNew( tuple ) ) {
 			Statement statement = entityQueries.get( key.getMetadata() ).getCreateEntityWithPropertiesQueryStatement( key.getColumnValues(), properties );
 			statements.getStatements().add( 0, statement );
+			if ( tuple.getSnapshot() instanceof RemoteNeo4jNewTupleSnapshot ) {
+				( (RemoteNeo4jNewTupleSnapshot) tuple.getSnapshot() ).setCreated();
+			}
 		}
 		else {
 			updateTuple( key, statements, properties );
 		}
 		saveToOneAssociations( statements, key, toOneAssociations );
-		Long txId = transactionId( tupleContext.getTransactionContext() );
-		StatementsResponse readEntity = dataBase.executeQueriesInOpenTransaction( txId, statements );
-		validate( readEntity, key, tuple );
+		batch.addStatements( statements, key, tuple );
+	}
+
+	/**
+	 * Whether the node of the given tuple has yet to be created.
+	 */
+	private static boolean isNew(Tuple tuple) {
+		TupleSnapshot snapshot = tuple.getSnapshot();
+		if ( snapshot instanceof RemoteNeo4jNewTupleSnapshot ) {
+			return !( (RemoteNeo4jNewTupleSnapshot) snapshot ).isCreated();
+		}
+		return snapshot instanceof EmptyTupleSnapshot;
 	}
 
 	private Long transactionId(TransactionContext context) {
@@ -248,15 +317,32 @@ private void updateTuple(EntityKey key, Statements statements, Map<String, Objec
 		}
 	}
 
+	/**
+	 * Sends the statements of the batch, splitting them into requests of at most {@link #maxStatementsPerRequest}
+	 * statements.
+	 * <p>
+	 * The server stops at the first failing statement, returning the results of the statements executed before it;
+	 * this allows to find the entity the failing statement belongs to.
+	 */
+	private void execute(RemoteNeo4jStatementsBatch batch) {
+		for ( int start = 0; start < batch.size(); start += maxStatementsPerRequest ) {
+			int end = Math.min( start + maxStatementsPerRequest, batch.size() );
+			StatementsResponse readEntity = dataBase.executeQueriesInOpenTransaction( batch.getTransactionId(), batch.getStatements( start, end ) );
+			if ( !readEntity.getErrors().isEmpty() ) {
+				int executed = readEntity.getResults() == null ? 0 : readEntity.getResults().size();
+				int failed = Math.min( start + executed, end - 1 );
+				validate( readEntity, batch.getEntityKey( failed ), batch.getTuple( failed ) );
+			}
+		}
+	}
+
 	private void validate(StatementsResponse readEntity, EntityKey key, Tuple tuple) {
 		if (!readEntity.getErrors().isEmpty() ) {
 			ErrorResponse errorResponse = readEntity.getErrors().get( 0 );
-			switch ( errorResponse.getCode() ) {
-				case BaseNeo4jDialect.CONSTRAINT_VIOLATION_CODE:
-					throw extractException( key, tuple, errorResponse );
-				default:
-					throw new HibernateException( String.valueOf( errorResponse ) );
+			if ( key != null && BaseNeo4jDialect.CONSTRAINT_VIOLATION_CODE.equals( errorResponse.getCode() ) ) {
+				throw extractException( key, tuple, errorResponse );
 			}
+			throw new HibernateException( String.valueOf( errorResponse ) );
 		}
 	}
 
@@ -279,8 +365,13 @@ private void saveToOneAssociations(Statements statements, EntityKey key, final M
 
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
-		Long txId = transactionId( tupleContext.getTransactionContext() );
-		entityQueries.get( key.getMetadata() ).removeEntity( dataBase, txId, key.getColumnValues() );
+		RemoteNeo4jStatementsBatch batch = new RemoteNeo4jStatementsBatch( transactionId( tupleContext.getTransactionContext() ) );
+		removeTuple( key, batch );
+		execute( batch );
+	}
+
+	private void removeTuple(EntityKey key, RemoteNeo4jStatementsBatch batch) {
+		batch.addStatement( entityQueries.get( key.getMetadata() ).getRemoveEntityStatement( key.getColumnValues() ) );
 	}
 
 	/**
@@ -291,7 +382,7 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 	 * @param associatedEntityKeyMetadata
 	 * @param action
 	 */
-	private Relationship putAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext) {
+	private Statement putAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext) {
 		switch ( associationKey.getMetadata().getAssociationKind() ) {
 			case EMBEDDED_COLLECTION:
 				return createRelationshipWithEmbeddedNode( associationKey, associationContext, action );
@@ -302,28 +393,25 @@ private Relationship putAssociationOperation(AssociationKey associationKey, Asso
 		}
 	}
 
-	private Relationship createRelationshipWithEmbeddedNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
+	private Statement createRelationshipWithEmbeddedNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
 		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
-		Long txId = transactionId( associationContext.getTransactionContext() );
 		Tuple associationRow = action.getValue();
 		EntityKey embeddedKey = getEntityKey( associationRow, associatedEntityKeyMetadata  );
 		Object[] relationshipProperties = relationshipProperties( associationKey, action );
 
-		Relationship relationship = associationQueries.get( associationKey.getMetadata() )
-				.createRelationshipForEmbeddedAssociation( dataBase, txId, associationKey, embeddedKey, relationshipProperties );
-		return relationship;
+		return associationQueries.get( associationKey.getMetadata() )
+				.getCreateRelationshipForEmbeddedAssociationStatement( associationKey, embeddedKey, relationshipProperties );
 	}
 
-	private Relationship findOrCreateRelationshipWithEntityNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
+	private Statement findOrCreateRelationshipWithEntityNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
 		Tuple associationRow = action.getValue();
 		EntityKey ownerKey = associationKey.getEntityKey();
 		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
 		EntityKey targetKey = getEntityKey( associationRow, associatedEntityKeyMetadata  );
 		Object[] relationshipProperties = relationshipProperties( associationKey, associationRow );
-		Long txId = transactionId( associationContext.getTransactionContext() );
 
 		return associationQueries.get( associationKey.getMetadata() )
-			.createRelationship( dataBase, txId, ownerKey.getColumnValues(), targetKey.getColumnValues(), relationshipProperties );
+			.getCreateRelationshipStatement( ownerKey.getColumnValues(), targetKey.getColumnValues(), relationshipProperties );
 	}
 
 	private Object[] relationshipProperties(AssociationKey associationKey, Tuple associationRow) {
@@ -338,6 +426,8 @@ private Object[] relationshipProperties(AssociationKey associationKey, Tuple ass
 
 	@Override
 	public Association getAssociation(AssociationKey associationKey, AssociationContext associationContext) {
+		// the owner and the relationships might not have been created yet
+		executePendingOperations( associationContext.getOperationsQueue() );
 		EntityKey entityKey = associationKey.getEntityKey();
 		Long transactionId = transactionId( associationContext.getTransactionContext() );
 		NodeWithEmbeddedNodes node = entityQueries.get( entityKey.getMetadata() ).findEntity( dataBase, transactionId, entityKey.getColumnValues() );
@@ -349,13 +439,52 @@ public Association getAssociation(AssociationKey associationKey, AssociationCont
 		return new Association( new RemoteNeo4jAssociationSnapshot( tuples ) );
 	}
 
+	/**
+	 * Reads the relationships of all the owners with a single request to the server.
+	 */
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		// the owners and the relationships might not have been created yet
+		executePendingOperations( associationContexts[0].getOperationsQueue() );
+		Long txId = transactionId( associationContexts[0].getTransactionContext() );
+		String relationshipType = associationContexts[0].getAssociationTypeContext().getRoleOnMainSide();
+
+		Object[][] columnValues = new Object[keys.length][];
+		for ( int i = 0; i < keys.length; i++ ) {
+			columnValues[i] = keys[i].getEntityKey().getColumnValues();
+		}
+		List<List<RemoteNeo4jAssociationPropertiesRow>> relationships = entityQueries.get( keys[0].getEntityKey().getMetadata() )
+				.findAssociations( dataBase, txId, columnValues, relationshipType );
+
+		List<Association> associations = new ArrayList<Association>( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( relationships.get( i ) == null ) {
+				associations.add( null );
+			}
+			else {
+				Map<RowKey, Tuple> tuples = createAssociationMap( keys[i], associationContexts[i], relationships.get( i ).iterator() );
+				associations.add( new Association( new RemoteNeo4jAssociationSnapshot( tuples ) ) );
+			}
+		}
+		return associations;
+	}
+
 	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, EntityKey entityKey, TransactionContext transactionContext) {
 		String relationshipType = associationContext.getAssociationTypeContext().getRoleOnMainSide();
-		Map<RowKey, Tuple> tuples = new HashMap<RowKey, Tuple>();
 
 		Long txId = transactionId( transactionContext );
 		ClosableIterator<RemoteNeo4jAssociationPropertiesRow> relationships = entityQueries.get( entityKey.getMetadata() )
 				.findAssociation( dataBase, txId, entityKey.getColumnValues(), relationshipType );
+		return createAssociationMap( associationKey, associationContext, relationships );
+	}
+
+	private Map<RowKey, Tuple> createAssociationMap(AssociationKey associationKey, AssociationContext associationContext, Iterator<RemoteNeo4jAssociationPropertiesRow> relationships) {
+		Map<RowKey, Tuple> tuples = new HashMap<RowKey, Tuple>();
+
 		while ( relationships.hasNext() ) {
 			RemoteNeo4jAssociationPropertiesRow row = relationships.next();
 			AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
@@ -380,6 +509,12 @@ private RowKey convert(AssociationKey associationKey, RemoteNeo4jTupleAssociatio
 
 	@Override
 	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		RemoteNeo4jStatementsBatch batch = new RemoteNeo4jStatementsBatch( transactionId( associationContext.getTransactionContext() ) );
+		insertOrUpdateAssociation( key, association, associationContext, batch );
+		execute( batch );
+	}
+
+	private void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext, RemoteNeo4jStatementsBatch batch) {
 		// If this is the inverse side of a bi-directional association, we don't create a relationship for this; this
 		// will happen when updating the main side
 		if ( key.getMetadata().isInverse() ) {
@@ -387,31 +522,37 @@ public void insertOrUpdateAssociation(AssociationKey key, Association associatio
 		}
 
 		for ( AssociationOperation action : association.getOperations() ) {
-			applyAssociationOperation( association, key, action, associationContext );
+			applyAssociationOperation( association, key, action, associationContext, batch );
 		}
 	}
 
 	@Override
 	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		RemoteNeo4jStatementsBatch batch = new RemoteNeo4jStatementsBatch( transactionId( associationContext.getTransactionContext() ) );
+		removeAssociation( key, batch );
+		execute( batch );
+	}
+
+	private void removeAssociation(AssociationKey key, RemoteNeo4jStatementsBatch batch) {
 		// If this is the inverse side of a bi-directional association, we don't manage the relationship from this side
 		if ( key.getMetadata().isInverse() ) {
 			return;
 		}
 
-		Long txId = transactionId( associationContext.getTransactionContext() );
-		associationQueries.get( key.getMetadata() ).removeAssociation( dataBase, txId, key );
+		batch.addStatement( associationQueries.get( key.getMetadata() ).getRemoveAssociationStatement( key ) );
 	}
 
-	private void applyAssociationOperation(Association association, AssociationKey key, AssociationOperation operation, AssociationContext associationContext) {
+	private void applyAssociationOperation(Association association, AssociationKey key, AssociationOperation operation, AssociationContext associationContext,
+			RemoteNeo4jStatementsBatch batch) {
 		switch ( operation.getType() ) {
 		case CLEAR:
-			removeAssociation( key, associationContext );
+			removeAssociation( key, batch );
 			break;
 		case PUT:
-			putAssociationOperation( key, operation, associationContext );
+			batch.addStatement( putAssociationOperation( key, operation, associationContext ) );
 			break;
 		case REMOVE:
-			removeAssociationOperation( key, operation, associationContext );
+			batch.addStatement( removeAssociationOperation( key, operation ) );
 			break;
 		}
 	}
@@ -425,32 +566,31 @@ private Object[] relationshipProperties(AssociationKey associationKey, Associati
 		return relationshipProperties;
 	}
 
-	private void removeAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext) {
-		Long txId = transactionId( associationContext.getTransactionContext() );
-		associationQueries.get( associationKey.getMetadata() ).removeAssociationRow( dataBase, txId, associationKey, action.getKey() );
+	private Statement removeAssociationOperation(AssociationKey associationKey, AssociationOperation action) {
+		return associationQueries.get( associationKey.getMetadata() ).getRemoveAssociationRowStatement( associationKey, action.getKey() );
 	}
 
-	private void applyTupleOperations(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, Set<TupleOperation> operations, TupleContext tupleContext, TransactionContext transactionContext) {
+	private void applyTupleOperations(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, Set<TupleOperation> operations, TupleContext tupleContext) {
 		Set<String> processedAssociationRoles = new HashSet<String>();
 
 		for ( TupleOperation operation : operations ) {
-			applyOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, transactionContext, processedAssociationRoles );
+			applyOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, processedAssociationRoles );
 		}
 	}
 
-	private void applyOperation(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, TupleOperation operation, TupleContext tupleContext, TransactionContext transactionContext, Set<String> processedAssociationRoles) {
+	private void applyOperation(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, TupleOperation operation, TupleContext tupleContext, Set<String> processedAssociationRoles) {
 		switch ( operation.getType() ) {
 		case PUT:
 			putTupleOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, processedAssociationRoles );
 			break;
 		case PUT_NULL:
 		case REMOVE:
-			removeTupleOperation( entityKey, node, operation, statements, tupleContext, transactionContext, processedAssociationRoles );
+			removeTupleOperation( entityKey, node, operation, statements, tupleContext, processedAssociationRoles );
 			break;
 		}
 	}
 
-	private void removeTupleOperation(EntityKey entityKey, Map<String, Object> ownerNode, TupleOperation operation, Statements statements, TupleContext tupleContext, TransactionContext transactionContext, Set<String> processedAssociationRoles) {
+	private void removeTupleOperation(EntityKey entityKey, Map<String, Object> ownerNode, TupleOperation operation, Statements statements, TupleContext tupleContext, Set<String> processedAssociationRoles) {
 		if ( !tupleContext.isPartOfAssociation( operation.getColumn() ) ) {
 			if ( isPartOfRegularEmbedded( entityKey.getColumnNames(), operation.getColumn() ) ) {
 				// Embedded node
@@ -466,8 +606,8 @@ private void removeTupleOperation(EntityKey entityKey, Map<String, Object> owner
 		else {
 			String associationRole = tupleContext.getRole( operation.getColumn() );
 			if ( !processedAssociationRoles.contains( associationRole ) ) {
-				Long txId = transactionId( transactionContext );
-				entityQueries.get( entityKey.getMetadata() ).removeToOneAssociation( dataBase, txId, entityKey.getColumnValues(), associationRole );
+				Statement statement = entityQueries.get( entityKey.getMetadata() ).getRemoveToOneAssociationStatement( entityKey.getColumnValues(), associationRole );
+				statements.addStatement( statement );
 			}
 		}
 	}
@@ -557,4 +697,88 @@ private Object[] columnValues(Node node, EntityKeyMetadata metadata) {
 	public Number nextValue(NextValueRequest request) {
 		return sequenceGenerator.nextValue( request );
 	}
+
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( queue.isClosed() ) {
+			return;
+		}
+
+		RemoteNeo4jStatementsBatch batch = null;
+		Operation operation = queue.poll();
+		while ( operation != null ) {
+			Long txId = transactionId( transactionContext( operation ) );
+			if ( batch == null || !txId.equals( batch.getTransactionId() ) ) {
+				// operations are expected to belong to the same transaction, otherwise they are sent transaction by transaction
+				if ( batch != null ) {
+					execute( batch );
+				}
+				batch = new RemoteNeo4jStatementsBatch( txId );
+			}
+
+			if ( operation instanceof InsertOrUpdateTupleOperation ) {
+				InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
+				insertOrUpdateTuple( update.getEntityKey(), update.getTuple(), update.getTupleContext(), batch );
+			}
+			else if ( operation instanceof RemoveTupleOperation ) {
+				RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+				removeTuple( remove.getEntityKey(), batch );
+			}
+			else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+				InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+				insertOrUpdateAssociation( update.getAssociationKey(), update.getAssociation(), update.getContext(), batch );
+			}
+			else if ( operation instanceof RemoveAssociationOperation ) {
+				RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+				removeAssociation( remove.getAssociationKey(), batch );
+			}
+			else {
+				throw new UnsupportedOperationException( "Operation not supported on Neo4j: " + operation.getClass().getName() );
+			}
+			operation = queue.poll();
+		}
+
+		if ( batch != null ) {
+			execute( batch );
+		}
+	}
+
+	private static TransactionContext transactionContext(Operation operation) {
+		if ( operation instanceof InsertOrUpdateTupleOperation ) {
+			return ( (InsertOrUpdateTupleOperation) operation ).getTupleContext().getTransactionContext();
+		}
+		if ( operation instanceof RemoveTupleOperation ) {
+			return ( (RemoveTupleOperation) operation ).getTupleContext().getTransactionContext();
+		}
+		if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+			return ( (InsertOrUpdateAssociationOperation) operation ).getContext().getTransactionContext();
+		}
+		if ( operation instanceof RemoveAssociationOperation ) {
+			return ( (RemoveAssociationOperation) operation ).getContext().getTransactionContext();
+		}
+		throw new UnsupportedOperationException( "Operation not supported on Neo4j: " + operation.getClass().getName() );
+	}
+
+	/**
+	 * Executes the operations queued so far, so that the data read afterwards reflects them.
+	 *
+	 * @param queue the queue of the current flush, may be {@code null}
+	 */
+	private void executePendingOperations(OperationsQueue queue) {
+		if ( queue != null && !queue.isClosed() && queue.size() > 0 ) {
+			executeBatch( queue );
+		}
+	}
+
+	/**
+	 * Executes the operations queued so far if one of them writes the given entity.
+	 *
+	 * @param key the entity about to be read
+	 * @param queue the queue of the current flush, may be {@code null}
+	 */
+	private void executePendingOperations(EntityKey key, OperationsQueue queue) {
+		if ( queue != null && queue.contains( key ) ) {
+			executePendingOperations( queue );
+		}
+	}
 }
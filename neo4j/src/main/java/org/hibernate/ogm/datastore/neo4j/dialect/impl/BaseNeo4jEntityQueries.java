@@ -12,8 +12,10 @@
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.isPartOfEmbedded;
 import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -35,6 +37,11 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 	 */
 	public static final String ENTITY_ALIAS = "owner";
 
+	/**
+	 * The prefix of the aliases of the targets of the to-one associations returned with an entity.
+	 */
+	private static final String TO_ONE_TARGET_ALIAS = "toOne";
+
 	private static final int CACHE_CAPACITY = 1000;
 	private static final int CACHE_CONCURRENCY_LEVEL = 20;
 
@@ -52,6 +59,7 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 	private final BoundedConcurrentHashMap<String, String> updateEmbeddedPropertyQueryCache;
 	private final BoundedConcurrentHashMap<String, String> findAssociationQueryCache;
 	private final BoundedConcurrentHashMap<Integer, String> multiGetQueryCache;
+	private final BoundedConcurrentHashMap<List<String>, String> findEntityByNaturalIdQueryCache;
 
 	private final String removeToOneAssociation;
 	private final String createEmbeddedNodeQuery;
@@ -72,18 +80,31 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 	 */
 	private final boolean includeEmbedded;
 
+	/**
+	 * The key columns of the targets of the to-one associations, by association role, returned by the queries finding
+	 * entities after the entity itself. This is used by the remote dialect to avoid a Rest call every time we need the
+	 * target of a to-one association. Empty if the targets are not returned.
+	 */
+	private final Map<String, String[]> toOneTargetKeyColumns;
+
 	private final EntityKeyMetadata entityKeyMetadata;
 
 	public BaseNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleContext tupleContext, boolean includeEmbedded) {
+		this( entityKeyMetadata, tupleContext, includeEmbedded, false );
+	}
+
+	public BaseNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleContext tupleContext, boolean includeEmbedded, boolean includeToOneTargets) {
 		this.entityKeyMetadata = entityKeyMetadata;
 		this.includeEmbedded = includeEmbedded;
+		this.toOneTargetKeyColumns = includeToOneTargets ? initToOneTargetKeyColumns( tupleContext ) : Collections.<String, String[]>emptyMap();
 		this.updateEmbeddedPropertyQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.findAssociationQueryCache = new BoundedConcurrentHashMap<String, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 		this.multiGetQueryCache = new BoundedConcurrentHashMap<Integer, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.findEntityByNaturalIdQueryCache = new BoundedConcurrentHashMap<List<String>, String>( CACHE_CAPACITY, CACHE_CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS );
 
 		this.findAssociationPartialQuery = initMatchOwnerEntityNode( entityKeyMetadata );
 		this.createEmbeddedNodeQuery = initCreateEmbeddedNodeQuery( entityKeyMetadata );
-		this.findEntityQuery = initFindEntityQuery( entityKeyMetadata, includeEmbedded );
+		this.findEntityQuery = initFindEntityQuery( entityKeyMetadata, includeEmbedded, toOneTargetKeyColumns );
 		this.findEntitiesQuery = initFindEntitiesQuery( entityKeyMetadata, includeEmbedded );
 		this.createEntityQuery = initCreateEntityQuery( entityKeyMetadata );
 		this.updateEntityProperties = initMatchOwnerEntityNode( entityKeyMetadata );
@@ -94,7 +115,7 @@ public BaseNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleContext
 		this.findAssociatedEntityQuery = initFindAssociatedEntityQuery( entityKeyMetadata, tupleContext );
 		this.findEmbeddedNodeQueries = initFindEmbeddedNodeQuery( entityKeyMetadata, tupleContext );
 
-		this.multiGetQuery = initMultiGetEntitiesQuery( entityKeyMetadata, includeEmbedded );
+		this.multiGetQuery = initMultiGetEntitiesQuery( entityKeyMetadata, includeEmbedded, toOneTargetKeyColumns );
 
 		this.removeEmbeddedPropertyQuery = initRemoveEmbeddedPropertyQuery( entityKeyMetadata, tupleContext );
 		this.removePropertyQueries = initRemovePropertyQueries( entityKeyMetadata, tupleContext );
@@ -103,6 +124,21 @@ public BaseNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleContext
 		this.keyColumns = entityKeyMetadata.getColumnNames();
 	}
 
+	private static Map<String, String[]> initToOneTargetKeyColumns(TupleContext tupleContext) {
+		if ( tupleContext == null ) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, String[]> keyColumns = new LinkedHashMap<>();
+		for ( Entry<String, AssociatedEntityKeyMetadata> entry : tupleContext.getAllAssociatedEntityKeyMetadata().entrySet() ) {
+			String associationRole = tupleContext.getRole( entry.getKey() );
+			if ( !keyColumns.containsKey( associationRole ) ) {
+				keyColumns.put( associationRole, entry.getValue().getEntityKeyMetadata().getColumnNames() );
+			}
+		}
+		return Collections.unmodifiableMap( keyColumns );
+	}
+
 	private String initRemoveToOneAssociation(EntityKeyMetadata entityKeyMetadata, TupleContext tupleContext) {
 		StringBuilder queryBuilder = new StringBuilder();
 		appendMatchOwnerEntityNode( queryBuilder, entityKeyMetadata );
@@ -143,6 +179,13 @@ private Map<String, String> initRemovePropertyQueries(EntityKeyMetadata entityKe
 	 * WHERE n.id IN {0}
 	 * RETURN n
 	 *
+	 * or, returning the targets of the to-one associations:
+	 *
+	 * MATCH (n:ENTITY:table)
+	 * WHERE n.id IN {0}
+	 * OPTIONAL MATCH (n) -[:customer]-> (toOne0)
+	 * RETURN n, toOne0.id
+	 *
 	 * 2) id is mapped on multiple columns:
 	 *
 	 * MATCH (n:ENTITY:table)
@@ -150,7 +193,7 @@ private Map<String, String> initRemovePropertyQueries(EntityKeyMetadata entityKe
 	 *
 	 * In this case the query depends on how many id we are retrieving and it will be completed later
 	 */
-	private static String initMultiGetEntitiesQuery(EntityKeyMetadata entityKeyMetadata, boolean includeEmbedded) {
+	private static String initMultiGetEntitiesQuery(EntityKeyMetadata entityKeyMetadata, boolean includeEmbedded, Map<String, String[]> toOneTargetKeyColumns) {
 		StringBuilder queryBuilder = new StringBuilder( "MATCH " );
 		queryBuilder.append( "(" );
 		queryBuilder.append( ENTITY_ALIAS );
@@ -165,7 +208,7 @@ private static String initMultiGetEntitiesQuery(EntityKeyMetadata entityKeyMetad
 			queryBuilder.append( "." );
 			escapeIdentifier( queryBuilder, entityKeyMetadata.getColumnNames()[0] );
 			queryBuilder.append( " IN {0}" );
-			appendGetEmbeddedNodesIfNeeded( includeEmbedded, queryBuilder );
+			appendReturnEntity( includeEmbedded, toOneTargetKeyColumns, queryBuilder );
 		}
 		return queryBuilder.toString();
 	}
@@ -408,14 +451,59 @@ private static String initUpdateEmbeddedNodeQuery(EntityKeyMetadata entityKeyMet
 
 	/*
 	 * Example: MATCH (owner:ENTITY:table {id: {0}}) RETURN owner
+	 *
+	 * or, returning the embedded nodes and the targets of the to-one associations:
+	 *
+	 * MATCH (owner:ENTITY:table {id: {0}})
+	 * OPTIONAL MATCH (owner) -[r*]->(:EMBEDDED)
+	 * OPTIONAL MATCH (owner) -[:customer]-> (toOne0)
+	 * RETURN owner, r, toOne0.id
 	 */
-	private static String initFindEntityQuery(EntityKeyMetadata entityKeyMetadata, boolean includeEmbedded) {
+	private static String initFindEntityQuery(EntityKeyMetadata entityKeyMetadata, boolean includeEmbedded, Map<String, String[]> toOneTargetKeyColumns) {
 		StringBuilder queryBuilder = new StringBuilder();
 		appendMatchOwnerEntityNode( queryBuilder, entityKeyMetadata );
-		appendGetEmbeddedNodesIfNeeded( includeEmbedded, queryBuilder );
+		appendReturnEntity( includeEmbedded, toOneTargetKeyColumns, queryBuilder );
 		return queryBuilder.toString();
 	}
 
+	private static void appendReturnEntity(boolean includeEmbedded, Map<String, String[]> toOneTargetKeyColumns, StringBuilder queryBuilder) {
+		if ( toOneTargetKeyColumns.isEmpty() ) {
+			appendGetEmbeddedNodesIfNeeded( includeEmbedded, queryBuilder );
+			return;
+		}
+
+		if ( includeEmbedded ) {
+			appendOptionalMatchOwnerEmbeddedNodes( queryBuilder );
+		}
+		int index = 0;
+		for ( String associationRole : toOneTargetKeyColumns.keySet() ) {
+			queryBuilder.append( " OPTIONAL MATCH (" );
+			queryBuilder.append( ENTITY_ALIAS );
+			queryBuilder.append( ") -[:" );
+			appendRelationshipType( queryBuilder, associationRole );
+			queryBuilder.append( "]-> (" );
+			queryBuilder.append( TO_ONE_TARGET_ALIAS );
+			queryBuilder.append( index++ );
+			queryBuilder.append( ")" );
+		}
+		queryBuilder.append( " RETURN " );
+		queryBuilder.append( ENTITY_ALIAS );
+		if ( includeEmbedded ) {
+			queryBuilder.append( ", r" );
+		}
+		index = 0;
+		for ( String[] keyColumns : toOneTargetKeyColumns.values() ) {
+			for ( String keyColumn : keyColumns ) {
+				queryBuilder.append( ", " );
+				queryBuilder.append( TO_ONE_TARGET_ALIAS );
+				queryBuilder.append( index );
+				queryBuilder.append( "." );
+				escapeIdentifier( queryBuilder, keyColumn );
+			}
+			index++;
+		}
+	}
+
 	private static void appendGetEmbeddedNodesIfNeeded(boolean includeEmbedded, StringBuilder queryBuilder) {
 		if ( includeEmbedded ) {
 			appendOptionalMatchOwnerEmbeddedNodes( queryBuilder );
@@ -557,6 +645,82 @@ public String getUpdateEmbeddedColumnQuery(Object[] keyValues, String embeddedCo
 		return query;
 	}
 
+	/*
+	 * Example:
+	 *
+	 * MATCH (owner:ENTITY:Account {email: {0}})
+	 * RETURN owner
+	 *
+	 * or, if the natural id contains embedded properties:
+	 *
+	 * MATCH (owner:ENTITY:Account {email: {0}}), (owner) -[:homeAddress]-> (:EMBEDDED {city: {1}})
+	 * RETURN owner
+	 *
+	 * The properties of the entity node are part of the pattern so that the unique constraint created for the natural
+	 * id is used.
+	 */
+	private String initFindEntityByNaturalIdQuery(String[] naturalIdColumnNames) {
+		StringBuilder queryBuilder = new StringBuilder( "MATCH (" );
+		queryBuilder.append( ENTITY_ALIAS );
+		queryBuilder.append( ":" );
+		queryBuilder.append( ENTITY );
+		queryBuilder.append( ":" );
+		appendLabel( entityKeyMetadata, queryBuilder );
+		String separator = " {";
+		for ( int i = 0; i < naturalIdColumnNames.length; i++ ) {
+			if ( !isPartOfEmbedded( naturalIdColumnNames[i] ) ) {
+				queryBuilder.append( separator );
+				escapeIdentifier( queryBuilder, naturalIdColumnNames[i] );
+				queryBuilder.append( ": {" );
+				queryBuilder.append( i );
+				queryBuilder.append( "}" );
+				separator = ", ";
+			}
+		}
+		if ( !" {".equals( separator ) ) {
+			queryBuilder.append( "}" );
+		}
+		queryBuilder.append( ")" );
+		for ( int i = 0; i < naturalIdColumnNames.length; i++ ) {
+			if ( isPartOfEmbedded( naturalIdColumnNames[i] ) ) {
+				String[] path = split( naturalIdColumnNames[i] );
+				queryBuilder.append( ", (" );
+				queryBuilder.append( ENTITY_ALIAS );
+				queryBuilder.append( ")" );
+				for ( int j = 0; j < path.length - 1; j++ ) {
+					queryBuilder.append( " -[:" );
+					appendRelationshipType( queryBuilder, path[j] );
+					queryBuilder.append( "]-> (:" );
+					queryBuilder.append( EMBEDDED );
+					if ( j == path.length - 2 ) {
+						queryBuilder.append( " {" );
+						escapeIdentifier( queryBuilder, path[path.length - 1] );
+						queryBuilder.append( ": {" );
+						queryBuilder.append( i );
+						queryBuilder.append( "}}" );
+					}
+					queryBuilder.append( ")" );
+				}
+			}
+		}
+		queryBuilder.append( " RETURN " );
+		queryBuilder.append( ENTITY_ALIAS );
+		return queryBuilder.toString();
+	}
+
+	public String getFindEntityByNaturalIdQuery(String[] naturalIdColumnNames) {
+		List<String> key = Arrays.asList( naturalIdColumnNames );
+		String query = findEntityByNaturalIdQueryCache.get( key );
+		if ( query == null ) {
+			query = initFindEntityByNaturalIdQuery( naturalIdColumnNames );
+			String cached = findEntityByNaturalIdQueryCache.putIfAbsent( key, query );
+			if ( cached != null ) {
+				query = cached;
+			}
+		}
+		return query;
+	}
+
 	public String getFindAssociationQuery(String role) {
 		String query = findAssociationQueryCache.get( role );
 		if ( query == null ) {
@@ -627,7 +791,7 @@ private String createMultiGetOnMultiplePropertiesId(int keysNumber) {
 				builder.append( " OR " );
 			}
 		}
-		appendGetEmbeddedNodesIfNeeded( includeEmbedded, builder );
+		appendReturnEntity( includeEmbedded, toOneTargetKeyColumns, builder );
 		return builder.toString();
 	}
 
@@ -714,4 +878,15 @@ public String getUpdateEntityProperties() {
 	public Map<String, String> getFindAssociatedEntityQuery() {
 		return findAssociatedEntityQuery;
 	}
+
+	/**
+	 * Returns the key columns of the targets of the to-one associations returned by the queries finding entities.
+	 * They are returned after the entity (and its embedded nodes if included), in the iteration order of the returned
+	 * map.
+	 *
+	 * @return the key columns of the targets by association role, empty if the targets are not returned
+	 */
+	public Map<String, String[]> getToOneTargetKeyColumns() {
+		return toOneTargetKeyColumns;
+	}
 }
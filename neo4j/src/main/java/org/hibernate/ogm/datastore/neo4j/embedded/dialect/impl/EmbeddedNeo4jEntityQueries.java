@@ -81,6 +81,20 @@ public Node findEntity(GraphDatabaseService executionEngine, Object[] columnValu
 		return singleResult( result );
 	}
 
+	/**
+	 * Find the node corresponding to the entity with the given natural id.
+	 *
+	 * @param executionEngine the {@link GraphDatabaseService} used to run the query
+	 * @param naturalIdColumnNames the names of the natural id columns
+	 * @param naturalIdColumnValues the values of the natural id columns
+	 * @return the corresponding node
+	 */
+	public Node findEntityByNaturalId(GraphDatabaseService executionEngine, String[] naturalIdColumnNames, Object[] naturalIdColumnValues) {
+		Map<String, Object> params = params( naturalIdColumnValues );
+		Result result = executionEngine.execute( getFindEntityByNaturalIdQuery( naturalIdColumnNames ), params );
+		return singleResult( result );
+	}
+
 	/**
 	 * Find the nodes corresponding to an array of entity keys.
 	 *
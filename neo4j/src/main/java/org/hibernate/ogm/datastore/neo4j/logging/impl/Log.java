@@ -88,8 +88,20 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 	HibernateException sequenceNotFound(String sequenceName);
 
 	@Message(id = 1419, value = "Authentication failed on %s, error code %s %s")
-	HibernateException authenticationFailed(String host, int status, String reasonPhrase);
+	HibernateException authenticationFailed(String host, String status, String reasonPhrase);
 
 	@Message(id = 1420, value = "Sequences creation failed: %s, %s")
 	HibernateException sequencesCreationException(String code, String message);
+
+	@Message(id = 1421, value = "Illegal value for the maximum number of statements per request: %1$d; the value must be greater than 0")
+	HibernateException illegalMaxStatementsPerRequestValue(int value);
+
+	@Message(id = 1422, value = "Illegal value for the connection pool size: %1$d; the value must be greater than 0")
+	HibernateException illegalConnectionPoolSizeValue(int value);
+
+	@Message(id = 1423, value = "Unable to connect to the Neo4j server on %s")
+	HibernateException connectionFailed(String host, @Cause Exception cause);
+
+	@Message(id = 1424, value = "Unable to commit the transaction on the Neo4j server on %s, error code %s")
+	HibernateException commitFailed(String host, String code, @Cause Exception cause);
 }
@@ -0,0 +1,24 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.options;
+
+/**
+ * The protocols that can be used to connect to a remote Neo4j server.
+ */
+public enum RemoteNeo4jProtocol {
+
+	/**
+	 * Statements are sent as JSON documents to the transactional HTTP endpoint of the server, by default on port 7474
+	 */
+	HTTP,
+
+	/**
+	 * Statements are sent over the binary Bolt protocol using a pool of sessions, by default on port 7687; the records
+	 * of the results are streamed from the server
+	 */
+	BOLT
+}
@@ -13,7 +13,8 @@
 import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Graph.Node;
 
 /**
- * An entity node and all the embedded values associated to it.
+ * An entity node and all the embedded values associated to it, possibly with the keys of the targets of its to-one
+ * associations.
  *
  * @author Davide D'Alto
  */
@@ -23,14 +24,20 @@ public class NodeWithEmbeddedNodes {
 
 	private final Node owner;
 	private final Map<String, Collection<Node>> embeddedNodes;
+	private final Map<String, Map<String, Object>> toOneTargets;
 
 	public NodeWithEmbeddedNodes(Node owner) {
 		this( owner, EMPTY_MAP );
 	}
 
 	public NodeWithEmbeddedNodes(Node owner, Map<String, Collection<Node>> embeddedNodes) {
+		this( owner, embeddedNodes, null );
+	}
+
+	public NodeWithEmbeddedNodes(Node owner, Map<String, Collection<Node>> embeddedNodes, Map<String, Map<String, Object>> toOneTargets) {
 		this.owner = owner;
 		this.embeddedNodes = embeddedNodes == null ? EMPTY_MAP : Collections.unmodifiableMap( embeddedNodes );
+		this.toOneTargets = toOneTargets == null ? Collections.<String, Map<String, Object>>emptyMap() : Collections.unmodifiableMap( toOneTargets );
 	}
 
 	public Node getOwner() {
@@ -46,4 +53,15 @@ public Node getOwner() {
 	public Map<String, Collection<Node>> getEmbeddedNodes() {
 		return embeddedNodes;
 	}
+
+	/**
+	 * A map where the key is the role of a to-one association and the value is the key of its target, as properties of
+	 * the target node; the value is {@code null} if the association has no target. Roles not contained in the map have
+	 * not been read with the entity.
+	 *
+	 * @return the keys of the targets of the to-one associations read with the entity. It's never {@code null}
+	 */
+	public Map<String, Map<String, Object>> getToOneTargets() {
+		return toOneTargets;
+	}
 }
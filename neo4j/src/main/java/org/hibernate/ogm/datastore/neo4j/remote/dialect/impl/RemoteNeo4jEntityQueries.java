@@ -47,18 +47,24 @@ public class RemoteNeo4jEntityQueries extends BaseNeo4jEntityQueries {
 
 	private static final ClosableIteratorAdapter<NodeWithEmbeddedNodes> EMPTY_NODES = new ClosableIteratorAdapter<>( Collections.<NodeWithEmbeddedNodes>emptyList().iterator() );
 
+	/**
+	 * The index of the first key column of the to-one targets in the rows returned by the queries finding entities,
+	 * after the entity and its embedded nodes.
+	 */
+	private static final int FIRST_TO_ONE_TARGET_COLUMN = 2;
+
 	public RemoteNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata) {
 		this( entityKeyMetadata, null );
 	}
 
 	public RemoteNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleContext tupleContext) {
-		super( entityKeyMetadata, tupleContext, true );
+		super( entityKeyMetadata, tupleContext, true, true );
 	}
 
 	public NodeWithEmbeddedNodes findEntity(RemoteNeo4jClient executionEngine, Long transactionId, Object[] columnValues) {
 		Map<String, Object> params = params( columnValues );
 		Statements statements = new Statements();
-		statements.addStatement( getFindEntityQuery(), params, Statement.AS_GRAPH );
+		statements.addStatement( getFindEntityQuery(), params, findEntitiesDataContents() );
 		List<StatementResult> queryResult = executeQuery( executionEngine, transactionId, statements );
 		if ( queryResult != null ) {
 			Node owner = findOwner( queryResult );
@@ -70,11 +76,61 @@ public NodeWithEmbeddedNodes findEntity(RemoteNeo4jClient executionEngine, Long
 					updateEmbeddedNodesMap( embeddedNodesMap, graph.getNodes(), graph.getRelationships(), owner );
 				}
 			}
-			return new NodeWithEmbeddedNodes( owner, embeddedNodesMap );
+			return new NodeWithEmbeddedNodes( owner, embeddedNodesMap, toOneTargets( rows.get( 0 ) ) );
 		}
 		return null;
 	}
 
+	/**
+	 * Find the node corresponding to the entity with the given natural id. The embedded nodes and the targets of the
+	 * to-one associations are not returned.
+	 */
+	public NodeWithEmbeddedNodes findEntityByNaturalId(RemoteNeo4jClient executionEngine, Long transactionId, String[] naturalIdColumnNames, Object[] naturalIdColumnValues) {
+		Map<String, Object> params = params( naturalIdColumnValues );
+		List<StatementResult> queryResult = executeQuery( executionEngine, transactionId, getFindEntityByNaturalIdQuery( naturalIdColumnNames ), params, Statement.AS_GRAPH );
+		if ( queryResult != null ) {
+			Node owner = findOwner( queryResult );
+			return new NodeWithEmbeddedNodes( owner );
+		}
+		return null;
+	}
+
+	/*
+	 * The targets of the to-one associations are returned as rows, next to the graph of the entity.
+	 */
+	private String[] findEntitiesDataContents() {
+		if ( getToOneTargetKeyColumns().isEmpty() ) {
+			return new String[] { Statement.AS_GRAPH };
+		}
+		return new String[] { Statement.AS_GRAPH, Statement.AS_ROW };
+	}
+
+	/*
+	 * Reads the keys of the targets of the to-one associations from a row returned by a query finding entities.
+	 */
+	private Map<String, Map<String, Object>> toOneTargets(Row row) {
+		if ( getToOneTargetKeyColumns().isEmpty() || row.getRow() == null ) {
+			return null;
+		}
+
+		Map<String, Map<String, Object>> targets = new HashMap<>();
+		int index = FIRST_TO_ONE_TARGET_COLUMN;
+		for ( Map.Entry<String, String[]> entry : getToOneTargetKeyColumns().entrySet() ) {
+			Map<String, Object> targetKey = null;
+			for ( String keyColumn : entry.getValue() ) {
+				Object value = row.getRow().get( index++ );
+				if ( value != null ) {
+					if ( targetKey == null ) {
+						targetKey = new HashMap<>();
+					}
+					targetKey.put( keyColumn, value );
+				}
+			}
+			targets.put( entry.getKey(), targetKey );
+		}
+		return targets;
+	}
+
 	private Node findOwner(List<StatementResult> queryResult) {
 		Graph graph = queryResult.get( 0 ).getData().get( 0 ).getGraph();
 		Node owner = findEntity( graph.getNodes() );
@@ -177,8 +233,8 @@ public Statement getUpdateEntityPropertiesStatement(Object[] columnvalues, Map<S
 		return new Statement( query, params( paramsValues ) );
 	}
 
-	public void removeEntity(RemoteNeo4jClient executionEngine, Long txId, Object[] columnValues) {
-		executeQueryAndReturnGraph( executionEngine, txId, getRemoveEntityQuery(), params( columnValues ) );
+	public Statement getRemoveEntityStatement(Object[] columnValues) {
+		return new Statement( getRemoveEntityQuery(), params( columnValues ) );
 	}
 
 	public ClosableIterator<NodeWithEmbeddedNodes> findEntitiesWithEmbedded(RemoteNeo4jClient executionEngine, Long txId) {
@@ -210,7 +266,7 @@ public ClosableIterator<NodeWithEmbeddedNodes> findEntities(RemoteNeo4jClient ex
 	private ClosableIterator<NodeWithEmbeddedNodes> multiPropertiesIdFindEntities(RemoteNeo4jClient executionEngine, EntityKey[] keys, Long txId) {
 		String query = getMultiGetQueryCacheQuery( keys );
 		Map<String, Object> params = multiGetParams( keys );
-		List<StatementResult> results = executeQuery( executionEngine, txId, query, params );
+		List<StatementResult> results = executeQuery( executionEngine, txId, query, params, findEntitiesDataContents() );
 		return closableIterator( results );
 	}
 
@@ -224,7 +280,7 @@ private ClosableIterator<NodeWithEmbeddedNodes> singlePropertyIdFindEntities(Rem
 		}
 		Map<String, Object> params = Collections.singletonMap( "0", (Object) paramsValues );
 		Statements statements = new Statements();
-		statements.addStatement( multiGetQuery, params, Statement.AS_GRAPH );
+		statements.addStatement( multiGetQuery, params, findEntitiesDataContents() );
 		List<StatementResult> results = executeQuery( executionEngine, txId, statements );
 		return closableIterator( results, keys );
 
@@ -240,6 +296,7 @@ private ClosableIterator<NodeWithEmbeddedNodes> closableIterator(List<StatementR
 			if ( data.size() > 0 ) {
 				List<Node> owners = new ArrayList<>();
 				Map<Long, Map<String, Collection<Node>>> nodes = new HashMap<>();
+				Map<Long, Map<String, Map<String, Object>>> toOneTargets = new HashMap<>();
 				for ( Row row : data ) {
 					if ( row.getGraph().getNodes().size() > 0 ) {
 						Node owner = findEntity( row.getGraph().getNodes() );
@@ -247,6 +304,7 @@ private ClosableIterator<NodeWithEmbeddedNodes> closableIterator(List<StatementR
 						if ( embeddedNodesMap == null ) {
 							embeddedNodesMap = new HashMap<>();
 							nodes.put( owner.getId(), embeddedNodesMap );
+							toOneTargets.put( owner.getId(), toOneTargets( row ) );
 							owners.add( owner );
 						}
 						updateEmbeddedNodesMap( embeddedNodesMap, row.getGraph().getNodes(), row.getGraph().getRelationships(), owner );
@@ -255,7 +313,7 @@ private ClosableIterator<NodeWithEmbeddedNodes> closableIterator(List<StatementR
 				if ( keys == null ) {
 					List<NodeWithEmbeddedNodes> nodeWithEmbeddeds = new ArrayList<>();
 					for ( Node owner : owners ) {
-						nodeWithEmbeddeds.add( new NodeWithEmbeddedNodes( owner, nodes.get( owner.getId() ) ) );
+						nodeWithEmbeddeds.add( new NodeWithEmbeddedNodes( owner, nodes.get( owner.getId() ), toOneTargets.get( owner.getId() ) ) );
 					}
 					return new ClosableIteratorAdapter<>( nodeWithEmbeddeds.iterator() );
 				}
@@ -264,7 +322,7 @@ private ClosableIterator<NodeWithEmbeddedNodes> closableIterator(List<StatementR
 					for ( Node owner : owners ) {
 						int index = findKeyIndex( keys, owner );
 						if ( index > -1 ) {
-							array[index] = new NodeWithEmbeddedNodes( owner, nodes.get( owner.getId() ) );
+							array[index] = new NodeWithEmbeddedNodes( owner, nodes.get( owner.getId() ), toOneTargets.get( owner.getId() ) );
 						}
 					}
 					List<NodeWithEmbeddedNodes> nullRemoved = new ArrayList<>();
@@ -361,7 +419,6 @@ public Statement removeEmptyEmbeddedNodesStatement(Object[] keyValues, String em
 		return new Statement( query, params );
 	}
 
-	@SuppressWarnings("unchecked")
 	public ClosableIterator<RemoteNeo4jAssociationPropertiesRow> findAssociation(RemoteNeo4jClient executionEngine, Long txId, Object[] columnValues,
 			String role) {
 		// Find the target node
@@ -378,33 +435,7 @@ public ClosableIterator<RemoteNeo4jAssociationPropertiesRow> findAssociation(Rem
 		List<StatementResult> response = executeQuery( executionEngine, txId, statements );
 
 		if ( response != null ) {
-			List<Row> data = response.get( 0 ).getData();
-			List<Row> embeddedNodes = response.get( 1 ).getData();
-			int embeddedNodesIndex = 0;
-			List<RemoteNeo4jAssociationPropertiesRow> responseRows = new ArrayList<>( data.size() );
-			for ( int i = 0; i < data.size(); i++ ) {
-				String idTarget = String.valueOf( data.get( i ).getRow().get( 0 ) );
-
-				// Read the properties of the owner, the target and the relationship that joins them
-				Map<String, Object> rel = (Map<String, Object>) data.get( i ).getRow().get( 1 );
-				Map<String, Object> ownerNode = (Map<String, Object>) data.get( i ).getRow().get( 2 );
-				Map<String, Object> targetNode = (Map<String, Object>) data.get( i ).getRow().get( 3 );
-
-				// Read the embedded column and add them to the target node
-				while ( embeddedNodesIndex < embeddedNodes.size() ) {
-					Row row = embeddedNodes.get( embeddedNodesIndex );
-					String embeddedOwnerId = row.getRow().get( 0 ).toString();
-					if ( embeddedOwnerId.equals( idTarget ) ) {
-						addTargetEmbeddedProperties( targetNode, row );
-						embeddedNodesIndex++;
-					}
-					else {
-						break;
-					}
-				}
-				RemoteNeo4jAssociationPropertiesRow associationPropertiesRow = new RemoteNeo4jAssociationPropertiesRow( rel, ownerNode, targetNode );
-				responseRows.add( associationPropertiesRow );
-			}
+			List<RemoteNeo4jAssociationPropertiesRow> responseRows = associationRows( response.get( 0 ).getData(), response.get( 1 ).getData() );
 			if ( responseRows.isEmpty() ) {
 				return EMPTY_RELATIONSHIPS;
 			}
@@ -413,6 +444,75 @@ public ClosableIterator<RemoteNeo4jAssociationPropertiesRow> findAssociation(Rem
 		return EMPTY_RELATIONSHIPS;
 	}
 
+	/**
+	 * Find the relationships of several owners with a single request to the server.
+	 *
+	 * @param executionEngine the {@link RemoteNeo4jClient} used to run the queries
+	 * @param txId the id of the transaction
+	 * @param columnValues the id values of each owner
+	 * @param role the relationship type
+	 * @return the relationships of each owner, in the order of the owners; {@code null} if the owner does not exist
+	 */
+	public List<List<RemoteNeo4jAssociationPropertiesRow>> findAssociations(RemoteNeo4jClient executionEngine, Long txId, Object[][] columnValues,
+			String role) {
+		String queryForAssociation = getFindAssociationQuery( role );
+		String queryForEmbedded = getFindAssociationTargetEmbeddedValues( role );
+
+		// For each owner: whether it exists, the target nodes and the embedded properties of the target nodes
+		Statements statements = new Statements();
+		for ( Object[] ownerColumnValues : columnValues ) {
+			Map<String, Object> params = params( ownerColumnValues );
+			statements.addStatement( getFindEntityQuery(), params, Statement.AS_ROW );
+			statements.addStatement( queryForAssociation, params, Statement.AS_ROW );
+			statements.addStatement( queryForEmbedded, params, Statement.AS_ROW );
+		}
+
+		StatementsResponse statementsResponse = executionEngine.executeQueriesInOpenTransaction( txId, statements );
+		validate( statementsResponse );
+		List<StatementResult> results = statementsResponse.getResults();
+
+		List<List<RemoteNeo4jAssociationPropertiesRow>> associations = new ArrayList<>( columnValues.length );
+		for ( int i = 0; i < columnValues.length; i++ ) {
+			if ( results.get( 3 * i ).getData().isEmpty() ) {
+				associations.add( null );
+			}
+			else {
+				associations.add( associationRows( results.get( 3 * i + 1 ).getData(), results.get( 3 * i + 2 ).getData() ) );
+			}
+		}
+		return associations;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<RemoteNeo4jAssociationPropertiesRow> associationRows(List<Row> data, List<Row> embeddedNodes) {
+		int embeddedNodesIndex = 0;
+		List<RemoteNeo4jAssociationPropertiesRow> responseRows = new ArrayList<>( data.size() );
+		for ( int i = 0; i < data.size(); i++ ) {
+			String idTarget = String.valueOf( data.get( i ).getRow().get( 0 ) );
+
+			// Read the properties of the owner, the target and the relationship that joins them
+			Map<String, Object> rel = (Map<String, Object>) data.get( i ).getRow().get( 1 );
+			Map<String, Object> ownerNode = (Map<String, Object>) data.get( i ).getRow().get( 2 );
+			Map<String, Object> targetNode = (Map<String, Object>) data.get( i ).getRow().get( 3 );
+
+			// Read the embedded column and add them to the target node
+			while ( embeddedNodesIndex < embeddedNodes.size() ) {
+				Row row = embeddedNodes.get( embeddedNodesIndex );
+				String embeddedOwnerId = row.getRow().get( 0 ).toString();
+				if ( embeddedOwnerId.equals( idTarget ) ) {
+					addTargetEmbeddedProperties( targetNode, row );
+					embeddedNodesIndex++;
+				}
+				else {
+					break;
+				}
+			}
+			RemoteNeo4jAssociationPropertiesRow associationPropertiesRow = new RemoteNeo4jAssociationPropertiesRow( rel, ownerNode, targetNode );
+			responseRows.add( associationPropertiesRow );
+		}
+		return responseRows;
+	}
+
 	@SuppressWarnings("unchecked")
 	private void addTargetEmbeddedProperties(Map<String, Object> targetNode, Row row) {
 		List<String> pathToNode = (List<String>) row.getRow().get( 1 );
@@ -442,9 +542,9 @@ public Node findEmbeddedNode(RemoteNeo4jClient neo4jClient, Long txId, Object[]
 		return result.getNodes().get( 0 );
 	}
 
-	public void removeToOneAssociation(RemoteNeo4jClient executionEngine, Long txId, Object[] columnValues, String associationRole) {
+	public Statement getRemoveToOneAssociationStatement(Object[] columnValues, String associationRole) {
 		Map<String, Object> params = params( ArrayHelper.concat( columnValues, associationRole ) );
-		executeQueryAndReturnGraph( executionEngine, txId, getRemoveToOneAssociation(), params );
+		return new Statement( getRemoveToOneAssociation(), params );
 	}
 
 	private static class ClosableIteratorAdapter<T> implements ClosableIterator<T> {
@@ -0,0 +1,50 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.remote.dialect.impl;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.hibernate.ogm.model.spi.TupleSnapshot;
+
+/**
+ * The empty snapshot of the tuple of a new entity.
+ * <p>
+ * It remembers whether the node of the entity has been created: the persister keeps the tuple of an inserted entity
+ * and writes it again if the entity is updated within the same session, which must update the node instead of
+ * creating it a second time.
+ */
+public final class RemoteNeo4jNewTupleSnapshot implements TupleSnapshot {
+
+	private boolean created;
+
+	@Override
+	public Object get(String column) {
+		return null;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return true;
+	}
+
+	@Override
+	public Set<String> getColumnNames() {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * @return {@code true} if the statement creating the node of the entity has been issued, {@code false} otherwise
+	 */
+	public boolean isCreated() {
+		return created;
+	}
+
+	public void setCreated() {
+		this.created = true;
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.remote.dialect.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statement;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statements;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Tuple;
+
+/**
+ * Collects the statements of a flush so that they can be sent to the server with as few requests as possible.
+ * <p>
+ * The entity written by each statement is kept, so that an error returned by the server can be reported for the
+ * entity whose statement failed.
+ */
+public class RemoteNeo4jStatementsBatch {
+
+	private final Long transactionId;
+	private final List<Statement> statements = new ArrayList<Statement>();
+	private final List<EntityKey> entityKeys = new ArrayList<EntityKey>();
+	private final List<Tuple> tuples = new ArrayList<Tuple>();
+
+	public RemoteNeo4jStatementsBatch(Long transactionId) {
+		this.transactionId = transactionId;
+	}
+
+	/**
+	 * @return the id of the transaction the statements are executed in
+	 */
+	public Long getTransactionId() {
+		return transactionId;
+	}
+
+	/**
+	 * Adds a statement which doesn't write an entity, e.g. a statement creating a relationship.
+	 *
+	 * @param statement the statement to add
+	 */
+	public void addStatement(Statement statement) {
+		add( statement, null, null );
+	}
+
+	/**
+	 * Adds the statements writing an entity.
+	 *
+	 * @param statements the statements to add
+	 * @param key the key of the entity
+	 * @param tuple the tuple of the entity
+	 */
+	public void addStatements(Statements statements, EntityKey key, Tuple tuple) {
+		for ( Statement statement : statements.getStatements() ) {
+			add( statement, key, tuple );
+		}
+	}
+
+	private void add(Statement statement, EntityKey key, Tuple tuple) {
+		statements.add( statement );
+		entityKeys.add( key );
+		tuples.add( tuple );
+	}
+
+	public boolean isEmpty() {
+		return statements.isEmpty();
+	}
+
+	public int size() {
+		return statements.size();
+	}
+
+	/**
+	 * Returns the statements within the given range.
+	 *
+	 * @param fromIndex the index of the first statement, inclusive
+	 * @param toIndex the index of the last statement, exclusive
+	 * @return the statements
+	 */
+	public Statements getStatements(int fromIndex, int toIndex) {
+		Statements subset = new Statements();
+		subset.setStatements( new ArrayList<Statement>( statements.subList( fromIndex, toIndex ) ) );
+		return subset;
+	}
+
+	/**
+	 * @param index the index of a statement
+	 * @return the key of the entity written by the statement, {@code null} if the statement doesn't write an entity
+	 */
+	public EntityKey getEntityKey(int index) {
+		return entityKeys.get( index );
+	}
+
+	/**
+	 * @param index the index of a statement
+	 * @return the tuple of the entity written by the statement, {@code null} if the statement doesn't write an entity
+	 */
+	public Tuple getTuple(int index) {
+		return tuples.get( index );
+	}
+}
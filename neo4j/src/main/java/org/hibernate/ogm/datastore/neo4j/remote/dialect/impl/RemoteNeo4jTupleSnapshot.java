@@ -23,7 +23,9 @@
 /**
  * Represents the Tuple snapshot as loaded by the Neo4j datastore.
  * <p>
- * The columns of the tuple are mapped as properties of the node.
+ * The columns of the tuple are mapped as properties of the node. The keys of the targets of the to-one associations are
+ * read with the node if possible, otherwise they are read with one request per association the first time they are
+ * needed.
  *
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
  */
@@ -35,7 +37,7 @@ public final class RemoteNeo4jTupleSnapshot implements TupleSnapshot {
 	private final EntityKeyMetadata entityKeyMetadata;
 	private final RemoteNeo4jClient neo4jClient;
 
-	private final Map<String, Node> toOneEntities;
+	private final Map<String, Map<String, Object>> toOneEntities;
 	private final RemoteNeo4jEntityQueries queries;
 	private final Long txId;
 	private final Map<String, Collection<Node>> embeddedNodes;
@@ -64,7 +66,7 @@ public RemoteNeo4jTupleSnapshot(RemoteNeo4jClient neo4jClient,
 			this.toOneEntities = Collections.emptyMap();
 		}
 		else {
-			this.toOneEntities = new HashMap<>( associatedEntityKeyMetadata.size() );
+			this.toOneEntities = new HashMap<>( node.getToOneTargets() );
 		}
 	}
 
@@ -83,19 +85,21 @@ else if ( EmbeddedNeo4jDialect.isPartOfRegularEmbedded( entityKeyMetadata.getCol
 
 	private Object readPropertyOnOtherNode(String column) {
 		String associationrole = rolesByColumn.get( column );
-		Node associatedEntity = toOneEntities.get( associationrole );
-		if ( associatedEntity == null ) {
-			// Not cached, let's look for it
-			associatedEntity = queries.findAssociatedEntity( neo4jClient, txId, keyValues(), associationrole );
-			if ( associatedEntity == null ) {
-				return null;
-			}
-			else {
-				toOneEntities.put( associationrole, associatedEntity );
-			}
+		Map<String, Object> associatedEntity;
+		if ( toOneEntities.containsKey( associationrole ) ) {
+			associatedEntity = toOneEntities.get( associationrole );
+		}
+		else {
+			// Not read with the node, let's look for it
+			Node associatedNode = queries.findAssociatedEntity( neo4jClient, txId, keyValues(), associationrole );
+			associatedEntity = associatedNode == null ? null : associatedNode.getProperties();
+			toOneEntities.put( associationrole, associatedEntity );
 		}
 
-		return readProperty( associatedEntity, associatedEntityKeyMetadata.get( column ).getCorrespondingEntityKeyColumn( column ) );
+		if ( associatedEntity == null ) {
+			return null;
+		}
+		return associatedEntity.get( associatedEntityKeyMetadata.get( column ).getCorrespondingEntityKeyColumn( column ) );
 	}
 
 	private Object[] keyValues() {
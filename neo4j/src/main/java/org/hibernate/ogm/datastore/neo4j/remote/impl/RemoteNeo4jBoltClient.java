@@ -0,0 +1,460 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.remote.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.ErrorResponse;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Graph;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Row;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statement;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.StatementResult;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statements;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.StatementsResponse;
+import org.hibernate.ogm.datastore.neo4j.remote.transaction.impl.RemoteNeo4jTransaction;
+import org.neo4j.driver.v1.AuthToken;
+import org.neo4j.driver.v1.AuthTokens;
+import org.neo4j.driver.v1.Config;
+import org.neo4j.driver.v1.Driver;
+import org.neo4j.driver.v1.GraphDatabase;
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.Session;
+import org.neo4j.driver.v1.Transaction;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.Neo4jException;
+import org.neo4j.driver.v1.types.Entity;
+import org.neo4j.driver.v1.types.Node;
+import org.neo4j.driver.v1.types.Path;
+import org.neo4j.driver.v1.types.Relationship;
+
+/**
+ * Access point to the remote Neo4j server using the binary Bolt protocol.
+ * <p>
+ * The sessions are pooled by the driver; the records of a result are read while they are streamed from the server and
+ * converted into the rows and graphs the HTTP endpoint would have returned for the same statement. As with the JSON
+ * parser of the HTTP client, integer values are returned as {@link Integer} if they fit and as {@link Long} otherwise.
+ * <p>
+ * A transaction started with {@link #beginTx()} holds a session of the pool until it is committed or rolled back;
+ * the transaction ids are only meaningful to this client.
+ */
+public class RemoteNeo4jBoltClient implements RemoteNeo4jClient {
+
+	private static final String UNAUTHORIZED_CODE = "Neo.ClientError.Security.Unauthorized";
+
+	private static final String TRANSACTION_NOT_FOUND_CODE = "Neo.ClientError.Transaction.TransactionNotFound";
+
+	private static final String CONNECTION_CHECK_QUERY = "RETURN 1";
+
+	private static final String FIND_NODES_QUERY = "MATCH (n) WHERE id(n) IN {ids} RETURN n";
+
+	private static final Log logger = LoggerFactory.getLogger();
+
+	private final String serverUri;
+
+	private final Driver driver;
+
+	private final AtomicLong transactionIds = new AtomicLong();
+
+	private final ConcurrentMap<Long, BoltTransaction> transactions = new ConcurrentHashMap<>();
+
+	public RemoteNeo4jBoltClient(RemoteNeo4jDatabaseIdentifier database, RemoteNeo4jConfiguration configuration) {
+		this.serverUri = "bolt://" + database.getHost() + ":" + database.getPort();
+		this.driver = GraphDatabase.driver( serverUri, authToken( database ), driverConfig( configuration ) );
+	}
+
+	private static AuthToken authToken(RemoteNeo4jDatabaseIdentifier database) {
+		if ( database.getUserName() != null ) {
+			return AuthTokens.basic( database.getUserName(), database.getPassword() );
+		}
+		return AuthTokens.none();
+	}
+
+	private static Config driverConfig(RemoteNeo4jConfiguration configuration) {
+		return Config.build()
+				.withMaxSessions( configuration.getConnectionPoolSize() )
+				.withEncryptionLevel( configuration.isEncrypted() ? Config.EncryptionLevel.REQUIRED : Config.EncryptionLevel.NONE )
+				.toConfig();
+	}
+
+	@Override
+	public void validateConnection() {
+		try {
+			Session session = driver.session();
+			try {
+				session.run( CONNECTION_CHECK_QUERY ).consume();
+			}
+			finally {
+				session.close();
+			}
+		}
+		catch (Neo4jException e) {
+			if ( UNAUTHORIZED_CODE.equals( e.neo4jErrorCode() ) ) {
+				throw logger.authenticationFailed( serverUri, e.neo4jErrorCode(), e.getMessage() );
+			}
+			throw logger.connectionFailed( serverUri, e );
+		}
+	}
+
+	@Override
+	public void close() {
+		driver.close();
+	}
+
+	@Override
+	public StatementsResponse executeQueriesInOpenTransaction(Long txId, Statements statements) {
+		BoltTransaction transaction = transactions.get( txId );
+		if ( transaction == null ) {
+			return errorResponse( TRANSACTION_NOT_FOUND_CODE, "Unrecognized transaction id. Transaction may have timed out and been rolled back." );
+		}
+		StatementsResponse response = execute( transaction.transaction, statements );
+		if ( !response.getErrors().isEmpty() ) {
+			// Like the HTTP endpoint, roll back the transaction as soon as one of its statements fails
+			rollback( txId );
+		}
+		return response;
+	}
+
+	@Override
+	public StatementsResponse executeQueriesInNewTransaction(Statements statements) {
+		Session session = driver.session();
+		try {
+			Transaction transaction = session.beginTransaction();
+			try {
+				StatementsResponse response = execute( transaction, statements );
+				if ( response.getErrors().isEmpty() ) {
+					transaction.success();
+				}
+				else {
+					transaction.failure();
+				}
+				return response;
+			}
+			finally {
+				transaction.close();
+			}
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@Override
+	public RemoteNeo4jTransaction beginTx() {
+		Session session = driver.session();
+		try {
+			Transaction transaction = session.beginTransaction();
+			Long txId = transactionIds.incrementAndGet();
+			transactions.put( txId, new BoltTransaction( session, transaction ) );
+			return new RemoteNeo4jTransaction( this, txId );
+		}
+		catch (RuntimeException e) {
+			session.close();
+			throw e;
+		}
+	}
+
+	@Override
+	public void commit(Long txId) {
+		BoltTransaction transaction = transactions.remove( txId );
+		if ( transaction != null ) {
+			try {
+				// The statements are only committed when the transaction is closed
+				transaction.close( true );
+			}
+			catch (Neo4jException e) {
+				throw logger.commitFailed( serverUri, e.neo4jErrorCode(), e );
+			}
+		}
+	}
+
+	@Override
+	public void rollback(Long txId) {
+		BoltTransaction transaction = transactions.remove( txId );
+		if ( transaction != null ) {
+			transaction.close( false );
+		}
+	}
+
+	/**
+	 * Runs the statements one after the other, stopping at the first failing one.
+	 */
+	private static StatementsResponse execute(Transaction transaction, Statements statements) {
+		List<StatementResult> results = new ArrayList<>( statements.getStatements().size() );
+		List<ErrorResponse> errors = Collections.emptyList();
+		for ( Statement statement : statements.getStatements() ) {
+			try {
+				results.add( execute( transaction, statement ) );
+			}
+			catch (Neo4jException e) {
+				errors = Collections.singletonList( errorResponse( e ) );
+				break;
+			}
+		}
+
+		StatementsResponse response = new StatementsResponse();
+		response.setResults( results );
+		response.setErrors( errors );
+		return response;
+	}
+
+	private static StatementResult execute(Transaction transaction, Statement statement) {
+		org.neo4j.driver.v1.StatementResult result = statement.getParameters() == null
+				? transaction.run( statement.getStatement() )
+				: transaction.run( statement.getStatement(), statement.getParameters() );
+
+		List<String> contents = statement.getResultDataContents();
+		boolean asRow = contents != null && contents.contains( Statement.AS_ROW );
+		boolean asGraph = contents != null && contents.contains( Statement.AS_GRAPH );
+
+		List<Row> data = new ArrayList<>();
+		while ( result.hasNext() ) {
+			Record record = result.next();
+			Row row = new Row();
+			if ( asRow ) {
+				row.setRow( row( record ) );
+			}
+			if ( asGraph ) {
+				row.setGraph( graph( record ) );
+			}
+			data.add( row );
+		}
+
+		StatementResult statementResult = new StatementResult();
+		statementResult.setColumns( result.keys() );
+		statementResult.setData( data );
+		if ( asGraph ) {
+			addRelationshipNodes( transaction, data );
+		}
+		return statementResult;
+	}
+
+	/**
+	 * The HTTP endpoint returns the start and end nodes of the relationships in a graph, even if they are not part of
+	 * the record; Bolt only returns the relationships, so the missing nodes are read with one additional query.
+	 */
+	private static void addRelationshipNodes(Transaction transaction, List<Row> data) {
+		Set<Long> missingNodeIds = new HashSet<>();
+		for ( Row row : data ) {
+			missingNodeIds.addAll( missingNodeIds( row.getGraph() ) );
+		}
+		if ( missingNodeIds.isEmpty() ) {
+			return;
+		}
+
+		Map<Long, Graph.Node> missingNodes = new HashMap<>();
+		org.neo4j.driver.v1.StatementResult result = transaction.run( FIND_NODES_QUERY,
+				Collections.<String, Object>singletonMap( "ids", new ArrayList<>( missingNodeIds ) ) );
+		while ( result.hasNext() ) {
+			addNode( result.next().get( 0 ).asNode(), missingNodes );
+		}
+
+		for ( Row row : data ) {
+			for ( Long nodeId : missingNodeIds( row.getGraph() ) ) {
+				Graph.Node node = missingNodes.get( nodeId );
+				if ( node != null ) {
+					row.getGraph().getNodes().add( node );
+				}
+			}
+		}
+	}
+
+	private static Set<Long> missingNodeIds(Graph graph) {
+		Set<Long> nodeIds = new LinkedHashSet<>();
+		for ( Graph.Relationship relationship : graph.getRelationships() ) {
+			nodeIds.add( relationship.getStartNode() );
+			nodeIds.add( relationship.getEndNode() );
+		}
+		for ( Graph.Node node : graph.getNodes() ) {
+			nodeIds.remove( node.getId() );
+		}
+		return nodeIds;
+	}
+
+	private static List<Object> row(Record record) {
+		List<Object> row = new ArrayList<>( record.size() );
+		for ( Value value : record.values() ) {
+			row.add( rowValue( value.asObject() ) );
+		}
+		return row;
+	}
+
+	/**
+	 * Converts a value the way it is represented in the rows returned by the HTTP endpoint: nodes and relationships as
+	 * their properties, paths as the list of the properties of their elements.
+	 */
+	private static Object rowValue(Object value) {
+		if ( value instanceof Entity ) {
+			return properties( (Entity) value );
+		}
+		else if ( value instanceof Path ) {
+			Path path = (Path) value;
+			List<Object> elements = new ArrayList<>( 2 * path.length() + 1 );
+			elements.add( properties( path.start() ) );
+			for ( Path.Segment segment : path ) {
+				elements.add( properties( segment.relationship() ) );
+				elements.add( properties( segment.end() ) );
+			}
+			return elements;
+		}
+		else if ( value instanceof List ) {
+			List<?> list = (List<?>) value;
+			List<Object> converted = new ArrayList<>( list.size() );
+			for ( Object element : list ) {
+				converted.add( rowValue( element ) );
+			}
+			return converted;
+		}
+		else if ( value instanceof Map ) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			Map<String, Object> converted = new HashMap<>( map.size() );
+			for ( Map.Entry<?, ?> entry : map.entrySet() ) {
+				converted.put( String.valueOf( entry.getKey() ), rowValue( entry.getValue() ) );
+			}
+			return converted;
+		}
+		else if ( value instanceof Long ) {
+			long longValue = (Long) value;
+			if ( longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE ) {
+				return Integer.valueOf( (int) longValue );
+			}
+		}
+		return value;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> properties(Entity entity) {
+		return (Map<String, Object>) rowValue( entity.asMap() );
+	}
+
+	private static Graph graph(Record record) {
+		Map<Long, Graph.Node> nodes = new LinkedHashMap<>();
+		Map<Long, Graph.Relationship> relationships = new LinkedHashMap<>();
+		for ( Value value : record.values() ) {
+			collectGraphElements( value.asObject(), nodes, relationships );
+		}
+
+		Graph graph = new Graph();
+		graph.setNodes( new ArrayList<>( nodes.values() ) );
+		graph.setRelationships( new ArrayList<>( relationships.values() ) );
+		return graph;
+	}
+
+	private static void collectGraphElements(Object value, Map<Long, Graph.Node> nodes, Map<Long, Graph.Relationship> relationships) {
+		if ( value instanceof Node ) {
+			addNode( (Node) value, nodes );
+		}
+		else if ( value instanceof Relationship ) {
+			addRelationship( (Relationship) value, relationships );
+		}
+		else if ( value instanceof Path ) {
+			Path path = (Path) value;
+			for ( Node node : path.nodes() ) {
+				addNode( node, nodes );
+			}
+			for ( Relationship relationship : path.relationships() ) {
+				addRelationship( relationship, relationships );
+			}
+		}
+		else if ( value instanceof List ) {
+			for ( Object element : (List<?>) value ) {
+				collectGraphElements( element, nodes, relationships );
+			}
+		}
+		else if ( value instanceof Map ) {
+			for ( Object element : ( (Map<?, ?>) value ).values() ) {
+				collectGraphElements( element, nodes, relationships );
+			}
+		}
+	}
+
+	private static void addNode(Node node, Map<Long, Graph.Node> nodes) {
+		if ( !nodes.containsKey( node.id() ) ) {
+			List<String> labels = new ArrayList<>();
+			for ( String label : node.labels() ) {
+				labels.add( label );
+			}
+
+			Graph.Node graphNode = new Graph.Node();
+			graphNode.setId( node.id() );
+			graphNode.setLabels( labels );
+			graphNode.setProperties( properties( node ) );
+			nodes.put( node.id(), graphNode );
+		}
+	}
+
+	private static void addRelationship(Relationship relationship, Map<Long, Graph.Relationship> relationships) {
+		if ( !relationships.containsKey( relationship.id() ) ) {
+			Graph.Relationship graphRelationship = new Graph.Relationship();
+			graphRelationship.setId( relationship.id() );
+			graphRelationship.setType( relationship.type() );
+			graphRelationship.setStartNode( relationship.startNodeId() );
+			graphRelationship.setEndNode( relationship.endNodeId() );
+			graphRelationship.setProperties( properties( relationship ) );
+			relationships.put( relationship.id(), graphRelationship );
+		}
+	}
+
+	private static ErrorResponse errorResponse(Neo4jException e) {
+		ErrorResponse error = new ErrorResponse();
+		error.setCode( e.neo4jErrorCode() );
+		error.setMessage( e.getMessage() );
+		return error;
+	}
+
+	private static StatementsResponse errorResponse(String code, String message) {
+		ErrorResponse error = new ErrorResponse();
+		error.setCode( code );
+		error.setMessage( message );
+
+		StatementsResponse response = new StatementsResponse();
+		response.setResults( Collections.<StatementResult>emptyList() );
+		response.setErrors( Collections.singletonList( error ) );
+		return response;
+	}
+
+	/**
+	 * A transaction started with {@link RemoteNeo4jBoltClient#beginTx()} and the session running it.
+	 */
+	private static class BoltTransaction {
+
+		private final Session session;
+		private final Transaction transaction;
+
+		BoltTransaction(Session session, Transaction transaction) {
+			this.session = session;
+			this.transaction = transaction;
+		}
+
+		void close(boolean commit) {
+			try {
+				if ( commit ) {
+					transaction.success();
+				}
+				else {
+					transaction.failure();
+				}
+				transaction.close();
+			}
+			finally {
+				session.close();
+			}
+		}
+	}
+}
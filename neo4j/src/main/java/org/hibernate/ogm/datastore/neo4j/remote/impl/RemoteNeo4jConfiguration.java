@@ -6,13 +6,18 @@
  */
 package org.hibernate.ogm.datastore.neo4j.remote.impl;
 
+import org.hibernate.HibernateException;
 import org.hibernate.ogm.cfg.OgmProperties;
 import org.hibernate.ogm.cfg.impl.HostParser;
 import org.hibernate.ogm.cfg.spi.DocumentStoreConfiguration;
 import org.hibernate.ogm.cfg.spi.Hosts;
 import org.hibernate.ogm.datastore.neo4j.Neo4jProperties;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.neo4j.options.RemoteNeo4jProtocol;
 import org.hibernate.ogm.util.configurationreader.impl.Validators;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.ogm.util.configurationreader.spi.PropertyValidator;
 
 /**
  * @see DocumentStoreConfiguration
@@ -22,6 +27,8 @@ public class RemoteNeo4jConfiguration {
 
 	public static final int DEFAULT_PORT = 7474;
 
+	public static final int DEFAULT_BOLT_PORT = 7687;
+
 	/**
 	 * The default host to connect to in case the {@link OgmProperties#HOST} property is not set
 	 */
@@ -29,6 +36,45 @@ public class RemoteNeo4jConfiguration {
 
 	private static final String DEFAULT_DB = "db/data";
 
+	private static final int DEFAULT_MAX_STATEMENTS_PER_REQUEST = 1000;
+
+	private static final int DEFAULT_CONNECTION_POOL_SIZE = 10;
+
+	private static final Log log = LoggerFactory.getLogger();
+
+	/**
+	 * A {@link PropertyValidator} which asserts that the maximum number of statements per request is positive.
+	 */
+	private static final PropertyValidator<Integer> MAX_STATEMENTS_PER_REQUEST_VALIDATOR = new PropertyValidator<Integer>() {
+
+		@Override
+		public void validate(Integer value) throws HibernateException {
+			if ( value == null ) {
+				return;
+			}
+			if ( value < 1 ) {
+				throw log.illegalMaxStatementsPerRequestValue( value );
+			}
+		}
+	};
+
+	/**
+	 * A {@link PropertyValidator} which asserts that the connection pool size is positive.
+	 */
+	private static final PropertyValidator<Integer> CONNECTION_POOL_SIZE_VALIDATOR = new PropertyValidator<Integer>() {
+
+		@Override
+		public void validate(Integer value) throws HibernateException {
+			if ( value == null ) {
+				return;
+			}
+			if ( value < 1 ) {
+				throw log.illegalConnectionPoolSizeValue( value );
+			}
+		}
+	};
+
+	private final RemoteNeo4jProtocol protocol;
 	private final Hosts hosts;
 	private final String databaseName;
 	private final String username;
@@ -38,8 +84,15 @@ public class RemoteNeo4jConfiguration {
 	private final Long establishConnectionTimeout;
 	private final Long connectionCheckoutTimeout;
 	private final Long connectionTTL;
+	private final int maxStatementsPerRequest;
+	private final int connectionPoolSize;
+	private final boolean encrypted;
 
 	public RemoteNeo4jConfiguration(ConfigurationPropertyReader propertyReader) {
+		this.protocol = propertyReader.property( Neo4jProperties.PROTOCOL, RemoteNeo4jProtocol.class )
+				.withDefault( RemoteNeo4jProtocol.HTTP )
+				.getValue();
+
 		String host = propertyReader.property( OgmProperties.HOST, String.class )
 				.withDefault( DEFAULT_HOST )
 				.getValue();
@@ -49,7 +102,7 @@ public RemoteNeo4jConfiguration(ConfigurationPropertyReader propertyReader) {
 				.withDefault( null )
 				.getValue();
 
-		hosts = HostParser.parse( host, port, DEFAULT_PORT );
+		hosts = HostParser.parse( host, port, protocol == RemoteNeo4jProtocol.BOLT ? DEFAULT_BOLT_PORT : DEFAULT_PORT );
 
 		this.databaseName = propertyReader.property( OgmProperties.DATABASE, String.class )
 				.withDefault( DEFAULT_DB )
@@ -61,12 +114,31 @@ public RemoteNeo4jConfiguration(ConfigurationPropertyReader propertyReader) {
 		this.establishConnectionTimeout = propertyReader.property( Neo4jProperties.ESTABLISH_CONNECTION_TIMEOUT, Long.class ).getValue();
 		this.connectionCheckoutTimeout = propertyReader.property( Neo4jProperties.CONNECTION_CHECKOUT_TIMEOUT, Long.class ).getValue();
 		this.connectionTTL = propertyReader.property( Neo4jProperties.CONNECTION_TTL, Long.class ).getValue();
+		this.maxStatementsPerRequest = propertyReader.property( Neo4jProperties.MAX_STATEMENTS_PER_REQUEST, int.class )
+				.withValidator( MAX_STATEMENTS_PER_REQUEST_VALIDATOR )
+				.withDefault( DEFAULT_MAX_STATEMENTS_PER_REQUEST )
+				.getValue();
+		this.connectionPoolSize = propertyReader.property( Neo4jProperties.CONNECTION_POOL_SIZE, int.class )
+				.withValidator( CONNECTION_POOL_SIZE_VALIDATOR )
+				.withDefault( DEFAULT_CONNECTION_POOL_SIZE )
+				.getValue();
+		this.encrypted = propertyReader.property( Neo4jProperties.ENCRYPTED, boolean.class )
+				.withDefault( false )
+				.getValue();
 
 		this.createDatabase = propertyReader.property( OgmProperties.CREATE_DATABASE, boolean.class )
 				.withDefault( false )
 				.getValue();
 	}
 
+	/**
+	 * @see Neo4jProperties#PROTOCOL
+	 * @return the protocol used to connect to the server
+	 */
+	public RemoteNeo4jProtocol getProtocol() {
+		return protocol;
+	}
+
 	/**
 	 * @see OgmProperties#HOST
 	 * @see OgmProperties#PORT
@@ -139,4 +211,28 @@ public Long getConnectionTTL() {
 	public Long getEstablishConnectionTimeout() {
 		return establishConnectionTimeout;
 	}
+
+	/**
+	 * @see Neo4jProperties#MAX_STATEMENTS_PER_REQUEST
+	 * @return the maximum number of statements sent with one request when flushing changes
+	 */
+	public int getMaxStatementsPerRequest() {
+		return maxStatementsPerRequest;
+	}
+
+	/**
+	 * @see Neo4jProperties#CONNECTION_POOL_SIZE
+	 * @return the maximum number of connections or sessions kept open with the server
+	 */
+	public int getConnectionPoolSize() {
+		return connectionPoolSize;
+	}
+
+	/**
+	 * @see Neo4jProperties#ENCRYPTED
+	 * @return whether the Bolt connections are encrypted
+	 */
+	public boolean isEncrypted() {
+		return encrypted;
+	}
 }
@@ -8,14 +8,13 @@
 
 import java.util.Map;
 
-import javax.ws.rs.core.Response;
-
 import org.hibernate.HibernateException;
 import org.hibernate.ogm.cfg.spi.Hosts;
 import org.hibernate.ogm.datastore.neo4j.Neo4jProperties;
 import org.hibernate.ogm.datastore.neo4j.RemoteNeo4jDialect;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.neo4j.options.RemoteNeo4jProtocol;
 import org.hibernate.ogm.datastore.neo4j.query.parsing.impl.Neo4jBasedQueryParserService;
 import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.RemoteNeo4jSequenceGenerator;
 import org.hibernate.ogm.datastore.neo4j.remote.transaction.impl.RemoteNeo4jTransactionCoordinatorBuilder;
@@ -36,8 +35,6 @@
  */
 public class RemoteNeo4jDatastoreProvider extends BaseDatastoreProvider implements Startable, Stoppable, Configurable, ServiceRegistryAwareService {
 
-	private static final int OK = 200;
-
 	private static final int DEFAULT_SEQUENCE_QUERY_CACHE_MAX_SIZE = 128;
 
 	private static final Log logger = LoggerFactory.getLogger();
@@ -86,7 +83,7 @@ public void start() {
 		if ( remoteNeo4j == null ) {
 			try {
 				remoteNeo4j = createNeo4jClient( getDatabaseIdentifier(), configuration );
-				validateCredentials( remoteNeo4j, configuration );
+				remoteNeo4j.validateConnection();
 				sequenceGenerator = new RemoteNeo4jSequenceGenerator( remoteNeo4j, sequenceCacheMaxSize );
 			}
 			catch (HibernateException e) {
@@ -97,22 +94,19 @@ public void start() {
 		}
 	}
 
-	private void validateCredentials(RemoteNeo4jClient client, RemoteNeo4jConfiguration configuration) {
-		Response response = client.authenticate( configuration.getUsername() );
-		if ( response.getStatus() != OK ) {
-			throw logger.authenticationFailed( String.valueOf( configuration.getHosts() ), response.getStatus(), response.getStatusInfo().getReasonPhrase() );
-		}
-	}
-
 	/**
-	 * Creates the {@link RemoteNeo4jClient} that it is going to be used to connect to a remote Neo4j server.
+	 * Creates the {@link RemoteNeo4jClient} that it is going to be used to connect to a remote Neo4j server, using the
+	 * configured protocol.
 	 *
 	 * @param database the connection properties to identify a database
 	 * @param configuration all the configuration properties
 	 * @return a client that can access a Neo4j server
 	 */
 	public RemoteNeo4jClient createNeo4jClient(RemoteNeo4jDatabaseIdentifier database, RemoteNeo4jConfiguration configuration) {
-		return new RemoteNeo4jClient( getDatabaseIdentifier(), configuration );
+		if ( configuration.getProtocol() == RemoteNeo4jProtocol.BOLT ) {
+			return new RemoteNeo4jBoltClient( database, configuration );
+		}
+		return new RemoteNeo4jHttpClient( database, configuration );
 	}
 
 	@Override
@@ -145,6 +139,13 @@ public Class<? extends SchemaDefiner> getSchemaDefinerType() {
 		return RemoteNeo4jSchemaDefiner.class;
 	}
 
+	/**
+	 * @return the maximum number of statements sent with one request when flushing changes
+	 */
+	public int getMaxStatementsPerRequest() {
+		return configuration.getMaxStatementsPerRequest();
+	}
+
 	public RemoteNeo4jSequenceGenerator getSequenceGenerator() {
 		return sequenceGenerator;
 	}
@@ -0,0 +1,154 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.remote.impl;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.Response;
+
+import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.neo4j.remote.facade.impl.RemoteNeo4jAuthenticationFacade;
+import org.hibernate.ogm.datastore.neo4j.remote.facade.impl.RemoteNeo4jTransactionFacade;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statements;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.StatementsResponse;
+import org.hibernate.ogm.datastore.neo4j.remote.transaction.impl.RemoteNeo4jTransaction;
+import org.jboss.resteasy.client.jaxrs.BasicAuthentication;
+import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+
+/**
+ * Access point to the remote Neo4j server using the transactional HTTP endpoint.
+ *
+ * @author Davide D'Alto
+ */
+public class RemoteNeo4jHttpClient implements RemoteNeo4jClient {
+
+	private static final int OK = 200;
+
+	private static final Log logger = LoggerFactory.getLogger();
+
+	/**
+	 * Client for accessing the server
+	 */
+	private final ResteasyClient client;
+
+	private final RemoteNeo4jAuthenticationFacade authenticationClient;
+
+	private final RemoteNeo4jTransactionFacade neo4jFacade;
+
+	private final RemoteNeo4jDatabaseIdentifier database;
+
+	public RemoteNeo4jHttpClient(RemoteNeo4jDatabaseIdentifier database, RemoteNeo4jConfiguration configuration) {
+		this.database = database;
+		this.client = createRestClient( database, configuration );
+		this.authenticationClient = client.target( database.getServerUri() ).proxy( RemoteNeo4jAuthenticationFacade.class );
+		this.neo4jFacade = client.target( database.getDatabaseUri() ).proxy( RemoteNeo4jTransactionFacade.class );
+	}
+
+	private static ResteasyClient createRestClient(RemoteNeo4jDatabaseIdentifier database, RemoteNeo4jConfiguration configuration) {
+		ResteasyClientBuilder clientBuilder = new ResteasyClientBuilder();
+
+		if ( database.getUserName() != null ) {
+			clientBuilder.register( new BasicAuthentication( database.getUserName(), database.getPassword() ) );
+		}
+
+		if ( configuration.getConnectionCheckoutTimeout() != null ) {
+			clientBuilder.connectionCheckoutTimeout( configuration.getConnectionCheckoutTimeout(), TimeUnit.MILLISECONDS );
+		}
+
+		if ( configuration.getEstablishConnectionTimeout() != null ) {
+			clientBuilder.establishConnectionTimeout( configuration.getEstablishConnectionTimeout(), TimeUnit.MILLISECONDS );
+		}
+
+		if ( configuration.getConnectionTTL() != null ) {
+			clientBuilder.connectionTTL( configuration.getConnectionTTL(), TimeUnit.MILLISECONDS );
+		}
+
+		if ( configuration.getSocketTimeout() != null ) {
+			clientBuilder.socketTimeout( configuration.getSocketTimeout(), TimeUnit.MILLISECONDS );
+		}
+
+		clientBuilder.register( XStreamRequestHeaderFilter.INSTANCE );
+
+		// using a connection pool size > 1 causes a thread-safe pool implementation to be used under the hoods
+		return clientBuilder.connectionPoolSize( Math.max( configuration.getConnectionPoolSize(), 2 ) ).build();
+	}
+
+	@Override
+	public void validateConnection() {
+		Response response = authenticationClient.authenticate( database.getUserName() );
+		try {
+			if ( response.getStatus() != OK ) {
+				throw logger.authenticationFailed( database.getServerUri().toString(), String.valueOf( response.getStatus() ),
+						response.getStatusInfo().getReasonPhrase() );
+			}
+		}
+		finally {
+			response.close();
+		}
+	}
+
+	@Override
+	public void close() {
+		client.close();
+	}
+
+	@Override
+	public StatementsResponse executeQueriesInOpenTransaction(Long txId, Statements statements) {
+		Response executeQuery = neo4jFacade.executeQuery( txId, statements );
+		try {
+			return executeQuery.readEntity( StatementsResponse.class );
+		}
+		finally {
+			executeQuery.close();
+		}
+	}
+
+	@Override
+	public StatementsResponse executeQueriesInNewTransaction(Statements statements) {
+		Response response = neo4jFacade.executeQuery( statements );
+		try {
+			StatementsResponse readEntity = response.readEntity( StatementsResponse.class );
+			return readEntity;
+		}
+		finally {
+			response.close();
+		}
+	}
+
+	@Override
+	public RemoteNeo4jTransaction beginTx() {
+		Response response = neo4jFacade.beginTransaction();
+		try {
+			Long txId = transactionId( response.getLocation() );
+			RemoteNeo4jTransaction transaction = new RemoteNeo4jTransaction( this, txId );
+			return transaction;
+		}
+		finally {
+			response.close();
+		}
+	}
+
+	// The location should look something like: http://localhost:7474/db/data/transaction/{txId}
+	private Long transactionId(URI location) {
+		return Long.valueOf( location.getPath().substring( location.getPath().lastIndexOf( "/" ) + 1 ) );
+	}
+
+	@Override
+	public void commit(Long txId) {
+		Response response = neo4jFacade.commit( txId );
+		response.close();
+	}
+
+	@Override
+	public void rollback(Long txId) {
+		Response response = neo4jFacade.rollback( txId );
+		response.close();
+	}
+}
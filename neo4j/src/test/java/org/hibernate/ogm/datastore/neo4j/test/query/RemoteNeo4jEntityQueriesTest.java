@@ -0,0 +1,150 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.query;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.NodeWithEmbeddedNodes;
+import org.hibernate.ogm.datastore.neo4j.remote.dialect.impl.RemoteNeo4jEntityQueries;
+import org.hibernate.ogm.datastore.neo4j.remote.impl.RemoteNeo4jClient;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.ErrorResponse;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Graph;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Graph.Node;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Graph.Relationship;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Row;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statement;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.StatementResult;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statements;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.StatementsResponse;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.impl.DefaultAssociatedEntityKeyMetadata;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.AssociatedEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Tests the queries used by the remote dialect to find entities together with the targets of their to-one
+ * associations.
+ */
+public class RemoteNeo4jEntityQueriesTest {
+
+	private static final EntityKeyMetadata PURCHASE = new DefaultEntityKeyMetadata( "Purchase", new String[] { "id" } );
+	private static final EntityKeyMetadata CUSTOMER = new DefaultEntityKeyMetadata( "Customer", new String[] { "id" } );
+	private static final EntityKeyMetadata ADDRESS = new DefaultEntityKeyMetadata( "Address", new String[] { "id.street", "id.city" } );
+
+	@Test
+	public void testFindEntityQueryReturnsToOneTargetKeys() throws Exception {
+		String expected = "MATCH (owner:ENTITY:Purchase {id: {0}})"
+				+ " OPTIONAL MATCH (owner) -[r*]->(:EMBEDDED)"
+				+ " OPTIONAL MATCH (owner) -[:customer]-> (toOne0)"
+				+ " OPTIONAL MATCH (owner) -[:shippingAddress]-> (toOne1)"
+				+ " RETURN owner, r, toOne0.id, toOne1.`id.street`, toOne1.`id.city`";
+
+		RemoteNeo4jEntityQueries queries = new RemoteNeo4jEntityQueries( PURCHASE, purchaseTupleContext() );
+
+		assertThat( queries.getFindEntityQuery() ).isEqualTo( expected );
+	}
+
+	@Test
+	public void testFindEntityQueryWithoutToOneAssociations() throws Exception {
+		String expected = "MATCH (owner:ENTITY:Purchase {id: {0}}) OPTIONAL MATCH (owner) -[r*]->(:EMBEDDED) RETURN owner, r";
+
+		RemoteNeo4jEntityQueries queries = new RemoteNeo4jEntityQueries( PURCHASE, null );
+
+		assertThat( queries.getFindEntityQuery() ).isEqualTo( expected );
+	}
+
+	@Test
+	public void testFindEntityReadsToOneTargetKeys() throws Exception {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put( "id", 1L );
+		Node owner = node( 11L, properties );
+
+		RemoteNeo4jClient client = mock( RemoteNeo4jClient.class );
+		when( client.executeQueriesInOpenTransaction( anyLong(), any( Statements.class ) ) )
+				.thenReturn( response( row( owner, properties, null, 7L, null, null ) ) );
+
+		RemoteNeo4jEntityQueries queries = new RemoteNeo4jEntityQueries( PURCHASE, purchaseTupleContext() );
+		NodeWithEmbeddedNodes node = queries.findEntity( client, 1L, new Object[] { 1L } );
+
+		assertThat( node.getOwner() ).isSameAs( owner );
+		assertThat( node.getToOneTargets() ).hasSize( 2 );
+		assertThat( node.getToOneTargets().get( "customer" ) ).isEqualTo( Collections.singletonMap( "id", 7L ) );
+		assertThat( node.getToOneTargets().containsKey( "shippingAddress" ) ).isTrue();
+		assertThat( node.getToOneTargets().get( "shippingAddress" ) ).isNull();
+
+		ArgumentCaptor<Statements> statements = ArgumentCaptor.forClass( Statements.class );
+		verify( client ).executeQueriesInOpenTransaction( anyLong(), statements.capture() );
+		Statement statement = statements.getValue().getStatements().get( 0 );
+		assertThat( statement.getResultDataContents() ).containsOnly( Statement.AS_GRAPH, Statement.AS_ROW );
+	}
+
+	private static TupleContext purchaseTupleContext() {
+		Map<String, AssociatedEntityKeyMetadata> associatedEntityKeyMetadata = new LinkedHashMap<>();
+		associatedEntityKeyMetadata.put( "customer_id", new DefaultAssociatedEntityKeyMetadata( new String[] { "customer_id" }, CUSTOMER ) );
+		associatedEntityKeyMetadata.put( "shippingAddress_street", new DefaultAssociatedEntityKeyMetadata( new String[] { "shippingAddress_street", "shippingAddress_city" }, ADDRESS ) );
+		associatedEntityKeyMetadata.put( "shippingAddress_city", new DefaultAssociatedEntityKeyMetadata( new String[] { "shippingAddress_street", "shippingAddress_city" }, ADDRESS ) );
+
+		TupleContext tupleContext = mock( TupleContext.class );
+		when( tupleContext.getAllAssociatedEntityKeyMetadata() ).thenReturn( associatedEntityKeyMetadata );
+		when( tupleContext.getRole( anyString() ) ).thenAnswer( new Answer<String>() {
+
+			@Override
+			public String answer(InvocationOnMock invocation) throws Throwable {
+				String column = (String) invocation.getArguments()[0];
+				return column.substring( 0, column.indexOf( '_' ) );
+			}
+		} );
+		when( tupleContext.getSelectableColumns() ).thenReturn( Collections.<String>emptyList() );
+		return tupleContext;
+	}
+
+	private static Node node(Long id, Map<String, Object> properties) {
+		Node node = new Node();
+		node.setId( id );
+		node.setLabels( Arrays.asList( "ENTITY", "Purchase" ) );
+		node.setProperties( properties );
+		return node;
+	}
+
+	private static Row row(Node owner, Object... values) {
+		Graph graph = new Graph();
+		graph.setNodes( Collections.singletonList( owner ) );
+		graph.setRelationships( Collections.<Relationship>emptyList() );
+
+		Row row = new Row();
+		row.setGraph( graph );
+		row.setRow( Arrays.asList( values ) );
+		return row;
+	}
+
+	private static StatementsResponse response(Row row) {
+		StatementResult result = new StatementResult();
+		result.setData( Collections.singletonList( row ) );
+
+		StatementsResponse response = new StatementsResponse();
+		response.setResults( Collections.singletonList( result ) );
+		response.setErrors( Collections.<ErrorResponse>emptyList() );
+		return response;
+	}
+}
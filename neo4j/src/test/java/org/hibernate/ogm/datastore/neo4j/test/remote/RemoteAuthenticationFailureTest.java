@@ -13,10 +13,12 @@
 
 import org.hibernate.HibernateException;
 import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.neo4j.Neo4jProperties;
 import org.hibernate.ogm.datastore.neo4j.remote.impl.RemoteNeo4jDatastoreProvider;
 import org.hibernate.ogm.utils.GridDialectType;
 import org.hibernate.ogm.utils.SkipByGridDialect;
 import org.hibernate.ogm.utils.SkippableTestRunner;
+import org.hibernate.ogm.utils.TestHelper;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
@@ -37,6 +39,8 @@ public void testAuthenticationFailureAtStartUp() throws Exception {
 		properties.setProperty( OgmProperties.PORT, System.getProperties().getProperty( OgmProperties.PORT ) );
 		properties.setProperty( OgmProperties.USERNAME, "completely wrong" );
 		properties.setProperty( OgmProperties.PASSWORD, "completely wrong" );
+		// Set by the Maven profile, HTTP or Bolt
+		properties.setProperty( Neo4jProperties.PROTOCOL, TestHelper.getDefaultTestSettings().get( Neo4jProperties.PROTOCOL ) );
 		RemoteNeo4jDatastoreProvider remoteDatastoreProvider = new RemoteNeo4jDatastoreProvider();
 		remoteDatastoreProvider.configure( properties );
 		try {
@@ -0,0 +1,216 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.remote;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.io.File;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.neo4j.Neo4jProperties;
+import org.hibernate.ogm.datastore.neo4j.options.RemoteNeo4jProtocol;
+import org.hibernate.ogm.datastore.neo4j.remote.impl.RemoteNeo4jBoltClient;
+import org.hibernate.ogm.datastore.neo4j.remote.impl.RemoteNeo4jClient;
+import org.hibernate.ogm.datastore.neo4j.remote.impl.RemoteNeo4jDatastoreProvider;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Graph;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Row;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statement;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statements;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.StatementsResponse;
+import org.hibernate.ogm.datastore.neo4j.remote.transaction.impl.RemoteNeo4jTransaction;
+import org.hibernate.ogm.datastore.neo4j.utils.Neo4jTestHelper;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.factory.GraphDatabaseFactory;
+import org.neo4j.graphdb.factory.GraphDatabaseSettings;
+
+/**
+ * Tests for {@link RemoteNeo4jBoltClient}, using an embedded Neo4j database accepting Bolt connections.
+ * <p>
+ * The client is expected to return the results and the errors the same way the HTTP endpoint does.
+ */
+public class RemoteNeo4jBoltClientTest {
+
+	private static GraphDatabaseService neo4jServer;
+
+	private static int port;
+
+	private RemoteNeo4jDatastoreProvider provider;
+
+	private RemoteNeo4jClient client;
+
+	@BeforeClass
+	public static void startServer() throws Exception {
+		try ( ServerSocket socket = new ServerSocket( 0 ) ) {
+			port = socket.getLocalPort();
+		}
+
+		GraphDatabaseSettings.BoltConnector bolt = GraphDatabaseSettings.boltConnector( "0" );
+		neo4jServer = new GraphDatabaseFactory()
+				.newEmbeddedDatabaseBuilder( new File( Neo4jTestHelper.dbLocation() ) )
+				.setConfig( bolt.enabled, "true" )
+				.setConfig( bolt.address, "localhost:" + port )
+				.setConfig( bolt.encryption_level, GraphDatabaseSettings.BoltConnector.EncryptionLevel.DISABLED.name() )
+				.newGraphDatabase();
+	}
+
+	@AfterClass
+	public static void stopServer() {
+		if ( neo4jServer != null ) {
+			neo4jServer.shutdown();
+		}
+	}
+
+	@Before
+	public void startClient() {
+		Properties properties = new Properties();
+		properties.setProperty( Neo4jProperties.PROTOCOL, RemoteNeo4jProtocol.BOLT.name() );
+		properties.setProperty( OgmProperties.HOST, "localhost" );
+		properties.setProperty( OgmProperties.PORT, String.valueOf( port ) );
+		provider = new RemoteNeo4jDatastoreProvider();
+		provider.configure( properties );
+		provider.start();
+		client = provider.getDatabase();
+	}
+
+	@After
+	public void deleteAllAndStopClient() {
+		try {
+			client.executeQueriesInNewTransaction( statements( new Statement( "MATCH (n) DETACH DELETE n" ) ) );
+		}
+		finally {
+			provider.stop();
+		}
+	}
+
+	@Test
+	public void shouldCreateBoltClientWhenConfigured() throws Exception {
+		assertThat( client ).isInstanceOf( RemoteNeo4jBoltClient.class );
+	}
+
+	@Test
+	public void shouldReturnGraphElementsAndRows() throws Exception {
+		Statement statement = new Statement( "CREATE (a:Person {name: {name}, age: 42, population: 7000000000})"
+				+ " -[r:KNOWS {since: 2010}]-> (b:Person {name: 'Bob', nicknames: ['B', 'Bobby']})"
+				+ " RETURN a, r, b.nicknames, 3.5",
+				Collections.<String, Object>singletonMap( "name", "Alice" ) );
+		statement.setResultDataContents( Arrays.asList( Statement.AS_GRAPH, Statement.AS_ROW ) );
+
+		StatementsResponse response = client.executeQueriesInNewTransaction( statements( statement ) );
+
+		assertThat( response.getErrors() ).isEmpty();
+		assertThat( response.getResults() ).hasSize( 1 );
+		assertThat( response.getResults().get( 0 ).getColumns() ).containsExactly( "a", "r", "b.nicknames", "3.5" );
+		List<Row> data = response.getResults().get( 0 ).getData();
+		assertThat( data ).hasSize( 1 );
+
+		List<Object> row = data.get( 0 ).getRow();
+		Map<?, ?> alice = (Map<?, ?>) row.get( 0 );
+		assertThat( alice.get( "name" ) ).isEqualTo( "Alice" );
+		// Integers are returned as Integer when they fit, as the JSON parser of the HTTP client does
+		assertThat( alice.get( "age" ) ).isEqualTo( 42 );
+		assertThat( alice.get( "population" ) ).isEqualTo( 7000000000L );
+		assertThat( (Map<?, ?>) row.get( 1 ) ).isEqualTo( Collections.singletonMap( "since", 2010 ) );
+		assertThat( (List<?>) row.get( 2 ) ).containsExactly( "B", "Bobby" );
+		assertThat( row.get( 3 ) ).isEqualTo( 3.5 );
+
+		// As with the HTTP endpoint, the end node of the relationship is part of the graph even if it is not returned
+		Graph graph = data.get( 0 ).getGraph();
+		assertThat( graph.getNodes() ).hasSize( 2 );
+		Graph.Node node = graph.getNodes().get( 0 );
+		assertThat( node.getId() ).isNotNull();
+		assertThat( node.getLabels() ).containsExactly( "Person" );
+		assertThat( node.getProperties() ).isEqualTo( alice );
+		Graph.Node endNode = graph.getNodes().get( 1 );
+		assertThat( endNode.getProperties().get( "name" ) ).isEqualTo( "Bob" );
+
+		assertThat( graph.getRelationships() ).hasSize( 1 );
+		Graph.Relationship relationship = graph.getRelationships().get( 0 );
+		assertThat( relationship.getType() ).isEqualTo( "KNOWS" );
+		assertThat( relationship.getStartNode() ).isEqualTo( node.getId() );
+		assertThat( relationship.getEndNode() ).isEqualTo( endNode.getId() );
+	}
+
+	@Test
+	public void shouldReturnOnlyRequestedContents() throws Exception {
+		client.executeQueriesInNewTransaction( statements( new Statement( "CREATE (:Person {name: 'Alice'})" ) ) );
+
+		Statement asGraph = new Statement( "MATCH (n:Person) RETURN n" );
+		Statement asRow = new Statement( "MATCH (n:Person) RETURN n.name" );
+		asRow.setResultDataContents( Arrays.asList( Statement.AS_ROW ) );
+
+		StatementsResponse response = client.executeQueriesInNewTransaction( statements( asGraph, asRow ) );
+
+		assertThat( response.getErrors() ).isEmpty();
+		Row graphRow = response.getResults().get( 0 ).getData().get( 0 );
+		assertThat( graphRow.getRow() ).isNull();
+		assertThat( graphRow.getGraph().getNodes().get( 0 ).getProperties().get( "name" ) ).isEqualTo( "Alice" );
+
+		Row row = response.getResults().get( 1 ).getData().get( 0 );
+		assertThat( row.getGraph() ).isNull();
+		assertThat( row.getRow() ).containsExactly( "Alice" );
+	}
+
+	@Test
+	public void shouldCommitAndRollbackOpenTransactions() throws Exception {
+		RemoteNeo4jTransaction committed = client.beginTx();
+		client.executeQueriesInOpenTransaction( committed.getId(), statements( new Statement( "CREATE (:Person {name: 'Alice'})" ) ) );
+		assertThat( countPersons() ).isEqualTo( 0 );
+		committed.commit();
+		assertThat( countPersons() ).isEqualTo( 1 );
+
+		RemoteNeo4jTransaction rolledBack = client.beginTx();
+		client.executeQueriesInOpenTransaction( rolledBack.getId(), statements( new Statement( "CREATE (:Person {name: 'Bob'})" ) ) );
+		rolledBack.rollback();
+		assertThat( countPersons() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void shouldStopAtFirstErrorAndRollbackTransaction() throws Exception {
+		RemoteNeo4jTransaction transaction = client.beginTx();
+		StatementsResponse response = client.executeQueriesInOpenTransaction( transaction.getId(), statements(
+				new Statement( "CREATE (:Person {name: 'Alice'})" ),
+				new Statement( "THIS IS NOT CYPHER" ),
+				new Statement( "CREATE (:Person {name: 'Bob'})" ) ) );
+
+		assertThat( response.getResults() ).hasSize( 1 );
+		assertThat( response.getErrors() ).hasSize( 1 );
+		assertThat( response.getErrors().get( 0 ).getCode() ).isEqualTo( "Neo.ClientError.Statement.SyntaxError" );
+
+		// As with the HTTP endpoint, the transaction is gone after an error
+		response = client.executeQueriesInOpenTransaction( transaction.getId(), statements( new Statement( "RETURN 1" ) ) );
+		assertThat( response.getErrors().get( 0 ).getCode() ).isEqualTo( "Neo.ClientError.Transaction.TransactionNotFound" );
+		transaction.rollback();
+
+		assertThat( countPersons() ).isEqualTo( 0 );
+	}
+
+	private long countPersons() {
+		Statement statement = new Statement( "MATCH (n:Person) RETURN count(n)" );
+		statement.setResultDataContents( Arrays.asList( Statement.AS_ROW ) );
+		StatementsResponse response = client.executeQueriesInNewTransaction( statements( statement ) );
+		return ( (Number) response.getResults().get( 0 ).getData().get( 0 ).getRow().get( 0 ) ).longValue();
+	}
+
+	private static Statements statements(Statement... statements) {
+		Statements result = new Statements();
+		for ( Statement statement : statements ) {
+			result.addStatement( statement );
+		}
+		return result;
+	}
+}
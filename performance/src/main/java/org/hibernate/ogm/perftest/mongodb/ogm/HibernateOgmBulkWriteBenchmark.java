@@ -0,0 +1,168 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.mongodb.ogm;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.ogm.perftest.model.AuthorWithSequence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A JMH benchmark comparing the flush of many dirty entities in one bulk write per collection with the same changes
+ * flushed one operation at a time.
+ * <p>
+ * Flushing after each change makes every update its own round trip to MongoDB, which is what happened for all updates
+ * and removals before they were sent as bulk writes.
+ */
+public class HibernateOgmBulkWriteBenchmark {
+
+	public static final int NUMBER_OF_TEST_ENTITIES = 10000;
+
+	/**
+	 * The number of entities changed within one transaction.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 500;
+
+	@State(Scope.Benchmark)
+	public static class TestDataInserter {
+
+		private EntityManagerFactoryHolder stateHolder;
+
+		@Setup
+		public void insertTestData(EntityManagerFactoryHolder stateHolder) throws Exception {
+			this.stateHolder = stateHolder;
+
+			EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+			stateHolder.transactionManager.begin();
+			entityManager.joinTransaction();
+
+			for ( int i = 0; i < NUMBER_OF_TEST_ENTITIES; i++ ) {
+				entityManager.persist( newAuthor( stateHolder ) );
+
+				if ( i % 1000 == 0 ) {
+					entityManager.flush();
+					entityManager.clear();
+				}
+			}
+
+			stateHolder.transactionManager.commit();
+			entityManager.close();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void updateEntitiesWithOneFlush(TestDataInserter inserter) throws Exception {
+		doUpdateEntities( inserter.stateHolder, false );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void updateEntitiesFlushingEachUpdate(TestDataInserter inserter) throws Exception {
+		doUpdateEntities( inserter.stateHolder, true );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(2 * OPERATIONS_PER_INVOCATION)
+	public void insertAndUpdateEntitiesWithOneFlush(TestDataInserter inserter) throws Exception {
+		doInsertAndUpdateEntities( inserter.stateHolder, false );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(2 * OPERATIONS_PER_INVOCATION)
+	public void insertAndUpdateEntitiesFlushingEachOperation(TestDataInserter inserter) throws Exception {
+		doInsertAndUpdateEntities( inserter.stateHolder, true );
+	}
+
+	private void doUpdateEntities(EntityManagerFactoryHolder stateHolder, boolean flushEachOperation) throws Exception {
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( AuthorWithSequence author : loadAuthors( stateHolder, entityManager ) ) {
+			author.setLname( "Royce " + stateHolder.rand.nextInt() );
+
+			if ( flushEachOperation ) {
+				entityManager.flush();
+			}
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	private void doInsertAndUpdateEntities(EntityManagerFactoryHolder stateHolder, boolean flushEachOperation) throws Exception {
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( AuthorWithSequence author : loadAuthors( stateHolder, entityManager ) ) {
+			author.setLname( "Royce " + stateHolder.rand.nextInt() );
+			entityManager.persist( newAuthor( stateHolder ) );
+
+			if ( flushEachOperation ) {
+				entityManager.flush();
+			}
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	private List<AuthorWithSequence> loadAuthors(EntityManagerFactoryHolder stateHolder, EntityManager entityManager) {
+		List<AuthorWithSequence> authors = new ArrayList<>( OPERATIONS_PER_INVOCATION );
+
+		while ( authors.size() < OPERATIONS_PER_INVOCATION ) {
+			long id = stateHolder.rand.nextInt( NUMBER_OF_TEST_ENTITIES - 1 ) + 1;
+			AuthorWithSequence author = entityManager.find( AuthorWithSequence.class, id );
+
+			if ( author == null ) {
+				throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+			}
+
+			authors.add( author );
+		}
+
+		return authors;
+	}
+
+	private static AuthorWithSequence newAuthor(EntityManagerFactoryHolder stateHolder) {
+		AuthorWithSequence author = new AuthorWithSequence();
+
+		author.setBio( "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+		author.setDob( new Date() );
+		author.setFname( "Jessie " + stateHolder.rand.nextInt() );
+		author.setLname( "Landis " + stateHolder.rand.nextInt() );
+		author.setMname( "" + stateHolder.rand.nextInt( 26 ) );
+
+		return author;
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop.
+	 */
+	public static void main(String[] args) throws Exception {
+		EntityManagerFactoryHolder stateHolder = new EntityManagerFactoryHolder();
+		stateHolder.setupEntityManagerFactory();
+
+		TestDataInserter inserter = new TestDataInserter();
+		inserter.insertTestData( stateHolder );
+
+		new HibernateOgmBulkWriteBenchmark().updateEntitiesWithOneFlush( inserter );
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.neo4j;
+
+import java.util.Collections;
+import java.util.Random;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import javax.transaction.TransactionManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.jpa.HibernateEntityManagerFactory;
+import org.hibernate.ogm.datastore.neo4j.Neo4jProperties;
+import org.hibernate.ogm.datastore.neo4j.remote.impl.RemoteNeo4jDatastoreProvider;
+import org.hibernate.ogm.datastore.neo4j.remote.json.impl.Statements;
+import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Context object controlling the {@link EntityManagerFactory} lifecycle and making it available to the benchmarks
+ * running against a remote Neo4j server.
+ * <p>
+ * Each benchmark is run once per protocol used to connect to the server, so the results of both can be compared.
+ */
+@State(Scope.Benchmark)
+public class RemoteNeo4jEntityManagerFactoryHolder {
+
+	private static final String DELETE_AUTHORS = "MATCH (n:AuthorWithSequence) DETACH DELETE n";
+
+	@Param({ "HTTP", "BOLT" })
+	String protocol;
+
+	EntityManagerFactory entityManagerFactory;
+	TransactionManager transactionManager;
+	Random rand;
+
+	@Setup
+	public void setupEntityManagerFactory() throws Exception {
+		entityManagerFactory = Persistence.createEntityManagerFactory( "perfTestRemoteNeo4jPu",
+				Collections.singletonMap( Neo4jProperties.PROTOCOL, protocol ) );
+		deleteAuthors( entityManagerFactory );
+
+		transactionManager = extractJBossTransactionManager( entityManagerFactory );
+		rand = new Random();
+	}
+
+	@TearDown
+	public void closeEntityManagerFactory() {
+		entityManagerFactory.close();
+	}
+
+	private TransactionManager extractJBossTransactionManager(EntityManagerFactory factory) {
+		SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) ( (HibernateEntityManagerFactory) factory ).getSessionFactory();
+		return sessionFactory.getServiceRegistry().getService( JtaPlatform.class ).retrieveTransactionManager();
+	}
+
+	private RemoteNeo4jDatastoreProvider getProvider(SessionFactory sessionFactory) {
+		DatastoreProvider provider = ( (SessionFactoryImplementor) sessionFactory ).getServiceRegistry().getService(
+				DatastoreProvider.class );
+		if ( !( RemoteNeo4jDatastoreProvider.class.isInstance( provider ) ) ) {
+			throw new RuntimeException( "Not testing with remote Neo4j, cannot extract underlying client" );
+		}
+		return RemoteNeo4jDatastoreProvider.class.cast( provider );
+	}
+
+	private void deleteAuthors(EntityManagerFactory entityManagerFactory) {
+		RemoteNeo4jDatastoreProvider provider = getProvider( entityManagerFactory.unwrap( SessionFactory.class ) );
+		Statements statements = new Statements();
+		statements.addStatement( DELETE_AUTHORS );
+		provider.getDatabase().executeQueriesInNewTransaction( statements );
+	}
+}
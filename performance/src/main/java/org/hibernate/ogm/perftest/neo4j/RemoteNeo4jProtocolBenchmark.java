@@ -0,0 +1,164 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.perftest.neo4j;
+
+import java.util.Date;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+
+import org.hibernate.ogm.perftest.model.AuthorWithSequence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * A JMH benchmark comparing the HTTP and the Bolt protocols for talking to a remote Neo4j server, for reads by id,
+ * queries and inserts.
+ * <p>
+ * Every operation of the benchmarks is one round trip to the server, so the results mostly reflect the cost of the
+ * transport: the serialization of the statements and the parsing of their results.
+ * <p>
+ * No results have been recorded for this benchmark yet; it needs a server exposing both the HTTP and the Bolt
+ * connectors.
+ */
+public class RemoteNeo4jProtocolBenchmark {
+
+	public static final int NUMBER_OF_TEST_ENTITIES = 10000;
+
+	/**
+	 * The number of operations to be performed with one entity manager.
+	 */
+	private static final int OPERATIONS_PER_INVOCATION = 100;
+
+	@State(Scope.Benchmark)
+	public static class TestDataInserter {
+
+		private RemoteNeo4jEntityManagerFactoryHolder stateHolder;
+
+		@Setup
+		public void insertTestData(RemoteNeo4jEntityManagerFactoryHolder stateHolder) throws Exception {
+			this.stateHolder = stateHolder;
+
+			EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+			stateHolder.transactionManager.begin();
+			entityManager.joinTransaction();
+
+			for ( int i = 0; i < NUMBER_OF_TEST_ENTITIES; i++ ) {
+				entityManager.persist( newAuthor( stateHolder ) );
+
+				if ( i % 1000 == 0 ) {
+					entityManager.flush();
+					entityManager.clear();
+				}
+			}
+
+			stateHolder.transactionManager.commit();
+			entityManager.close();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void findEntityById(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		RemoteNeo4jEntityManagerFactoryHolder stateHolder = inserter.stateHolder;
+
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			long id = stateHolder.rand.nextInt( NUMBER_OF_TEST_ENTITIES - 1 ) + 1;
+
+			AuthorWithSequence author = entityManager.find( AuthorWithSequence.class, id );
+
+			if ( author == null ) {
+				throw new IllegalArgumentException( "Couldn't find entry with id " + id );
+			}
+
+			blackhole.consume( author.getLname() );
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void findEntitiesByPropertyUsingJpql(TestDataInserter inserter, Blackhole blackhole) throws Exception {
+		RemoteNeo4jEntityManagerFactoryHolder stateHolder = inserter.stateHolder;
+
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			int mName = stateHolder.rand.nextInt( 26 );
+
+			TypedQuery<AuthorWithSequence> query = entityManager.createNamedQuery( "author_by_mname", AuthorWithSequence.class );
+			query.setMaxResults( 50 );
+			query.setParameter( "mname", "" + mName );
+			List<AuthorWithSequence> authors = query.getResultList();
+
+			for ( AuthorWithSequence author : authors ) {
+				blackhole.consume( author.getLname() );
+			}
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public void insertEntities(RemoteNeo4jEntityManagerFactoryHolder stateHolder) throws Exception {
+		EntityManager entityManager = stateHolder.entityManagerFactory.createEntityManager();
+
+		stateHolder.transactionManager.begin();
+		entityManager.joinTransaction();
+
+		for ( int i = 0; i < OPERATIONS_PER_INVOCATION; i++ ) {
+			entityManager.persist( newAuthor( stateHolder ) );
+		}
+
+		stateHolder.transactionManager.commit();
+		entityManager.close();
+	}
+
+	private static AuthorWithSequence newAuthor(RemoteNeo4jEntityManagerFactoryHolder stateHolder) {
+		AuthorWithSequence author = new AuthorWithSequence();
+
+		author.setBio( "This is a decent size bio made of " + stateHolder.rand.nextDouble() + " stuffs" );
+		author.setDob( new Date() );
+		author.setFname( "Jessie " + stateHolder.rand.nextInt() );
+		author.setLname( "Landis " + stateHolder.rand.nextInt() );
+		author.setMname( "" + stateHolder.rand.nextInt( 26 ) );
+
+		return author;
+	}
+
+	/**
+	 * For running/debugging a single invocation of the benchmarking loop with the given protocol.
+	 */
+	public static void main(String[] args) throws Exception {
+		RemoteNeo4jEntityManagerFactoryHolder stateHolder = new RemoteNeo4jEntityManagerFactoryHolder();
+		stateHolder.protocol = args.length > 0 ? args[0] : "BOLT";
+		stateHolder.setupEntityManagerFactory();
+
+		TestDataInserter inserter = new TestDataInserter();
+		inserter.insertTestData( stateHolder );
+
+		new RemoteNeo4jProtocolBenchmark().insertEntities( stateHolder );
+	}
+}
@@ -11,6 +11,8 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -21,12 +23,26 @@
 
 import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisTupleSnapshot;
 import org.hibernate.ogm.datastore.redis.dialect.value.Entity;
+import org.hibernate.ogm.datastore.redis.impl.RedisCommandPipeline;
+import org.hibernate.ogm.datastore.redis.impl.RedisDatastoreProvider;
+import org.hibernate.ogm.datastore.redis.impl.RedisScanPartition;
 import org.hibernate.ogm.datastore.redis.impl.json.JsonSerializationStrategy;
 import org.hibernate.ogm.datastore.redis.logging.impl.Log;
 import org.hibernate.ogm.datastore.redis.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.redis.options.impl.TTLOption;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
+import org.hibernate.ogm.dialect.naturalid.spi.NaturalIdAwareGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.PartitionableGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.BaseGridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
@@ -38,7 +54,10 @@
 import org.hibernate.ogm.options.spi.OptionsContext;
 
 import com.lambdaworks.redis.KeyScanCursor;
+import com.lambdaworks.redis.RedisFuture;
 import com.lambdaworks.redis.ScanArgs;
+import com.lambdaworks.redis.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
 import com.lambdaworks.redis.cluster.api.sync.RedisAdvancedClusterCommands;
 import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 import com.lambdaworks.redis.cluster.models.partitions.RedisClusterNode;
@@ -48,10 +67,11 @@
 /**
  * @author Mark Paluch
  */
-public abstract class AbstractRedisDialect extends BaseGridDialect {
+public abstract class AbstractRedisDialect extends BaseGridDialect implements BatchableGridDialect, PartitionableGridDialect, NaturalIdAwareGridDialect {
 
 	public static final String IDENTIFIERS = "Identifiers";
 	public static final String ASSOCIATIONS = "Associations";
+	public static final String NATURAL_IDS = "NaturalIds";
 
 	private static final Pattern MODE_PATTERN = Pattern.compile( "^redis_mode:([a-z]+)$", Pattern.MULTILINE );
 	private static final Log log = LoggerFactory.getLogger();
@@ -60,15 +80,20 @@ public abstract class AbstractRedisDialect extends BaseGridDialect {
 	protected final JsonSerializationStrategy strategy = new JsonSerializationStrategy();
 	protected final boolean clusterMode;
 
+	private final RedisDatastoreProvider provider;
+	private final int scanCount;
+
 	/**
 	 * Creates a new {@link AbstractRedisDialect}.
 	 *
-	 * @param connection a Redis connection (A regular Redis connection implements also {@link RedisClusterCommands})
-	 * @param configuredForCluster {@code true} if the connection is configured for cluster operations.
+	 * @param provider the provider of the Redis connection
 	 */
-	public AbstractRedisDialect(RedisClusterCommands<String, String> connection, boolean configuredForCluster) {
+	public AbstractRedisDialect(RedisDatastoreProvider provider) {
 
-		this.connection = connection;
+		this.provider = provider;
+		this.connection = provider.getConnection();
+		this.scanCount = provider.getScanCount();
+		boolean configuredForCluster = provider.isCluster();
 
 		String redisMode = getRedisMode( connection );
 		if ( redisMode != null ) {
@@ -105,15 +130,11 @@ public Tuple createTuple(EntityKey key, TupleContext tupleContext) {
 
 	@Override
 	public Number nextValue(NextValueRequest request) {
-		String key = identifierId( request.getKey() );
-		String value = connection.get( key );
-
-		if ( value == null ) {
-			connection.set( key, Long.toString( request.getInitialValue() ) );
-			return request.getInitialValue();
-		}
-
-		return connection.incrby( key, request.getIncrement() );
+		return provider.getSequenceGenerator().nextValue(
+				identifierId( request.getKey() ),
+				request.getIncrement(),
+				request.getInitialValue()
+		);
 	}
 
 	@Override
@@ -139,9 +160,217 @@ protected String identifierId(IdSourceKey key) {
 		return prefix;
 	}
 
+	protected RedisCommandPipeline createCommandPipeline() {
+		return provider.createCommandPipeline();
+	}
+
+	@Override
+	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
+		RedisCommandPipeline pipeline = createCommandPipeline();
+		insertOrUpdateTuple( key, tuple, tupleContext, pipeline );
+		pipeline.execute();
+	}
+
+	protected abstract void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext, RedisCommandPipeline pipeline);
+
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
-		remove( key );
+		RedisCommandPipeline pipeline = createCommandPipeline();
+		removeTuple( key, tupleContext, pipeline );
+		pipeline.execute();
+	}
+
+	protected void removeTuple(EntityKey key, TupleContext tupleContext, RedisCommandPipeline pipeline) {
+		removeNaturalIdKey( key, tupleContext, pipeline );
+		pipeline.add( pipeline.commands().del( entityId( key ) ) );
+	}
+
+	/**
+	 * Reads the key referencing the entity from its natural id, which is written along with the entity.
+	 */
+	@Override
+	public Tuple getTupleByNaturalId(EntityKeyMetadata entityKeyMetadata, String[] naturalIdColumnNames, Object[] naturalIdColumnValues, TupleContext tupleContext) {
+		executePendingOperations( tupleContext.getOperationsQueue() );
+		String naturalIdId = naturalIdId( entityKeyMetadata.getTable(), naturalIdColumnNames, naturalIdColumnValues );
+		if ( naturalIdId == null ) {
+			return null;
+		}
+
+		String entityId = connection.get( naturalIdId );
+		if ( entityId == null ) {
+			return null;
+		}
+		return new Tuple( new RedisTupleSnapshot( new HashMap<String, Object>( keyToMap( entityKeyMetadata, entityId ) ) ) );
+	}
+
+	/**
+	 * Returns the values of the natural id columns of the given entity.
+	 *
+	 * @param tupleContext the context providing the natural id columns
+	 * @param entity the columns of the entity
+	 *
+	 * @return the natural id column values or {@code null} if the entity has no natural id referencing it
+	 */
+	protected static Object[] getNaturalId(TupleContext tupleContext, Map<String, ?> entity) {
+		List<String> naturalIdColumns = tupleContext.getNaturalIdColumns();
+		if ( naturalIdColumns.isEmpty() ) {
+			return null;
+		}
+
+		Object[] naturalId = new Object[naturalIdColumns.size()];
+		for ( int i = 0; i < naturalId.length; i++ ) {
+			naturalId[i] = entity.get( naturalIdColumns.get( i ) );
+		}
+		return naturalId;
+	}
+
+	/**
+	 * Writes the key referencing the entity from its natural id if the natural id has changed, removing the key of the
+	 * previous natural id. Must be called after the entity has been written.
+	 *
+	 * @param key the key of the entity
+	 * @param previousNaturalId the natural id column values before the tuple operations were applied
+	 * @param naturalId the natural id column values after the tuple operations were applied
+	 * @param tupleContext the context of the written tuple
+	 * @param pipeline the pipeline of the current flush
+	 */
+	protected void storeNaturalIdKey(EntityKey key, Object[] previousNaturalId, Object[] naturalId, TupleContext tupleContext, RedisCommandPipeline pipeline) {
+		if ( naturalId == null ) {
+			return;
+		}
+
+		String[] naturalIdColumns = tupleContext.getNaturalIdColumns().toArray( new String[naturalId.length] );
+		String previousNaturalIdId = previousNaturalId == null ? null : naturalIdId( key.getTable(), naturalIdColumns, previousNaturalId );
+		String naturalIdId = naturalIdId( key.getTable(), naturalIdColumns, naturalId );
+
+		if ( previousNaturalIdId != null && !previousNaturalIdId.equals( naturalIdId ) ) {
+			pipeline.add( pipeline.commands().del( previousNaturalIdId ) );
+		}
+		if ( naturalIdId == null ) {
+			return;
+		}
+		if ( !naturalIdId.equals( previousNaturalIdId ) ) {
+			pipeline.add( pipeline.commands().set( naturalIdId, keyToString( key.getColumnNames(), key.getColumnValues() ) ) );
+		}
+
+		// the key expires with the entity
+		Long ttl = getTTL( tupleContext.getOptionsContext() );
+		if ( ttl != null ) {
+			pipeline.add( pipeline.commands().pexpire( naturalIdId, ttl ) );
+		}
+	}
+
+	/**
+	 * Removes the key referencing the given entity from its natural id. The natural id is read through the pipeline,
+	 * so that the writes of the current flush sent before are taken into account.
+	 */
+	private void removeNaturalIdKey(EntityKey key, TupleContext tupleContext, RedisCommandPipeline pipeline) {
+		List<String> naturalIdColumns = tupleContext.getNaturalIdColumns();
+		if ( naturalIdColumns.isEmpty() ) {
+			return;
+		}
+
+		Map<String, Object> entity = readNaturalIdColumns( key, naturalIdColumns, pipeline );
+		String naturalIdId = naturalIdId(
+				key.getTable(),
+				naturalIdColumns.toArray( new String[naturalIdColumns.size()] ),
+				getNaturalId( tupleContext, entity )
+		);
+		if ( naturalIdId != null ) {
+			pipeline.add( pipeline.commands().del( naturalIdId ) );
+		}
+	}
+
+	/**
+	 * Reads the natural id columns of the given entity through the given pipeline.
+	 *
+	 * @param key the key of the entity
+	 * @param naturalIdColumns the natural id columns
+	 * @param pipeline the pipeline of the current flush
+	 *
+	 * @return the columns of the entity, including at least its non-null natural id columns; empty if the entity does
+	 * not exist
+	 */
+	protected abstract Map<String, Object> readNaturalIdColumns(EntityKey key, List<String> naturalIdColumns, RedisCommandPipeline pipeline);
+
+	@Override
+	public void insertOrUpdateAssociation(AssociationKey key, org.hibernate.ogm.model.spi.Association association, AssociationContext associationContext) {
+		RedisCommandPipeline pipeline = createCommandPipeline();
+		insertOrUpdateAssociation( key, association, associationContext, pipeline );
+		pipeline.execute();
+	}
+
+	protected abstract void insertOrUpdateAssociation(AssociationKey key, org.hibernate.ogm.model.spi.Association association,
+			AssociationContext associationContext, RedisCommandPipeline pipeline);
+
+	@Override
+	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		RedisCommandPipeline pipeline = createCommandPipeline();
+		removeAssociation( key, associationContext, pipeline );
+		pipeline.execute();
+	}
+
+	protected abstract void removeAssociation(AssociationKey key, AssociationContext associationContext, RedisCommandPipeline pipeline);
+
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( queue.isClosed() ) {
+			return;
+		}
+
+		Operation operation = queue.poll();
+		if ( operation == null ) {
+			return;
+		}
+
+		RedisCommandPipeline pipeline = createCommandPipeline();
+		while ( operation != null ) {
+			if ( operation instanceof InsertOrUpdateTupleOperation ) {
+				InsertOrUpdateTupleOperation update = (InsertOrUpdateTupleOperation) operation;
+				insertOrUpdateTuple( update.getEntityKey(), update.getTuple(), update.getTupleContext(), pipeline );
+			}
+			else if ( operation instanceof RemoveTupleOperation ) {
+				RemoveTupleOperation remove = (RemoveTupleOperation) operation;
+				removeTuple( remove.getEntityKey(), remove.getTupleContext(), pipeline );
+			}
+			else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+				InsertOrUpdateAssociationOperation update = (InsertOrUpdateAssociationOperation) operation;
+				insertOrUpdateAssociation( update.getAssociationKey(), update.getAssociation(), update.getContext(), pipeline );
+			}
+			else if ( operation instanceof RemoveAssociationOperation ) {
+				RemoveAssociationOperation remove = (RemoveAssociationOperation) operation;
+				removeAssociation( remove.getAssociationKey(), remove.getContext(), pipeline );
+			}
+			else {
+				throw new UnsupportedOperationException( "Operation not supported on Redis: " + operation.getClass().getName() );
+			}
+			operation = queue.poll();
+		}
+
+		pipeline.execute();
+	}
+
+	/**
+	 * Executes the operations queued so far, so that the data read afterwards reflects them.
+	 *
+	 * @param queue the queue of the current flush, may be {@code null}
+	 */
+	protected void executePendingOperations(OperationsQueue queue) {
+		if ( queue != null && !queue.isClosed() && queue.size() > 0 ) {
+			executeBatch( queue );
+		}
+	}
+
+	/**
+	 * Executes the operations queued so far if one of them writes the given entity.
+	 *
+	 * @param key the entity about to be read
+	 * @param queue the queue of the current flush, may be {@code null}
+	 */
+	protected void executePendingOperations(EntityKey key, OperationsQueue queue) {
+		if ( queue != null && queue.contains( key ) ) {
+			executePendingOperations( queue );
+		}
 	}
 
 	protected void addKeyValuesFromKeyName(
@@ -196,45 +425,54 @@ protected String getKeyWithoutTablePrefix(String prefixBytes, String key) {
 		return key.substring( prefixBytes.length() );
 	}
 
-	protected void setAssociationTTL(
-			AssociationKey associationKey,
-			AssociationContext associationContext,
-			Long currentTtl) {
-		Long ttl = getTTL( associationContext );
-		if ( ttl != null ) {
-			expireAssociation( associationKey, ttl );
-		}
-		else if ( currentTtl != null && currentTtl > 0 ) {
-			expireAssociation( associationKey, currentTtl );
+	/**
+	 * Keeps the current expiry of the entity when it gets written if no expiry is configured. Must be called before
+	 * the entity is written.
+	 */
+	protected void retainEntityTTL(EntityKey key, Long configuredTTL, RedisCommandPipeline pipeline) {
+		if ( configuredTTL == null ) {
+			pipeline.restoreTtl( entityId( key ) );
 		}
 	}
 
-	protected void setEntityTTL(EntityKey key, Long currentTtl, Long configuredTTL) {
+	/**
+	 * Applies the configured expiry to the entity. Must be called after the entity has been written.
+	 */
+	protected void setEntityTTL(EntityKey key, Long configuredTTL, RedisCommandPipeline pipeline) {
 		if ( configuredTTL != null ) {
-			expireEntity( key, configuredTTL );
-		}
-		else if ( currentTtl != null && currentTtl > 0 ) {
-			expireEntity( key, currentTtl );
+			pipeline.add( pipeline.commands().pexpire( entityId( key ), configuredTTL ) );
 		}
 	}
 
-	protected void expireEntity(EntityKey key, Long ttl) {
-		String associationId = entityId( key );
-		connection.pexpire( associationId, ttl );
-	}
-
-
-	protected void expireAssociation(AssociationKey key, Long ttl) {
-		String associationId = associationId( key );
-		connection.pexpire( associationId, ttl );
+	/**
+	 * Applies the expiry the given key currently has to the association when it gets written if no expiry is
+	 * configured. Must be called before the association is written.
+	 */
+	protected void retainAssociationTTL(
+			AssociationKey associationKey,
+			AssociationContext associationContext,
+			String ttlSourceKey,
+			RedisCommandPipeline pipeline) {
+		if ( getTTL( associationContext ) == null ) {
+			pipeline.copyTtl( ttlSourceKey, associationId( associationKey ) );
+		}
 	}
 
-	protected void removeAssociation(AssociationKey key) {
-		connection.del( associationId( key ) );
+	/**
+	 * Applies the configured expiry to the association. Must be called after the association has been written.
+	 */
+	protected void setAssociationTTL(
+			AssociationKey associationKey,
+			AssociationContext associationContext,
+			RedisCommandPipeline pipeline) {
+		Long ttl = getTTL( associationContext );
+		if ( ttl != null ) {
+			pipeline.add( pipeline.commands().pexpire( associationId( associationKey ), ttl ) );
+		}
 	}
 
-	protected void remove(EntityKey key) {
-		connection.del( entityId( key ) );
+	protected void removeAssociation(AssociationKey key, RedisCommandPipeline pipeline) {
+		pipeline.add( pipeline.commands().del( associationId( key ) ) );
 	}
 
 	/**
@@ -285,6 +523,26 @@ public String entityId(EntityKey key) {
 		return prefix + entityId;
 	}
 
+	/**
+	 * Create a String representation of the key referencing an entity from its natural id in the format of
+	 * {@code NaturalIds:(table name):(natural id)}. {@see #NATURAL_IDS}
+	 *
+	 * @return the key, or {@code null} if all the natural id columns are {@code null}
+	 */
+	protected String naturalIdId(String table, String[] columnNames, Object[] columnValues) {
+		boolean hasValue = false;
+		for ( Object columnValue : columnValues ) {
+			if ( columnValue != null ) {
+				hasValue = true;
+			}
+		}
+		if ( !hasValue ) {
+			return null;
+		}
+
+		return NATURAL_IDS + ":" + table + ":" + keyToString( columnNames, columnValues );
+	}
+
 	/**
 	 * Construct a key based on the key columns:
 	 * Single key: Use the value as key
@@ -337,6 +595,35 @@ protected org.hibernate.ogm.datastore.redis.dialect.value.Association getAssocia
 			rows = connection.lrange( associationId, 0, -1 );
 		}
 
+		return toAssociation( rows );
+	}
+
+	/**
+	 * Reads the association documents of the given keys, sending all the reads before awaiting their results.
+	 *
+	 * @param keys the keys of the associations
+	 * @return the associations, in the order of the keys
+	 */
+	protected List<org.hibernate.ogm.datastore.redis.dialect.value.Association> getAssociations(AssociationKey[] keys) {
+		RedisCommandPipeline pipeline = createCommandPipeline();
+		List<RedisFuture<? extends Collection<String>>> futures = new ArrayList<>( keys.length );
+		for ( AssociationKey key : keys ) {
+			if ( key.getMetadata().getAssociationType() == AssociationType.SET ) {
+				futures.add( pipeline.commands().smembers( associationId( key ) ) );
+			}
+			else {
+				futures.add( pipeline.commands().lrange( associationId( key ), 0, -1 ) );
+			}
+		}
+
+		List<org.hibernate.ogm.datastore.redis.dialect.value.Association> associations = new ArrayList<>( keys.length );
+		for ( RedisFuture<? extends Collection<String>> future : futures ) {
+			associations.add( toAssociation( pipeline.get( future ) ) );
+		}
+		return associations;
+	}
+
+	private org.hibernate.ogm.datastore.redis.dialect.value.Association toAssociation(Collection<String> rows) {
 		org.hibernate.ogm.datastore.redis.dialect.value.Association association = new org.hibernate.ogm.datastore.redis.dialect.value.Association();
 
 		for ( String item : rows ) {
@@ -353,24 +640,83 @@ protected org.hibernate.ogm.datastore.redis.dialect.value.Association getAssocia
 	 */
 	protected void storeAssociation(
 			AssociationKey key,
-			org.hibernate.ogm.datastore.redis.dialect.value.Association association) {
+			org.hibernate.ogm.datastore.redis.dialect.value.Association association,
+			RedisCommandPipeline pipeline) {
 		String associationId = associationId( key );
-		connection.del( associationId );
+		RedisClusterAsyncCommands<String, String> commands = pipeline.commands();
+		pipeline.add( commands.del( associationId ) );
 
-		for ( Object row : association.getRows() ) {
-			if ( key.getMetadata().getAssociationType() == AssociationType.SET ) {
-				connection.sadd( associationId, strategy.serialize( row ) );
-			}
-			else {
-				connection.rpush( associationId, strategy.serialize( row ) );
-			}
+		List<Object> rows = association.getRows();
+		if ( rows.isEmpty() ) {
+			return;
+		}
+
+		String[] values = new String[rows.size()];
+		for ( int i = 0; i < values.length; i++ ) {
+			values[i] = strategy.serialize( rows.get( i ) );
+		}
+
+		if ( key.getMetadata().getAssociationType() == AssociationType.SET ) {
+			pipeline.add( commands.sadd( associationId, values ) );
+		}
+		else {
+			pipeline.add( commands.rpush( associationId, values ) );
 		}
 	}
 
+	/**
+	 * Creates the arguments for scanning the keys matching the given pattern, requesting the configured number of keys
+	 * per iteration.
+	 *
+	 * @param pattern the pattern of the keys to scan
+	 *
+	 * @return the scan arguments
+	 */
+	protected ScanArgs scanArgs(String pattern) {
+		return ScanArgs.Builder.matches( pattern ).limit( scanCount );
+	}
+
+	@Override
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
+		forEachTuple( consumer, tupleContext, entityKeyMetadata, RedisScanPartition.all() );
+	}
+
+	/**
+	 * In cluster mode, the master nodes are distributed among the partitions, each partition scanning the keys of its
+	 * nodes. Otherwise, as there is no way to split a scan, a single partition is returned.
+	 */
+	@Override
+	public List<TuplePartition> getTuplePartitions(TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, int partitions) {
+		if ( !clusterMode ) {
+			return Collections.<TuplePartition>singletonList( RedisScanPartition.all() );
+		}
+
+		List<String> nodeIds = getMasterNodeIds();
+		if ( nodeIds.isEmpty() ) {
+			return Collections.<TuplePartition>singletonList( RedisScanPartition.all() );
+		}
+
+		int count = Math.min( partitions, nodeIds.size() );
+		List<Set<String>> nodeIdsPerPartition = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			nodeIdsPerPartition.add( new LinkedHashSet<String>() );
+		}
+		for ( int i = 0; i < nodeIds.size(); i++ ) {
+			nodeIdsPerPartition.get( i % count ).add( nodeIds.get( i ) );
+		}
+
+		List<TuplePartition> result = new ArrayList<>( count );
+		for ( Set<String> partitionNodeIds : nodeIdsPerPartition ) {
+			result.add( RedisScanPartition.of( partitionNodeIds ) );
+		}
+		return result;
+	}
+
 	/**
 	 * Scan over keys. This method is aware whether the client is connected to a Redis Cluster.
 	 * If so, then a Redis Cluster scan requires to iterate over master nodes and keep the
-	 * state within a custom {@link KeyScanCursor} instance.
+	 * state within a custom {@link KeyScanCursor} instance. The master nodes are scanned in parallel, each iteration
+	 * returning the keys found on all the nodes whose scan is not finished yet.
 	 *
 	 * @param cursor
 	 * @param scanArgs
@@ -378,12 +724,25 @@ protected void storeAssociation(
 	 * @return
 	 */
 	protected KeyScanCursor<String> scan(KeyScanCursor<String> cursor, ScanArgs scanArgs) {
+		return scan( cursor, scanArgs, RedisScanPartition.all() );
+	}
 
-		if ( !clusterMode ) {
+	/**
+	 * Scan over the keys of a partition. In cluster mode, only the master nodes of the partition are scanned.
+	 *
+	 * @param cursor the cursor returned by the previous iteration, {@code null} for the first iteration
+	 * @param scanArgs the arguments of the scan
+	 * @param partition the partition to scan
+	 *
+	 * @return the cursor of this iteration
+	 */
+	protected KeyScanCursor<String> scan(KeyScanCursor<String> cursor, ScanArgs scanArgs, TuplePartition partition) {
+
+		if ( !clusterMode || ( cursor != null && !( cursor instanceof ClusterwideKeyScanCursor ) ) ) {
 			return scan( connection, cursor, scanArgs );
 		}
 
-		return clusterScan( cursor, scanArgs );
+		return clusterScan( (ClusterwideKeyScanCursor<String>) cursor, scanArgs, ( (RedisScanPartition) partition ).getNodeIds() );
 	}
 
 	private KeyScanCursor<String> scan(
@@ -396,59 +755,73 @@ private KeyScanCursor<String> scan(
 		return commands.scan( scanArgs );
 	}
 
+	/**
+	 * @return the ids of the master nodes serving at least one slot
+	 */
+	@SuppressWarnings("unchecked")
+	private List<String> getMasterNodeIds() {
+		RedisAdvancedClusterCommands<String, String> commands = (RedisAdvancedClusterCommands<String, String>) connection;
+		Set<RedisClusterNode> masterNodes = commands.masters().asMap().keySet();
+		List<String> nodeIds = new ArrayList<>( masterNodes.size() );
+
+		for ( RedisClusterNode masterNode : masterNodes ) {
+
+			if ( masterNode.getSlots().isEmpty() ) {
+				continue;
+			}
+			nodeIds.add( masterNode.getNodeId() );
+		}
+
+		return nodeIds;
+	}
+
 	@SuppressWarnings("unchecked")
-	private KeyScanCursor<String> clusterScan(KeyScanCursor<String> cursor, ScanArgs scanArgs) {
+	private KeyScanCursor<String> clusterScan(ClusterwideKeyScanCursor<String> cursor, ScanArgs scanArgs, Set<String> partitionNodeIds) {
 
-		RedisAdvancedClusterCommands<String, String> commands = (RedisAdvancedClusterCommands<String, String>) connection;
-		List<String> nodeIds;
-		String currentNodeId;
+		Map<String, KeyScanCursor<String>> nodeCursors;
 
 		if ( cursor == null ) {
-			Set<RedisClusterNode> masterNodes = commands.masters().asMap().keySet();
-			nodeIds = new ArrayList<>();
-
-			for ( RedisClusterNode masterNode : masterNodes ) {
+			Collection<String> nodeIds = partitionNodeIds == null ? getMasterNodeIds() : partitionNodeIds;
+			nodeCursors = new LinkedHashMap<>();
 
-				if ( masterNode.getSlots().isEmpty() ) {
-					continue;
-				}
-				nodeIds.add( masterNode.getNodeId() );
+			for ( String nodeId : nodeIds ) {
+				nodeCursors.put( nodeId, null );
 			}
 
-			if ( nodeIds.isEmpty() ) {
+			if ( nodeCursors.isEmpty() ) {
 				return scan( connection, cursor, scanArgs );
 			}
-
-			currentNodeId = nodeIds.get( 0 );
 		}
 		else {
+			nodeCursors = cursor.nodeCursors;
+		}
 
-			ClusterwideKeyScanCursor<String> clusterKeyScanCursor = (ClusterwideKeyScanCursor<String>) cursor;
-			nodeIds = clusterKeyScanCursor.nodeIds;
+		RedisAdvancedClusterAsyncCommands<String, String> asyncCommands = (RedisAdvancedClusterAsyncCommands<String, String>) provider.getAsyncConnection();
+		Map<String, RedisFuture<KeyScanCursor<String>>> futures = new LinkedHashMap<>();
 
-			currentNodeId = getNodeIdForNextScanIteration( nodeIds, clusterKeyScanCursor );
+		for ( Map.Entry<String, KeyScanCursor<String>> entry : nodeCursors.entrySet() ) {
+			RedisClusterAsyncCommands<String, String> nodeCommands = asyncCommands.getConnection( entry.getKey() );
+			KeyScanCursor<String> nodeCursor = entry.getValue();
+			futures.put(
+					entry.getKey(),
+					nodeCursor == null ? nodeCommands.scan( scanArgs ) : nodeCommands.scan( nodeCursor, scanArgs )
+			);
 		}
 
-		RedisClusterCommands<String, String> nodeConnection = commands.getConnection( currentNodeId );
-		KeyScanCursor<String> nodeKeyScanCursor = scan( nodeConnection, cursor, scanArgs );
-
-		return new ClusterwideKeyScanCursor(
-				nodeIds,
-				currentNodeId,
-				nodeKeyScanCursor
-		);
-	}
+		RedisCommandPipeline pipeline = createCommandPipeline();
+		Map<String, KeyScanCursor<String>> nextNodeCursors = new LinkedHashMap<>();
+		List<String> keys = new ArrayList<>();
 
-	private String getNodeIdForNextScanIteration(
-			List<String> nodeIds,
-			ClusterwideKeyScanCursor<String> clusterKeyScanCursor) {
-		if ( clusterKeyScanCursor.isScanOnCurrentNodeFinished() ) {
+		for ( Map.Entry<String, RedisFuture<KeyScanCursor<String>>> entry : futures.entrySet() ) {
+			KeyScanCursor<String> nodeCursor = pipeline.get( entry.getValue() );
+			keys.addAll( nodeCursor.getKeys() );
 
-			int nodeIndex = nodeIds.indexOf( clusterKeyScanCursor.currentNodeId );
-			return nodeIds.get( nodeIndex + 1 );
+			if ( !nodeCursor.isFinished() ) {
+				nextNodeCursors.put( entry.getKey(), nodeCursor );
+			}
 		}
 
-		return clusterKeyScanCursor.currentNodeId;
+		return new ClusterwideKeyScanCursor<String>( nextNodeCursors, keys );
 	}
 
 	/**
@@ -458,31 +831,22 @@ public boolean isClusterMode() {
 		return clusterMode;
 	}
 
+	/**
+	 * Keeps the state of the scan of each master node of a Redis Cluster.
+	 */
 	static class ClusterwideKeyScanCursor<K> extends KeyScanCursor<K> {
-		final List<String> nodeIds;
-		final String currentNodeId;
-		final KeyScanCursor<K> cursor;
 
-		public ClusterwideKeyScanCursor(List<String> nodeIds, String currentNodeId, KeyScanCursor<K> cursor) {
-			super();
-			this.nodeIds = nodeIds;
-			this.currentNodeId = currentNodeId;
-			this.cursor = cursor;
-			setCursor( cursor.getCursor() );
-			getKeys().addAll( cursor.getKeys() );
-
-			if ( cursor.isFinished() ) {
-				int nodeIndex = nodeIds.indexOf( currentNodeId );
-				if ( nodeIndex == -1 || nodeIndex == nodeIds.size() - 1 ) {
-					setFinished( true );
-				}
-			}
-
-		}
+		/**
+		 * The cursors of the nodes whose scan is not finished yet.
+		 */
+		final Map<String, KeyScanCursor<K>> nodeCursors;
 
-		private boolean isScanOnCurrentNodeFinished() {
-			return cursor.isFinished();
+		public ClusterwideKeyScanCursor(Map<String, KeyScanCursor<K>> nodeCursors, List<K> keys) {
+			super();
+			this.nodeCursors = nodeCursors;
+			getKeys().addAll( keys );
+			setCursor( nodeCursors.isEmpty() ? "0" : nodeCursors.keySet().iterator().next() );
+			setFinished( nodeCursors.isEmpty() );
 		}
-
 	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.ogm.datastore.redis;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,8 +17,12 @@
 import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisAssociationSnapshot;
 import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisTupleSnapshot;
 import org.hibernate.ogm.datastore.redis.dialect.value.HashEntity;
+import org.hibernate.ogm.datastore.redis.impl.RedisCommandPipeline;
 import org.hibernate.ogm.datastore.redis.impl.RedisDatastoreProvider;
 import org.hibernate.ogm.datastore.redis.impl.hash.RedisHashTypeConverter;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.ModelConsumer;
@@ -36,6 +41,7 @@
 import org.hibernate.type.Type;
 
 import com.lambdaworks.redis.KeyScanCursor;
+import com.lambdaworks.redis.RedisFuture;
 import com.lambdaworks.redis.ScanArgs;
 
 /**
@@ -46,10 +52,10 @@
  *
  * @author Mark Paluch
  */
-public class RedisHashDialect extends AbstractRedisDialect {
+public class RedisHashDialect extends AbstractRedisDialect implements MultigetGridDialect, MultigetAssociationGridDialect {
 
 	public RedisHashDialect(RedisDatastoreProvider provider) {
-		super( provider.getConnection(), provider.isCluster() );
+		super( provider );
 	}
 
 	@Override
@@ -61,6 +67,7 @@ public GridType overrideType(Type type) {
 	@SuppressWarnings({"unchecked", "rawtypes" })
 	public Tuple getTuple(
 			EntityKey key, TupleContext tupleContext) {
+		executePendingOperations( key, tupleContext.getOperationsQueue() );
 		String entityIdString = entityId( key );
 		if ( !connection.exists( entityIdString ) ) {
 			return null;
@@ -91,32 +98,61 @@ private Map<String, Object> toEntity(TupleContext tupleContext, List<String> hmg
 		return objects;
 	}
 
+	private Map<String, Object> toEntity(TupleContext tupleContext, Map<String, String> hash) {
+		Map<String, Object> objects = new HashMap<>();
+		for ( String columnName : tupleContext.getSelectableColumns() ) {
+			String value = hash.get( columnName );
+			if ( value == null ) {
+				continue;
+			}
+			objects.put( columnName, value );
+		}
+		return objects;
+	}
+
 	private String[] getFields(TupleContext tupleContext) {
 		return tupleContext.getSelectableColumns().toArray( new String[tupleContext.getSelectableColumns().size()] );
 	}
 
 	@Override
-	public void insertOrUpdateTuple(
-			EntityKey key, Tuple tuple, TupleContext tupleContext) throws TupleAlreadyExistsException {
+	protected void insertOrUpdateTuple(
+			EntityKey key, Tuple tuple, TupleContext tupleContext, RedisCommandPipeline pipeline) throws TupleAlreadyExistsException {
 
 		Map<String, Object> map = ( (RedisTupleSnapshot) tuple.getSnapshot() ).getMap();
+		Object[] previousNaturalId = getNaturalId( tupleContext, map );
 		MapHelpers.applyTupleOpsOnMap( tuple, map );
 
 		Map<String, String> entity = getEntityForUpdate( key, tuple );
 		List<String> toDelete = getKeysForRemoval( tuple );
 
 		String entityId = entityId( key );
-		Long currentTtl = connection.pttl( entityId( key ) );
+		Long ttl = getTTL( tupleContext.getOptionsContext() );
+		retainEntityTTL( key, ttl, pipeline );
 
 		if ( !toDelete.isEmpty() ) {
-			connection.hdel( entityId, toDelete.toArray( new String[toDelete.size()] ) );
+			pipeline.add( pipeline.commands().hdel( entityId, toDelete.toArray( new String[toDelete.size()] ) ) );
 		}
 
 		if ( !entity.isEmpty() ) {
-			connection.hmset( entityId, entity );
+			pipeline.add( pipeline.commands().hmset( entityId, entity ) );
 		}
 
-		setEntityTTL( key, currentTtl, getTTL( tupleContext.getOptionsContext() ) );
+		setEntityTTL( key, ttl, pipeline );
+		storeNaturalIdKey( key, previousNaturalId, getNaturalId( tupleContext, map ), tupleContext, pipeline );
+	}
+
+	@Override
+	protected Map<String, Object> readNaturalIdColumns(EntityKey key, List<String> naturalIdColumns, RedisCommandPipeline pipeline) {
+		String[] fields = naturalIdColumns.toArray( new String[naturalIdColumns.size()] );
+		List<String> values = pipeline.get( pipeline.commands().hmget( entityId( key ), fields ) );
+
+		Map<String, Object> columns = new HashMap<>();
+		for ( int i = 0; i < fields.length; i++ ) {
+			if ( values.get( i ) != null ) {
+				columns.put( fields[i], values.get( i ) );
+			}
+		}
+		return columns;
 	}
 
 	private Map<String, String> getEntityForUpdate(EntityKey key, Tuple tuple) {
@@ -155,6 +191,7 @@ private List<String> getKeysForRemoval(Tuple tuple) {
 	@Override
 	public Association getAssociation(
 			AssociationKey key, AssociationContext associationContext) {
+		executePendingOperations( associationContext.getOperationsQueue() );
 		RedisAssociation redisAssociation;
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
 			if ( !connection.exists( entityId( key.getEntityKey() ) ) ) {
@@ -180,9 +217,49 @@ public Association getAssociation(
 		) : null;
 	}
 
+	@Override
+	public List<Association> getAssociations(AssociationKey[] keys, AssociationContext[] associationContexts) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		executePendingOperations( associationContexts[0].getOperationsQueue() );
+		List<Association> associations = new ArrayList<>( keys.length );
+
+		if ( isStoredInEntityStructure( keys[0].getMetadata(), associationContexts[0].getAssociationTypeContext() ) ) {
+			List<String> ids = new ArrayList<>( keys.length );
+			for ( AssociationKey key : keys ) {
+				ids.add( entityId( key.getEntityKey() ) );
+			}
+
+			List<Map<String, String>> entities = hgetall( ids );
+			for ( int i = 0; i < keys.length; i++ ) {
+				Map<String, String> entity = entities.get( i );
+				// a hash cannot be empty in Redis, so an empty result means that the entity does not exist
+				RedisAssociation redisAssociation = entity.isEmpty()
+						? null
+						: RedisAssociation.fromEmbeddedAssociation( entity, keys[i].getMetadata() );
+				associations.add( toAssociation( redisAssociation, keys[i] ) );
+			}
+		}
+		else {
+			int i = 0;
+			for ( org.hibernate.ogm.datastore.redis.dialect.value.Association association : getAssociations( keys ) ) {
+				associations.add( toAssociation( RedisAssociation.fromAssociationDocument( association ), keys[i++] ) );
+			}
+		}
+
+		return associations;
+	}
+
+	private static Association toAssociation(RedisAssociation redisAssociation, AssociationKey key) {
+		return redisAssociation != null ? new Association( new RedisAssociationSnapshot( redisAssociation, key ) ) : null;
+	}
+
 	@Override
 	public Association createAssociation(
 			AssociationKey key, AssociationContext associationContext) {
+		executePendingOperations( associationContext.getOperationsQueue() );
 
 		RedisAssociation redisAssociation;
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
@@ -207,8 +284,9 @@ public Association createAssociation(
 	}
 
 	@Override
-	public void insertOrUpdateAssociation(
-			AssociationKey associationKey, Association association, AssociationContext associationContext) {
+	protected void insertOrUpdateAssociation(
+			AssociationKey associationKey, Association association, AssociationContext associationContext,
+			RedisCommandPipeline pipeline) {
 		Object rows = getAssociationRows( association, associationKey );
 
 		RedisAssociation redisAssociation = ( (RedisAssociationSnapshot) association.getSnapshot() ).getRedisAssociation();
@@ -219,15 +297,16 @@ public void insertOrUpdateAssociation(
 				associationContext.getAssociationTypeContext()
 		) ) {
 			HashEntity owningDocument = (HashEntity) redisAssociation.getOwningDocument();
-			connection.hmset( entityId( associationKey.getEntityKey() ), owningDocument.getEntity() );
+			pipeline.add( pipeline.commands().hmset( entityId( associationKey.getEntityKey() ), owningDocument.getEntity() ) );
 		}
 		else {
-			Long currentTtl = connection.pttl( associationId( associationKey ) );
+			retainAssociationTTL( associationKey, associationContext, associationId( associationKey ), pipeline );
 			storeAssociation(
 					associationKey,
-					(org.hibernate.ogm.datastore.redis.dialect.value.Association) redisAssociation.getOwningDocument()
+					(org.hibernate.ogm.datastore.redis.dialect.value.Association) redisAssociation.getOwningDocument(),
+					pipeline
 			);
-			setAssociationTTL( associationKey, associationContext, currentTtl );
+			setAssociationTTL( associationKey, associationContext, pipeline );
 		}
 	}
 
@@ -243,14 +322,14 @@ private Object getAssociationRows(
 	}
 
 	@Override
-	public void removeAssociation(
-			AssociationKey key, AssociationContext associationContext) {
+	protected void removeAssociation(
+			AssociationKey key, AssociationContext associationContext, RedisCommandPipeline pipeline) {
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
 			String entityId = entityId( key.getEntityKey() );
-			connection.hdel( entityId, key.getMetadata().getCollectionRole() );
+			pipeline.add( pipeline.commands().hdel( entityId, key.getMetadata().getCollectionRole() ) );
 		}
 		else {
-			connection.del( associationId( key ) );
+			removeAssociation( key, pipeline );
 		}
 	}
 
@@ -264,26 +343,56 @@ public boolean isStoredInEntityStructure(
 	}
 
 	@Override
-	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, TuplePartition partition) {
 		KeyScanCursor<String> cursor = null;
 		String prefix = entityKeyMetadata.getTable() + ":";
 
-		ScanArgs scanArgs = ScanArgs.Builder.matches( prefix + "*" );
+		ScanArgs scanArgs = scanArgs( prefix + "*" );
 		do {
-			cursor = scan( cursor, scanArgs );
+			cursor = scan( cursor, scanArgs, partition );
+
+			List<String> keys = cursor.getKeys();
+			List<Map<String, String>> hashes = hgetall( keys );
+
+			for ( int i = 0; i < keys.size(); i++ ) {
+				Map<String, String> hgetall = hashes.get( i );
+
+				// the key may have been removed since the scan
+				if ( hgetall.isEmpty() ) {
+					continue;
+				}
 
-			for ( String key : cursor.getKeys() ) {
-				Map<String, String> hgetall = connection.hgetall( key );
 				Map<String, Object> entity = new HashMap<>();
 
 				entity.putAll( hgetall );
-				addKeyValuesFromKeyName( entityKeyMetadata, prefix, key, entity );
+				addKeyValuesFromKeyName( entityKeyMetadata, prefix, keys.get( i ), entity );
 				consumer.consume( new Tuple( new RedisTupleSnapshot( entity ) ) );
 			}
 
 		} while ( !cursor.isFinished() );
 	}
 
+	/**
+	 * Fetches the given hashes with one pipelined batch of {@literal HGETALL} commands. In cluster mode, each command
+	 * is routed to the node serving the slot of its key, the commands for different nodes being sent concurrently.
+	 *
+	 * @param keys the keys of the hashes
+	 * @return the hashes, in the order of the keys; the hash of a missing key is empty
+	 */
+	private List<Map<String, String>> hgetall(List<String> keys) {
+		RedisCommandPipeline pipeline = createCommandPipeline();
+		List<RedisFuture<Map<String, String>>> futures = new ArrayList<>( keys.size() );
+		for ( String key : keys ) {
+			futures.add( pipeline.commands().hgetall( key ) );
+		}
+
+		List<Map<String, String>> hashes = new ArrayList<>( keys.size() );
+		for ( RedisFuture<Map<String, String>> future : futures ) {
+			hashes.add( pipeline.get( future ) );
+		}
+		return hashes;
+	}
+
 	protected void addKeyValuesFromKeyName(
 			EntityKeyMetadata entityKeyMetadata,
 			String prefix,
@@ -300,4 +409,38 @@ protected void addKeyValuesFromKeyName(
 			}
 		}
 	}
+
+	// MultigetGridDialect
+
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		List<String> ids = new ArrayList<>( keys.length );
+		for ( EntityKey key : keys ) {
+			executePendingOperations( key, tupleContext.getOperationsQueue() );
+			ids.add( entityId( key ) );
+		}
+
+		// a hash cannot be empty in Redis, so an empty result means that the entity does not exist
+		List<Map<String, String>> hashes = hgetall( ids );
+		List<Tuple> tuples = new ArrayList<>( keys.length );
+
+		for ( Map<String, String> hash : hashes ) {
+			if ( hash.isEmpty() ) {
+				tuples.add( null );
+			}
+			else if ( tupleContext.getSelectableColumns().isEmpty() ) {
+				tuples.add( new Tuple( new RedisTupleSnapshot( (Map) hash ) ) );
+			}
+			else {
+				tuples.add( new Tuple( new RedisTupleSnapshot( toEntity( tupleContext, hash ) ) ) );
+			}
+		}
+
+		return tuples;
+	}
 }
@@ -22,9 +22,12 @@
 import org.hibernate.ogm.datastore.redis.dialect.model.impl.RedisTupleSnapshot;
 import org.hibernate.ogm.datastore.redis.dialect.value.Association;
 import org.hibernate.ogm.datastore.redis.dialect.value.Entity;
+import org.hibernate.ogm.datastore.redis.impl.RedisCommandPipeline;
 import org.hibernate.ogm.datastore.redis.impl.RedisDatastoreProvider;
 import org.hibernate.ogm.datastore.redis.impl.json.JsonEntityStorageStrategy;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetAssociationGridDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
 import org.hibernate.ogm.dialect.spi.ModelConsumer;
@@ -55,12 +58,12 @@
  *
  * @author Mark Paluch
  */
-public class RedisJsonDialect extends AbstractRedisDialect implements MultigetGridDialect {
+public class RedisJsonDialect extends AbstractRedisDialect implements MultigetGridDialect, MultigetAssociationGridDialect {
 
 	protected final JsonEntityStorageStrategy entityStorageStrategy;
 
 	public RedisJsonDialect(RedisDatastoreProvider provider) {
-		super( provider.getConnection(), provider.isCluster() );
+		super( provider );
 		this.entityStorageStrategy = new JsonEntityStorageStrategy( strategy, connection );
 	}
 
@@ -71,6 +74,7 @@ public GridType overrideType(Type type) {
 
 	@Override
 	public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
+		executePendingOperations( key, tupleContext.getOperationsQueue() );
 		Entity entity = entityStorageStrategy.getEntity( entityId( key ) );
 
 		if ( entity != null ) {
@@ -82,10 +86,18 @@ public Tuple getTuple(EntityKey key, TupleContext tupleContext) {
 	}
 
 	@Override
-	public void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext) {
+	protected void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext, RedisCommandPipeline pipeline) {
 		Map<String, Object> map = ( (RedisTupleSnapshot) tuple.getSnapshot() ).getMap();
+		Object[] previousNaturalId = getNaturalId( tupleContext, map );
 		MapHelpers.applyTupleOpsOnMap( tuple, map );
-		storeEntity( key, map, tupleContext.getOptionsContext(), tuple.getOperations() );
+		storeEntity( key, map, tupleContext.getOptionsContext(), tuple.getOperations(), pipeline );
+		storeNaturalIdKey( key, previousNaturalId, getNaturalId( tupleContext, map ), tupleContext, pipeline );
+	}
+
+	@Override
+	protected Map<String, Object> readNaturalIdColumns(EntityKey key, List<String> naturalIdColumns, RedisCommandPipeline pipeline) {
+		Entity entity = entityStorageStrategy.getEntity( entityId( key ), pipeline );
+		return entity != null ? entity.getProperties() : Collections.<String, Object>emptyMap();
 	}
 
 	@Override
@@ -112,6 +124,7 @@ private AssociationStorageType getAssociationStorageType(AssociationTypeContext
 	public org.hibernate.ogm.model.spi.Association getAssociation(
 			AssociationKey key,
 			AssociationContext associationContext) {
+		executePendingOperations( associationContext.getOperationsQueue() );
 		RedisAssociation redisAssociation = null;
 
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
@@ -140,10 +153,58 @@ public org.hibernate.ogm.model.spi.Association getAssociation(
 		) : null;
 	}
 
+	@Override
+	public List<org.hibernate.ogm.model.spi.Association> getAssociations(
+			AssociationKey[] keys,
+			AssociationContext[] associationContexts) {
+		if ( keys.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		executePendingOperations( associationContexts[0].getOperationsQueue() );
+		List<RedisAssociation> redisAssociations = new ArrayList<>( keys.length );
+
+		if ( isStoredInEntityStructure( keys[0].getMetadata(), associationContexts[0].getAssociationTypeContext() ) ) {
+			String[] ids = new String[keys.length];
+			for ( int i = 0; i < keys.length; i++ ) {
+				ids[i] = entityId( keys[i].getEntityKey() );
+			}
+
+			int i = 0;
+			for ( Entity owningEntity : entityStorageStrategy.getEntities( ids ) ) {
+				AssociationKeyMetadata metadata = keys[i++].getMetadata();
+				if ( owningEntity != null && DotPatternMapHelpers.hasField(
+						owningEntity.getPropertiesAsHierarchy(),
+						metadata.getCollectionRole()
+				) ) {
+					redisAssociations.add( RedisAssociation.fromEmbeddedAssociation( owningEntity, metadata ) );
+				}
+				else {
+					redisAssociations.add( null );
+				}
+			}
+		}
+		else {
+			for ( Association association : getAssociations( keys ) ) {
+				redisAssociations.add( RedisAssociation.fromAssociationDocument( association ) );
+			}
+		}
+
+		List<org.hibernate.ogm.model.spi.Association> associations = new ArrayList<>( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			RedisAssociation redisAssociation = redisAssociations.get( i );
+			associations.add( redisAssociation != null ? new org.hibernate.ogm.model.spi.Association(
+					new RedisAssociationSnapshot( redisAssociation, keys[i] )
+			) : null );
+		}
+		return associations;
+	}
+
 	@Override
 	public org.hibernate.ogm.model.spi.Association createAssociation(
 			AssociationKey key,
 			AssociationContext associationContext) {
+		executePendingOperations( associationContext.getOperationsQueue() );
 		RedisAssociation redisAssociation;
 
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
@@ -151,7 +212,9 @@ public org.hibernate.ogm.model.spi.Association createAssociation(
 
 			if ( owningEntity == null ) {
 				owningEntity = new Entity();
-				storeEntity( key.getEntityKey(), new Entity(), associationContext.getAssociationTypeContext().getOwnerEntityOptionsContext() );
+				RedisCommandPipeline pipeline = createCommandPipeline();
+				storeEntity( key.getEntityKey(), new Entity(), associationContext.getAssociationTypeContext().getOwnerEntityOptionsContext(), pipeline );
+				pipeline.execute();
 			}
 
 			redisAssociation = RedisAssociation.fromEmbeddedAssociation( owningEntity, key.getMetadata() );
@@ -175,9 +238,9 @@ private Entity getEmbeddingEntity(AssociationKey key) {
 	}
 
 	@Override
-	public void insertOrUpdateAssociation(
+	protected void insertOrUpdateAssociation(
 			AssociationKey associationKey, org.hibernate.ogm.model.spi.Association association,
-			AssociationContext associationContext) {
+			AssociationContext associationContext, RedisCommandPipeline pipeline) {
 		Object rows = getAssociationRows( association, associationKey, associationContext );
 
 		RedisAssociation redisAssociation = ( (RedisAssociationSnapshot) association.getSnapshot() ).getRedisAssociation();
@@ -191,13 +254,14 @@ public void insertOrUpdateAssociation(
 			storeEntity(
 					associationKey.getEntityKey(),
 					(Entity) redisAssociation.getOwningDocument(),
-					associationContext.getAssociationTypeContext().getOwnerEntityOptionsContext()
+					associationContext.getAssociationTypeContext().getOwnerEntityOptionsContext(),
+					pipeline
 			);
 		}
 		else {
-			Long currentTtl = connection.pttl( entityId( associationKey.getEntityKey() ) );
-			storeAssociation( associationKey, (Association) redisAssociation.getOwningDocument() );
-			setAssociationTTL( associationKey, associationContext, currentTtl );
+			retainAssociationTTL( associationKey, associationContext, entityId( associationKey.getEntityKey() ), pipeline );
+			storeAssociation( associationKey, (Association) redisAssociation.getOwningDocument(), pipeline );
+			setAssociationTTL( associationKey, associationContext, pipeline );
 		}
 	}
 
@@ -257,31 +321,44 @@ protected Object getAssociationRows(
 	}
 
 	@Override
-	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+	protected void removeAssociation(AssociationKey key, AssociationContext associationContext, RedisCommandPipeline pipeline) {
 		if ( isStoredInEntityStructure( key.getMetadata(), associationContext.getAssociationTypeContext() ) ) {
+			// commands are executed in order, so the entity read reflects the commands sent before
 			Entity owningEntity = getEmbeddingEntity( key );
 
 			if ( owningEntity != null ) {
 				owningEntity.removeAssociation( key.getMetadata().getCollectionRole() );
-				storeEntity( key.getEntityKey(), owningEntity, associationContext.getAssociationTypeContext().getOwnerEntityOptionsContext() );
+				storeEntity( key.getEntityKey(), owningEntity, associationContext.getAssociationTypeContext().getOwnerEntityOptionsContext(), pipeline );
 			}
 		}
 		else {
-			removeAssociation( key );
+			removeAssociation( key, pipeline );
 		}
 	}
 
 	@Override
-	public void forEachTuple(final ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata) {
+	public void forEachTuple(ModelConsumer consumer, TupleContext tupleContext, EntityKeyMetadata entityKeyMetadata, TuplePartition partition) {
 		KeyScanCursor<String> cursor = null;
 		String prefix = entityKeyMetadata.getTable() + ":";
 
-		ScanArgs scanArgs = ScanArgs.Builder.matches( prefix + "*" );
+		ScanArgs scanArgs = scanArgs( prefix + "*" );
 		do {
-			cursor = scan( cursor, scanArgs );
+			cursor = scan( cursor, scanArgs, partition );
+
+			if ( cursor.getKeys().isEmpty() ) {
+				continue;
+			}
 
-			for ( String key : cursor.getKeys() ) {
-				Entity document = entityStorageStrategy.getEntity( key );
+			// fetch all the entities of the page at once
+			String[] keys = cursor.getKeys().toArray( new String[cursor.getKeys().size()] );
+			int i = 0;
+			for ( Entity document : entityStorageStrategy.getEntities( keys ) ) {
+				String key = keys[i++];
+
+				// the key may have been removed since the scan
+				if ( document == null ) {
+					continue;
+				}
 
 				addKeyValuesFromKeyName( entityKeyMetadata, prefix, key, document );
 
@@ -295,7 +372,8 @@ private void storeEntity(
 			EntityKey key,
 			Map<String, Object> map,
 			OptionsContext optionsContext,
-			Set<TupleOperation> operations) {
+			Set<TupleOperation> operations,
+			RedisCommandPipeline pipeline) {
 		Entity entityDocument = new Entity();
 
 		for ( Map.Entry<String, Object> entry : map.entrySet() ) {
@@ -305,19 +383,20 @@ private void storeEntity(
 			entityDocument.set( entry.getKey(), entry.getValue() );
 		}
 
-		storeEntity( key, entityDocument, optionsContext );
+		storeEntity( key, entityDocument, optionsContext, pipeline );
 	}
 
 	private void storeEntity(
 			EntityKey key,
 			Entity document,
-			OptionsContext optionsContext) {
-
-		Long currentTtl = connection.pttl( entityId( key ) );
+			OptionsContext optionsContext,
+			RedisCommandPipeline pipeline) {
 
-		entityStorageStrategy.storeEntity( entityId( key ), document );
+		Long ttl = getTTL( optionsContext );
 
-		setEntityTTL( key, currentTtl, getTTL( optionsContext ) );
+		retainEntityTTL( key, ttl, pipeline );
+		entityStorageStrategy.storeEntity( entityId( key ), document, pipeline );
+		setEntityTTL( key, ttl, pipeline );
 	}
 
 	public JsonEntityStorageStrategy getEntityStorageStrategy() {
@@ -335,6 +414,7 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		String ids[] = new String[keys.length];
 
 		for ( int i = 0; i < keys.length; i++ ) {
+			executePendingOperations( keys[i], tupleContext.getOperationsQueue() );
 			ids[i] = entityId( keys[i] );
 		}
 
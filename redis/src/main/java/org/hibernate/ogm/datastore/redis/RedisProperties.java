@@ -41,6 +41,19 @@ public final class RedisProperties implements KeyValueStoreProperties, DocumentS
 	 */
 	public static final String TTL = "hibernate.ogm.redis.ttl";
 
+	/**
+	 * The number of keys requested per {@literal SCAN} iteration when iterating over all the entities of a type, e.g.
+	 * for mass indexing. The values of the keys returned by one iteration are fetched at once. Defaults to 1000.
+	 */
+	public static final String SCAN_COUNT = "hibernate.ogm.redis.scan_count";
+
+	/**
+	 * boolean flag, whether to reserve the next block of ids of a sequence in the background whenever a block is
+	 * handed out, so that id generation doesn't wait for Redis. Reserved blocks which are not used when the application
+	 * stops leave gaps in the sequences. Defaults to false.
+	 */
+	public static final String PREFETCH_ID_BLOCKS = "hibernate.ogm.redis.prefetch_id_blocks";
+
 	private RedisProperties() {
 	}
 }
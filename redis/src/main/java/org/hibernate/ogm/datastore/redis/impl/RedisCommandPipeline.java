@@ -0,0 +1,165 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.redis.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.hibernate.HibernateException;
+import org.hibernate.ogm.datastore.redis.logging.impl.Log;
+import org.hibernate.ogm.datastore.redis.logging.impl.LoggerFactory;
+
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
+
+/**
+ * Sends the write commands of a flush asynchronously and awaits their completion at once. Can also be used to send
+ * several reads at once, awaiting their results with {@link #get(RedisFuture)}.
+ * <p>
+ * Commands are written to the connection without waiting for the replies of the previous ones, so the whole flush
+ * costs about one round trip instead of one per command. Commands are sent in the order they are issued, so the
+ * commands affecting a single key are applied in that order.
+ * <p>
+ * Writing a key with {@literal SET} discards its expiry. To keep the expiry of such a key, its remaining time to live
+ * is requested before the first write to it ({@link #restoreTtl(String)}) and set again once all commands have been
+ * executed, which requires a second round trip only if some of the keys actually had an expiry.
+ * <p>
+ * Not thread-safe; an instance is meant to be used for a single flush.
+ */
+public class RedisCommandPipeline {
+
+	private static final Log log = LoggerFactory.getLogger();
+
+	private final RedisClusterAsyncCommands<String, String> commands;
+	private final long timeout;
+
+	private final List<RedisFuture<?>> pending = new ArrayList<>();
+	private final Map<String, RedisFuture<Long>> originalTtls = new HashMap<>();
+	private final Map<String, String> ttlsToRestore = new HashMap<>();
+
+	public RedisCommandPipeline(RedisClusterAsyncCommands<String, String> commands, long timeout) {
+		this.commands = commands;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * @return the asynchronous commands; the returned futures must be passed to {@link #add(RedisFuture)}
+	 */
+	public RedisClusterAsyncCommands<String, String> commands() {
+		return commands;
+	}
+
+	/**
+	 * Registers a command to be awaited on execution.
+	 *
+	 * @param future the future of the command
+	 */
+	public void add(RedisFuture<?> future) {
+		pending.add( future );
+	}
+
+	/**
+	 * Sets the time to live the given key had before the commands of this pipeline were applied again after their
+	 * execution. Must be called before the key is written.
+	 *
+	 * @param key the key to restore the expiry of
+	 */
+	public void restoreTtl(String key) {
+		copyTtl( key, key );
+	}
+
+	/**
+	 * Sets the time to live a key had before the commands of this pipeline were applied on another key after their
+	 * execution.
+	 *
+	 * @param sourceKey the key whose original time to live is applied
+	 * @param key the key to expire
+	 */
+	public void copyTtl(String sourceKey, String key) {
+		if ( !originalTtls.containsKey( sourceKey ) ) {
+			originalTtls.put( sourceKey, commands.pttl( sourceKey ) );
+		}
+		ttlsToRestore.put( key, sourceKey );
+	}
+
+	/**
+	 * Awaits the result of a command sent through {@link #commands()}, e.g. a read which doesn't need to be registered.
+	 *
+	 * @param future the future of the command
+	 * @return the result of the command
+	 * @throws HibernateException if the command failed or timed out
+	 */
+	public <T> T get(RedisFuture<T> future) {
+		return await( future );
+	}
+
+	/**
+	 * Awaits all the commands, then restores the expiry of the keys.
+	 *
+	 * @throws HibernateException if any of the commands failed or timed out; the other commands have been executed
+	 */
+	public void execute() {
+		HibernateException failure = awaitPending( null );
+
+		for ( Map.Entry<String, String> entry : ttlsToRestore.entrySet() ) {
+			try {
+				Long ttl = await( originalTtls.get( entry.getValue() ) );
+				if ( ttl != null && ttl > 0 ) {
+					pending.add( commands.pexpire( entry.getKey(), ttl ) );
+				}
+			}
+			catch (HibernateException e) {
+				if ( failure == null ) {
+					failure = e;
+				}
+			}
+		}
+		originalTtls.clear();
+		ttlsToRestore.clear();
+
+		failure = awaitPending( failure );
+		if ( failure != null ) {
+			throw failure;
+		}
+	}
+
+	private HibernateException awaitPending(HibernateException failure) {
+		for ( RedisFuture<?> future : pending ) {
+			try {
+				await( future );
+			}
+			catch (HibernateException e) {
+				if ( failure == null ) {
+					failure = e;
+				}
+			}
+		}
+		pending.clear();
+		return failure;
+	}
+
+	private <T> T await(RedisFuture<T> future) {
+		try {
+			return future.get( timeout, TimeUnit.MILLISECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.failedToExecuteRedisCommands( e );
+		}
+		catch (ExecutionException e) {
+			throw log.failedToExecuteRedisCommands( e.getCause() );
+		}
+		catch (TimeoutException e) {
+			throw log.failedToExecuteRedisCommands( e );
+		}
+	}
+}
@@ -39,6 +39,7 @@ public class RedisConfiguration {
 
 	private static final int DEFAULT_PORT = 6379;
 	private static final int DEFAULT_DATABASE = 0;
+	private static final int DEFAULT_SCAN_COUNT = 1000;
 
 	private static final Log log = LoggerFactory.getLogger();
 
@@ -58,12 +59,30 @@ public void validate(Integer value) throws HibernateException {
 		}
 	};
 
+	/**
+	 * A {@link PropertyValidator} which asserts that the scan count is positive.
+	 */
+	private static final PropertyValidator<Integer> SCAN_COUNT_VALIDATOR = new PropertyValidator<Integer>() {
+
+		@Override
+		public void validate(Integer value) throws HibernateException {
+			if ( value == null ) {
+				return;
+			}
+			if ( value < 1 ) {
+				throw log.illegalScanCountValue( value );
+			}
+		}
+	};
+
 	private final Hosts hosts;
 	private final int databaseNumber;
 	private final String password;
 	private final long timeout;
 	private final boolean ssl;
 	private final boolean cluster;
+	private final int scanCount;
+	private final boolean prefetchIdBlocks;
 
 	public RedisConfiguration(ConfigurationPropertyReader propertyReader) {
 		String host = propertyReader.property( OgmProperties.HOST, String.class )
@@ -93,6 +112,17 @@ public RedisConfiguration(ConfigurationPropertyReader propertyReader) {
 				.property( RedisProperties.CLUSTER, boolean.class )
 				.withDefault( false )
 				.getValue();
+
+		this.scanCount = propertyReader
+				.property( RedisProperties.SCAN_COUNT, int.class )
+				.withValidator( SCAN_COUNT_VALIDATOR )
+				.withDefault( DEFAULT_SCAN_COUNT )
+				.getValue();
+
+		this.prefetchIdBlocks = propertyReader
+				.property( RedisProperties.PREFETCH_ID_BLOCKS, boolean.class )
+				.withDefault( false )
+				.getValue();
 	}
 
 	/**
@@ -149,4 +179,22 @@ public boolean isSsl() {
 	public boolean isCluster() {
 		return cluster;
 	}
+
+	/**
+	 * @return The number of keys requested per {@literal SCAN} iteration
+	 *
+	 * @see RedisProperties#SCAN_COUNT
+	 */
+	public int getScanCount() {
+		return scanCount;
+	}
+
+	/**
+	 * @return Flag, whether to reserve the next block of ids of a sequence in the background.
+	 *
+	 * @see RedisProperties#PREFETCH_ID_BLOCKS
+	 */
+	public boolean isPrefetchIdBlocks() {
+		return prefetchIdBlocks;
+	}
 }
@@ -32,6 +32,7 @@
 import com.lambdaworks.redis.api.StatefulRedisConnection;
 import com.lambdaworks.redis.cluster.RedisClusterClient;
 import com.lambdaworks.redis.cluster.api.StatefulRedisClusterConnection;
+import com.lambdaworks.redis.cluster.api.async.RedisClusterAsyncCommands;
 import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 import com.lambdaworks.redis.codec.Utf8StringCodec;
 
@@ -53,6 +54,7 @@ public class RedisDatastoreProvider extends BaseDatastoreProvider implements Sta
 	private RedisConfiguration config;
 	private AbstractRedisClient redisClient;
 	private StatefulConnection<String, String> connection;
+	private RedisSequenceGenerator sequenceGenerator;
 
 	@Override
 	public Class<? extends GridDialect> getDefaultDialect() {
@@ -93,6 +95,8 @@ public void start() {
 				log.connectingToRedis( config.getHosts().toString(), config.getTimeout() );
 				connection = client.connect( new Utf8StringCodec() );
 			}
+
+			sequenceGenerator = new RedisSequenceGenerator( this, config.isPrefetchIdBlocks(), config.getTimeout() );
 		}
 		catch (RuntimeException e) {
 			// return a ServiceException to be stack trace friendly
@@ -134,6 +138,7 @@ public void stop() {
 			log.disconnectingFromRedis();
 			connection.close();
 			connection = null;
+			sequenceGenerator = null;
 			shutdownClient();
 		}
 	}
@@ -166,6 +171,39 @@ public RedisClusterCommands<String, String> getConnection() {
 
 	}
 
+	public RedisClusterAsyncCommands<String, String> getAsyncConnection() {
+		if ( connection instanceof StatefulRedisConnection ) {
+			return ( (StatefulRedisConnection) connection ).async();
+		}
+
+		if ( connection instanceof StatefulRedisClusterConnection ) {
+			return ( (StatefulRedisClusterConnection) connection ).async();
+		}
+
+		throw new IllegalStateException( "Connection type " + connection + " not supported" );
+	}
+
+	/**
+	 * @return a new pipeline for sending the write commands of a flush asynchronously
+	 */
+	public RedisCommandPipeline createCommandPipeline() {
+		return new RedisCommandPipeline( getAsyncConnection(), config.getTimeout() );
+	}
+
+	/**
+	 * @return the generator of sequence values
+	 */
+	public RedisSequenceGenerator getSequenceGenerator() {
+		return sequenceGenerator;
+	}
+
+	/**
+	 * @return the number of keys requested per {@literal SCAN} iteration
+	 */
+	public int getScanCount() {
+		return config.getScanCount();
+	}
+
 	/**
 	 * @return {@code true} if {@link RedisDatastoreProvider} is configured for cluster mode.
 	 */
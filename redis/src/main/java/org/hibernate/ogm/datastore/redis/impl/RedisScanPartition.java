@@ -0,0 +1,51 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.redis.impl;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.hibernate.ogm.dialect.partition.spi.TuplePartition;
+
+/**
+ * The keys stored on some master nodes of a Redis Cluster, which are scanned independently of the other nodes.
+ */
+public class RedisScanPartition implements TuplePartition {
+
+	private final Set<String> nodeIds;
+
+	private RedisScanPartition(Set<String> nodeIds) {
+		this.nodeIds = nodeIds;
+	}
+
+	/**
+	 * @param nodeIds the ids of the master nodes to scan
+	 * @return a partition of the keys of the given nodes
+	 */
+	public static RedisScanPartition of(Set<String> nodeIds) {
+		return new RedisScanPartition( Collections.unmodifiableSet( nodeIds ) );
+	}
+
+	/**
+	 * @return a partition of all the keys, scanned as by a non-partitioned iteration
+	 */
+	public static RedisScanPartition all() {
+		return new RedisScanPartition( null );
+	}
+
+	/**
+	 * @return the ids of the master nodes to scan, {@code null} if all the keys are scanned
+	 */
+	public Set<String> getNodeIds() {
+		return nodeIds;
+	}
+
+	@Override
+	public String toString() {
+		return "RedisScanPartition [nodeIds=" + ( nodeIds == null ? "all" : nodeIds ) + "]";
+	}
+}
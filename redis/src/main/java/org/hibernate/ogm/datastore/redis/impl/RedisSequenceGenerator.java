@@ -0,0 +1,167 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.redis.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.lambdaworks.redis.RedisCommandExecutionException;
+import com.lambdaworks.redis.RedisFuture;
+import com.lambdaworks.redis.ScriptOutputType;
+import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
+
+/**
+ * Generates sequence values with a Lua script which initializes the sequence and increments it in a single atomic
+ * step, so concurrent clients cannot race on the initialization of a sequence.
+ * <p>
+ * The script is invoked through {@literal EVALSHA}; it is sent with {@literal EVAL} only if the server doesn't know it
+ * yet.
+ * <p>
+ * If id block prefetching is enabled, the next value of a sequence is requested asynchronously whenever a value is
+ * returned. As each value reserves a block of {@code increment} ids for the pooled optimizers, the next block is
+ * usually reserved by the time the optimizer runs out of ids, so generating ids doesn't wait for Redis. The prefetched
+ * block is lost when the application stops, leaving a gap in the sequence.
+ * <p>
+ * Thread-safe.
+ */
+public class RedisSequenceGenerator {
+
+	/**
+	 * Sets the sequence to the initial value if it doesn't exist yet, otherwise increments it.
+	 * <p>
+	 * {@code KEYS[1]}: the sequence key, {@code ARGV[1]}: the initial value, {@code ARGV[2]}: the increment
+	 */
+	static final String NEXT_VALUE_SCRIPT = "if redis.call('SET', KEYS[1], ARGV[1], 'NX') then\n"
+			+ "  return tonumber(ARGV[1])\n"
+			+ "end\n"
+			+ "return redis.call('INCRBY', KEYS[1], ARGV[2])";
+
+	private final RedisDatastoreProvider provider;
+	private final boolean prefetch;
+	private final long timeout;
+	private final String scriptDigest;
+	private final ConcurrentMap<String, Sequence> sequences = new ConcurrentHashMap<>();
+
+	/**
+	 * @param provider the provider of the connections to Redis
+	 * @param prefetch whether to prefetch the next value of each sequence
+	 * @param timeout the time in milliseconds to wait for a prefetched value before fetching it synchronously
+	 */
+	public RedisSequenceGenerator(RedisDatastoreProvider provider, boolean prefetch, long timeout) {
+		this.provider = provider;
+		this.prefetch = prefetch;
+		this.timeout = timeout;
+		this.scriptDigest = provider.getConnection().digest( NEXT_VALUE_SCRIPT );
+	}
+
+	/**
+	 * Returns the next value of a sequence.
+	 *
+	 * @param key the key of the sequence
+	 * @param increment the increment to apply
+	 * @param initialValue the value returned if the sequence doesn't exist yet
+	 * @return the next value
+	 */
+	public long nextValue(String key, int increment, int initialValue) {
+		if ( !prefetch ) {
+			return nextValue( provider.getConnection(), key, increment, initialValue );
+		}
+
+		Sequence sequence = sequences.get( key );
+		if ( sequence == null ) {
+			sequence = new Sequence();
+			Sequence existing = sequences.putIfAbsent( key, sequence );
+			if ( existing != null ) {
+				sequence = existing;
+			}
+		}
+
+		return sequence.nextValue( key, increment, initialValue );
+	}
+
+	private long nextValue(RedisClusterCommands<String, String> connection, String key, int increment, int initialValue) {
+		String[] keys = { key };
+		String initial = String.valueOf( initialValue );
+		String incrementBy = String.valueOf( increment );
+
+		try {
+			Long value = connection.evalsha( scriptDigest, ScriptOutputType.INTEGER, keys, initial, incrementBy );
+			return value;
+		}
+		catch (RedisCommandExecutionException e) {
+			if ( !isScriptMissing( e ) ) {
+				throw e;
+			}
+			Long value = connection.eval( NEXT_VALUE_SCRIPT, ScriptOutputType.INTEGER, keys, initial, incrementBy );
+			return value;
+		}
+	}
+
+	private RedisFuture<Long> prefetchNextValue(String key, int increment, int initialValue) {
+		// the sequence key may have been removed or may have expired in the meantime, in which case the script
+		// initializes it again just like the synchronous path does
+		return provider.getAsyncConnection().evalsha(
+				scriptDigest,
+				ScriptOutputType.INTEGER,
+				new String[] { key },
+				String.valueOf( initialValue ),
+				String.valueOf( increment )
+		);
+	}
+
+	private static boolean isScriptMissing(RedisCommandExecutionException e) {
+		return e.getMessage() != null && e.getMessage().startsWith( "NOSCRIPT" );
+	}
+
+	/**
+	 * The value prefetched for one sequence.
+	 */
+	private class Sequence {
+
+		private RedisFuture<Long> prefetched;
+		private int prefetchedIncrement;
+		private int prefetchedInitialValue;
+
+		synchronized long nextValue(String key, int increment, int initialValue) {
+			Long value = null;
+
+			if ( prefetched != null && prefetchedIncrement == increment && prefetchedInitialValue == initialValue ) {
+				value = awaitPrefetched();
+			}
+
+			if ( value == null ) {
+				value = RedisSequenceGenerator.this.nextValue( provider.getConnection(), key, increment, initialValue );
+			}
+
+			prefetched = prefetchNextValue( key, increment, initialValue );
+			prefetchedIncrement = increment;
+			prefetchedInitialValue = initialValue;
+
+			return value;
+		}
+
+		/**
+		 * @return the prefetched value or {@code null} if it couldn't be fetched in time, in which case the value is
+		 * fetched synchronously instead
+		 */
+		private Long awaitPrefetched() {
+			try {
+				return prefetched.get( timeout, TimeUnit.MILLISECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			catch (ExecutionException | TimeoutException e) {
+				return null;
+			}
+		}
+	}
+}
@@ -9,11 +9,13 @@
 import java.util.Iterator;
 
 import org.hibernate.ogm.datastore.redis.dialect.value.Entity;
+import org.hibernate.ogm.datastore.redis.impl.RedisCommandPipeline;
 
 import com.lambdaworks.redis.cluster.api.sync.RedisClusterCommands;
 
 /**
- * Map entities to top-level keys in Redis using {@literal GET} and {@literal SET} commands.
+ * Map entities to top-level keys in Redis using {@literal GET} and {@literal SET} commands;
+ * entities are written through a {@link RedisCommandPipeline}.
  * The value represents the entity as JSON. This strategy supports embedded associations and nested objects.
  *
  * @author Mark Paluch
@@ -35,10 +37,18 @@ public Entity getEntity(String key) {
 		return jsonSerializationStrategy.deserialize( value, Entity.class );
 	}
 
-	public void storeEntity(String key, Entity entity) {
+	/**
+	 * Reads the entity through the given pipeline, so that the writes sent through it before are taken into account.
+	 */
+	public Entity getEntity(String key, RedisCommandPipeline pipeline) {
+		String value = pipeline.get( pipeline.commands().get( key ) );
+		return jsonSerializationStrategy.deserialize( value, Entity.class );
+	}
+
+	public void storeEntity(String key, Entity entity, RedisCommandPipeline pipeline) {
 		String value = jsonSerializationStrategy.serialize( entity );
 
-		connection.set( key, value );
+		pipeline.add( pipeline.commands().set( key, value ) );
 	}
 
 	public Iterable<Entity> getEntities(String[] keys) {
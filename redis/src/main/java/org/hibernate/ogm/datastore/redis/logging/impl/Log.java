@@ -56,4 +56,10 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 
 	@Message(id = 1709, value = "The connection is configured for standalone mode but Redis runs in '%s' mode")
 	HibernateException redisModeMismatchStandaloneModeConfigured(String redisMode);
+
+	@Message(id = 1710, value = "Failed to execute Redis commands")
+	HibernateException failedToExecuteRedisCommands(@Cause Throwable e);
+
+	@Message(id = 1711, value = "Illegal value for the scan count: %1$d; the value must be greater than 0")
+	HibernateException illegalScanCountValue(int value);
 }
@@ -182,7 +182,7 @@ public long getNumberOfEntities(SessionFactory sessionFactory) {
 
 		long result = 0;
 		for ( String key : keys ) {
-			if ( key.startsWith( AbstractRedisDialect.ASSOCIATIONS ) || key.startsWith( AbstractRedisDialect.IDENTIFIERS ) ) {
+			if ( key.startsWith( AbstractRedisDialect.ASSOCIATIONS ) || key.startsWith( AbstractRedisDialect.IDENTIFIERS ) || key.startsWith( AbstractRedisDialect.NATURAL_IDS ) ) {
 				continue;
 			}
 
@@ -250,7 +250,7 @@ public long getNumberOfEmbeddedAssociations(SessionFactory sessionFactory) {
 
 		for ( String key : keys ) {
 
-			if ( key.startsWith( AbstractRedisDialect.ASSOCIATIONS ) || key.startsWith( AbstractRedisDialect.IDENTIFIERS ) ) {
+			if ( key.startsWith( AbstractRedisDialect.ASSOCIATIONS ) || key.startsWith( AbstractRedisDialect.IDENTIFIERS ) || key.startsWith( AbstractRedisDialect.NATURAL_IDS ) ) {
 				continue;
 			}
 
@@ -85,6 +85,7 @@
 import org.parboiled.parserunners.RecoveringParseRunner;
 import org.parboiled.support.ParsingResult;
 import com.rethinkdb.gen.ast.Db;
+import com.rethinkdb.gen.ast.ReqlExpr;
 import com.rethinkdb.model.MapObject;
 import com.rethinkdb.net.Cursor;
 import com.rethinkdb.gen.ast.Table;
@@ -242,7 +243,13 @@ private Map<String, Object> getObject(EntityKey key, TupleContext tupleContext)
         Object id = prepareIdObjectValue(key.getColumnNames(), key.getColumnValues());
         String[] projection = getProjection(tupleContext);
 
-        return collection.get( id).run( this.provider.getConnection());
+        if (projection.length == 0) {
+            return collection.get( id).run( this.provider.getConnection());
+        }
+
+        // get() returns null for a missing document, which cannot be plucked
+        ReqlExpr document = collection.get( id);
+        return com.rethinkdb.RethinkDB.r.branch( document.eq( (Object) null), null, pluck( document, projection)).run( this.provider.getConnection());
     }
 
     private Cursor getObjects(EntityKeyMetadata entityKeyMetadata, Object[] searchObjects, TupleContext tupleContext) {
@@ -252,7 +259,25 @@ private Cursor getObjects(EntityKeyMetadata entityKeyMetadata, Object[] searchOb
 
         query.put(ID_FIELDNAME, com.rethinkdb.RethinkDB.r.hashMap("$in", searchObjects));
         
-        return collection.getAll( query)/*.pluck( projection)*/.run( this.provider.getConnection());
+        return pluck(collection.getAll( query), projection).run( this.provider.getConnection());
+    }
+
+    /**
+     * Restricts the fields of the selected documents to the given projection and the id field; all fields are selected
+     * if the projection is empty. The columns of embedded properties, such as {@code address.city}, are selected within
+     * the nested object they are stored in.
+     */
+    private static ReqlExpr pluck(ReqlExpr selection, String[] projection) {
+        if (projection.length == 0) {
+            return selection;
+        }
+
+        Map<String, Object> fields = new HashMap<>();
+        for (String column : projection) {
+            RethinkHelpers.setValue(fields, column, true);
+        }
+        fields.put(ID_FIELDNAME, true);
+        return selection.pluck(fields);
     }
 
     private static String[] getProjection(TupleContext tupleContext) {
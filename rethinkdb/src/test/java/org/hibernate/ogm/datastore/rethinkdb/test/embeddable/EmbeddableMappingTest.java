@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.datastore.rethinkdb.test.embeddable;
 
+import static org.fest.assertions.Assertions.assertThat;
+
 import java.util.Arrays;
 import org.hibernate.Transaction;
 import org.hibernate.ogm.OgmSession;
@@ -195,6 +197,51 @@ public void testEmbeddable() throws Exception {
 		session.close();
 	}
 
+	@Test
+	public void testLoadEmbeddable() throws Exception {
+		OgmSession session = openSession();
+
+		Transaction transaction = session.beginTransaction();
+
+		// Given
+		Account account = new Account();
+		account.setLogin( "gunnar" );
+		account.setPassword( "secret" );
+		account.setHomeAddress( new Address() );
+		Address address = account.getHomeAddress();
+		address.setCity( "Hamburg" );
+		address.setCountry( "Germany" );
+		address.setStreet1( "1 Jungfernstieg" );
+		address.setZipCode( "20354" );
+		address.setType( new AddressType( "main" ) );
+		session.persist( account );
+		transaction.commit();
+
+		session.clear();
+
+		transaction = session.beginTransaction();
+
+		// When
+		Account loadedAccount = session.get( Account.class, "gunnar" );
+
+		// Then the embedded properties are read from the nested objects
+		assertThat( loadedAccount.getPassword() ).isEqualTo( "secret" );
+		assertThat( loadedAccount.getHomeAddress().getCity() ).isEqualTo( "Hamburg" );
+		assertThat( loadedAccount.getHomeAddress().getCountry() ).isEqualTo( "Germany" );
+		assertThat( loadedAccount.getHomeAddress().getStreet1() ).isEqualTo( "1 Jungfernstieg" );
+		assertThat( loadedAccount.getHomeAddress().getZipCode() ).isEqualTo( "20354" );
+		assertThat( loadedAccount.getHomeAddress().getType().getName() ).isEqualTo( "main" );
+
+		// and a missing entity is not found
+		assertThat( session.get( Account.class, "missing" ) ).isNull();
+
+		// Clean-Up
+		session.delete( loadedAccount );
+		transaction.commit();
+
+		session.close();
+	}
+
 	@Test
 	public void testEmbeddableCollection() throws Exception {
 		OgmSession session = openSession();